@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+
+import static com.github.tommyettinger.digital.Hasher.C;
+import static com.github.tommyettinger.digital.Hasher.forwardAdze;
+import static com.github.tommyettinger.digital.Hasher.mix;
+import static com.github.tommyettinger.digital.Hasher.mixMultiple;
+
+/**
+ * Adze hashes for {@link MemorySegment}s, which can be on-heap or off-heap and can be larger than 2GB. These give the
+ * same results as {@link Hasher#hashAdze64(long, java.nio.ByteBuffer, int, int)} on the same bytes, reading them in
+ * big-endian order like a ByteBuffer does by default, but use {@code long} offsets and lengths. A direct ByteBuffer
+ * can be hashed here too, using {@link MemorySegment#ofBuffer(java.nio.Buffer)}.
+ * <br>
+ * This class uses the Foreign Function and Memory API, which was finalized in Java 22, so it is published separately
+ * from digital, as digital-ffm, which needs Java 22 or newer. It can't be used on older Java versions, Android, or GWT.
+ */
+public final class SegmentHasher {
+    /**
+     * No need to instantiate.
+     */
+    private SegmentHasher() {
+    }
+
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfShort SHORT = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfByte BYTE = ValueLayout.JAVA_BYTE;
+
+    /**
+     * Gets a 64-bit Adze hash of all of {@code seg}. This gives the same result as
+     * {@link Hasher#hashAdze64(long, java.nio.ByteBuffer)} on a ByteBuffer holding the same bytes.
+     * @param seed any long seed
+     * @param seg a MemorySegment to hash; must be accessible from this thread
+     * @return the 64-bit hash of seg
+     */
+    public static long hashAdze64(final long seed, final MemorySegment seg) {
+        if (seg == null) return 0;
+        return hashAdze64(seed, seg, 0L, seg.byteSize());
+    }
+
+    /**
+     * Gets a 64-bit Adze hash of a section of {@code seg}, starting at {@code offset} bytes in and hashing
+     * {@code length} bytes, or fewer if seg ends first. This gives the same result as
+     * {@link Hasher#hashAdze64(long, java.nio.ByteBuffer, int, int)} on a ByteBuffer holding the same bytes, but
+     * offset and length can go past what an int can hold.
+     * @param seed any long seed
+     * @param seg a MemorySegment to hash; must be accessible from this thread
+     * @param offset the starting offset in seg, in bytes
+     * @param length how many bytes to hash
+     * @return the 64-bit hash of the requested section of seg
+     */
+    public static long hashAdze64(final long seed, final MemorySegment seg, long offset, final long length) {
+        if (seg == null || offset < 0L || length < 0L || offset >= seg.byteSize())
+            return 0;
+        long len = Math.min(length, seg.byteSize() - offset);
+        long h = len ^ forwardAdze(seed);
+        while(len >= 112){
+            len -= 112;
+            h *= C;
+            h += mixMultiple(seg.get(LONG, offset), seg.get(LONG, offset + 8), seg.get(LONG, offset + 16), seg.get(LONG, offset + 24), seg.get(LONG, offset + 32), seg.get(LONG, offset + 40), seg.get(LONG, offset + 48));
+            h = (h << 39 | h >>> 25);
+            h += mixMultiple(seg.get(LONG, offset + 56), seg.get(LONG, offset + 64), seg.get(LONG, offset + 72), seg.get(LONG, offset + 80), seg.get(LONG, offset + 88), seg.get(LONG, offset + 96), seg.get(LONG, offset + 104));
+            offset += 112;
+        }
+        while(len >= 32){
+            len -= 32;
+            h = mixMultiple(h, seg.get(LONG, offset), seg.get(LONG, offset + 8), seg.get(LONG, offset + 16), seg.get(LONG, offset + 24));
+            offset += 32;
+        }
+        switch ((int) len) {
+            case 1 :  h = mixMultiple(h, seg.get(BYTE, offset)); break;
+            case 2 :  h = mixMultiple(h, seg.get(SHORT, offset)); break;
+            case 3 :  h = mixMultiple(h, seg.get(SHORT, offset), seg.get(BYTE, offset + 2)); break;
+            case 4 :  h = mixMultiple(h, seg.get(INT, offset)); break;
+            case 5 :  h = mixMultiple(h, seg.get(INT, offset), seg.get(BYTE, offset + 4)); break;
+            case 6 :  h = mixMultiple(h, seg.get(INT, offset), seg.get(SHORT, offset + 4)); break;
+            case 7 :  h = mixMultiple(h, seg.get(INT, offset), seg.get(INT, offset + 3)); break;
+            case 8 :  h = mixMultiple(h, seg.get(LONG, offset)); break;
+            case 9 :  h = mixMultiple(h, seg.get(LONG, offset), seg.get(BYTE, offset + 8)); break;
+            case 10:  h = mixMultiple(h, seg.get(LONG, offset), seg.get(SHORT, offset + 8)); break;
+            case 11:  h = mixMultiple(h, seg.get(LONG, offset), seg.get(INT, offset + 7)); break;
+            case 12:  h = mixMultiple(h, seg.get(LONG, offset), seg.get(INT, offset + 8)); break;
+            case 13:  h = mixMultiple(h, seg.get(LONG, offset), seg.get(LONG, offset + 5)); break;
+            case 14:  h = mixMultiple(h, seg.get(LONG, offset), seg.get(LONG, offset + 6)); break;
+            case 15:  h = mixMultiple(h, seg.get(LONG, offset), seg.get(LONG, offset + 7)); break;
+            case 16:  h = mixMultiple(h, seg.get(LONG, offset), seg.get(LONG, offset + 8)); break;
+            case 17:  h = mixMultiple(h, seg.get(LONG, offset), seg.get(LONG, offset + 8), seg.get(BYTE, offset + 16)); break;
+            case 18:  h = mixMultiple(h, seg.get(LONG, offset), seg.get(LONG, offset + 8), seg.get(SHORT, offset + 16)); break;
+            case 19:  h = mixMultiple(h, seg.get(LONG, offset), seg.get(LONG, offset + 8), seg.get(INT, offset + 15)); break;
+            case 20:  h = mixMultiple(h, seg.get(LONG, offset), seg.get(LONG, offset + 8), seg.get(INT, offset + 16)); break;
+            case 21:  h = mixMultiple(h, seg.get(LONG, offset), seg.get(LONG, offset + 8), seg.get(LONG, offset + 13)); break;
+            case 22:  h = mixMultiple(h, seg.get(LONG, offset), seg.get(LONG, offset + 8), seg.get(LONG, offset + 14)); break;
+            case 23:  h = mixMultiple(h, seg.get(LONG, offset), seg.get(LONG, offset + 8), seg.get(LONG, offset + 15)); break;
+            case 24:  h = mixMultiple(h, seg.get(LONG, offset), seg.get(LONG, offset + 8), seg.get(LONG, offset + 16)); break;
+            case 25:  h = mixMultiple(h, seg.get(LONG, offset), seg.get(LONG, offset + 8), seg.get(LONG, offset + 16), seg.get(BYTE, offset + 24)); break;
+            case 26:  h = mixMultiple(h, seg.get(LONG, offset), seg.get(LONG, offset + 8), seg.get(LONG, offset + 16), seg.get(SHORT, offset + 24)); break;
+            case 27:  h = mixMultiple(h, seg.get(LONG, offset), seg.get(LONG, offset + 8), seg.get(LONG, offset + 16), seg.get(INT, offset + 23)); break;
+            case 28:  h = mixMultiple(h, seg.get(LONG, offset), seg.get(LONG, offset + 8), seg.get(LONG, offset + 16), seg.get(INT, offset + 24)); break;
+            case 29:  h = mixMultiple(h, seg.get(LONG, offset), seg.get(LONG, offset + 8), seg.get(LONG, offset + 16), seg.get(LONG, offset + 21)); break;
+            case 30:  h = mixMultiple(h, seg.get(LONG, offset), seg.get(LONG, offset + 8), seg.get(LONG, offset + 16), seg.get(LONG, offset + 22)); break;
+            case 31:  h = mixMultiple(h, seg.get(LONG, offset), seg.get(LONG, offset + 8), seg.get(LONG, offset + 16), seg.get(LONG, offset + 23)); break;
+        }
+        return mix(h);
+    }
+
+    /**
+     * Gets a 32-bit Adze hash of all of {@code seg}; this is {@link #hashAdze64(long, MemorySegment)} cast to int.
+     * @param seed any long seed
+     * @param seg a MemorySegment to hash; must be accessible from this thread
+     * @return the 32-bit hash of seg
+     */
+    public static int hashAdze(final long seed, final MemorySegment seg) {
+        if (seg == null) return 0;
+        return (int) hashAdze64(seed, seg, 0L, seg.byteSize());
+    }
+
+    /**
+     * Gets a 32-bit Adze hash of a section of {@code seg}; this is
+     * {@link #hashAdze64(long, MemorySegment, long, long)} cast to int.
+     * @param seed any long seed
+     * @param seg a MemorySegment to hash; must be accessible from this thread
+     * @param offset the starting offset in seg, in bytes
+     * @param length how many bytes to hash
+     * @return the 32-bit hash of the requested section of seg
+     */
+    public static int hashAdze(final long seed, final MemorySegment seg, final long offset, final long length) {
+        return (int) hashAdze64(seed, seg, offset, length);
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.tommyettinger.digital;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class SegmentHasherTest {
+    @Test
+    public void testMatchesByteBuffer() {
+        AlternateRandom rng = new AlternateRandom(123);
+        byte[] bytes = new byte[600];
+        rng.nextBytes(bytes);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment offHeap = arena.allocate(bytes.length);
+            MemorySegment.copy(MemorySegment.ofArray(bytes), 0L, offHeap, 0L, bytes.length);
+            MemorySegment onHeap = MemorySegment.ofArray(bytes);
+            for (int start = 0; start < 40; start++) {
+                for (int len = 0; start + len <= bytes.length; len++) {
+                    long expected = Hasher.hashAdze64(-1L, buffer, start, len);
+                    Assert.assertEquals(expected, SegmentHasher.hashAdze64(-1L, offHeap, start, len));
+                    Assert.assertEquals(expected, SegmentHasher.hashAdze64(-1L, onHeap, start, len));
+                    Assert.assertEquals((int) expected, SegmentHasher.hashAdze(-1L, offHeap, start, len));
+                }
+            }
+            Assert.assertEquals(Hasher.hashAdze64(7L, buffer), SegmentHasher.hashAdze64(7L, offHeap));
+            ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+            Assert.assertEquals(Hasher.hashAdze64(7L, buffer), SegmentHasher.hashAdze64(7L, MemorySegment.ofBuffer(direct)));
+        }
+        Assert.assertEquals(0L, SegmentHasher.hashAdze64(1L, null));
+    }
+
+    @Test
+    public void testLargeOffsets() throws IOException {
+        // Maps a sparse file a little over 2GB long, so this doesn't need 2GB of memory; only the tail past
+        // Integer.MAX_VALUE is written and hashed.
+        Path path = Files.createTempFile("segment-hasher", ".bin");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.SPARSE); Arena arena = Arena.ofConfined()) {
+            long size = Integer.MAX_VALUE + 1000L;
+            MemorySegment big = channel.map(FileChannel.MapMode.READ_WRITE, 0L, size, arena);
+            byte[] bytes = new byte[1000];
+            new AlternateRandom(456).nextBytes(bytes);
+            MemorySegment.copy(MemorySegment.ofArray(bytes), 0L, big, Integer.MAX_VALUE, bytes.length);
+            Assert.assertEquals(Hasher.hashAdze64(3L, bytes), SegmentHasher.hashAdze64(3L, big, Integer.MAX_VALUE, bytes.length));
+            Assert.assertEquals(Hasher.hashAdze64(3L, bytes), SegmentHasher.hashAdze64(3L, big, Integer.MAX_VALUE, Long.MAX_VALUE));
+            Assert.assertEquals(0L, SegmentHasher.hashAdze64(3L, big, size, 10L));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * Compares throughput of {@link SegmentHasher#hashAdze64(long, MemorySegment, long, long)} on an off-heap segment
+     * with {@link Hasher#hashAdze64(long, ByteBuffer, int, int)} on a heap ByteBuffer and a direct ByteBuffer, all
+     * holding the same bytes, for inputs from 64 bytes to 4MB. Each size hashes 4GB in total per trial, and the best
+     * of several trials is printed. Run this with {@code gradlew :ffm:benchmark}; it isn't a test.
+     */
+    public static void main(String[] args) {
+        final int maxSize = 1 << 24, trials = 7;
+        final long total = 1L << 32;
+        byte[] bytes = new byte[maxSize];
+        new AlternateRandom(789).nextBytes(bytes);
+        ByteBuffer heap = ByteBuffer.wrap(bytes);
+        ByteBuffer direct = ByteBuffer.allocateDirect(maxSize).put(bytes).flip();
+        long sink = 0L;
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment seg = arena.allocate(maxSize);
+            MemorySegment.copy(MemorySegment.ofArray(bytes), 0L, seg, 0L, maxSize);
+            System.out.println("size\theap ByteBuffer GB/s\tdirect ByteBuffer GB/s\tMemorySegment GB/s");
+            for (int size = 64; size <= maxSize; size <<= 4) {
+                final int rounds = (int) (total / size), mask = maxSize - size;
+                long heapBest = Long.MAX_VALUE, directBest = Long.MAX_VALUE, segBest = Long.MAX_VALUE;
+                for (int trial = 0; trial < trials; trial++) {
+                    long time = System.nanoTime();
+                    for (int i = 0; i < rounds; i++) sink += Hasher.hashAdze64(i, heap, i * 64 & mask, size);
+                    heapBest = Math.min(heapBest, System.nanoTime() - time);
+                    time = System.nanoTime();
+                    for (int i = 0; i < rounds; i++) sink += Hasher.hashAdze64(i, direct, i * 64 & mask, size);
+                    directBest = Math.min(directBest, System.nanoTime() - time);
+                    time = System.nanoTime();
+                    for (int i = 0; i < rounds; i++) sink += SegmentHasher.hashAdze64(i, seg, i * 64 & mask, size);
+                    segBest = Math.min(segBest, System.nanoTime() - time);
+                }
+                final double done = (double) rounds * size;
+                System.out.printf("%d\t%.2f\t%.2f\t%.2f\n", size, done / heapBest, done / directBest, done / segBest);
+            }
+        }
+        System.out.println(sink);
+    }
+}
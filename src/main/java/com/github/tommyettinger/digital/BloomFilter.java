@@ -0,0 +1,400 @@
+/*
+ * Copyright (c) 2026 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.tommyettinger.digital;
+
+import com.github.tommyettinger.digital.Hasher.SeededHashFunction64;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A Bloom filter, which can say that an item is definitely not in a set, or that it might be, using only a few bits
+ * per item. Items are hashed once with a {@link SeededHashFunction64}, such as {@link Hasher#charSequenceHashAdze64},
+ * and all {@link #getHashCount() k} bit positions are derived from that one 64-bit hash, using double hashing with a
+ * second value from {@link Hasher#randomize1(long)}. Items are never stored, and can't be removed.
+ * <br>
+ * This can be sized with an expected item count and a false positive rate, such as 0.01 for 1% false positives, or
+ * with an exact number of bits and probes. Items can be added or checked one at a time, or in bulk from arrays with
+ * {@link #addAll(Object[])} and {@link #mightContainAll(Object[])}. If several threads need to add items at once,
+ * they can use {@link #addConcurrent(Object)}, which sets bits atomically (and is lock-free on Java 9 and higher);
+ * queries don't need any locking, since bits only ever change from 0 to 1. The filter can be saved to a ByteBuffer
+ * with {@link #write(ByteBuffer)} and loaded with {@link #read(SeededHashFunction64, ByteBuffer)}.
+ * <br>
+ * {@link BlockedBloomFilter} is a variant that keeps all of an item's bits in one 64-byte block, so it usually needs
+ * only one cache miss per query, at the cost of a somewhat higher false positive rate for the same size.
+ *
+ * @param <T> the type of items; each item must be hashable by the given {@link SeededHashFunction64}
+ * @author Tommy Ettinger
+ */
+public class BloomFilter<T> {
+    /**
+     * Identifies serialized data written by {@link #write(ByteBuffer)}; this is "BLM1" in ASCII.
+     */
+    private static final int MAGIC = 0x424C4D31;
+
+    protected final SeededHashFunction64<T> hashFunction;
+    protected final long seed;
+    protected final int hashCount;
+    protected final long[] bits;
+
+    /**
+     * Creates a BloomFilter sized for {@code expectedItems} items with the given false positive rate, once that many
+     * items have been added.
+     * @param hashFunction used to hash each item once; {@link Hasher#charSequenceHashAdze64} works well for Strings
+     * @param seed any long seed for hashFunction
+     * @param expectedItems how many items this should hold before its false positive rate goes above the given rate
+     * @param falsePositiveRate the chance for {@link #mightContain(Object)} to be wrong about an absent item, between
+     *                          0 and 1 exclusive; often 0.01
+     */
+    public BloomFilter(SeededHashFunction64<T> hashFunction, long seed, long expectedItems, double falsePositiveRate) {
+        this(hashFunction, seed, expectedItems, optimalWords(expectedItems, falsePositiveRate, 1));
+    }
+
+    /**
+     * Used by the constructor that takes a false positive rate, after it has determined the size.
+     */
+    private BloomFilter(SeededHashFunction64<T> hashFunction, long seed, long expectedItems, int words) {
+        this(hashFunction, seed, optimalHashCount(expectedItems, words), allocate(words));
+    }
+
+    /**
+     * Creates a BloomFilter with exactly {@code words * 64} bits, that sets {@code hashCount} bits per item.
+     * @param hashFunction used to hash each item once; {@link Hasher#charSequenceHashAdze64} works well for Strings
+     * @param seed any long seed for hashFunction
+     * @param words how many longs to use for the bits; must be positive
+     * @param hashCount how many bits to set for each item, often called k; must be positive
+     */
+    public BloomFilter(SeededHashFunction64<T> hashFunction, long seed, int words, int hashCount) {
+        this(hashFunction, seed, hashCount, allocate(words));
+    }
+
+    /**
+     * Used by the other constructors and by {@link #read(SeededHashFunction64, ByteBuffer)}; uses bits directly.
+     */
+    protected BloomFilter(SeededHashFunction64<T> hashFunction, long seed, int hashCount, long[] bits) {
+        if (bits.length <= 0)
+            throw new IllegalArgumentException("A BloomFilter must have at least one word of bits.");
+        if (hashCount <= 0)
+            throw new IllegalArgumentException("hashCount must be positive, but was " + hashCount);
+        this.hashFunction = hashFunction;
+        this.seed = seed;
+        this.hashCount = hashCount;
+        this.bits = bits;
+    }
+
+    /**
+     * Creates the array of bits, or throws an IllegalArgumentException if words isn't a valid size.
+     */
+    static long[] allocate(long words) {
+        if (words <= 0L || words > Integer.MAX_VALUE - 8)
+            throw new IllegalArgumentException("A filter must have between 1 and 2147483639 words of bits, but was given " + words);
+        return new long[(int) words];
+    }
+
+    /**
+     * Gets how many longs are needed to store a filter with the given expected items and false positive rate, rounded
+     * up to a multiple of {@code wordMultiple}.
+     */
+    static int optimalWords(long expectedItems, double falsePositiveRate, int wordMultiple) {
+        if (!(falsePositiveRate > 0.0 && falsePositiveRate < 1.0))
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1, exclusive, but was " + falsePositiveRate);
+        double bitCount = -Math.max(1L, expectedItems) * Math.log(falsePositiveRate) / (Math.log(2.0) * Math.log(2.0));
+        long words = (long) Math.ceil(bitCount / (64.0 * wordMultiple)) * wordMultiple;
+        if (words > Integer.MAX_VALUE - 8)
+            throw new IllegalArgumentException("That many items at that false positive rate would need too many bits.");
+        return (int) Math.max(wordMultiple, words);
+    }
+
+    /**
+     * Gets the number of bits to set per item that minimizes false positives, given the expected item count and size.
+     */
+    static int optimalHashCount(long expectedItems, int words) {
+        return Math.max(1, (int) Math.round(words * 64.0 / Math.max(1L, expectedItems) * Math.log(2.0)));
+    }
+
+    /**
+     * Adds item to this filter. This isn't safe to call while other threads are adding items; use
+     * {@link #addConcurrent(Object)} for that.
+     * @param item the item to add
+     * @return true if this changed any bits, which means item was definitely not present before
+     */
+    public boolean add(T item) {
+        return addHash(hashFunction.hash64(seed, item));
+    }
+
+    /**
+     * Adds item to this filter, setting bits atomically, so that any number of threads can call this at the same
+     * time. On Java 9 and higher this is lock-free. Queries can also run at the same time; they may or may not see
+     * an item being added concurrently.
+     * @param item the item to add
+     * @return true if this changed any bits, which means item was definitely not present before
+     */
+    public boolean addConcurrent(T item) {
+        return addHashConcurrent(hashFunction.hash64(seed, item));
+    }
+
+    /**
+     * Checks if item might have been added to this filter. If this returns false, item was definitely never added.
+     * @param item the item to check
+     * @return false if item was definitely never added; true if it might have been
+     */
+    public boolean mightContain(T item) {
+        return mightContainHash(hashFunction.hash64(seed, item));
+    }
+
+    /**
+     * Adds every item in items to this filter.
+     * @param items the items to add; may be null, which does nothing
+     * @return how many items changed bits in this filter
+     */
+    public int addAll(T[] items) {
+        if (items == null) return 0;
+        return addAll(items, 0, items.length);
+    }
+
+    /**
+     * Adds {@code length} items from items, starting at index {@code start}, to this filter.
+     * @param items the items to add
+     * @param start the first index in items to add
+     * @param length how many items to add
+     * @return how many items changed bits in this filter
+     */
+    public int addAll(T[] items, int start, int length) {
+        int changed = 0;
+        for (int i = start, end = start + length; i < end; i++) {
+            if (addHash(hashFunction.hash64(seed, items[i])))
+                changed++;
+        }
+        return changed;
+    }
+
+    /**
+     * Checks if every item in items might have been added to this filter. This stops at the first item that
+     * definitely wasn't added.
+     * @param items the items to check; may be null, which is treated as empty
+     * @return true if all items might have been added, or false if any item definitely wasn't
+     */
+    public boolean mightContainAll(T[] items) {
+        if (items == null) return true;
+        for (int i = 0; i < items.length; i++) {
+            if (!mightContainHash(hashFunction.hash64(seed, items[i])))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Checks each item in items, writing whether it might have been added into the same index in results.
+     * @param items the items to check
+     * @param results will be modified; must be at least as long as items
+     * @return how many items might have been added
+     */
+    public int mightContain(T[] items, boolean[] results) {
+        int count = 0;
+        for (int i = 0; i < items.length; i++) {
+            if (results[i] = mightContainHash(hashFunction.hash64(seed, items[i])))
+                count++;
+        }
+        return count;
+    }
+
+    /**
+     * Gets the second hash used for double hashing; it is always odd, so every probe is different when the number of
+     * bits is a power of two, and it doesn't share bits with the first hash in any simple way.
+     */
+    protected static long step(long hash) {
+        return Hasher.randomize1(hash) | 1L;
+    }
+
+    /**
+     * Adds an item that has already been hashed with this filter's hash function and seed.
+     * @param hash the 64-bit hash of an item
+     * @return true if any bits changed
+     */
+    public boolean addHash(long hash) {
+        final long step = step(hash), words = bits.length;
+        long changed = 0L;
+        for (int i = 0; i < hashCount; i++, hash += step) {
+            final int word = (int) ((hash >>> 32) * words >>> 32);
+            final long bit = 1L << hash, old = bits[word];
+            changed |= ~old & bit;
+            bits[word] = old | bit;
+        }
+        return changed != 0L;
+    }
+
+    /**
+     * Adds an item that has already been hashed with this filter's hash function and seed, setting bits atomically.
+     * See {@link #addConcurrent(Object)}.
+     * @param hash the 64-bit hash of an item
+     * @return true if any bits changed
+     */
+    public boolean addHashConcurrent(long hash) {
+        final long step = step(hash), words = bits.length;
+        long changed = 0L;
+        for (int i = 0; i < hashCount; i++, hash += step) {
+            final int word = (int) ((hash >>> 32) * words >>> 32);
+            final long bit = 1L << hash;
+            if ((bits[word] & bit) == 0L)
+                changed |= ~ArrayAtomics.getAndOr(bits, word, bit) & bit;
+        }
+        return changed != 0L;
+    }
+
+    /**
+     * Checks an item that has already been hashed with this filter's hash function and seed.
+     * @param hash the 64-bit hash of an item
+     * @return false if the item was definitely never added; true if it might have been
+     */
+    public boolean mightContainHash(long hash) {
+        final long step = step(hash), words = bits.length;
+        for (int i = 0; i < hashCount; i++, hash += step) {
+            if ((bits[(int) ((hash >>> 32) * words >>> 32)] & 1L << hash) == 0L)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Removes every item from this filter.
+     */
+    public void clear() {
+        Arrays.fill(bits, 0L);
+    }
+
+    /**
+     * Adds every item in other to this filter, so this will contain anything either filter contained. The other
+     * filter must be the same type, with the same size, hash count, and seed.
+     * @param other another filter with the same type, size, hash count, and seed
+     * @return this, for chaining
+     */
+    public BloomFilter<T> union(BloomFilter<T> other) {
+        if (other.getClass() != getClass() || other.bits.length != bits.length || other.hashCount != hashCount
+                || other.seed != seed)
+            throw new IllegalArgumentException("Only filters with the same type, size, hash count, and seed can be combined.");
+        for (int i = 0; i < bits.length; i++) {
+            bits[i] |= other.bits[i];
+        }
+        return this;
+    }
+
+    /**
+     * Estimates how many distinct items have been added, from how many bits are set.
+     * @return an estimate of the number of distinct items added
+     */
+    public double approximateCount() {
+        long set = 0L;
+        for (long b : bits) {
+            set += Long.bitCount(b);
+        }
+        final double m = getBitCount();
+        if (set >= m) return Double.POSITIVE_INFINITY;
+        return -m / hashCount * Math.log(1.0 - set / m);
+    }
+
+    /**
+     * @return how many bits this uses, which is 64 times the number of words
+     */
+    public long getBitCount() {
+        return (long) bits.length << 6;
+    }
+
+    /**
+     * @return how many bits are set for each item, often called k
+     */
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    /**
+     * @return the seed given to the hash function
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return the hash function used on each item
+     */
+    public SeededHashFunction64<T> getHashFunction() {
+        return hashFunction;
+    }
+
+    /**
+     * Gets how many bytes {@link #write(ByteBuffer)} will use.
+     * @return the size of this in serialized form, in bytes
+     */
+    public int serializedSize() {
+        return 4 + 8 + 4 + 4 + 8 * bits.length;
+    }
+
+    /**
+     * Writes this to {@code out}, starting at its current position and advancing it by {@link #serializedSize()}.
+     * The hash function isn't written, so the same one must be given when reading this back.
+     * @param out a ByteBuffer with at least {@link #serializedSize()} bytes remaining
+     * @return out, after writing
+     */
+    public ByteBuffer write(ByteBuffer out) {
+        out.putInt(magic()).putLong(seed).putInt(hashCount).putInt(bits.length);
+        for (long b : bits) {
+            out.putLong(b);
+        }
+        return out;
+    }
+
+    /**
+     * Identifies the serialized form of this type of filter.
+     */
+    protected int magic() {
+        return MAGIC;
+    }
+
+    /**
+     * Reads the header and bits written by {@link #write(ByteBuffer)}, checking that the header starts with magic.
+     * @return the bits, with the seed and hash count stored in header[0] and header[1]
+     */
+    static long[] readBits(ByteBuffer in, int magic, long[] header) {
+        if (in.getInt() != magic)
+            throw new IllegalArgumentException("The ByteBuffer doesn't contain this type of filter at its position.");
+        header[0] = in.getLong();
+        header[1] = in.getInt();
+        final int words = in.getInt();
+        if (words <= 0)
+            throw new IllegalArgumentException("The ByteBuffer doesn't contain a valid filter.");
+        final long[] bits = new long[words];
+        for (int i = 0; i < words; i++) {
+            bits[i] = in.getLong();
+        }
+        return bits;
+    }
+
+    /**
+     * Reads a BloomFilter written by {@link #write(ByteBuffer)}, starting at the current position of {@code in} and
+     * advancing it past the data read.
+     * @param hashFunction must be the same hash function the written BloomFilter used
+     * @param in a ByteBuffer positioned at the start of the written data
+     * @return a new BloomFilter with the same contents as the one that was written
+     * @param <T> the type of items
+     * @throws IllegalArgumentException if in doesn't hold a BloomFilter at its position
+     */
+    public static <T> BloomFilter<T> read(SeededHashFunction64<T> hashFunction, ByteBuffer in) {
+        final long[] header = new long[2];
+        final long[] bits = readBits(in, MAGIC, header);
+        return new BloomFilter<>(hashFunction, header[0], (int) header[1], bits);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.tommyettinger.digital;
+
+/**
+ * Reads big-endian short, int, and long values from a {@code byte[]}, the same way a {@link java.nio.ByteBuffer}
+ * with its default byte order reads them. This is used by {@link Hasher} so that its byte array hashes can read
+ * 8 bytes at a time, and get the same results as hashing the array wrapped in a ByteBuffer.
+ * <br>
+ * This version assembles each value from individual bytes using only shifts and masks, so it works on any platform,
+ * including GWT and Java 8. A Multi-Release jar layer for Java 9 and higher replaces this class with one that uses
+ * a byte array view VarHandle, which the JIT compiler can turn into a single (possibly unaligned) load.
+ * <br>
+ * None of these methods check bounds beyond what array access does already.
+ */
+final class ByteAccess {
+    private ByteAccess() {
+    }
+
+    /**
+     * Gets the big-endian short starting at {@code index} in {@code data}.
+     * @param data a byte array; must have at least {@code index + 2} items
+     * @param index the index of the first byte to read
+     * @return the short formed by the two bytes starting at index, in big-endian order
+     */
+    static short getShort(final byte[] data, final int index) {
+        return (short) (data[index] << 8 | (data[index + 1] & 0xFF));
+    }
+
+    /**
+     * Gets the big-endian int starting at {@code index} in {@code data}.
+     * @param data a byte array; must have at least {@code index + 4} items
+     * @param index the index of the first byte to read
+     * @return the int formed by the four bytes starting at index, in big-endian order
+     */
+    static int getInt(final byte[] data, final int index) {
+        return data[index] << 24
+                | (data[index + 1] & 0xFF) << 16
+                | (data[index + 2] & 0xFF) << 8
+                | (data[index + 3] & 0xFF);
+    }
+
+    /**
+     * Gets the big-endian long starting at {@code index} in {@code data}.
+     * @param data a byte array; must have at least {@code index + 8} items
+     * @param index the index of the first byte to read
+     * @return the long formed by the eight bytes starting at index, in big-endian order
+     */
+    static long getLong(final byte[] data, final int index) {
+        return (long) data[index] << 56
+                | (data[index + 1] & 0xFFL) << 48
+                | (data[index + 2] & 0xFFL) << 40
+                | (data[index + 3] & 0xFFL) << 32
+                | (data[index + 4] & 0xFFL) << 24
+                | (data[index + 5] & 0xFFL) << 16
+                | (data[index + 6] & 0xFFL) << 8
+                | (data[index + 7] & 0xFFL);
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2026 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.util.Arrays;
+
+/**
+ * A Count-Min sketch, which estimates how many times each long key has been added, using a fixed amount of memory no
+ * matter how many distinct keys there are. It has {@link #getDepth() depth} rows of {@link #getWidth() width}
+ * counters; each key is hashed once per row, using the seed of one of the {@link Hasher#predefined} Hashers for each
+ * row, and adding a key adds to one counter in each row. The estimate for a key is the smallest of its counters, which
+ * is never less than the true count (as long as counts are never negative), and is more than the true count by at
+ * most {@code e / width} times the {@link #getTotal() total} of all counts, with probability at least
+ * {@code 1 - Math.exp(-depth)}.
+ * <br>
+ * With conservative update, adding a key only raises each of its counters as far as needed to keep its estimate
+ * correct, which can greatly reduce overestimates for rare keys; it only allows positive counts. Keys can be added one
+ * at a time or in batches from {@code long[]} arrays, and every update costs the same, {@code depth} hashes and
+ * counter changes. Several threads can each fill their own sketch and then combine them with
+ * {@link #merge(CountMinSketch)}, or they can all update one shared sketch with {@link #addConcurrent(long, long)},
+ * which is lock-free on Java 9 and higher.
+ * <br>
+ * To find the most frequent keys, use {@link HeavyHitters}, which keeps one of these along with the current top keys.
+ *
+ * @author Tommy Ettinger
+ */
+public class CountMinSketch {
+    protected final int depth;
+    protected final int width;
+    protected final boolean conservative;
+    /**
+     * One seed per row, from {@link Hasher#predefined}.
+     */
+    protected final long[] seeds;
+    /**
+     * All rows of counters, one after another, followed by the total of all counts.
+     */
+    protected final long[] table;
+    /**
+     * Holds the indices for one key during a conservative update, so each row is only hashed once.
+     */
+    private final int[] indices;
+
+    /**
+     * Creates a CountMinSketch where every estimate is at most {@code epsilon} times the total count too high, with
+     * probability at least {@code 1 - delta}.
+     * @param epsilon the largest acceptable error, as a fraction of the total count; between 0 and 1, exclusive
+     * @param delta the acceptable chance of an estimate being worse than that; between 0 and 1, exclusive
+     * @param conservative if true, use conservative update, which is more accurate but only allows positive counts
+     */
+    public CountMinSketch(double epsilon, double delta, boolean conservative) {
+        this(depthFor(delta), widthFor(epsilon), conservative);
+    }
+
+    /**
+     * Creates a CountMinSketch with the given number of rows and counters per row.
+     * @param depth how many rows to use; between 1 and {@code Hasher.predefined.length}, inclusive; often 4 or 5
+     * @param width how many counters to use in each row; must be positive
+     * @param conservative if true, use conservative update, which is more accurate but only allows positive counts
+     */
+    public CountMinSketch(int depth, int width, boolean conservative) {
+        if (depth <= 0 || depth > Hasher.predefined.length)
+            throw new IllegalArgumentException("depth must be between 1 and " + Hasher.predefined.length
+                    + ", inclusive, but was " + depth);
+        if (width <= 0 || (long) depth * width >= Integer.MAX_VALUE - 8)
+            throw new IllegalArgumentException("width must be positive and small enough to fit depth rows in an array.");
+        this.depth = depth;
+        this.width = width;
+        this.conservative = conservative;
+        this.seeds = new long[depth];
+        for (int i = 0; i < depth; i++) {
+            seeds[i] = Hasher.predefined[i].seed;
+        }
+        this.table = new long[depth * width + 1];
+        this.indices = new int[depth];
+    }
+
+    /**
+     * Copies another CountMinSketch.
+     * @param other another CountMinSketch to copy
+     */
+    public CountMinSketch(CountMinSketch other) {
+        this.depth = other.depth;
+        this.width = other.width;
+        this.conservative = other.conservative;
+        this.seeds = Arrays.copyOf(other.seeds, depth);
+        this.table = Arrays.copyOf(other.table, other.table.length);
+        this.indices = new int[depth];
+    }
+
+    private static int depthFor(double delta) {
+        if (!(delta > 0.0 && delta < 1.0))
+            throw new IllegalArgumentException("delta must be between 0 and 1, exclusive, but was " + delta);
+        return (int) Math.ceil(Math.log(1.0 / delta));
+    }
+
+    private static int widthFor(double epsilon) {
+        if (!(epsilon > 0.0 && epsilon < 1.0))
+            throw new IllegalArgumentException("epsilon must be between 0 and 1, exclusive, but was " + epsilon);
+        return (int) Math.min(Integer.MAX_VALUE, Math.ceil(Math.E / epsilon));
+    }
+
+    /**
+     * Gets the index in {@link #table} of key's counter in the given row.
+     */
+    protected final int index(long key, int row) {
+        return row * width + (int) ((Hasher.randomize2(key ^ seeds[row]) >>> 32) * width >>> 32);
+    }
+
+    /**
+     * Adds 1 to the count for key.
+     * @param key any long key
+     * @return the new estimated count for key
+     */
+    public long add(long key) {
+        return add(key, 1L);
+    }
+
+    /**
+     * Adds count to the count for key. This isn't safe to call while other threads are changing this sketch; use
+     * {@link #addConcurrent(long, long)} for that.
+     * @param key any long key
+     * @param count how much to add; must be positive if this uses conservative update
+     * @return the new estimated count for key
+     */
+    public long add(long key, long count) {
+        if (conservative) {
+            if (count <= 0L)
+                throw new IllegalArgumentException("Conservative update only allows positive counts, but got " + count);
+            table[table.length - 1] += count;
+            long min = Long.MAX_VALUE;
+            for (int r = 0; r < depth; r++) {
+                min = Math.min(min, table[indices[r] = index(key, r)]);
+            }
+            final long target = min + count;
+            for (int r = 0; r < depth; r++) {
+                if (table[indices[r]] < target) table[indices[r]] = target;
+            }
+            return target;
+        }
+        table[table.length - 1] += count;
+        long min = Long.MAX_VALUE;
+        for (int r = 0; r < depth; r++) {
+            min = Math.min(min, table[index(key, r)] += count);
+        }
+        return min;
+    }
+
+    /**
+     * Adds count to the count for key, changing counters atomically, so that any number of threads can call this at
+     * the same time. On Java 9 and higher this is lock-free. Conservative update isn't used here even if this has it,
+     * because two threads raising the same counter to the same target would lose one update and undercount; every
+     * counter for key is increased by count instead, which never undercounts.
+     * @param key any long key
+     * @param count how much to add; must be positive if this uses conservative update
+     * @return the estimated count for key just after this update
+     */
+    public long addConcurrent(long key, long count) {
+        if (conservative && count <= 0L)
+            throw new IllegalArgumentException("Conservative update only allows positive counts, but got " + count);
+        ArrayAtomics.getAndAdd(table, table.length - 1, count);
+        long min = Long.MAX_VALUE;
+        for (int r = 0; r < depth; r++) {
+            min = Math.min(min, ArrayAtomics.getAndAdd(table, index(key, r), count) + count);
+        }
+        return min;
+    }
+
+    /**
+     * Adds 1 to the count for every key in keys.
+     * @param keys the keys to count; may be null, which does nothing
+     */
+    public void addAll(long[] keys) {
+        if (keys == null) return;
+        addAll(keys, 0, keys.length);
+    }
+
+    /**
+     * Adds 1 to the count for {@code length} keys from keys, starting at index {@code start}.
+     * @param keys the keys to count
+     * @param start the first index in keys to count
+     * @param length how many keys to count
+     */
+    public void addAll(long[] keys, int start, int length) {
+        for (int i = start, end = start + length; i < end; i++) {
+            add(keys[i], 1L);
+        }
+    }
+
+    /**
+     * Adds each item in counts to the count for the key at the same index in keys.
+     * @param keys the keys to count
+     * @param counts how much to add for each key; must be at least as long as keys
+     */
+    public void addAll(long[] keys, long[] counts) {
+        for (int i = 0; i < keys.length; i++) {
+            add(keys[i], counts[i]);
+        }
+    }
+
+    /**
+     * Estimates how many times key has been added. This is never less than the true count if all counts added were
+     * positive, and is usually close to it.
+     * @param key any long key
+     * @return the estimated count for key
+     */
+    public long estimate(long key) {
+        long min = Long.MAX_VALUE;
+        for (int r = 0; r < depth; r++) {
+            min = Math.min(min, table[index(key, r)]);
+        }
+        return min;
+    }
+
+    /**
+     * Estimates the count of each key in keys, writing each estimate into the same index in results.
+     * @param keys the keys to estimate
+     * @param results will be modified; must be at least as long as keys
+     * @return results, after modifications
+     */
+    public long[] estimateAll(long[] keys, long[] results) {
+        for (int i = 0; i < keys.length; i++) {
+            results[i] = estimate(keys[i]);
+        }
+        return results;
+    }
+
+    /**
+     * Adds every count in other to this sketch, so this will estimate the counts of both combined. The other sketch
+     * must have the same depth, width, and update mode. Merging sketches that use conservative update still never
+     * underestimates, but can be less accurate than if all keys had been added to one sketch.
+     * @param other another CountMinSketch with the same depth, width, and update mode
+     * @return this, for chaining
+     */
+    public CountMinSketch merge(CountMinSketch other) {
+        if (other.depth != depth || other.width != width || other.conservative != conservative)
+            throw new IllegalArgumentException("Only sketches with the same depth, width, and update mode can be merged.");
+        for (int i = 0; i < table.length; i++) {
+            table[i] += other.table[i];
+        }
+        return this;
+    }
+
+    /**
+     * Sets every count to 0.
+     */
+    public void clear() {
+        Arrays.fill(table, 0L);
+    }
+
+    /**
+     * @return the total of all counts added
+     */
+    public long getTotal() {
+        return table[table.length - 1];
+    }
+
+    /**
+     * @return how many rows this uses, each with its own hash
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * @return how many counters each row has
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * @return true if this uses conservative update
+     */
+    public boolean isConservative() {
+        return conservative;
+    }
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) 2026 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.util.function.LongUnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * A stateless, counter-based random number generator: the random long at index i is just a bijective mixer, such as
+ * {@link Hasher#randomize2(long)}, applied to a seed-dependent base plus i. Because nothing changes between calls, any
+ * index can be read directly in constant time, the same index always gives the same value, and any number of threads
+ * can read different index ranges at once with no shared state. A Monte Carlo job can give each task its own range of
+ * indices (or its own {@link #split(long) split} generator) and get reproducible results on any number of cores.
+ * <br>
+ * The base is {@link Hasher#randomize3(long)} of the seed, rather than the seed itself, so that generators with nearby
+ * seeds don't produce the same values shifted by a few indices. The mixer can be any of {@link Hasher#randomize1(long)},
+ * {@link Hasher#randomize2(long)} (the default), {@link Hasher#randomize3(long)}, or {@link Hasher#randomizeH(long)}.
+ * All of them are bijective, so a generator produces each long exactly once over all 2 to the 64 indices; randomize1
+ * is fastest, and randomize3 and randomizeH have the highest quality.
+ * <br>
+ * {@link #longs(long, long)} and {@link #doubles(long, long)} are built on {@link LongStream#range(long, long)}, so
+ * they split evenly when made parallel, and give the same values in the same order either way. The fill methods
+ * write many values to arrays starting at any index, and have parallel versions for large arrays.
+ *
+ * @author Tommy Ettinger
+ */
+public class CounterRandom {
+    /**
+     * How many items each task fills in the parallel fill methods.
+     */
+    private static final int BLOCK = 1 << 13;
+
+    /**
+     * Gets how many blocks of {@link #BLOCK} items it takes to cover length items, without overflowing for lengths
+     * near {@link Integer#MAX_VALUE}.
+     */
+    private static int blocks(int length) {
+        return length == 0 ? 0 : (length - 1) / BLOCK + 1;
+    }
+
+    protected final long seed;
+    protected final long base;
+    protected final LongUnaryOperator mixer;
+
+    /**
+     * Creates a CounterRandom with the given seed, using {@link Hasher#randomize2(long)} as its mixer.
+     * @param seed any long
+     */
+    public CounterRandom(long seed) {
+        this(seed, Hasher::randomize2);
+    }
+
+    /**
+     * Creates a CounterRandom with the given seed and mixer.
+     * @param seed any long
+     * @param mixer a bijective function, such as {@code Hasher::randomize3}; this is called once per value
+     */
+    public CounterRandom(long seed, LongUnaryOperator mixer) {
+        this.seed = seed;
+        this.base = Hasher.randomize3(seed);
+        this.mixer = mixer;
+    }
+
+    /**
+     * Creates a new CounterRandom with the same mixer, whose values are unrelated to this one's. Splitting with
+     * different ids, or splitting a split generator, gives unrelated generators.
+     * @param id any long, such as a task or thread number
+     * @return a new CounterRandom
+     */
+    public CounterRandom split(long id) {
+        return new CounterRandom(Hasher.mixMultiple(seed, Hasher.randomize2(id)), mixer);
+    }
+
+    /**
+     * Gets the random long at the given index.
+     * @param index any long
+     * @return a random long that only depends on index, the seed, and the mixer
+     */
+    public long longAt(long index) {
+        return mixer.applyAsLong(base + index);
+    }
+
+    /**
+     * Gets a random int at the given index, between 0 (inclusive) and bound (exclusive).
+     * @param index any long
+     * @param bound the outer exclusive bound; may be negative
+     * @return a random int that only depends on index, bound, the seed, and the mixer
+     */
+    public int intAt(long index, int bound) {
+        return (int) (bound * (longAt(index) >>> 32) >> 32) + (bound >>> 31);
+    }
+
+    /**
+     * Gets a random float at the given index, between 0 inclusive and 1 exclusive.
+     * @param index any long
+     * @return a random float that only depends on index, the seed, and the mixer
+     */
+    public float floatAt(long index) {
+        return (longAt(index) >>> 40) * 0x1p-24f;
+    }
+
+    /**
+     * Gets a random double at the given index, between 0 inclusive and 1 exclusive.
+     * @param index any long
+     * @return a random double that only depends on index, the seed, and the mixer
+     */
+    public double doubleAt(long index) {
+        return (longAt(index) >>> 11) * 0x1p-53;
+    }
+
+    /**
+     * Gets a normal-distributed double at the given index, with mean 0 and standard deviation 1, using
+     * {@link Distributor#normal(long)}.
+     * @param index any long
+     * @return a random normal-distributed double that only depends on index, the seed, and the mixer
+     */
+    public double normalAt(long index) {
+        return Distributor.normal(longAt(index));
+    }
+
+    /**
+     * Gets a stream of the random longs from start, inclusive, to end, exclusive. This can be made parallel, and will
+     * produce the same values in the same order.
+     * @param start the first index
+     * @param end the index after the last
+     * @return a LongStream of {@code end - start} random longs
+     */
+    public LongStream longs(long start, long end) {
+        return LongStream.range(start, end).map(this::longAt);
+    }
+
+    /**
+     * Gets a stream of random ints between 0 inclusive and bound exclusive, for indices from start, inclusive, to end,
+     * exclusive. This can be made parallel, and will produce the same values in the same order.
+     * @param start the first index
+     * @param end the index after the last
+     * @param bound the outer exclusive bound for each int; may be negative
+     * @return an IntStream of {@code end - start} random ints
+     */
+    public IntStream ints(long start, long end, int bound) {
+        return LongStream.range(start, end).mapToInt(i -> intAt(i, bound));
+    }
+
+    /**
+     * Gets a stream of random doubles between 0 inclusive and 1 exclusive, for indices from start, inclusive, to end,
+     * exclusive. This can be made parallel, and will produce the same values in the same order.
+     * @param start the first index
+     * @param end the index after the last
+     * @return a DoubleStream of {@code end - start} random doubles
+     */
+    public DoubleStream doubles(long start, long end) {
+        return LongStream.range(start, end).mapToDouble(this::doubleAt);
+    }
+
+    /**
+     * Gets a stream of normal-distributed doubles, with mean 0 and standard deviation 1, for indices from start,
+     * inclusive, to end, exclusive. This can be made parallel, and will produce the same values in the same order.
+     * @param start the first index
+     * @param end the index after the last
+     * @return a DoubleStream of {@code end - start} random normal-distributed doubles
+     */
+    public DoubleStream normals(long start, long end) {
+        return LongStream.range(start, end).mapToDouble(this::normalAt);
+    }
+
+    /**
+     * Fills part of out with random longs, where {@code out[from]} gets the value at index and each later item gets
+     * the next index.
+     * @param out will be modified
+     * @param from the first position in out to fill
+     * @param to the position after the last one to fill
+     * @param index the index for {@code out[from]}
+     * @return out, after modifications
+     */
+    public long[] fill(long[] out, int from, int to, long index) {
+        final long start = base + index - from;
+        for (int i = from; i < to; i++) {
+            out[i] = mixer.applyAsLong(start + i);
+        }
+        return out;
+    }
+
+    /**
+     * Fills part of out with random floats between 0 inclusive and 1 exclusive, where {@code out[from]} gets the value
+     * at index and each later item gets the next index.
+     * @param out will be modified
+     * @param from the first position in out to fill
+     * @param to the position after the last one to fill
+     * @param index the index for {@code out[from]}
+     * @return out, after modifications
+     */
+    public float[] fill(float[] out, int from, int to, long index) {
+        final long start = base + index - from;
+        for (int i = from; i < to; i++) {
+            out[i] = (mixer.applyAsLong(start + i) >>> 40) * 0x1p-24f;
+        }
+        return out;
+    }
+
+    /**
+     * Fills part of out with random doubles between 0 inclusive and 1 exclusive, where {@code out[from]} gets the
+     * value at index and each later item gets the next index.
+     * @param out will be modified
+     * @param from the first position in out to fill
+     * @param to the position after the last one to fill
+     * @param index the index for {@code out[from]}
+     * @return out, after modifications
+     */
+    public double[] fill(double[] out, int from, int to, long index) {
+        final long start = base + index - from;
+        for (int i = from; i < to; i++) {
+            out[i] = (mixer.applyAsLong(start + i) >>> 11) * 0x1p-53;
+        }
+        return out;
+    }
+
+    /**
+     * Fills all of out with random longs, where {@code out[0]} gets the value at index.
+     * @param out will be modified
+     * @param index the index for {@code out[0]}
+     * @return out, after modifications
+     */
+    public long[] fill(long[] out, long index) {
+        return fill(out, 0, out.length, index);
+    }
+
+    /**
+     * Fills all of out with random floats between 0 inclusive and 1 exclusive, where {@code out[0]} gets the value at
+     * index.
+     * @param out will be modified
+     * @param index the index for {@code out[0]}
+     * @return out, after modifications
+     */
+    public float[] fill(float[] out, long index) {
+        return fill(out, 0, out.length, index);
+    }
+
+    /**
+     * Fills all of out with random doubles between 0 inclusive and 1 exclusive, where {@code out[0]} gets the value
+     * at index.
+     * @param out will be modified
+     * @param index the index for {@code out[0]}
+     * @return out, after modifications
+     */
+    public double[] fill(double[] out, long index) {
+        return fill(out, 0, out.length, index);
+    }
+
+    /**
+     * Like {@link #fill(long[], long)}, but splits the work across threads; the results are identical.
+     * @param out will be modified
+     * @param index the index for {@code out[0]}
+     * @return out, after modifications
+     */
+    public long[] fillParallel(long[] out, long index) {
+        IntStream.range(0, blocks(out.length)).parallel().forEach(b -> {
+            final int from = b * BLOCK;
+            fill(out, from, from + Math.min(BLOCK, out.length - from), index + from);
+        });
+        return out;
+    }
+
+    /**
+     * Like {@link #fill(float[], long)}, but splits the work across threads; the results are identical.
+     * @param out will be modified
+     * @param index the index for {@code out[0]}
+     * @return out, after modifications
+     */
+    public float[] fillParallel(float[] out, long index) {
+        IntStream.range(0, blocks(out.length)).parallel().forEach(b -> {
+            final int from = b * BLOCK;
+            fill(out, from, from + Math.min(BLOCK, out.length - from), index + from);
+        });
+        return out;
+    }
+
+    /**
+     * Like {@link #fill(double[], long)}, but splits the work across threads; the results are identical.
+     * @param out will be modified
+     * @param index the index for {@code out[0]}
+     * @return out, after modifications
+     */
+    public double[] fillParallel(double[] out, long index) {
+        IntStream.range(0, blocks(out.length)).parallel().forEach(b -> {
+            final int from = b * BLOCK;
+            fill(out, from, from + Math.min(BLOCK, out.length - from), index + from);
+        });
+        return out;
+    }
+
+    /**
+     * @return the seed given to the constructor
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return the function applied to each counter value
+     */
+    public LongUnaryOperator getMixer() {
+        return mixer;
+    }
+}
@@ -0,0 +1,413 @@
+/*
+ * Copyright (c) 2026 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.tommyettinger.digital;
+
+import com.github.tommyettinger.digital.Hasher.SeededHashFunction64;
+
+import java.util.Arrays;
+
+/**
+ * A cuckoo filter (Fan et al., 2014), which like a {@link BloomFilter} can say that an item is definitely not in a set
+ * or that it might be, but which can also remove items. Each item is hashed once with a {@link SeededHashFunction64},
+ * such as {@link Hasher#charSequenceHashAdze64}; the low bits of the hash are the item's fingerprint, which is 8, 12,
+ * or 16 bits, and the high bits choose its first bucket. Buckets hold 4 fingerprints each, and are packed tightly into
+ * a long array. An item's second bucket is found with partial-key cuckoo hashing, by XORing the first bucket with
+ * {@link Hasher#randomize1(long)} of the fingerprint, so either bucket can be found from the other without the item.
+ * <br>
+ * When both buckets are full, a random fingerprint in one of them is kicked to its other bucket, which can kick
+ * another, up to {@link #getMaxKicks() maxKicks} times. If that runs out, the last fingerprint kicked out is kept in a
+ * one-item stash, so no item is ever lost; once the stash is in use, further adds fail and are counted by
+ * {@link #getFailedInserts()}. A filter sized for its items usually reaches a {@link #loadFactor() load factor} of
+ * about 95% before that happens. The false positive rate is about {@code 8 / 2^fingerprintBits}: about 3% for 8 bits,
+ * 0.2% for 12 bits, or 0.012% for 16 bits.
+ * <br>
+ * Only remove items that were added; removing an item that wasn't added can remove a different item with the same
+ * fingerprint and buckets. The same item can be added more than once, and must then be removed that many times, but
+ * it can't be added more than 8 times. Kicks are chosen by a generator stored in the filter, so the same sequence of
+ * operations always gives the same filter. This isn't thread-safe.
+ *
+ * @param <T> the type of items; each item must be hashable by the given {@link SeededHashFunction64}
+ * @author Tommy Ettinger
+ */
+public class CuckooFilter<T> {
+    /**
+     * How many fingerprints each bucket can hold.
+     */
+    public static final int BUCKET_SIZE = 4;
+
+    protected final SeededHashFunction64<T> hashFunction;
+    protected final long seed;
+    protected final int fingerprintBits;
+    protected final long fingerprintMask;
+    protected final int bucketBits;
+    protected final long bucketMask;
+    /**
+     * log2 of the bucket count, which is always a power of two.
+     */
+    protected final int bucketShift;
+    protected final int bucketCount;
+    /**
+     * Each bucket takes {@code 4 * fingerprintBits} bits; one extra long at the end lets every read use two longs.
+     */
+    protected final long[] table;
+    protected final int maxKicks;
+    protected long size;
+    protected long failedInserts;
+    protected long kickState;
+    /**
+     * A fingerprint that couldn't be placed after the maximum number of kicks, or 0 if there is none.
+     */
+    protected int stashFingerprint;
+    protected int stashBucket;
+
+    /**
+     * Creates a CuckooFilter with room for at least {@code expectedItems} items at a 95% load factor, and at most 500
+     * kicks per add.
+     * @param hashFunction used to hash each item once; {@link Hasher#charSequenceHashAdze64} works well for Strings
+     * @param seed any long seed for hashFunction
+     * @param expectedItems how many items this should be able to hold at once
+     * @param fingerprintBits 8, 12, or 16; more bits use more memory and give fewer false positives
+     */
+    public CuckooFilter(SeededHashFunction64<T> hashFunction, long seed, long expectedItems, int fingerprintBits) {
+        this(hashFunction, seed, bucketsFor(expectedItems), fingerprintBits, 500);
+    }
+
+    /**
+     * Creates a CuckooFilter with exactly the given number of buckets.
+     * @param hashFunction used to hash each item once; {@link Hasher#charSequenceHashAdze64} works well for Strings
+     * @param seed any long seed for hashFunction
+     * @param buckets how many buckets to use; must be a power of two, from 2 to 2 to the 30
+     * @param fingerprintBits 8, 12, or 16; more bits use more memory and give fewer false positives
+     * @param maxKicks how many fingerprints an add can kick to their other bucket before it uses the stash; must
+     *                 not be negative
+     */
+    public CuckooFilter(SeededHashFunction64<T> hashFunction, long seed, int buckets, int fingerprintBits, int maxKicks) {
+        if (buckets < 2 || buckets > 1 << 30 || (buckets & buckets - 1) != 0)
+            throw new IllegalArgumentException("buckets must be a power of two from 2 to 2 to the 30, but was " + buckets);
+        if (fingerprintBits != 8 && fingerprintBits != 12 && fingerprintBits != 16)
+            throw new IllegalArgumentException("fingerprintBits must be 8, 12, or 16, but was " + fingerprintBits);
+        if (maxKicks < 0)
+            throw new IllegalArgumentException("maxKicks must not be negative, but was " + maxKicks);
+        this.hashFunction = hashFunction;
+        this.seed = seed;
+        this.fingerprintBits = fingerprintBits;
+        this.fingerprintMask = (1L << fingerprintBits) - 1L;
+        this.bucketBits = fingerprintBits * BUCKET_SIZE;
+        this.bucketMask = -1L >>> 64 - bucketBits;
+        this.bucketCount = buckets;
+        this.bucketShift = 31 - Integer.numberOfLeadingZeros(buckets);
+        this.table = new long[(int) (((long) buckets * bucketBits + 63L) >>> 6) + 1];
+        this.maxKicks = maxKicks;
+        this.kickState = seed;
+    }
+
+    /**
+     * Gets the smallest power-of-two bucket count that holds expectedItems at a 95% load factor.
+     */
+    private static int bucketsFor(long expectedItems) {
+        final long buckets = (long) Math.ceil(Math.max(expectedItems, 1L) / (BUCKET_SIZE * 0.95));
+        if (buckets > 1 << 30)
+            throw new IllegalArgumentException("Too many expected items: " + expectedItems);
+        return Math.max(2, 1 << 32 - Integer.numberOfLeadingZeros((int) buckets - 1));
+    }
+
+    /**
+     * Gets the fingerprint of a hash, which is never 0 because 0 marks an empty slot.
+     */
+    protected int fingerprint(long hash) {
+        final int fp = (int) (hash & fingerprintMask);
+        return fp == 0 ? 1 : fp;
+    }
+
+    /**
+     * Gets the first bucket of a hash, from its upper bits.
+     */
+    protected int firstBucket(long hash) {
+        return (int) (hash >>> 64 - bucketShift);
+    }
+
+    /**
+     * Gets the other bucket a fingerprint can be in; calling this on the result gives back bucket.
+     */
+    protected int otherBucket(int bucket, int fingerprint) {
+        return bucket ^ (int) (Hasher.randomize1(fingerprint ^ seed) >>> 64 - bucketShift);
+    }
+
+    protected long readBucket(int bucket) {
+        final long bit = (long) bucket * bucketBits;
+        final int w = (int) (bit >>> 6), s = (int) (bit & 63);
+        long v = table[w] >>> s;
+        if (s + bucketBits > 64) v |= table[w + 1] << 64 - s;
+        return v & bucketMask;
+    }
+
+    protected void writeBucket(int bucket, long value) {
+        final long bit = (long) bucket * bucketBits;
+        final int w = (int) (bit >>> 6), s = (int) (bit & 63);
+        table[w] = table[w] & ~(bucketMask << s) | value << s;
+        if (s + bucketBits > 64) {
+            final int over = s + bucketBits - 64;
+            table[w + 1] = table[w + 1] & -1L << over | value >>> 64 - s;
+        }
+    }
+
+    /**
+     * Tries to put fingerprint in an empty slot of bucket.
+     * @return true if there was room
+     */
+    protected boolean insertIntoBucket(int bucket, int fingerprint) {
+        final long v = readBucket(bucket);
+        for (int i = 0, shift = 0; i < BUCKET_SIZE; i++, shift += fingerprintBits) {
+            if ((v >>> shift & fingerprintMask) == 0L) {
+                writeBucket(bucket, v | (long) fingerprint << shift);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected boolean bucketContains(int bucket, int fingerprint) {
+        final long v = readBucket(bucket);
+        for (int i = 0, shift = 0; i < BUCKET_SIZE; i++, shift += fingerprintBits) {
+            if ((v >>> shift & fingerprintMask) == fingerprint) return true;
+        }
+        return false;
+    }
+
+    protected boolean removeFromBucket(int bucket, int fingerprint) {
+        final long v = readBucket(bucket);
+        for (int i = 0, shift = 0; i < BUCKET_SIZE; i++, shift += fingerprintBits) {
+            if ((v >>> shift & fingerprintMask) == fingerprint) {
+                writeBucket(bucket, v & ~(fingerprintMask << shift));
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds item to this filter.
+     * @param item the item to add
+     * @return true if item was added, or false if the filter is too full
+     */
+    public boolean add(T item) {
+        return addHash(hashFunction.hash64(seed, item));
+    }
+
+    /**
+     * Checks if item might have been added to this filter.
+     * @param item the item to check
+     * @return false if item definitely isn't present, or true if it might be
+     */
+    public boolean mightContain(T item) {
+        return mightContainHash(hashFunction.hash64(seed, item));
+    }
+
+    /**
+     * Removes item from this filter, if it might be present. Only call this for items that were added.
+     * @param item the item to remove
+     * @return true if a matching fingerprint was found and removed
+     */
+    public boolean remove(T item) {
+        return removeHash(hashFunction.hash64(seed, item));
+    }
+
+    /**
+     * Adds every item in items to this filter, stopping early if the filter is too full.
+     * @param items the items to add
+     * @return how many items were added; less than {@code items.length} only if the filter became too full
+     */
+    public int addAll(T[] items) {
+        for (int i = 0; i < items.length; i++) {
+            if (!addHash(hashFunction.hash64(seed, items[i])))
+                return i;
+        }
+        return items.length;
+    }
+
+    /**
+     * Checks each item in items, writing whether it might have been added into the same index in results.
+     * @param items the items to check
+     * @param results will be modified; must be at least as long as items
+     * @return how many items might have been added
+     */
+    public int mightContain(T[] items, boolean[] results) {
+        int count = 0;
+        for (int i = 0; i < items.length; i++) {
+            if (results[i] = mightContainHash(hashFunction.hash64(seed, items[i])))
+                count++;
+        }
+        return count;
+    }
+
+    /**
+     * Removes every item in items from this filter; each should have been added.
+     * @param items the items to remove
+     * @return how many items were found and removed
+     */
+    public int removeAll(T[] items) {
+        int count = 0;
+        for (int i = 0; i < items.length; i++) {
+            if (removeHash(hashFunction.hash64(seed, items[i])))
+                count++;
+        }
+        return count;
+    }
+
+    /**
+     * Adds an item that has already been hashed with this filter's hash function and seed.
+     * @param hash the 64-bit hash of an item
+     * @return true if the item was added, or false if the filter is too full
+     */
+    public boolean addHash(long hash) {
+        if (stashFingerprint != 0) {
+            failedInserts++;
+            return false;
+        }
+        int fp = fingerprint(hash);
+        final int first = firstBucket(hash), second = otherBucket(first, fp);
+        if (insertIntoBucket(first, fp) || insertIntoBucket(second, fp)) {
+            size++;
+            return true;
+        }
+        long r = Hasher.randomize1(++kickState);
+        int bucket = (r & 1L) == 0L ? first : second;
+        for (int k = 0; k < maxKicks; k++) {
+            // swap fp with a random fingerprint in bucket, then try to place the kicked one in its other bucket
+            if ((k & 15) == 15) r = Hasher.randomize1(++kickState);
+            final int shift = (int) (r >>> 1 + (k & 15) * 2 & 3L) * fingerprintBits;
+            final long v = readBucket(bucket);
+            final int kicked = (int) (v >>> shift & fingerprintMask);
+            writeBucket(bucket, v & ~(fingerprintMask << shift) | (long) fp << shift);
+            fp = kicked;
+            bucket = otherBucket(bucket, fp);
+            if (insertIntoBucket(bucket, fp)) {
+                size++;
+                return true;
+            }
+        }
+        stashFingerprint = fp;
+        stashBucket = bucket;
+        size++;
+        return true;
+    }
+
+    /**
+     * Checks an item that has already been hashed with this filter's hash function and seed.
+     * @param hash the 64-bit hash of an item
+     * @return false if the item definitely isn't present, or true if it might be
+     */
+    public boolean mightContainHash(long hash) {
+        final int fp = fingerprint(hash);
+        final int first = firstBucket(hash), second = otherBucket(first, fp);
+        return bucketContains(first, fp) || bucketContains(second, fp)
+                || (stashFingerprint == fp && (stashBucket == first || stashBucket == second));
+    }
+
+    /**
+     * Removes an item that has already been hashed with this filter's hash function and seed.
+     * @param hash the 64-bit hash of an item that was added
+     * @return true if a matching fingerprint was found and removed
+     */
+    public boolean removeHash(long hash) {
+        final int fp = fingerprint(hash);
+        final int first = firstBucket(hash), second = otherBucket(first, fp);
+        if (stashFingerprint == fp && (stashBucket == first || stashBucket == second)) {
+            stashFingerprint = 0;
+            size--;
+            return true;
+        }
+        if (removeFromBucket(first, fp) || removeFromBucket(second, fp)) {
+            size--;
+            // the removal may have made room for the stashed fingerprint
+            if (stashFingerprint != 0) {
+                final int stashed = stashFingerprint, bucket = stashBucket;
+                if (insertIntoBucket(bucket, stashed) || insertIntoBucket(otherBucket(bucket, stashed), stashed))
+                    stashFingerprint = 0;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes all items from this filter. This doesn't reset {@link #getFailedInserts()}.
+     */
+    public void clear() {
+        Arrays.fill(table, 0L);
+        stashFingerprint = 0;
+        size = 0L;
+    }
+
+    /**
+     * Gets how full this filter is; adds usually start to fail somewhere above 0.95.
+     * @return the number of items divided by the number of slots
+     */
+    public double loadFactor() {
+        return size / ((double) bucketCount * BUCKET_SIZE);
+    }
+
+    /**
+     * @return how many items are in this filter, counting each add of the same item separately
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * @return how many adds have failed because this filter was too full
+     */
+    public long getFailedInserts() {
+        return failedInserts;
+    }
+
+    /**
+     * @return how many slots there are, which is 4 times the bucket count
+     */
+    public long getCapacity() {
+        return (long) bucketCount * BUCKET_SIZE;
+    }
+
+    /**
+     * @return how many bits each fingerprint uses
+     */
+    public int getFingerprintBits() {
+        return fingerprintBits;
+    }
+
+    /**
+     * @return how many fingerprints an add can kick before it uses the stash
+     */
+    public int getMaxKicks() {
+        return maxKicks;
+    }
+
+    /**
+     * @return the seed used with the hash function
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return the hash function used to hash each item
+     */
+    public SeededHashFunction64<T> getHashFunction() {
+        return hashFunction;
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2026 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Turns text into sparse feature vectors with the hashing trick (Weinberger et al., 2009), for use by text
+ * classifiers and other machine learning models. Each token is hashed with
+ * {@link Hasher#hash64(long, CharSequence, int, int)} directly from the text, without making a String for it; the top
+ * {@link #getBits() bits} bits of the hash pick one of {@code 2^bits} features, and a separate sign hash, from
+ * {@link Hasher#randomize1(long)} of the token's hash, picks whether the token adds 1 or -1 to that feature. Random
+ * signs make collisions between tokens cancel out on average, instead of always inflating a feature.
+ * <br>
+ * Tokens are the longest runs of chars where {@link #isTokenChar(char)} is true, which by default means letters and
+ * digits; subclasses can override it. Tokens are case-sensitive. If bigrams are enabled, each pair of adjacent tokens
+ * is also hashed as a feature, by mixing the two tokens' hashes with {@link Hasher#mixMultiple(long, long)}.
+ * <br>
+ * Results go in a {@link SparseVector}, which can be reused between documents to avoid allocation; each thread should
+ * use its own. {@link #vectorizeAll(CharSequence[])} vectorizes many documents across threads. A FeatureHasher has
+ * no mutable state, so one can be shared by any number of threads.
+ *
+ * @author Tommy Ettinger
+ */
+public class FeatureHasher {
+    /**
+     * A sparse vector of float values with sorted, distinct int indices, which can be reused.
+     */
+    public static class SparseVector {
+        /**
+         * How many indices and values are in use.
+         */
+        public int size;
+        /**
+         * Sorted, distinct feature indices; only the first {@link #size} are used.
+         */
+        public int[] indices;
+        /**
+         * The value for each feature in {@link #indices}; only the first {@link #size} are used.
+         */
+        public float[] values;
+        /**
+         * Scratch space used by {@link FeatureHasher} while hashing tokens.
+         */
+        protected long[] keys;
+
+        /**
+         * Creates an empty SparseVector with room for 16 items; it will grow as needed.
+         */
+        public SparseVector() {
+            indices = new int[16];
+            values = new float[16];
+            keys = new long[16];
+        }
+
+        /**
+         * Gets the dot product of this with a dense vector.
+         * @param dense a float array long enough to hold every index in this
+         * @return the dot product
+         */
+        public float dot(float[] dense) {
+            float sum = 0f;
+            for (int i = 0; i < size; i++) {
+                sum += values[i] * dense[indices[i]];
+            }
+            return sum;
+        }
+
+        /**
+         * Gets the dot product of this with another sparse vector.
+         * @param other another SparseVector
+         * @return the dot product
+         */
+        public float dot(SparseVector other) {
+            float sum = 0f;
+            for (int i = 0, j = 0; i < size && j < other.size; ) {
+                final int a = indices[i], b = other.indices[j];
+                if (a == b) sum += values[i++] * other.values[j++];
+                else if (a < b) i++;
+                else j++;
+            }
+            return sum;
+        }
+
+        /**
+         * Adds every value in this to the matching index in dense.
+         * @param dense a float array long enough to hold every index in this; will be modified
+         * @return dense, after modifications
+         */
+        public float[] addTo(float[] dense) {
+            for (int i = 0; i < size; i++) {
+                dense[indices[i]] += values[i];
+            }
+            return dense;
+        }
+    }
+
+    protected final int bits;
+    protected final boolean bigrams;
+    protected final long seed;
+
+    /**
+     * Creates a FeatureHasher that only hashes single tokens.
+     * @param bits log2 of the number of features, from 1 to 30
+     * @param seed any long; different seeds give unrelated features
+     */
+    public FeatureHasher(int bits, long seed) {
+        this(bits, false, seed);
+    }
+
+    /**
+     * Creates a FeatureHasher.
+     * @param bits log2 of the number of features, from 1 to 30
+     * @param bigrams if true, pairs of adjacent tokens are also features
+     * @param seed any long; different seeds give unrelated features
+     */
+    public FeatureHasher(int bits, boolean bigrams, long seed) {
+        if (bits < 1 || bits > 30)
+            throw new IllegalArgumentException("bits must be between 1 and 30, inclusive, but was " + bits);
+        this.bits = bits;
+        this.bigrams = bigrams;
+        this.seed = seed;
+    }
+
+    /**
+     * Decides which chars are part of tokens; any other char separates tokens. This returns
+     * {@link Character#isLetterOrDigit(char)} by default.
+     * @param c a char from the text
+     * @return true if c can be part of a token
+     */
+    protected boolean isTokenChar(char c) {
+        return Character.isLetterOrDigit(c);
+    }
+
+    /**
+     * Stores one feature in out's scratch keys, as the feature index shifted left by 1, plus 1 if the sign is negative.
+     */
+    private void addKey(SparseVector out, int count, long hash) {
+        if (count == out.keys.length) out.keys = Arrays.copyOf(out.keys, count << 1);
+        out.keys[count] = (hash >>> 64 - bits) << 1 | Hasher.randomize1(hash) >>> 63;
+    }
+
+    /**
+     * Hashes every token (and bigram, if enabled) in text into out, replacing its previous contents.
+     * @param text the document to vectorize
+     * @param out a SparseVector that will be overwritten and may grow
+     * @return out, after modifications
+     */
+    public SparseVector vectorize(CharSequence text, SparseVector out) {
+        final int length = text.length();
+        int count = 0;
+        long previous = 0L;
+        boolean hasPrevious = false;
+        for (int i = 0; i < length; ) {
+            if (!isTokenChar(text.charAt(i))) {
+                i++;
+                continue;
+            }
+            final int start = i;
+            do {
+                i++;
+            } while (i < length && isTokenChar(text.charAt(i)));
+            final long hash = Hasher.hash64(seed, text, start, i - start);
+            addKey(out, count++, hash);
+            if (bigrams) {
+                if (hasPrevious) addKey(out, count++, Hasher.mixMultiple(previous, hash));
+                previous = hash;
+                hasPrevious = true;
+            }
+        }
+        final long[] keys = out.keys;
+        Arrays.sort(keys, 0, count);
+        if (out.indices.length < count) {
+            out.indices = new int[count];
+            out.values = new float[count];
+        }
+        int size = 0;
+        for (int i = 0, j; i < count; i = j) {
+            final long index = keys[i] >>> 1;
+            int value = 0;
+            for (j = i; j < count && keys[j] >>> 1 == index; j++) {
+                value += 1 - ((int) keys[j] & 1) * 2;
+            }
+            // features whose signs cancel out are left out
+            if (value != 0) {
+                out.indices[size] = (int) index;
+                out.values[size++] = value;
+            }
+        }
+        out.size = size;
+        return out;
+    }
+
+    /**
+     * Hashes every token (and bigram, if enabled) in text into a new SparseVector.
+     * @param text the document to vectorize
+     * @return a new SparseVector
+     */
+    public SparseVector vectorize(CharSequence text) {
+        return vectorize(text, new SparseVector());
+    }
+
+    /**
+     * Vectorizes every document, splitting the work across threads.
+     * @param documents an array of documents
+     * @return a new array of SparseVectors, one per document, in the same order
+     */
+    public SparseVector[] vectorizeAll(CharSequence[] documents) {
+        final SparseVector[] result = new SparseVector[documents.length];
+        IntStream.range(0, documents.length).parallel().forEach(i -> result[i] = vectorize(documents[i]));
+        return result;
+    }
+
+    /**
+     * Gets the feature index that a token maps to, without its sign.
+     * @param token the token to look up
+     * @param start where the token starts in the CharSequence
+     * @param length how many chars are in the token
+     * @return the feature index, from 0 to {@code 2^}{@link #getBits()}, exclusive
+     */
+    public int index(CharSequence token, int start, int length) {
+        return (int) (Hasher.hash64(seed, token, start, length) >>> 64 - bits);
+    }
+
+    /**
+     * @return log2 of the number of features
+     */
+    public int getBits() {
+        return bits;
+    }
+
+    /**
+     * @return true if pairs of adjacent tokens are also features
+     */
+    public boolean hasBigrams() {
+        return bigrams;
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2026 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.tommyettinger.digital;
+
+import com.github.tommyettinger.digital.Hasher.SeededHashFunction64;
+
+import java.util.Arrays;
+
+/**
+ * A consistent-hash ring with virtual nodes. Each node is hashed to many points on a ring of 64-bit values, and a key
+ * (already hashed to a long) belongs to the node with the first point at or after it, wrapping around at the end. When
+ * a node is added or removed, only the keys between its points and the points before them move, which is about
+ * {@code 1/n} of all keys. More virtual nodes per node make the load more even; 100 to 200 is typical. A node can be
+ * given more virtual nodes than others to take a proportionally larger share of keys.
+ * <br>
+ * Lookups use a binary search over a sorted {@code long[]}, and don't allocate. Adding or removing a node rebuilds the
+ * sorted points, so it shouldn't happen while other threads are looking up keys.
+ *
+ * @param <T> the type of nodes; each node must be hashable by the given {@link SeededHashFunction64}
+ * @author Tommy Ettinger
+ */
+public class HashRing<T> {
+    protected final SeededHashFunction64<T> hashFunction;
+    protected final long seed;
+    protected final int defaultVirtualNodes;
+    protected T[] nodes;
+    protected int[] virtualNodes;
+    protected int size;
+    /**
+     * Every point on the ring, sorted.
+     */
+    protected long[] points;
+    /**
+     * The index in {@link #nodes} of the node that owns each point.
+     */
+    protected int[] owners;
+
+    /**
+     * Creates a HashRing with the given nodes, each with {@code virtualNodes} points on the ring.
+     * @param hashFunction used to hash each node
+     * @param seed any long seed for hashFunction
+     * @param virtualNodes how many points each node gets when no other number is given; must be positive
+     * @param nodes the nodes to start with; may be empty; must not contain duplicates
+     */
+    @SafeVarargs
+    public HashRing(SeededHashFunction64<T> hashFunction, long seed, int virtualNodes, T... nodes) {
+        if (virtualNodes <= 0)
+            throw new IllegalArgumentException("virtualNodes must be positive, but was " + virtualNodes);
+        this.hashFunction = hashFunction;
+        this.seed = seed;
+        this.defaultVirtualNodes = virtualNodes;
+        this.nodes = newArray(Math.max(4, nodes.length));
+        for (int i = 0; i < nodes.length; i++) {
+            this.nodes[i] = nodes[i];
+        }
+        this.virtualNodes = new int[this.nodes.length];
+        Arrays.fill(this.virtualNodes, virtualNodes);
+        this.size = nodes.length;
+        rebuild();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T[] newArray(int capacity) {
+        return (T[]) new Object[capacity];
+    }
+
+    /**
+     * Gets the point on the ring for the given virtual node of a node with the given hash.
+     */
+    protected static long point(long nodeHash, int virtualNode) {
+        return Hasher.randomize2(nodeHash + virtualNode * 0x9E3779B97F4A7C15L);
+    }
+
+    /**
+     * Recalculates and sorts all points; called after any change to the nodes.
+     */
+    protected void rebuild() {
+        int total = 0;
+        for (int i = 0; i < size; i++) {
+            total += virtualNodes[i];
+        }
+        final long[] unsorted = new long[total];
+        final int[] unsortedOwners = new int[total];
+        final Integer[] order = new Integer[total];
+        for (int i = 0, p = 0; i < size; i++) {
+            final long nodeHash = hashFunction.hash64(seed, nodes[i]);
+            for (int v = 0; v < virtualNodes[i]; v++, p++) {
+                unsorted[p] = point(nodeHash, v);
+                unsortedOwners[p] = i;
+                order[p] = p;
+            }
+        }
+        // ties are broken by node index, so the ring doesn't depend on the order of a sort
+        Arrays.sort(order, (a, b) -> unsorted[a] != unsorted[b] ? Long.compare(unsorted[a], unsorted[b])
+                : Integer.compare(unsortedOwners[a], unsortedOwners[b]));
+        points = new long[total];
+        owners = new int[total];
+        for (int i = 0; i < total; i++) {
+            points[i] = unsorted[order[i]];
+            owners[i] = unsortedOwners[order[i]];
+        }
+    }
+
+    /**
+     * Adds node with the default number of virtual nodes.
+     * @param node a node that isn't already in this ring
+     * @return this, for chaining
+     */
+    public HashRing<T> add(T node) {
+        return add(node, defaultVirtualNodes);
+    }
+
+    /**
+     * Adds node with the given number of virtual nodes; more virtual nodes give it a larger share of keys.
+     * @param node a node that isn't already in this ring
+     * @param virtualNodes how many points node gets on the ring; must be positive
+     * @return this, for chaining
+     */
+    public HashRing<T> add(T node, int virtualNodes) {
+        if (virtualNodes <= 0)
+            throw new IllegalArgumentException("virtualNodes must be positive, but was " + virtualNodes);
+        if (indexOf(node) >= 0)
+            throw new IllegalArgumentException("The node is already in this HashRing.");
+        if (size == nodes.length) {
+            nodes = Arrays.copyOf(nodes, size << 1);
+            this.virtualNodes = Arrays.copyOf(this.virtualNodes, size << 1);
+        }
+        nodes[size] = node;
+        this.virtualNodes[size++] = virtualNodes;
+        rebuild();
+        return this;
+    }
+
+    /**
+     * Removes node, if present. The nodes after it move down one index.
+     * @param node a node to remove
+     * @return true if node was removed
+     */
+    public boolean remove(T node) {
+        final int index = indexOf(node);
+        if (index < 0) return false;
+        System.arraycopy(nodes, index + 1, nodes, index, size - index - 1);
+        System.arraycopy(virtualNodes, index + 1, virtualNodes, index, size - index - 1);
+        nodes[--size] = null;
+        rebuild();
+        return true;
+    }
+
+    /**
+     * @param node a node to look for
+     * @return the index of node, or -1 if it isn't in this ring
+     */
+    public int indexOf(T node) {
+        for (int i = 0; i < size; i++) {
+            if (nodes[i] == null ? node == null : nodes[i].equals(node))
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the index of the node that owns the given key. This doesn't allocate.
+     * @param keyHash a hash of the key, such as from {@link Hasher#hash64(CharSequence)}
+     * @return the index of the owning node, or -1 if this has no nodes
+     */
+    public int index(long keyHash) {
+        if (points.length == 0) return -1;
+        int i = Arrays.binarySearch(points, keyHash);
+        if (i < 0) i = -i - 1;
+        else while (i > 0 && points[i - 1] == keyHash) i--;
+        return owners[i == points.length ? 0 : i];
+    }
+
+    /**
+     * Gets the node that owns the given key. This doesn't allocate.
+     * @param keyHash a hash of the key, such as from {@link Hasher#hash64(CharSequence)}
+     * @return the owning node, or null if this has no nodes
+     */
+    public T get(long keyHash) {
+        final int i = index(keyHash);
+        return i < 0 ? null : nodes[i];
+    }
+
+    /**
+     * Gets the index of the owning node for every key hash in keyHashes, writing each into the same index in out.
+     * @param keyHashes hashes of the keys to place
+     * @param out will be modified; must be at least as long as keyHashes
+     * @return out, after modifications
+     */
+    public int[] indexAll(long[] keyHashes, int[] out) {
+        for (int i = 0; i < keyHashes.length; i++) {
+            out[i] = index(keyHashes[i]);
+        }
+        return out;
+    }
+
+    /**
+     * @param index the index of a node, from 0 to {@link #size()}, exclusive
+     * @return the node at that index
+     */
+    public T getNode(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for size " + size);
+        return nodes[index];
+    }
+
+    /**
+     * @return how many nodes are in this ring
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -24,6 +24,9 @@ import java.util.Objects;
 
 import static com.github.tommyettinger.digital.BitConversion.doubleToRawLongBits;
 import static com.github.tommyettinger.digital.BitConversion.floatToRawIntBits;
+import static com.github.tommyettinger.digital.ByteAccess.getInt;
+import static com.github.tommyettinger.digital.ByteAccess.getLong;
+import static com.github.tommyettinger.digital.ByteAccess.getShort;
 
 import static com.github.tommyettinger.digital.MathTools.EPSILON;
 import static com.github.tommyettinger.digital.MathTools.EPSILON_D;
@@ -48,8 +51,19 @@ import static com.github.tommyettinger.digital.MathTools.EPSILON_D;
  * hashed here. Variants on hashBulk for ByteBuffer are also present;
  * {@link #hashAdze(ByteBuffer)} is a newer variant on the algorithm hashBulk uses.
  * The "Adze" hashes tend to be about 10% to 25% faster on large ByteBuffers than "Bulk"
- * hashes, and also pass SMHasher 3 tests. They're only really superior for ByteBuffer
- * inputs, so only ByteBuffer overloads are provided.
+ * hashes, and also pass SMHasher 3 tests. They're only really superior for inputs that can
+ * be read 8 bytes at a time, so ByteBuffer and primitive array overloads are provided; the
+ * array overloads, such as {@link #hashAdze64(long, byte[])} or {@link #hashAdze64(long, long[])},
+ * return the same results as a ByteBuffer holding the big-endian bytes of the array would,
+ * without creating a ByteBuffer. 2D arrays can be hashed with overloads such as
+ * {@link #hashAdze64(long, int[][])}, which hash each row and combine the results.
+ * When the data to hash arrives in pieces, an {@link AdzeStream} can hash it incrementally
+ * and still produce the same result as {@link #hashAdze64(long, ByteBuffer)} on all of it.
+ * Strings and other CharSequences can be hashed with {@link #hashAdze64(long, CharSequence)},
+ * which packs four chars into each long and has separate paths for String and StringBuilder.
+ * For content addressing or deduplication, where 64 bits aren't enough to rule out collisions,
+ * {@link #hashAdze128(long, byte[], long[])} and its overloads write a 128-bit Adze hash into
+ * a caller-provided {@code long[]}; the first long is the same as hashAdze64() would return.
  * <br>
  * There are also various {@link #hashBulk(HashFunction, Object[])} instance
  * methods, with overloads that take {@link HashFunction} and {@link HashFunction64}, plus
@@ -1322,7 +1336,7 @@ public final class Hasher {
      * @return a 64-bit hash of data
      */
     public long hash64(final CharSequence data, final int start, final int length) {
-        if (data == null || start < 0 || length < 0 || start >= length)
+        if (data == null || start < 0 || length < 0 || start >= data.length())
             return 0;
         long seed = this.seed;
         final int len = Math.min(length, data.length() - start), end = start + len;
@@ -2089,7 +2103,7 @@ public final class Hasher {
      * @return a 32-bit hash of data
      */
     public int hash(final CharSequence data, final int start, final int length) {
-        if (data == null || start < 0 || length < 0 || start >= length)
+        if (data == null || start < 0 || length < 0 || start >= data.length())
             return 0;
         long seed = this.seed;
         final int len = Math.min(length, data.length() - start), end = start + len;
@@ -2855,7 +2869,7 @@ public final class Hasher {
      * @return a 64-bit hash of data
      */
     public static long hash64(long seed, final CharSequence data, final int start, final int length) {
-        if (data == null || start < 0 || length < 0 || start >= length)
+        if (data == null || start < 0 || length < 0 || start >= data.length())
             return 0;
         final int len = Math.min(length, data.length() - start), end = start + len;
         for (int i = start + 3; i < end; i += 4) {
@@ -3597,7 +3611,7 @@ public final class Hasher {
      * @return a 32-bit hash of data
      */
     public static int hash(long seed, final CharSequence data, final int start, final int length) {
-        if (data == null || start < 0 || length < 0 || start >= length)
+        if (data == null || start < 0 || length < 0 || start >= data.length())
             return 0;
         final int len = Math.min(length, data.length() - start), end = start + len;
         for (int i = start + 3; i < end; i += 4) {
@@ -7200,6 +7214,2745 @@ public final class Hasher {
     }
 
 
+    // Adze hashes for byte arrays
+    /**
+     * A hashing function that operates on a {@code byte[]}, hashing the entire array. This gives the same result as
+     * {@link #hashAdze64(ByteBuffer)} on {@code ByteBuffer.wrap(data)}, but doesn't need a ByteBuffer to be created,
+     * and reads 8 bytes at a time instead of one byte per step like {@link #hashBulk64(byte[])}.
+     * @param data an input byte array
+     * @return the 64-bit hash of data
+     */
+    public long hashAdze64(final byte[] data) {
+        if (data == null) return 0;
+        return hashAdze64(seed, data, 0, data.length);
+    }
+
+    /**
+     * A hashing function that operates on a {@code byte[]}, using the given {@code start} index and {@code length}.
+     * This gives the same result as {@link #hashAdze64(ByteBuffer, int, int)} on {@code ByteBuffer.wrap(data)} with
+     * the same start and length, but doesn't need a ByteBuffer to be created, and reads 8 bytes at a time.
+     * @param data an input byte array
+     * @param start the starting index in data
+     * @param length how many bytes to hash from data
+     * @return the 64-bit hash of data
+     */
+    public long hashAdze64(final byte[] data, int start, int length) {
+        return hashAdze64(seed, data, start, length);
+    }
+
+    /**
+     * A hashing function that operates on a {@code byte[]}, hashing the entire array. This gives the same result as
+     * {@link #hashAdze(ByteBuffer)} on {@code ByteBuffer.wrap(data)}, but doesn't need a ByteBuffer to be created,
+     * and reads 8 bytes at a time instead of one byte per step like {@link #hashBulk(byte[])}.
+     * @param data an input byte array
+     * @return the 32-bit hash of data
+     */
+    public int hashAdze(final byte[] data) {
+        if (data == null) return 0;
+        return (int) hashAdze64(seed, data, 0, data.length);
+    }
+
+    /**
+     * A hashing function that operates on a {@code byte[]}, using the given {@code start} index and {@code length}.
+     * This gives the same result as {@link #hashAdze(ByteBuffer, int, int)} on {@code ByteBuffer.wrap(data)} with
+     * the same start and length, but doesn't need a ByteBuffer to be created, and reads 8 bytes at a time.
+     * @param data an input byte array
+     * @param start the starting index in data
+     * @param length how many bytes to hash from data
+     * @return the 32-bit hash of data
+     */
+    public int hashAdze(final byte[] data, int start, int length) {
+        return (int) hashAdze64(seed, data, start, length);
+    }
+
+    /**
+     * A hashing function that operates on a {@code byte[]}, hashing the entire array. This gives the same result as
+     * {@link #hashAdze64(long, ByteBuffer)} on {@code ByteBuffer.wrap(data)}, but doesn't need a ByteBuffer to be
+     * created, and reads 8 bytes at a time instead of one byte per step like {@link #hashBulk64(long, byte[])}.
+     * <br>
+     * This is likely to significantly outperform {@link #hash64(long, byte[])} on all but
+     * the smallest arrays (under 5 bytes).
+     * @param seed any long seed
+     * @param data an input byte array
+     * @return the 64-bit hash of data
+     */
+    public static long hashAdze64(final long seed, final byte[] data) {
+        if (data == null) return 0;
+        return hashAdze64(seed, data, 0, data.length);
+    }
+
+    /**
+     * A hashing function that operates on a {@code byte[]}, using the given {@code start} index and {@code length}.
+     * This gives the same result as {@link #hashAdze64(long, ByteBuffer, int, int)} on {@code ByteBuffer.wrap(data)}
+     * with the same start and length, but doesn't need a ByteBuffer to be created, and reads 8 bytes at a time.
+     * <br>
+     * This is likely to significantly outperform {@link #hash64(long, byte[], int, int)}
+     * on all but the smallest sequences of bytes (under 5 bytes).
+     * @param seed any long seed
+     * @param data an input byte array
+     * @param start the starting index in data
+     * @param length how many bytes to hash from data
+     * @return the 64-bit hash of data
+     */
+    public static long hashAdze64(final long seed, final byte[] data, int start, int length) {
+        if (data == null || start < 0 || length < 0 || start >= data.length)
+            return 0;
+        int len = Math.min(length, data.length - start);
+        long h = len ^ forwardAdze(seed);
+        while(len >= 112){
+            len -= 112;
+            h *= C;
+            h += mixMultiple(getLong(data, start), getLong(data, start + 8), getLong(data, start + 16), getLong(data, start + 24), getLong(data, start + 32), getLong(data, start + 40), getLong(data, start + 48));
+            h = (h << 39 | h >>> 25);
+            h += mixMultiple(getLong(data, start + 56), getLong(data, start + 64), getLong(data, start + 72), getLong(data, start + 80), getLong(data, start + 88), getLong(data, start + 96), getLong(data, start + 104));
+            start += 112;
+        }
+        return finishAdze(h, data, start, len);
+    }
+
+    /**
+     * Handles everything in an Adze hash of a {@code byte[]} after all 112-byte blocks have been consumed, including
+     * the final {@link #mix(long)}. Shared by {@link #hashAdze64(long, byte[], int, int)} and {@link AdzeStream}.
+     * @param h the running hash state, after all 112-byte blocks
+     * @param data the byte array holding the remaining bytes
+     * @param start the index of the first remaining byte in data
+     * @param len how many bytes remain; must be less than 112
+     * @return the finished 64-bit hash
+     */
+    private static long finishAdze(long h, final byte[] data, int start, int len) {
+        while(len >= 32){
+            len -= 32;
+            h = mixMultiple(h, getLong(data, start), getLong(data, start + 8), getLong(data, start + 16), getLong(data, start + 24));
+            start += 32;
+        }
+        switch (len) {
+            case 1 :  h = mixMultiple(h, data[start]); break;
+            case 2 :  h = mixMultiple(h, getShort(data, start)); break;
+            case 3 :  h = mixMultiple(h, getShort(data, start), data[start + 2]); break;
+            case 4 :  h = mixMultiple(h, getInt(data, start)); break;
+            case 5 :  h = mixMultiple(h, getInt(data, start), data[start + 4]); break;
+            case 6 :  h = mixMultiple(h, getInt(data, start), getShort(data, start + 4)); break;
+            case 7 :  h = mixMultiple(h, getInt(data, start), getInt(data, start + 3)); break;
+            case 8 :  h = mixMultiple(h, getLong(data, start)); break;
+            case 9 :  h = mixMultiple(h, getLong(data, start), data[start + 8]); break;
+            case 10:  h = mixMultiple(h, getLong(data, start), getShort(data, start + 8)); break;
+            case 11:  h = mixMultiple(h, getLong(data, start), getInt(data, start + 7)); break;
+            case 12:  h = mixMultiple(h, getLong(data, start), getInt(data, start + 8)); break;
+            case 13:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 5)); break;
+            case 14:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 6)); break;
+            case 15:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 7)); break;
+            case 16:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 8)); break;
+            case 17:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 8), data[start + 16]); break;
+            case 18:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 8), getShort(data, start + 16)); break;
+            case 19:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 8), getInt(data, start + 15)); break;
+            case 20:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 8), getInt(data, start + 16)); break;
+            case 21:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 8), getLong(data, start + 13)); break;
+            case 22:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 8), getLong(data, start + 14)); break;
+            case 23:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 8), getLong(data, start + 15)); break;
+            case 24:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 8), getLong(data, start + 16)); break;
+            case 25:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 8), getLong(data, start + 16), data[start + 24]); break;
+            case 26:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 8), getLong(data, start + 16), getShort(data, start + 24)); break;
+            case 27:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 8), getLong(data, start + 16), getInt(data, start + 23)); break;
+            case 28:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 8), getLong(data, start + 16), getInt(data, start + 24)); break;
+            case 29:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 8), getLong(data, start + 16), getLong(data, start + 21)); break;
+            case 30:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 8), getLong(data, start + 16), getLong(data, start + 22)); break;
+            case 31:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 8), getLong(data, start + 16), getLong(data, start + 23)); break;
+        }
+        return mix(h);
+    }
+
+    /**
+     * A hashing function that operates on a {@code byte[]}, hashing the entire array. This gives the same result as
+     * {@link #hashAdze(long, ByteBuffer)} on {@code ByteBuffer.wrap(data)}, but doesn't need a ByteBuffer to be
+     * created, and reads 8 bytes at a time instead of one byte per step like {@link #hashBulk(long, byte[])}.
+     * @param seed any long seed
+     * @param data an input byte array
+     * @return the 32-bit hash of data
+     */
+    public static int hashAdze(final long seed, final byte[] data) {
+        if (data == null) return 0;
+        return (int) hashAdze64(seed, data, 0, data.length);
+    }
+
+    /**
+     * A hashing function that operates on a {@code byte[]}, using the given {@code start} index and {@code length}.
+     * This gives the same result as {@link #hashAdze(long, ByteBuffer, int, int)} on {@code ByteBuffer.wrap(data)}
+     * with the same start and length, but doesn't need a ByteBuffer to be created, and reads 8 bytes at a time.
+     * @param seed any long seed
+     * @param data an input byte array
+     * @param start the starting index in data
+     * @param length how many bytes to hash from data
+     * @return the 32-bit hash of data
+     */
+    public static int hashAdze(final long seed, final byte[] data, int start, int length) {
+        return (int) hashAdze64(seed, data, start, length);
+    }
+
+
+    /**
+     * Creates a new {@link AdzeStream} using this Hasher's {@link #seed}, expecting exactly {@code length} bytes in
+     * total. The result of {@link AdzeStream#finish()} will be the same as {@link #hashAdze64(ByteBuffer)} on a
+     * ByteBuffer holding all the given data.
+     * @param length the exact number of bytes that will be given to the AdzeStream before it is finished
+     * @return a new AdzeStream
+     */
+    public AdzeStream adzeStream(final long length) {
+        return new AdzeStream(seed, length);
+    }
+
+    /**
+     * An incremental form of {@link #hashAdze64(long, ByteBuffer)}, for data that can't be held in one array or
+     * ByteBuffer at once. Data can be given to {@link #update(byte[], int, int)} and its overloads in chunks of any
+     * size, and {@link #finish()} will return exactly what {@link #hashAdze64(long, ByteBuffer)} would return for a
+     * ByteBuffer holding all of that data, concatenated, no matter where the chunk boundaries were. The {@code int},
+     * {@code long}, {@code char}, and {@link CharSequence} overloads of update() treat their arguments as the
+     * big-endian bytes that {@link ByteBuffer#putInt(int)}, {@link ByteBuffer#putLong(long)}, and
+     * {@link ByteBuffer#putChar(char)} would write.
+     * <br>
+     * The Adze algorithm mixes the total length into its state before it reads any data, so the total length must
+     * be known when an AdzeStream is created or {@link #reset(long, long) reset}. If the number of bytes given
+     * doesn't match that length when {@link #finish()} is called, an IllegalStateException is thrown, rather than
+     * returning a hash that would silently fail to match. Lengths past {@link Integer#MAX_VALUE} are allowed; they
+     * hash the same way a ByteBuffer would if it could be that large.
+     * <br>
+     * An AdzeStream only allocates one 112-byte buffer when it is constructed; updates don't allocate, and
+     * {@link #reset(long, long)} allows the same object to be reused for any number of inputs. Full 112-byte blocks are
+     * read directly from a given array or ByteBuffer without copying; only partial blocks are copied into the buffer.
+     * This is not thread-safe.
+     */
+    public static final class AdzeStream {
+        private final byte[] buffer = new byte[112];
+        private int buffered;
+        private long seed;
+        private long length;
+        private long count;
+        private long h;
+
+        /**
+         * Creates an AdzeStream with the given seed that expects exactly {@code length} bytes in total.
+         * @param seed any long seed, as would be given to {@link Hasher#hashAdze64(long, ByteBuffer)}
+         * @param length the exact number of bytes that will be given before {@link #finish()} is called
+         */
+        public AdzeStream(final long seed, final long length) {
+            reset(seed, length);
+        }
+
+        /**
+         * Discards any data given so far and prepares this to hash a new input with the given seed and total length.
+         * @param seed any long seed, as would be given to {@link Hasher#hashAdze64(long, ByteBuffer)}
+         * @param length the exact number of bytes that will be given before {@link #finish()} is called
+         * @return this, for chaining
+         */
+        public AdzeStream reset(final long seed, final long length) {
+            this.seed = seed;
+            this.length = length;
+            count = 0L;
+            buffered = 0;
+            h = length ^ forwardAdze(seed);
+            return this;
+        }
+
+        /**
+         * Discards any data given so far and prepares this to hash a new input with the same seed and total length.
+         * @return this, for chaining
+         */
+        public AdzeStream reset() {
+            return reset(seed, length);
+        }
+
+        /**
+         * @return the seed this was last {@link #reset(long, long) reset} with
+         */
+        public long getSeed() {
+            return seed;
+        }
+
+        /**
+         * @return the total number of bytes this expects to be given before {@link #finish()}
+         */
+        public long getLength() {
+            return length;
+        }
+
+        /**
+         * @return the number of bytes given so far
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Hashes one block of 112 bytes from data, starting at start, the same way the main loop of
+         * {@link Hasher#hashAdze64(long, byte[], int, int)} does.
+         */
+        private static long block(long h, final byte[] data, final int start) {
+            h *= C;
+            h += mixMultiple(getLong(data, start), getLong(data, start + 8), getLong(data, start + 16), getLong(data, start + 24), getLong(data, start + 32), getLong(data, start + 40), getLong(data, start + 48));
+            h = (h << 39 | h >>> 25);
+            h += mixMultiple(getLong(data, start + 56), getLong(data, start + 64), getLong(data, start + 72), getLong(data, start + 80), getLong(data, start + 88), getLong(data, start + 96), getLong(data, start + 104));
+            return h;
+        }
+
+        /**
+         * Hashes one block of 112 bytes from data, starting at start, the same way the main loop of
+         * {@link Hasher#hashAdze64(long, ByteBuffer, int, int)} does.
+         */
+        private static long block(long h, final ByteBuffer data, final int start) {
+            h *= C;
+            h += mixMultiple(data.getLong(start), data.getLong(start + 8), data.getLong(start + 16), data.getLong(start + 24), data.getLong(start + 32), data.getLong(start + 40), data.getLong(start + 48));
+            h = (h << 39 | h >>> 25);
+            h += mixMultiple(data.getLong(start + 56), data.getLong(start + 64), data.getLong(start + 72), data.getLong(start + 80), data.getLong(start + 88), data.getLong(start + 96), data.getLong(start + 104));
+            return h;
+        }
+
+        /**
+         * Appends the lowest {@code bytes} bytes of value in big-endian order.
+         */
+        private void put(final long value, final int bytes) {
+            count += bytes;
+            for (int shift = bytes - 1 << 3; shift >= 0; shift -= 8) {
+                buffer[buffered++] = (byte) (value >>> shift);
+                if (buffered == 112) {
+                    h = block(h, buffer, 0);
+                    buffered = 0;
+                }
+            }
+        }
+
+        /**
+         * Adds one byte to the data being hashed.
+         * @param value any byte
+         * @return this, for chaining
+         */
+        public AdzeStream update(final byte value) {
+            put(value, 1);
+            return this;
+        }
+
+        /**
+         * Adds a char to the data being hashed, as the two bytes {@link ByteBuffer#putChar(char)} would write.
+         * @param value any char
+         * @return this, for chaining
+         */
+        public AdzeStream update(final char value) {
+            put(value, 2);
+            return this;
+        }
+
+        /**
+         * Adds an int to the data being hashed, as the four bytes {@link ByteBuffer#putInt(int)} would write.
+         * @param value any int
+         * @return this, for chaining
+         */
+        public AdzeStream update(final int value) {
+            put(value, 4);
+            return this;
+        }
+
+        /**
+         * Adds a long to the data being hashed, as the eight bytes {@link ByteBuffer#putLong(long)} would write.
+         * @param value any long
+         * @return this, for chaining
+         */
+        public AdzeStream update(final long value) {
+            put(value, 8);
+            return this;
+        }
+
+        /**
+         * Adds every char in data to the data being hashed, each as the two bytes {@link ByteBuffer#putChar(char)}
+         * would write. This is the same as the bytes of {@code data} encoded as UTF-16BE, without a byte order mark.
+         * If data is null, this does nothing.
+         * @param data any CharSequence, such as a String or StringBuilder; may be null
+         * @return this, for chaining
+         */
+        public AdzeStream update(final CharSequence data) {
+            if (data == null) return this;
+            for (int i = 0, n = data.length(); i < n; i++) {
+                put(data.charAt(i), 2);
+            }
+            return this;
+        }
+
+        /**
+         * Adds all of data to the data being hashed. If data is null, this does nothing.
+         * @param data any byte array; may be null
+         * @return this, for chaining
+         */
+        public AdzeStream update(final byte[] data) {
+            if (data == null) return this;
+            return update(data, 0, data.length);
+        }
+
+        /**
+         * Adds a section of data to the data being hashed, using the given {@code start} index and {@code length}.
+         * Like the hashing methods in Hasher, this will not read past the end of data, and does nothing if data is
+         * null or the section is empty.
+         * @param data any byte array; may be null
+         * @param start the first index in data to read
+         * @param length how many bytes to read from data
+         * @return this, for chaining
+         */
+        public AdzeStream update(final byte[] data, int start, int length) {
+            if (data == null || start < 0 || length <= 0 || start >= data.length)
+                return this;
+            int len = Math.min(length, data.length - start);
+            count += len;
+            if (buffered > 0) {
+                int n = Math.min(len, 112 - buffered);
+                System.arraycopy(data, start, buffer, buffered, n);
+                buffered += n;
+                start += n;
+                len -= n;
+                if (buffered < 112) return this;
+                h = block(h, buffer, 0);
+                buffered = 0;
+            }
+            while (len >= 112) {
+                h = block(h, data, start);
+                start += 112;
+                len -= 112;
+            }
+            System.arraycopy(data, start, buffer, 0, len);
+            buffered = len;
+            return this;
+        }
+
+        /**
+         * Adds everything in data from index 0 to just before index {@link ByteBuffer#limit()} to the data being
+         * hashed. This uses absolute indices, like {@link Hasher#hashAdze64(long, ByteBuffer)}, so it does not read
+         * or change the position of data. If data is null, this does nothing.
+         * @param data any ByteBuffer; may be null
+         * @return this, for chaining
+         */
+        public AdzeStream update(final ByteBuffer data) {
+            if (data == null) return this;
+            return update(data, 0, data.limit());
+        }
+
+        /**
+         * Adds a section of data to the data being hashed, using the given {@code start} index (measured in bytes)
+         * and {@code length} (also in bytes). This uses absolute indices, like
+         * {@link Hasher#hashAdze64(long, ByteBuffer, int, int)}, so it does not read or change the position of data.
+         * This will not read past the limit of data, and does nothing if data is null or the section is empty.
+         * @param data any ByteBuffer; may be null
+         * @param start the first index in data to read
+         * @param length how many bytes to read from data
+         * @return this, for chaining
+         */
+        public AdzeStream update(final ByteBuffer data, int start, int length) {
+            if (data == null || start < 0 || length <= 0 || start >= data.limit())
+                return this;
+            int len = Math.min(length, data.limit() - start);
+            count += len;
+            if (buffered > 0) {
+                int n = Math.min(len, 112 - buffered);
+                for (int i = 0; i < n; i++) {
+                    buffer[buffered++] = data.get(start++);
+                }
+                len -= n;
+                if (buffered < 112) return this;
+                h = block(h, buffer, 0);
+                buffered = 0;
+            }
+            while (len >= 112) {
+                h = block(h, data, start);
+                start += 112;
+                len -= 112;
+            }
+            for (int i = 0; i < len; i++) {
+                buffer[i] = data.get(start++);
+            }
+            buffered = len;
+            return this;
+        }
+
+        /**
+         * Gets the 64-bit hash of all data given since this was constructed or last reset. This is the same as
+         * {@link Hasher#hashAdze64(long, ByteBuffer)} with this AdzeStream's seed, given a ByteBuffer holding all of
+         * that data. This does not change the state of this AdzeStream, so it can be called more than once, but more
+         * data can't be added without making the count incorrect.
+         * @return the 64-bit hash of all data given so far
+         * @throws IllegalStateException if the number of bytes given is not the length this expected
+         */
+        public long finish() {
+            if (count != length)
+                throw new IllegalStateException("Expected " + length + " bytes, but " + count + " were given.");
+            if (length == 0L) return 0L;
+            return finishAdze(h, buffer, 0, buffered);
+        }
+
+        /**
+         * Gets the 32-bit hash of all data given since this was constructed or last reset. This is the same as
+         * {@link Hasher#hashAdze(long, ByteBuffer)} with this AdzeStream's seed, given a ByteBuffer holding all of
+         * that data.
+         * @return the 32-bit hash of all data given so far
+         * @throws IllegalStateException if the number of bytes given is not the length this expected
+         */
+        public int finishInt() {
+            return (int) finish();
+        }
+    }
+
+    // Adze hashes for CharSequences
+    /**
+     * Gets a 64-bit Adze hash of all of {@code data}, treating each char as the two bytes
+     * {@link ByteBuffer#putChar(char)} would write (UTF-16BE). This gives the same result as
+     * {@link #hashAdze64(ByteBuffer)} on a ByteBuffer holding those bytes, and as an {@link AdzeStream} given data
+     * with {@link AdzeStream#update(CharSequence)}, but packs four chars into each long directly, so it mixes 28 chars
+     * per step instead of one char per step like {@link #hash64(CharSequence)}. String and StringBuilder inputs are
+     * read without going through the CharSequence interface.
+     * @param data an input CharSequence, such as a String or StringBuilder
+     * @return the 64-bit hash of data
+     */
+    public long hashAdze64(final CharSequence data) {
+        if (data == null) return 0;
+        return hashAdze64(seed, data, 0, data.length());
+    }
+
+    /**
+     * Gets a 64-bit Adze hash of a section of {@code data}, using the given {@code start} index and {@code length}
+     * (both measured in chars). See {@link #hashAdze64(CharSequence)} for more.
+     * @param data an input CharSequence, such as a String or StringBuilder
+     * @param start the starting index in data
+     * @param length how many chars to hash from data
+     * @return the 64-bit hash of data
+     */
+    public long hashAdze64(final CharSequence data, int start, int length) {
+        return hashAdze64(seed, data, start, length);
+    }
+
+    /**
+     * Gets a 32-bit Adze hash of all of {@code data}; this is the same as {@link #hashAdze64(CharSequence)} cast to
+     * int. See that method for more.
+     * @param data an input CharSequence, such as a String or StringBuilder
+     * @return the 32-bit hash of data
+     */
+    public int hashAdze(final CharSequence data) {
+        if (data == null) return 0;
+        return (int) hashAdze64(seed, data, 0, data.length());
+    }
+
+    /**
+     * Gets a 32-bit Adze hash of a section of {@code data}; this is the same as
+     * {@link #hashAdze64(CharSequence, int, int)} cast to int. See {@link #hashAdze64(CharSequence)} for more.
+     * @param data an input CharSequence, such as a String or StringBuilder
+     * @param start the starting index in data
+     * @param length how many chars to hash from data
+     * @return the 32-bit hash of data
+     */
+    public int hashAdze(final CharSequence data, int start, int length) {
+        return (int) hashAdze64(seed, data, start, length);
+    }
+
+    /**
+     * Gets a 64-bit Adze hash of all of {@code data}, treating each char as the two bytes
+     * {@link ByteBuffer#putChar(char)} would write (UTF-16BE). This gives the same result as
+     * {@link #hashAdze64(long, ByteBuffer)} on a ByteBuffer holding those bytes, but packs four chars into each long
+     * directly. String and StringBuilder inputs are read without going through the CharSequence interface, so mixing
+     * different CharSequence types in one program doesn't slow down the common ones.
+     * @param seed any long seed
+     * @param data an input CharSequence, such as a String or StringBuilder
+     * @return the 64-bit hash of data
+     */
+    public static long hashAdze64(final long seed, final CharSequence data) {
+        if (data == null) return 0;
+        return hashAdze64(seed, data, 0, data.length());
+    }
+
+    /**
+     * Gets a 64-bit Adze hash of a section of {@code data}, using the given {@code start} index and {@code length}
+     * (both measured in chars). See {@link #hashAdze64(long, CharSequence)} for more.
+     * @param seed any long seed
+     * @param data an input CharSequence, such as a String or StringBuilder
+     * @param start the starting index in data
+     * @param length how many chars to hash from data
+     * @return the 64-bit hash of data
+     */
+    public static long hashAdze64(final long seed, final CharSequence data, int start, int length) {
+        if (data == null || start < 0 || length < 0 || start >= data.length())
+            return 0;
+        int len = Math.min(length, data.length() - start);
+        if (data instanceof String)
+            return adzeChars(seed, (String) data, start, len);
+        if (data instanceof StringBuilder)
+            return adzeChars(seed, (StringBuilder) data, start, len);
+        return adzeChars(seed, data, start, len);
+    }
+
+    /**
+     * Gets a 32-bit Adze hash of all of {@code data}; this is the same as {@link #hashAdze64(long, CharSequence)}
+     * cast to int.
+     * @param seed any long seed
+     * @param data an input CharSequence, such as a String or StringBuilder
+     * @return the 32-bit hash of data
+     */
+    public static int hashAdze(final long seed, final CharSequence data) {
+        if (data == null) return 0;
+        return (int) hashAdze64(seed, data, 0, data.length());
+    }
+
+    /**
+     * Gets a 32-bit Adze hash of a section of {@code data}; this is the same as
+     * {@link #hashAdze64(long, CharSequence, int, int)} cast to int.
+     * @param seed any long seed
+     * @param data an input CharSequence, such as a String or StringBuilder
+     * @param start the starting index in data
+     * @param length how many chars to hash from data
+     * @return the 32-bit hash of data
+     */
+    public static int hashAdze(final long seed, final CharSequence data, int start, int length) {
+        return (int) hashAdze64(seed, data, start, length);
+    }
+
+    // The methods below are repeated for String, StringBuilder, and CharSequence, so that each copy calls charAt() on
+    // one known type. A single copy taking CharSequence would have to dispatch every charAt() call at runtime, which is
+    // slow when a program hashes more than one or two CharSequence types.
+
+    /**
+     * The Adze algorithm on the UTF-16BE bytes of a section of data; start and len must already be in range.
+     */
+    private static long adzeChars(final long seed, final String data, int start, int len) {
+        long h = ((long) len << 1) ^ forwardAdze(seed);
+        while(len >= 56){
+            len -= 56;
+            h *= C;
+            h += mixMultiple(charsToLong(data, start), charsToLong(data, start + 4), charsToLong(data, start + 8), charsToLong(data, start + 12), charsToLong(data, start + 16), charsToLong(data, start + 20), charsToLong(data, start + 24));
+            h = (h << 39 | h >>> 25);
+            h += mixMultiple(charsToLong(data, start + 28), charsToLong(data, start + 32), charsToLong(data, start + 36), charsToLong(data, start + 40), charsToLong(data, start + 44), charsToLong(data, start + 48), charsToLong(data, start + 52));
+            start += 56;
+        }
+        while(len >= 16){
+            len -= 16;
+            h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), charsToLong(data, start + 8), charsToLong(data, start + 12));
+            start += 16;
+        }
+        switch (len) {
+            case 1 :  h = mixMultiple(h, (short) data.charAt(start)); break;
+            case 2 :  h = mixMultiple(h, charsToInt(data, start)); break;
+            case 3 :  h = mixMultiple(h, charsToInt(data, start), (short) data.charAt(start + 2)); break;
+            case 4 :  h = mixMultiple(h, charsToLong(data, start)); break;
+            case 5 :  h = mixMultiple(h, charsToLong(data, start), (short) data.charAt(start + 4)); break;
+            case 6 :  h = mixMultiple(h, charsToLong(data, start), charsToInt(data, start + 4)); break;
+            case 7 :  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 3)); break;
+            case 8 :  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4)); break;
+            case 9 :  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), (short) data.charAt(start + 8)); break;
+            case 10:  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), charsToInt(data, start + 8)); break;
+            case 11:  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), charsToLong(data, start + 7)); break;
+            case 12:  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), charsToLong(data, start + 8)); break;
+            case 13:  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), charsToLong(data, start + 8), (short) data.charAt(start + 12)); break;
+            case 14:  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), charsToLong(data, start + 8), charsToInt(data, start + 12)); break;
+            case 15:  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), charsToLong(data, start + 8), charsToLong(data, start + 11)); break;
+        }
+        return mix(h);
+    }
+
+    /**
+     * Gets four chars from data, starting at index, as one long in big-endian order.
+     */
+    private static long charsToLong(final String data, final int index) {
+        return (long) data.charAt(index) << 48 | (long) data.charAt(index + 1) << 32
+                | (long) data.charAt(index + 2) << 16 | data.charAt(index + 3);
+    }
+
+    /**
+     * Gets two chars from data, starting at index, as one int in big-endian order.
+     */
+    private static int charsToInt(final String data, final int index) {
+        return data.charAt(index) << 16 | data.charAt(index + 1);
+    }
+
+    /**
+     * The Adze algorithm on the UTF-16BE bytes of a section of data; start and len must already be in range.
+     */
+    private static long adzeChars(final long seed, final StringBuilder data, int start, int len) {
+        long h = ((long) len << 1) ^ forwardAdze(seed);
+        while(len >= 56){
+            len -= 56;
+            h *= C;
+            h += mixMultiple(charsToLong(data, start), charsToLong(data, start + 4), charsToLong(data, start + 8), charsToLong(data, start + 12), charsToLong(data, start + 16), charsToLong(data, start + 20), charsToLong(data, start + 24));
+            h = (h << 39 | h >>> 25);
+            h += mixMultiple(charsToLong(data, start + 28), charsToLong(data, start + 32), charsToLong(data, start + 36), charsToLong(data, start + 40), charsToLong(data, start + 44), charsToLong(data, start + 48), charsToLong(data, start + 52));
+            start += 56;
+        }
+        while(len >= 16){
+            len -= 16;
+            h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), charsToLong(data, start + 8), charsToLong(data, start + 12));
+            start += 16;
+        }
+        switch (len) {
+            case 1 :  h = mixMultiple(h, (short) data.charAt(start)); break;
+            case 2 :  h = mixMultiple(h, charsToInt(data, start)); break;
+            case 3 :  h = mixMultiple(h, charsToInt(data, start), (short) data.charAt(start + 2)); break;
+            case 4 :  h = mixMultiple(h, charsToLong(data, start)); break;
+            case 5 :  h = mixMultiple(h, charsToLong(data, start), (short) data.charAt(start + 4)); break;
+            case 6 :  h = mixMultiple(h, charsToLong(data, start), charsToInt(data, start + 4)); break;
+            case 7 :  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 3)); break;
+            case 8 :  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4)); break;
+            case 9 :  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), (short) data.charAt(start + 8)); break;
+            case 10:  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), charsToInt(data, start + 8)); break;
+            case 11:  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), charsToLong(data, start + 7)); break;
+            case 12:  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), charsToLong(data, start + 8)); break;
+            case 13:  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), charsToLong(data, start + 8), (short) data.charAt(start + 12)); break;
+            case 14:  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), charsToLong(data, start + 8), charsToInt(data, start + 12)); break;
+            case 15:  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), charsToLong(data, start + 8), charsToLong(data, start + 11)); break;
+        }
+        return mix(h);
+    }
+
+    /**
+     * Gets four chars from data, starting at index, as one long in big-endian order.
+     */
+    private static long charsToLong(final StringBuilder data, final int index) {
+        return (long) data.charAt(index) << 48 | (long) data.charAt(index + 1) << 32
+                | (long) data.charAt(index + 2) << 16 | data.charAt(index + 3);
+    }
+
+    /**
+     * Gets two chars from data, starting at index, as one int in big-endian order.
+     */
+    private static int charsToInt(final StringBuilder data, final int index) {
+        return data.charAt(index) << 16 | data.charAt(index + 1);
+    }
+
+    /**
+     * The Adze algorithm on the UTF-16BE bytes of a section of data; start and len must already be in range.
+     */
+    private static long adzeChars(final long seed, final CharSequence data, int start, int len) {
+        long h = ((long) len << 1) ^ forwardAdze(seed);
+        while(len >= 56){
+            len -= 56;
+            h *= C;
+            h += mixMultiple(charsToLong(data, start), charsToLong(data, start + 4), charsToLong(data, start + 8), charsToLong(data, start + 12), charsToLong(data, start + 16), charsToLong(data, start + 20), charsToLong(data, start + 24));
+            h = (h << 39 | h >>> 25);
+            h += mixMultiple(charsToLong(data, start + 28), charsToLong(data, start + 32), charsToLong(data, start + 36), charsToLong(data, start + 40), charsToLong(data, start + 44), charsToLong(data, start + 48), charsToLong(data, start + 52));
+            start += 56;
+        }
+        while(len >= 16){
+            len -= 16;
+            h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), charsToLong(data, start + 8), charsToLong(data, start + 12));
+            start += 16;
+        }
+        switch (len) {
+            case 1 :  h = mixMultiple(h, (short) data.charAt(start)); break;
+            case 2 :  h = mixMultiple(h, charsToInt(data, start)); break;
+            case 3 :  h = mixMultiple(h, charsToInt(data, start), (short) data.charAt(start + 2)); break;
+            case 4 :  h = mixMultiple(h, charsToLong(data, start)); break;
+            case 5 :  h = mixMultiple(h, charsToLong(data, start), (short) data.charAt(start + 4)); break;
+            case 6 :  h = mixMultiple(h, charsToLong(data, start), charsToInt(data, start + 4)); break;
+            case 7 :  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 3)); break;
+            case 8 :  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4)); break;
+            case 9 :  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), (short) data.charAt(start + 8)); break;
+            case 10:  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), charsToInt(data, start + 8)); break;
+            case 11:  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), charsToLong(data, start + 7)); break;
+            case 12:  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), charsToLong(data, start + 8)); break;
+            case 13:  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), charsToLong(data, start + 8), (short) data.charAt(start + 12)); break;
+            case 14:  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), charsToLong(data, start + 8), charsToInt(data, start + 12)); break;
+            case 15:  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), charsToLong(data, start + 8), charsToLong(data, start + 11)); break;
+        }
+        return mix(h);
+    }
+
+    // Adze hashes for primitive arrays
+    // Each of these gives the same result as hashAdze64(long, ByteBuffer) on a ByteBuffer holding the big-endian bytes
+    // of the same items, but reads the items directly, without creating a ByteBuffer.
+
+    /**
+     * Gets a 64-bit Adze hash of all of {@code data}, treating each boolean as the byte 1 if true or 0 if false, using
+     * this Hasher's seed. See {@link #hashAdze64(long, boolean[])} for more.
+     * @param data an input boolean array
+     * @return the 64-bit hash of data
+     */
+    public long hashAdze64(final boolean[] data) {
+        if (data == null) return 0;
+        return hashAdze64(seed, data, 0, data.length);
+    }
+
+    /**
+     * Gets a 64-bit Adze hash of a section of {@code data}, using the given {@code start} index and {@code length}
+     * (both measured in booleans), and this Hasher's seed. See {@link #hashAdze64(long, boolean[])} for more.
+     * @param data an input boolean array
+     * @param start the starting index in data
+     * @param length how many booleans to hash from data
+     * @return the 64-bit hash of data
+     */
+    public long hashAdze64(final boolean[] data, int start, int length) {
+        return hashAdze64(seed, data, start, length);
+    }
+
+    /**
+     * Gets a 32-bit Adze hash of all of {@code data}; this is the same as {@link #hashAdze64(boolean[])} cast to int.
+     * @param data an input boolean array
+     * @return the 32-bit hash of data
+     */
+    public int hashAdze(final boolean[] data) {
+        if (data == null) return 0;
+        return (int) hashAdze64(seed, data, 0, data.length);
+    }
+
+    /**
+     * Gets a 32-bit Adze hash of a section of {@code data}; this is the same as
+     * {@link #hashAdze64(boolean[], int, int)} cast to int.
+     * @param data an input boolean array
+     * @param start the starting index in data
+     * @param length how many booleans to hash from data
+     * @return the 32-bit hash of data
+     */
+    public int hashAdze(final boolean[] data, int start, int length) {
+        return (int) hashAdze64(seed, data, start, length);
+    }
+
+    /**
+     * Gets a 64-bit Adze hash of all of {@code data}, treating each boolean as the byte 1 if true or 0 if false. This
+     * gives the same result as {@link #hashAdze64(long, ByteBuffer)} on a ByteBuffer holding those bytes, but packs 8
+     * booleans into each long directly, so it mixes 112 bytes per step instead of one item per step like
+     * {@link #hashBulk64(long, boolean[])}.
+     * @param seed any long seed
+     * @param data an input boolean array
+     * @return the 64-bit hash of data
+     */
+    public static long hashAdze64(final long seed, final boolean[] data) {
+        if (data == null) return 0;
+        return hashAdze64(seed, data, 0, data.length);
+    }
+
+    /**
+     * Gets a 64-bit Adze hash of a section of {@code data}, using the given {@code start} index and {@code length}
+     * (both measured in booleans). This is the same as {@link #hashAdze64(long, ByteBuffer, int, int)} on a ByteBuffer
+     * holding the big-endian bytes of that section. See {@link #hashAdze64(long, boolean[])} for more.
+     * @param seed any long seed
+     * @param data an input boolean array
+     * @param start the starting index in data
+     * @param length how many booleans to hash from data
+     * @return the 64-bit hash of data
+     */
+    public static long hashAdze64(final long seed, final boolean[] data, int start, int length) {
+        if (data == null || start < 0 || length < 0 || start >= data.length)
+            return 0;
+        return adzeBooleans(seed, data, start, Math.min(length, data.length - start));
+    }
+
+    /**
+     * Gets a 32-bit Adze hash of all of {@code data}; this is the same as {@link #hashAdze64(long, boolean[])} cast to
+     * int.
+     * @param seed any long seed
+     * @param data an input boolean array
+     * @return the 32-bit hash of data
+     */
+    public static int hashAdze(final long seed, final boolean[] data) {
+        if (data == null) return 0;
+        return (int) hashAdze64(seed, data, 0, data.length);
+    }
+
+    /**
+     * Gets a 32-bit Adze hash of a section of {@code data}; this is the same as
+     * {@link #hashAdze64(long, boolean[], int, int)} cast to int.
+     * @param seed any long seed
+     * @param data an input boolean array
+     * @param start the starting index in data
+     * @param length how many booleans to hash from data
+     * @return the 32-bit hash of data
+     */
+    public static int hashAdze(final long seed, final boolean[] data, int start, int length) {
+        return (int) hashAdze64(seed, data, start, length);
+    }
+
+    /**
+     * The Adze algorithm on the big-endian bytes of a section of data; start and len must already be in range.
+     */
+    private static long adzeBooleans(final long seed, final boolean[] data, int start, int len) {
+        long h = len ^ forwardAdze(seed);
+        while(len >= 112){
+            len -= 112;
+            h *= C;
+            h += mixMultiple(booleansToLong(data, start), booleansToLong(data, start + 8), booleansToLong(data, start + 16), booleansToLong(data, start + 24), booleansToLong(data, start + 32), booleansToLong(data, start + 40), booleansToLong(data, start + 48));
+            h = (h << 39 | h >>> 25);
+            h += mixMultiple(booleansToLong(data, start + 56), booleansToLong(data, start + 64), booleansToLong(data, start + 72), booleansToLong(data, start + 80), booleansToLong(data, start + 88), booleansToLong(data, start + 96), booleansToLong(data, start + 104));
+            start += 112;
+        }
+        while(len >= 32){
+            len -= 32;
+            h = mixMultiple(h, booleansToLong(data, start), booleansToLong(data, start + 8), booleansToLong(data, start + 16), booleansToLong(data, start + 24));
+            start += 32;
+        }
+        switch (len) {
+            case 1 :  h = mixMultiple(h, (data[start] ? 1 : 0)); break;
+            case 2 :  h = mixMultiple(h, booleansToShort(data, start)); break;
+            case 3 :  h = mixMultiple(h, booleansToShort(data, start), (data[start + 2] ? 1 : 0)); break;
+            case 4 :  h = mixMultiple(h, booleansToInt(data, start)); break;
+            case 5 :  h = mixMultiple(h, booleansToInt(data, start), (data[start + 4] ? 1 : 0)); break;
+            case 6 :  h = mixMultiple(h, booleansToInt(data, start), booleansToShort(data, start + 4)); break;
+            case 7 :  h = mixMultiple(h, booleansToInt(data, start), booleansToInt(data, start + 3)); break;
+            case 8 :  h = mixMultiple(h, booleansToLong(data, start)); break;
+            case 9 :  h = mixMultiple(h, booleansToLong(data, start), (data[start + 8] ? 1 : 0)); break;
+            case 10:  h = mixMultiple(h, booleansToLong(data, start), booleansToShort(data, start + 8)); break;
+            case 11:  h = mixMultiple(h, booleansToLong(data, start), booleansToInt(data, start + 7)); break;
+            case 12:  h = mixMultiple(h, booleansToLong(data, start), booleansToInt(data, start + 8)); break;
+            case 13:  h = mixMultiple(h, booleansToLong(data, start), booleansToLong(data, start + 5)); break;
+            case 14:  h = mixMultiple(h, booleansToLong(data, start), booleansToLong(data, start + 6)); break;
+            case 15:  h = mixMultiple(h, booleansToLong(data, start), booleansToLong(data, start + 7)); break;
+            case 16:  h = mixMultiple(h, booleansToLong(data, start), booleansToLong(data, start + 8)); break;
+            case 17:  h = mixMultiple(h, booleansToLong(data, start), booleansToLong(data, start + 8), (data[start + 16] ? 1 : 0)); break;
+            case 18:  h = mixMultiple(h, booleansToLong(data, start), booleansToLong(data, start + 8), booleansToShort(data, start + 16)); break;
+            case 19:  h = mixMultiple(h, booleansToLong(data, start), booleansToLong(data, start + 8), booleansToInt(data, start + 15)); break;
+            case 20:  h = mixMultiple(h, booleansToLong(data, start), booleansToLong(data, start + 8), booleansToInt(data, start + 16)); break;
+            case 21:  h = mixMultiple(h, booleansToLong(data, start), booleansToLong(data, start + 8), booleansToLong(data, start + 13)); break;
+            case 22:  h = mixMultiple(h, booleansToLong(data, start), booleansToLong(data, start + 8), booleansToLong(data, start + 14)); break;
+            case 23:  h = mixMultiple(h, booleansToLong(data, start), booleansToLong(data, start + 8), booleansToLong(data, start + 15)); break;
+            case 24:  h = mixMultiple(h, booleansToLong(data, start), booleansToLong(data, start + 8), booleansToLong(data, start + 16)); break;
+            case 25:  h = mixMultiple(h, booleansToLong(data, start), booleansToLong(data, start + 8), booleansToLong(data, start + 16), (data[start + 24] ? 1 : 0)); break;
+            case 26:  h = mixMultiple(h, booleansToLong(data, start), booleansToLong(data, start + 8), booleansToLong(data, start + 16), booleansToShort(data, start + 24)); break;
+            case 27:  h = mixMultiple(h, booleansToLong(data, start), booleansToLong(data, start + 8), booleansToLong(data, start + 16), booleansToInt(data, start + 23)); break;
+            case 28:  h = mixMultiple(h, booleansToLong(data, start), booleansToLong(data, start + 8), booleansToLong(data, start + 16), booleansToInt(data, start + 24)); break;
+            case 29:  h = mixMultiple(h, booleansToLong(data, start), booleansToLong(data, start + 8), booleansToLong(data, start + 16), booleansToLong(data, start + 21)); break;
+            case 30:  h = mixMultiple(h, booleansToLong(data, start), booleansToLong(data, start + 8), booleansToLong(data, start + 16), booleansToLong(data, start + 22)); break;
+            case 31:  h = mixMultiple(h, booleansToLong(data, start), booleansToLong(data, start + 8), booleansToLong(data, start + 16), booleansToLong(data, start + 23)); break;
+        }
+        return mix(h);
+    }
+
+    /**
+     * Gets eight booleans from data, starting at index, as one long in big-endian order, with each boolean as the byte
+     * 1 or 0.
+     */
+    private static long booleansToLong(final boolean[] data, final int index) {
+        return (data[index] ? 0x0100000000000000L : 0L) | (data[index + 1] ? 0x0001000000000000L : 0L)
+                | (data[index + 2] ? 0x0000010000000000L : 0L) | (data[index + 3] ? 0x0000000100000000L : 0L)
+                | (data[index + 4] ? 0x0000000001000000L : 0L) | (data[index + 5] ? 0x0000000000010000L : 0L)
+                | (data[index + 6] ? 0x0000000000000100L : 0L) | (data[index + 7] ? 0x0000000000000001L : 0L);
+    }
+
+    /**
+     * Gets four booleans from data, starting at index, as one int in big-endian order, with each boolean as the byte 1
+     * or 0.
+     */
+    private static int booleansToInt(final boolean[] data, final int index) {
+        return (data[index] ? 0x01000000 : 0) | (data[index + 1] ? 0x00010000 : 0)
+                | (data[index + 2] ? 0x00000100 : 0) | (data[index + 3] ? 0x00000001 : 0);
+    }
+
+    /**
+     * Gets two booleans from data, starting at index, as one short in big-endian order, with each boolean as the byte 1
+     * or 0.
+     */
+    private static short booleansToShort(final boolean[] data, final int index) {
+        return (short) ((data[index] ? 0x0100 : 0) | (data[index + 1] ? 0x0001 : 0));
+    }
+
+    /**
+     * Gets a 64-bit Adze hash of all of {@code data}, treating each short as the two bytes
+     * {@link ByteBuffer#putShort(short)} would write, using this Hasher's seed. See {@link #hashAdze64(long, short[])}
+     * for more.
+     * @param data an input short array
+     * @return the 64-bit hash of data
+     */
+    public long hashAdze64(final short[] data) {
+        if (data == null) return 0;
+        return hashAdze64(seed, data, 0, data.length);
+    }
+
+    /**
+     * Gets a 64-bit Adze hash of a section of {@code data}, using the given {@code start} index and {@code length}
+     * (both measured in shorts), and this Hasher's seed. See {@link #hashAdze64(long, short[])} for more.
+     * @param data an input short array
+     * @param start the starting index in data
+     * @param length how many shorts to hash from data
+     * @return the 64-bit hash of data
+     */
+    public long hashAdze64(final short[] data, int start, int length) {
+        return hashAdze64(seed, data, start, length);
+    }
+
+    /**
+     * Gets a 32-bit Adze hash of all of {@code data}; this is the same as {@link #hashAdze64(short[])} cast to int.
+     * @param data an input short array
+     * @return the 32-bit hash of data
+     */
+    public int hashAdze(final short[] data) {
+        if (data == null) return 0;
+        return (int) hashAdze64(seed, data, 0, data.length);
+    }
+
+    /**
+     * Gets a 32-bit Adze hash of a section of {@code data}; this is the same as {@link #hashAdze64(short[], int, int)}
+     * cast to int.
+     * @param data an input short array
+     * @param start the starting index in data
+     * @param length how many shorts to hash from data
+     * @return the 32-bit hash of data
+     */
+    public int hashAdze(final short[] data, int start, int length) {
+        return (int) hashAdze64(seed, data, start, length);
+    }
+
+    /**
+     * Gets a 64-bit Adze hash of all of {@code data}, treating each short as the two bytes
+     * {@link ByteBuffer#putShort(short)} would write. This gives the same result as
+     * {@link #hashAdze64(long, ByteBuffer)} on a ByteBuffer holding those bytes, but reads 4 shorts into each long
+     * directly, so it mixes 112 bytes per step instead of one item per step like {@link #hashBulk64(long, short[])}.
+     * @param seed any long seed
+     * @param data an input short array
+     * @return the 64-bit hash of data
+     */
+    public static long hashAdze64(final long seed, final short[] data) {
+        if (data == null) return 0;
+        return hashAdze64(seed, data, 0, data.length);
+    }
+
+    /**
+     * Gets a 64-bit Adze hash of a section of {@code data}, using the given {@code start} index and {@code length}
+     * (both measured in shorts). This is the same as {@link #hashAdze64(long, ByteBuffer, int, int)} on a ByteBuffer
+     * holding the big-endian bytes of that section. See {@link #hashAdze64(long, short[])} for more.
+     * @param seed any long seed
+     * @param data an input short array
+     * @param start the starting index in data
+     * @param length how many shorts to hash from data
+     * @return the 64-bit hash of data
+     */
+    public static long hashAdze64(final long seed, final short[] data, int start, int length) {
+        if (data == null || start < 0 || length < 0 || start >= data.length)
+            return 0;
+        return adzeShorts(seed, data, start, Math.min(length, data.length - start));
+    }
+
+    /**
+     * Gets a 32-bit Adze hash of all of {@code data}; this is the same as {@link #hashAdze64(long, short[])} cast to
+     * int.
+     * @param seed any long seed
+     * @param data an input short array
+     * @return the 32-bit hash of data
+     */
+    public static int hashAdze(final long seed, final short[] data) {
+        if (data == null) return 0;
+        return (int) hashAdze64(seed, data, 0, data.length);
+    }
+
+    /**
+     * Gets a 32-bit Adze hash of a section of {@code data}; this is the same as
+     * {@link #hashAdze64(long, short[], int, int)} cast to int.
+     * @param seed any long seed
+     * @param data an input short array
+     * @param start the starting index in data
+     * @param length how many shorts to hash from data
+     * @return the 32-bit hash of data
+     */
+    public static int hashAdze(final long seed, final short[] data, int start, int length) {
+        return (int) hashAdze64(seed, data, start, length);
+    }
+
+    /**
+     * The Adze algorithm on the big-endian bytes of a section of data; start and len must already be in range.
+     */
+    private static long adzeShorts(final long seed, final short[] data, int start, int len) {
+        long h = ((long) len << 1) ^ forwardAdze(seed);
+        while(len >= 56){
+            len -= 56;
+            h *= C;
+            h += mixMultiple(shortsToLong(data, start), shortsToLong(data, start + 4), shortsToLong(data, start + 8), shortsToLong(data, start + 12), shortsToLong(data, start + 16), shortsToLong(data, start + 20), shortsToLong(data, start + 24));
+            h = (h << 39 | h >>> 25);
+            h += mixMultiple(shortsToLong(data, start + 28), shortsToLong(data, start + 32), shortsToLong(data, start + 36), shortsToLong(data, start + 40), shortsToLong(data, start + 44), shortsToLong(data, start + 48), shortsToLong(data, start + 52));
+            start += 56;
+        }
+        while(len >= 16){
+            len -= 16;
+            h = mixMultiple(h, shortsToLong(data, start), shortsToLong(data, start + 4), shortsToLong(data, start + 8), shortsToLong(data, start + 12));
+            start += 16;
+        }
+        switch (len) {
+            case 1 :  h = mixMultiple(h, data[start]); break;
+            case 2 :  h = mixMultiple(h, shortsToInt(data, start)); break;
+            case 3 :  h = mixMultiple(h, shortsToInt(data, start), data[start + 2]); break;
+            case 4 :  h = mixMultiple(h, shortsToLong(data, start)); break;
+            case 5 :  h = mixMultiple(h, shortsToLong(data, start), data[start + 4]); break;
+            case 6 :  h = mixMultiple(h, shortsToLong(data, start), shortsToInt(data, start + 4)); break;
+            case 7 :  h = mixMultiple(h, shortsToLong(data, start), shortsToLong(data, start + 3)); break;
+            case 8 :  h = mixMultiple(h, shortsToLong(data, start), shortsToLong(data, start + 4)); break;
+            case 9 :  h = mixMultiple(h, shortsToLong(data, start), shortsToLong(data, start + 4), data[start + 8]); break;
+            case 10:  h = mixMultiple(h, shortsToLong(data, start), shortsToLong(data, start + 4), shortsToInt(data, start + 8)); break;
+            case 11:  h = mixMultiple(h, shortsToLong(data, start), shortsToLong(data, start + 4), shortsToLong(data, start + 7)); break;
+            case 12:  h = mixMultiple(h, shortsToLong(data, start), shortsToLong(data, start + 4), shortsToLong(data, start + 8)); break;
+            case 13:  h = mixMultiple(h, shortsToLong(data, start), shortsToLong(data, start + 4), shortsToLong(data, start + 8), data[start + 12]); break;
+            case 14:  h = mixMultiple(h, shortsToLong(data, start), shortsToLong(data, start + 4), shortsToLong(data, start + 8), shortsToInt(data, start + 12)); break;
+            case 15:  h = mixMultiple(h, shortsToLong(data, start), shortsToLong(data, start + 4), shortsToLong(data, start + 8), shortsToLong(data, start + 11)); break;
+        }
+        return mix(h);
+    }
+
+    /**
+     * Gets four shorts from data, starting at index, as one long in big-endian order.
+     */
+    private static long shortsToLong(final short[] data, final int index) {
+        return (long) data[index] << 48 | (data[index + 1] & 0xFFFFL) << 32
+                | (data[index + 2] & 0xFFFFL) << 16 | data[index + 3] & 0xFFFFL;
+    }
+
+    /**
+     * Gets two shorts from data, starting at index, as one int in big-endian order.
+     */
+    private static int shortsToInt(final short[] data, final int index) {
+        return data[index] << 16 | data[index + 1] & 0xFFFF;
+    }
+
+    /**
+     * Gets a 64-bit Adze hash of all of {@code data}, treating each char as the two bytes
+     * {@link ByteBuffer#putChar(char)} would write (UTF-16BE), using this Hasher's seed. See
+     * {@link #hashAdze64(long, char[])} for more.
+     * @param data an input char array
+     * @return the 64-bit hash of data
+     */
+    public long hashAdze64(final char[] data) {
+        if (data == null) return 0;
+        return hashAdze64(seed, data, 0, data.length);
+    }
+
+    /**
+     * Gets a 64-bit Adze hash of a section of {@code data}, using the given {@code start} index and {@code length}
+     * (both measured in chars), and this Hasher's seed. See {@link #hashAdze64(long, char[])} for more.
+     * @param data an input char array
+     * @param start the starting index in data
+     * @param length how many chars to hash from data
+     * @return the 64-bit hash of data
+     */
+    public long hashAdze64(final char[] data, int start, int length) {
+        return hashAdze64(seed, data, start, length);
+    }
+
+    /**
+     * Gets a 32-bit Adze hash of all of {@code data}; this is the same as {@link #hashAdze64(char[])} cast to int.
+     * @param data an input char array
+     * @return the 32-bit hash of data
+     */
+    public int hashAdze(final char[] data) {
+        if (data == null) return 0;
+        return (int) hashAdze64(seed, data, 0, data.length);
+    }
+
+    /**
+     * Gets a 32-bit Adze hash of a section of {@code data}; this is the same as {@link #hashAdze64(char[], int, int)}
+     * cast to int.
+     * @param data an input char array
+     * @param start the starting index in data
+     * @param length how many chars to hash from data
+     * @return the 32-bit hash of data
+     */
+    public int hashAdze(final char[] data, int start, int length) {
+        return (int) hashAdze64(seed, data, start, length);
+    }
+
+    /**
+     * Gets a 64-bit Adze hash of all of {@code data}, treating each char as the two bytes
+     * {@link ByteBuffer#putChar(char)} would write (UTF-16BE). This gives the same result as
+     * {@link #hashAdze64(long, ByteBuffer)} on a ByteBuffer holding those bytes, but reads 4 chars into each long
+     * directly, so it mixes 112 bytes per step instead of one item per step like {@link #hashBulk64(long, char[])}.
+     * @param seed any long seed
+     * @param data an input char array
+     * @return the 64-bit hash of data
+     */
+    public static long hashAdze64(final long seed, final char[] data) {
+        if (data == null) return 0;
+        return hashAdze64(seed, data, 0, data.length);
+    }
+
+    /**
+     * Gets a 64-bit Adze hash of a section of {@code data}, using the given {@code start} index and {@code length}
+     * (both measured in chars). This is the same as {@link #hashAdze64(long, ByteBuffer, int, int)} on a ByteBuffer
+     * holding the big-endian bytes of that section. See {@link #hashAdze64(long, char[])} for more.
+     * @param seed any long seed
+     * @param data an input char array
+     * @param start the starting index in data
+     * @param length how many chars to hash from data
+     * @return the 64-bit hash of data
+     */
+    public static long hashAdze64(final long seed, final char[] data, int start, int length) {
+        if (data == null || start < 0 || length < 0 || start >= data.length)
+            return 0;
+        return adzeChars(seed, data, start, Math.min(length, data.length - start));
+    }
+
+    /**
+     * Gets a 32-bit Adze hash of all of {@code data}; this is the same as {@link #hashAdze64(long, char[])} cast to
+     * int.
+     * @param seed any long seed
+     * @param data an input char array
+     * @return the 32-bit hash of data
+     */
+    public static int hashAdze(final long seed, final char[] data) {
+        if (data == null) return 0;
+        return (int) hashAdze64(seed, data, 0, data.length);
+    }
+
+    /**
+     * Gets a 32-bit Adze hash of a section of {@code data}; this is the same as
+     * {@link #hashAdze64(long, char[], int, int)} cast to int.
+     * @param seed any long seed
+     * @param data an input char array
+     * @param start the starting index in data
+     * @param length how many chars to hash from data
+     * @return the 32-bit hash of data
+     */
+    public static int hashAdze(final long seed, final char[] data, int start, int length) {
+        return (int) hashAdze64(seed, data, start, length);
+    }
+
+    /**
+     * The Adze algorithm on the big-endian bytes of a section of data; start and len must already be in range.
+     */
+    private static long adzeChars(final long seed, final char[] data, int start, int len) {
+        long h = ((long) len << 1) ^ forwardAdze(seed);
+        while(len >= 56){
+            len -= 56;
+            h *= C;
+            h += mixMultiple(charsToLong(data, start), charsToLong(data, start + 4), charsToLong(data, start + 8), charsToLong(data, start + 12), charsToLong(data, start + 16), charsToLong(data, start + 20), charsToLong(data, start + 24));
+            h = (h << 39 | h >>> 25);
+            h += mixMultiple(charsToLong(data, start + 28), charsToLong(data, start + 32), charsToLong(data, start + 36), charsToLong(data, start + 40), charsToLong(data, start + 44), charsToLong(data, start + 48), charsToLong(data, start + 52));
+            start += 56;
+        }
+        while(len >= 16){
+            len -= 16;
+            h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), charsToLong(data, start + 8), charsToLong(data, start + 12));
+            start += 16;
+        }
+        switch (len) {
+            case 1 :  h = mixMultiple(h, (short) data[start]); break;
+            case 2 :  h = mixMultiple(h, charsToInt(data, start)); break;
+            case 3 :  h = mixMultiple(h, charsToInt(data, start), (short) data[start + 2]); break;
+            case 4 :  h = mixMultiple(h, charsToLong(data, start)); break;
+            case 5 :  h = mixMultiple(h, charsToLong(data, start), (short) data[start + 4]); break;
+            case 6 :  h = mixMultiple(h, charsToLong(data, start), charsToInt(data, start + 4)); break;
+            case 7 :  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 3)); break;
+            case 8 :  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4)); break;
+            case 9 :  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), (short) data[start + 8]); break;
+            case 10:  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), charsToInt(data, start + 8)); break;
+            case 11:  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), charsToLong(data, start + 7)); break;
+            case 12:  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), charsToLong(data, start + 8)); break;
+            case 13:  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), charsToLong(data, start + 8), (short) data[start + 12]); break;
+            case 14:  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), charsToLong(data, start + 8), charsToInt(data, start + 12)); break;
+            case 15:  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), charsToLong(data, start + 8), charsToLong(data, start + 11)); break;
+        }
+        return mix(h);
+    }
+
+    /**
+     * Gets four chars from data, starting at index, as one long in big-endian order.
+     */
+    private static long charsToLong(final char[] data, final int index) {
+        return (long) data[index] << 48 | (data[index + 1] & 0xFFFFL) << 32
+                | (data[index + 2] & 0xFFFFL) << 16 | data[index + 3];
+    }
+
+    /**
+     * Gets two chars from data, starting at index, as one int in big-endian order.
+     */
+    private static int charsToInt(final char[] data, final int index) {
+        return data[index] << 16 | data[index + 1];
+    }
+
+    /**
+     * Gets a 64-bit Adze hash of all of {@code data}, treating each int as the four bytes
+     * {@link ByteBuffer#putInt(int)} would write, using this Hasher's seed. See {@link #hashAdze64(long, int[])} for
+     * more.
+     * @param data an input int array
+     * @return the 64-bit hash of data
+     */
+    public long hashAdze64(final int[] data) {
+        if (data == null) return 0;
+        return hashAdze64(seed, data, 0, data.length);
+    }
+
+    /**
+     * Gets a 64-bit Adze hash of a section of {@code data}, using the given {@code start} index and {@code length}
+     * (both measured in ints), and this Hasher's seed. See {@link #hashAdze64(long, int[])} for more.
+     * @param data an input int array
+     * @param start the starting index in data
+     * @param length how many ints to hash from data
+     * @return the 64-bit hash of data
+     */
+    public long hashAdze64(final int[] data, int start, int length) {
+        return hashAdze64(seed, data, start, length);
+    }
+
+    /**
+     * Gets a 32-bit Adze hash of all of {@code data}; this is the same as {@link #hashAdze64(int[])} cast to int.
+     * @param data an input int array
+     * @return the 32-bit hash of data
+     */
+    public int hashAdze(final int[] data) {
+        if (data == null) return 0;
+        return (int) hashAdze64(seed, data, 0, data.length);
+    }
+
+    /**
+     * Gets a 32-bit Adze hash of a section of {@code data}; this is the same as {@link #hashAdze64(int[], int, int)}
+     * cast to int.
+     * @param data an input int array
+     * @param start the starting index in data
+     * @param length how many ints to hash from data
+     * @return the 32-bit hash of data
+     */
+    public int hashAdze(final int[] data, int start, int length) {
+        return (int) hashAdze64(seed, data, start, length);
+    }
+
+    /**
+     * Gets a 64-bit Adze hash of all of {@code data}, treating each int as the four bytes
+     * {@link ByteBuffer#putInt(int)} would write. This gives the same result as {@link #hashAdze64(long, ByteBuffer)}
+     * on a ByteBuffer holding those bytes, but reads 2 ints into each long directly, so it mixes 112 bytes per step
+     * instead of one item per step like {@link #hashBulk64(long, int[])}.
+     * @param seed any long seed
+     * @param data an input int array
+     * @return the 64-bit hash of data
+     */
+    public static long hashAdze64(final long seed, final int[] data) {
+        if (data == null) return 0;
+        return hashAdze64(seed, data, 0, data.length);
+    }
+
+    /**
+     * Gets a 64-bit Adze hash of a section of {@code data}, using the given {@code start} index and {@code length}
+     * (both measured in ints). This is the same as {@link #hashAdze64(long, ByteBuffer, int, int)} on a ByteBuffer
+     * holding the big-endian bytes of that section. See {@link #hashAdze64(long, int[])} for more.
+     * @param seed any long seed
+     * @param data an input int array
+     * @param start the starting index in data
+     * @param length how many ints to hash from data
+     * @return the 64-bit hash of data
+     */
+    public static long hashAdze64(final long seed, final int[] data, int start, int length) {
+        if (data == null || start < 0 || length < 0 || start >= data.length)
+            return 0;
+        return adzeInts(seed, data, start, Math.min(length, data.length - start));
+    }
+
+    /**
+     * Gets a 32-bit Adze hash of all of {@code data}; this is the same as {@link #hashAdze64(long, int[])} cast to int.
+     * @param seed any long seed
+     * @param data an input int array
+     * @return the 32-bit hash of data
+     */
+    public static int hashAdze(final long seed, final int[] data) {
+        if (data == null) return 0;
+        return (int) hashAdze64(seed, data, 0, data.length);
+    }
+
+    /**
+     * Gets a 32-bit Adze hash of a section of {@code data}; this is the same as
+     * {@link #hashAdze64(long, int[], int, int)} cast to int.
+     * @param seed any long seed
+     * @param data an input int array
+     * @param start the starting index in data
+     * @param length how many ints to hash from data
+     * @return the 32-bit hash of data
+     */
+    public static int hashAdze(final long seed, final int[] data, int start, int length) {
+        return (int) hashAdze64(seed, data, start, length);
+    }
+
+    /**
+     * The Adze algorithm on the big-endian bytes of a section of data; start and len must already be in range.
+     */
+    private static long adzeInts(final long seed, final int[] data, int start, int len) {
+        long h = ((long) len << 2) ^ forwardAdze(seed);
+        while(len >= 28){
+            len -= 28;
+            h *= C;
+            h += mixMultiple(intsToLong(data, start), intsToLong(data, start + 2), intsToLong(data, start + 4), intsToLong(data, start + 6), intsToLong(data, start + 8), intsToLong(data, start + 10), intsToLong(data, start + 12));
+            h = (h << 39 | h >>> 25);
+            h += mixMultiple(intsToLong(data, start + 14), intsToLong(data, start + 16), intsToLong(data, start + 18), intsToLong(data, start + 20), intsToLong(data, start + 22), intsToLong(data, start + 24), intsToLong(data, start + 26));
+            start += 28;
+        }
+        while(len >= 8){
+            len -= 8;
+            h = mixMultiple(h, intsToLong(data, start), intsToLong(data, start + 2), intsToLong(data, start + 4), intsToLong(data, start + 6));
+            start += 8;
+        }
+        switch (len) {
+            case 1 :  h = mixMultiple(h, data[start]); break;
+            case 2 :  h = mixMultiple(h, intsToLong(data, start)); break;
+            case 3 :  h = mixMultiple(h, intsToLong(data, start), data[start + 2]); break;
+            case 4 :  h = mixMultiple(h, intsToLong(data, start), intsToLong(data, start + 2)); break;
+            case 5 :  h = mixMultiple(h, intsToLong(data, start), intsToLong(data, start + 2), data[start + 4]); break;
+            case 6 :  h = mixMultiple(h, intsToLong(data, start), intsToLong(data, start + 2), intsToLong(data, start + 4)); break;
+            case 7 :  h = mixMultiple(h, intsToLong(data, start), intsToLong(data, start + 2), intsToLong(data, start + 4), data[start + 6]); break;
+        }
+        return mix(h);
+    }
+
+    /**
+     * Gets two ints from data, starting at index, as one long in big-endian order.
+     */
+    private static long intsToLong(final int[] data, final int index) {
+        return (long) data[index] << 32 | (data[index + 1] & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Gets a 64-bit Adze hash of all of {@code data}, treating each float as the four bytes
+     * {@link ByteBuffer#putInt(int)} would write for its {@link BitConversion#floatToRawIntBits(float) raw bits}, using
+     * this Hasher's seed. See {@link #hashAdze64(long, float[])} for more.
+     * @param data an input float array
+     * @return the 64-bit hash of data
+     */
+    public long hashAdze64(final float[] data) {
+        if (data == null) return 0;
+        return hashAdze64(seed, data, 0, data.length);
+    }
+
+    /**
+     * Gets a 64-bit Adze hash of a section of {@code data}, using the given {@code start} index and {@code length}
+     * (both measured in floats), and this Hasher's seed. See {@link #hashAdze64(long, float[])} for more.
+     * @param data an input float array
+     * @param start the starting index in data
+     * @param length how many floats to hash from data
+     * @return the 64-bit hash of data
+     */
+    public long hashAdze64(final float[] data, int start, int length) {
+        return hashAdze64(seed, data, start, length);
+    }
+
+    /**
+     * Gets a 32-bit Adze hash of all of {@code data}; this is the same as {@link #hashAdze64(float[])} cast to int.
+     * @param data an input float array
+     * @return the 32-bit hash of data
+     */
+    public int hashAdze(final float[] data) {
+        if (data == null) return 0;
+        return (int) hashAdze64(seed, data, 0, data.length);
+    }
+
+    /**
+     * Gets a 32-bit Adze hash of a section of {@code data}; this is the same as {@link #hashAdze64(float[], int, int)}
+     * cast to int.
+     * @param data an input float array
+     * @param start the starting index in data
+     * @param length how many floats to hash from data
+     * @return the 32-bit hash of data
+     */
+    public int hashAdze(final float[] data, int start, int length) {
+        return (int) hashAdze64(seed, data, start, length);
+    }
+
+    /**
+     * Gets a 64-bit Adze hash of all of {@code data}, treating each float as the four bytes
+     * {@link ByteBuffer#putInt(int)} would write for its {@link BitConversion#floatToRawIntBits(float) raw bits}. This
+     * gives the same result as {@link #hashAdze64(long, ByteBuffer)} on a ByteBuffer holding those bytes, but reads 2
+     * floats into each long directly, so it mixes 112 bytes per step instead of one item per step like
+     * {@link #hashBulk64(long, float[])}.
+     * @param seed any long seed
+     * @param data an input float array
+     * @return the 64-bit hash of data
+     */
+    public static long hashAdze64(final long seed, final float[] data) {
+        if (data == null) return 0;
+        return hashAdze64(seed, data, 0, data.length);
+    }
+
+    /**
+     * Gets a 64-bit Adze hash of a section of {@code data}, using the given {@code start} index and {@code length}
+     * (both measured in floats). This is the same as {@link #hashAdze64(long, ByteBuffer, int, int)} on a ByteBuffer
+     * holding the big-endian bytes of that section. See {@link #hashAdze64(long, float[])} for more.
+     * @param seed any long seed
+     * @param data an input float array
+     * @param start the starting index in data
+     * @param length how many floats to hash from data
+     * @return the 64-bit hash of data
+     */
+    public static long hashAdze64(final long seed, final float[] data, int start, int length) {
+        if (data == null || start < 0 || length < 0 || start >= data.length)
+            return 0;
+        return adzeFloats(seed, data, start, Math.min(length, data.length - start));
+    }
+
+    /**
+     * Gets a 32-bit Adze hash of all of {@code data}; this is the same as {@link #hashAdze64(long, float[])} cast to
+     * int.
+     * @param seed any long seed
+     * @param data an input float array
+     * @return the 32-bit hash of data
+     */
+    public static int hashAdze(final long seed, final float[] data) {
+        if (data == null) return 0;
+        return (int) hashAdze64(seed, data, 0, data.length);
+    }
+
+    /**
+     * Gets a 32-bit Adze hash of a section of {@code data}; this is the same as
+     * {@link #hashAdze64(long, float[], int, int)} cast to int.
+     * @param seed any long seed
+     * @param data an input float array
+     * @param start the starting index in data
+     * @param length how many floats to hash from data
+     * @return the 32-bit hash of data
+     */
+    public static int hashAdze(final long seed, final float[] data, int start, int length) {
+        return (int) hashAdze64(seed, data, start, length);
+    }
+
+    /**
+     * The Adze algorithm on the big-endian bytes of a section of data; start and len must already be in range.
+     */
+    private static long adzeFloats(final long seed, final float[] data, int start, int len) {
+        long h = ((long) len << 2) ^ forwardAdze(seed);
+        while(len >= 28){
+            len -= 28;
+            h *= C;
+            h += mixMultiple(floatsToLong(data, start), floatsToLong(data, start + 2), floatsToLong(data, start + 4), floatsToLong(data, start + 6), floatsToLong(data, start + 8), floatsToLong(data, start + 10), floatsToLong(data, start + 12));
+            h = (h << 39 | h >>> 25);
+            h += mixMultiple(floatsToLong(data, start + 14), floatsToLong(data, start + 16), floatsToLong(data, start + 18), floatsToLong(data, start + 20), floatsToLong(data, start + 22), floatsToLong(data, start + 24), floatsToLong(data, start + 26));
+            start += 28;
+        }
+        while(len >= 8){
+            len -= 8;
+            h = mixMultiple(h, floatsToLong(data, start), floatsToLong(data, start + 2), floatsToLong(data, start + 4), floatsToLong(data, start + 6));
+            start += 8;
+        }
+        switch (len) {
+            case 1 :  h = mixMultiple(h, floatToRawIntBits(data[start])); break;
+            case 2 :  h = mixMultiple(h, floatsToLong(data, start)); break;
+            case 3 :  h = mixMultiple(h, floatsToLong(data, start), floatToRawIntBits(data[start + 2])); break;
+            case 4 :  h = mixMultiple(h, floatsToLong(data, start), floatsToLong(data, start + 2)); break;
+            case 5 :  h = mixMultiple(h, floatsToLong(data, start), floatsToLong(data, start + 2), floatToRawIntBits(data[start + 4])); break;
+            case 6 :  h = mixMultiple(h, floatsToLong(data, start), floatsToLong(data, start + 2), floatsToLong(data, start + 4)); break;
+            case 7 :  h = mixMultiple(h, floatsToLong(data, start), floatsToLong(data, start + 2), floatsToLong(data, start + 4), floatToRawIntBits(data[start + 6])); break;
+        }
+        return mix(h);
+    }
+
+    /**
+     * Gets the raw bits of two floats from data, starting at index, as one long in big-endian order.
+     */
+    private static long floatsToLong(final float[] data, final int index) {
+        return (long) floatToRawIntBits(data[index]) << 32 | (floatToRawIntBits(data[index + 1]) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Gets a 64-bit Adze hash of all of {@code data}, treating each long as the eight bytes
+     * {@link ByteBuffer#putLong(long)} would write, using this Hasher's seed. See {@link #hashAdze64(long, long[])} for
+     * more.
+     * @param data an input long array
+     * @return the 64-bit hash of data
+     */
+    public long hashAdze64(final long[] data) {
+        if (data == null) return 0;
+        return hashAdze64(seed, data, 0, data.length);
+    }
+
+    /**
+     * Gets a 64-bit Adze hash of a section of {@code data}, using the given {@code start} index and {@code length}
+     * (both measured in longs), and this Hasher's seed. See {@link #hashAdze64(long, long[])} for more.
+     * @param data an input long array
+     * @param start the starting index in data
+     * @param length how many longs to hash from data
+     * @return the 64-bit hash of data
+     */
+    public long hashAdze64(final long[] data, int start, int length) {
+        return hashAdze64(seed, data, start, length);
+    }
+
+    /**
+     * Gets a 32-bit Adze hash of all of {@code data}; this is the same as {@link #hashAdze64(long[])} cast to int.
+     * @param data an input long array
+     * @return the 32-bit hash of data
+     */
+    public int hashAdze(final long[] data) {
+        if (data == null) return 0;
+        return (int) hashAdze64(seed, data, 0, data.length);
+    }
+
+    /**
+     * Gets a 32-bit Adze hash of a section of {@code data}; this is the same as {@link #hashAdze64(long[], int, int)}
+     * cast to int.
+     * @param data an input long array
+     * @param start the starting index in data
+     * @param length how many longs to hash from data
+     * @return the 32-bit hash of data
+     */
+    public int hashAdze(final long[] data, int start, int length) {
+        return (int) hashAdze64(seed, data, start, length);
+    }
+
+    /**
+     * Gets a 64-bit Adze hash of all of {@code data}, treating each long as the eight bytes
+     * {@link ByteBuffer#putLong(long)} would write. This gives the same result as {@link #hashAdze64(long, ByteBuffer)}
+     * on a ByteBuffer holding those bytes, but reads each long directly, so it mixes 112 bytes per step instead of one
+     * item per step like {@link #hashBulk64(long, long[])}.
+     * @param seed any long seed
+     * @param data an input long array
+     * @return the 64-bit hash of data
+     */
+    public static long hashAdze64(final long seed, final long[] data) {
+        if (data == null) return 0;
+        return hashAdze64(seed, data, 0, data.length);
+    }
+
+    /**
+     * Gets a 64-bit Adze hash of a section of {@code data}, using the given {@code start} index and {@code length}
+     * (both measured in longs). This is the same as {@link #hashAdze64(long, ByteBuffer, int, int)} on a ByteBuffer
+     * holding the big-endian bytes of that section. See {@link #hashAdze64(long, long[])} for more.
+     * @param seed any long seed
+     * @param data an input long array
+     * @param start the starting index in data
+     * @param length how many longs to hash from data
+     * @return the 64-bit hash of data
+     */
+    public static long hashAdze64(final long seed, final long[] data, int start, int length) {
+        if (data == null || start < 0 || length < 0 || start >= data.length)
+            return 0;
+        return adzeLongs(seed, data, start, Math.min(length, data.length - start));
+    }
+
+    /**
+     * Gets a 32-bit Adze hash of all of {@code data}; this is the same as {@link #hashAdze64(long, long[])} cast to
+     * int.
+     * @param seed any long seed
+     * @param data an input long array
+     * @return the 32-bit hash of data
+     */
+    public static int hashAdze(final long seed, final long[] data) {
+        if (data == null) return 0;
+        return (int) hashAdze64(seed, data, 0, data.length);
+    }
+
+    /**
+     * Gets a 32-bit Adze hash of a section of {@code data}; this is the same as
+     * {@link #hashAdze64(long, long[], int, int)} cast to int.
+     * @param seed any long seed
+     * @param data an input long array
+     * @param start the starting index in data
+     * @param length how many longs to hash from data
+     * @return the 32-bit hash of data
+     */
+    public static int hashAdze(final long seed, final long[] data, int start, int length) {
+        return (int) hashAdze64(seed, data, start, length);
+    }
+
+    /**
+     * The Adze algorithm on the big-endian bytes of a section of data; start and len must already be in range.
+     */
+    private static long adzeLongs(final long seed, final long[] data, int start, int len) {
+        long h = ((long) len << 3) ^ forwardAdze(seed);
+        while(len >= 14){
+            len -= 14;
+            h *= C;
+            h += mixMultiple(data[start], data[start + 1], data[start + 2], data[start + 3], data[start + 4], data[start + 5], data[start + 6]);
+            h = (h << 39 | h >>> 25);
+            h += mixMultiple(data[start + 7], data[start + 8], data[start + 9], data[start + 10], data[start + 11], data[start + 12], data[start + 13]);
+            start += 14;
+        }
+        while(len >= 4){
+            len -= 4;
+            h = mixMultiple(h, data[start], data[start + 1], data[start + 2], data[start + 3]);
+            start += 4;
+        }
+        switch (len) {
+            case 1 :  h = mixMultiple(h, data[start]); break;
+            case 2 :  h = mixMultiple(h, data[start], data[start + 1]); break;
+            case 3 :  h = mixMultiple(h, data[start], data[start + 1], data[start + 2]); break;
+        }
+        return mix(h);
+    }
+
+    /**
+     * Gets a 64-bit Adze hash of all of {@code data}, treating each double as the eight bytes
+     * {@link ByteBuffer#putLong(long)} would write for its {@link BitConversion#doubleToRawLongBits(double) raw bits},
+     * using this Hasher's seed. See {@link #hashAdze64(long, double[])} for more.
+     * @param data an input double array
+     * @return the 64-bit hash of data
+     */
+    public long hashAdze64(final double[] data) {
+        if (data == null) return 0;
+        return hashAdze64(seed, data, 0, data.length);
+    }
+
+    /**
+     * Gets a 64-bit Adze hash of a section of {@code data}, using the given {@code start} index and {@code length}
+     * (both measured in doubles), and this Hasher's seed. See {@link #hashAdze64(long, double[])} for more.
+     * @param data an input double array
+     * @param start the starting index in data
+     * @param length how many doubles to hash from data
+     * @return the 64-bit hash of data
+     */
+    public long hashAdze64(final double[] data, int start, int length) {
+        return hashAdze64(seed, data, start, length);
+    }
+
+    /**
+     * Gets a 32-bit Adze hash of all of {@code data}; this is the same as {@link #hashAdze64(double[])} cast to int.
+     * @param data an input double array
+     * @return the 32-bit hash of data
+     */
+    public int hashAdze(final double[] data) {
+        if (data == null) return 0;
+        return (int) hashAdze64(seed, data, 0, data.length);
+    }
+
+    /**
+     * Gets a 32-bit Adze hash of a section of {@code data}; this is the same as {@link #hashAdze64(double[], int, int)}
+     * cast to int.
+     * @param data an input double array
+     * @param start the starting index in data
+     * @param length how many doubles to hash from data
+     * @return the 32-bit hash of data
+     */
+    public int hashAdze(final double[] data, int start, int length) {
+        return (int) hashAdze64(seed, data, start, length);
+    }
+
+    /**
+     * Gets a 64-bit Adze hash of all of {@code data}, treating each double as the eight bytes
+     * {@link ByteBuffer#putLong(long)} would write for its {@link BitConversion#doubleToRawLongBits(double) raw bits}.
+     * This gives the same result as {@link #hashAdze64(long, ByteBuffer)} on a ByteBuffer holding those bytes, but
+     * reads each double directly, so it mixes 112 bytes per step instead of one item per step like
+     * {@link #hashBulk64(long, double[])}.
+     * @param seed any long seed
+     * @param data an input double array
+     * @return the 64-bit hash of data
+     */
+    public static long hashAdze64(final long seed, final double[] data) {
+        if (data == null) return 0;
+        return hashAdze64(seed, data, 0, data.length);
+    }
+
+    /**
+     * Gets a 64-bit Adze hash of a section of {@code data}, using the given {@code start} index and {@code length}
+     * (both measured in doubles). This is the same as {@link #hashAdze64(long, ByteBuffer, int, int)} on a ByteBuffer
+     * holding the big-endian bytes of that section. See {@link #hashAdze64(long, double[])} for more.
+     * @param seed any long seed
+     * @param data an input double array
+     * @param start the starting index in data
+     * @param length how many doubles to hash from data
+     * @return the 64-bit hash of data
+     */
+    public static long hashAdze64(final long seed, final double[] data, int start, int length) {
+        if (data == null || start < 0 || length < 0 || start >= data.length)
+            return 0;
+        return adzeDoubles(seed, data, start, Math.min(length, data.length - start));
+    }
+
+    /**
+     * Gets a 32-bit Adze hash of all of {@code data}; this is the same as {@link #hashAdze64(long, double[])} cast to
+     * int.
+     * @param seed any long seed
+     * @param data an input double array
+     * @return the 32-bit hash of data
+     */
+    public static int hashAdze(final long seed, final double[] data) {
+        if (data == null) return 0;
+        return (int) hashAdze64(seed, data, 0, data.length);
+    }
+
+    /**
+     * Gets a 32-bit Adze hash of a section of {@code data}; this is the same as
+     * {@link #hashAdze64(long, double[], int, int)} cast to int.
+     * @param seed any long seed
+     * @param data an input double array
+     * @param start the starting index in data
+     * @param length how many doubles to hash from data
+     * @return the 32-bit hash of data
+     */
+    public static int hashAdze(final long seed, final double[] data, int start, int length) {
+        return (int) hashAdze64(seed, data, start, length);
+    }
+
+    /**
+     * The Adze algorithm on the big-endian bytes of a section of data; start and len must already be in range.
+     */
+    private static long adzeDoubles(final long seed, final double[] data, int start, int len) {
+        long h = ((long) len << 3) ^ forwardAdze(seed);
+        while(len >= 14){
+            len -= 14;
+            h *= C;
+            h += mixMultiple(doubleToRawLongBits(data[start]), doubleToRawLongBits(data[start + 1]), doubleToRawLongBits(data[start + 2]), doubleToRawLongBits(data[start + 3]), doubleToRawLongBits(data[start + 4]), doubleToRawLongBits(data[start + 5]), doubleToRawLongBits(data[start + 6]));
+            h = (h << 39 | h >>> 25);
+            h += mixMultiple(doubleToRawLongBits(data[start + 7]), doubleToRawLongBits(data[start + 8]), doubleToRawLongBits(data[start + 9]), doubleToRawLongBits(data[start + 10]), doubleToRawLongBits(data[start + 11]), doubleToRawLongBits(data[start + 12]), doubleToRawLongBits(data[start + 13]));
+            start += 14;
+        }
+        while(len >= 4){
+            len -= 4;
+            h = mixMultiple(h, doubleToRawLongBits(data[start]), doubleToRawLongBits(data[start + 1]), doubleToRawLongBits(data[start + 2]), doubleToRawLongBits(data[start + 3]));
+            start += 4;
+        }
+        switch (len) {
+            case 1 :  h = mixMultiple(h, doubleToRawLongBits(data[start])); break;
+            case 2 :  h = mixMultiple(h, doubleToRawLongBits(data[start]), doubleToRawLongBits(data[start + 1])); break;
+            case 3 :  h = mixMultiple(h, doubleToRawLongBits(data[start]), doubleToRawLongBits(data[start + 1]), doubleToRawLongBits(data[start + 2])); break;
+        }
+        return mix(h);
+    }
+
+    // Adze hashes for 2D arrays
+
+    /**
+     * Gets a 64-bit hash of all of {@code data}, using this Hasher's seed. See {@link #hashAdze64(long, boolean[][])}.
+     * @param data an input 2D boolean array
+     * @return the 64-bit hash of data
+     */
+    public long hashAdze64(final boolean[][] data) {
+        return hashBulk64(seed, booleanArrayHashAdze64, data);
+    }
+
+    /**
+     * Gets a 32-bit hash of all of {@code data}, using this Hasher's seed. See {@link #hashAdze(long, boolean[][])}.
+     * @param data an input 2D boolean array
+     * @return the 32-bit hash of data
+     */
+    public int hashAdze(final boolean[][] data) {
+        return hashBulk(seed, booleanArrayHashAdze, data);
+    }
+
+    /**
+     * Gets a 64-bit hash of all of {@code data}, hashing each row with {@link #hashAdze64(long, boolean[])} and
+     * combining the row hashes with {@link #hashBulk64(long, SeededHashFunction64, Object[])}.
+     * @param seed any long seed
+     * @param data an input 2D boolean array
+     * @return the 64-bit hash of data
+     */
+    public static long hashAdze64(final long seed, final boolean[][] data) {
+        return hashBulk64(seed, booleanArrayHashAdze64, data);
+    }
+
+    /**
+     * Gets a 32-bit hash of all of {@code data}, hashing each row with {@link #hashAdze(long, boolean[])} and combining
+     * the row hashes with {@link #hashBulk(long, SeededHashFunction, Object[])}.
+     * @param seed any long seed
+     * @param data an input 2D boolean array
+     * @return the 32-bit hash of data
+     */
+    public static int hashAdze(final long seed, final boolean[][] data) {
+        return hashBulk(seed, booleanArrayHashAdze, data);
+    }
+
+    /**
+     * Gets a 64-bit hash of all of {@code data}, using this Hasher's seed. See {@link #hashAdze64(long, byte[][])}.
+     * @param data an input 2D byte array
+     * @return the 64-bit hash of data
+     */
+    public long hashAdze64(final byte[][] data) {
+        return hashBulk64(seed, byteArrayHashAdze64, data);
+    }
+
+    /**
+     * Gets a 32-bit hash of all of {@code data}, using this Hasher's seed. See {@link #hashAdze(long, byte[][])}.
+     * @param data an input 2D byte array
+     * @return the 32-bit hash of data
+     */
+    public int hashAdze(final byte[][] data) {
+        return hashBulk(seed, byteArrayHashAdze, data);
+    }
+
+    /**
+     * Gets a 64-bit hash of all of {@code data}, hashing each row with {@link #hashAdze64(long, byte[])} and combining
+     * the row hashes with {@link #hashBulk64(long, SeededHashFunction64, Object[])}.
+     * @param seed any long seed
+     * @param data an input 2D byte array
+     * @return the 64-bit hash of data
+     */
+    public static long hashAdze64(final long seed, final byte[][] data) {
+        return hashBulk64(seed, byteArrayHashAdze64, data);
+    }
+
+    /**
+     * Gets a 32-bit hash of all of {@code data}, hashing each row with {@link #hashAdze(long, byte[])} and combining
+     * the row hashes with {@link #hashBulk(long, SeededHashFunction, Object[])}.
+     * @param seed any long seed
+     * @param data an input 2D byte array
+     * @return the 32-bit hash of data
+     */
+    public static int hashAdze(final long seed, final byte[][] data) {
+        return hashBulk(seed, byteArrayHashAdze, data);
+    }
+
+    /**
+     * Gets a 64-bit hash of all of {@code data}, using this Hasher's seed. See {@link #hashAdze64(long, short[][])}.
+     * @param data an input 2D short array
+     * @return the 64-bit hash of data
+     */
+    public long hashAdze64(final short[][] data) {
+        return hashBulk64(seed, shortArrayHashAdze64, data);
+    }
+
+    /**
+     * Gets a 32-bit hash of all of {@code data}, using this Hasher's seed. See {@link #hashAdze(long, short[][])}.
+     * @param data an input 2D short array
+     * @return the 32-bit hash of data
+     */
+    public int hashAdze(final short[][] data) {
+        return hashBulk(seed, shortArrayHashAdze, data);
+    }
+
+    /**
+     * Gets a 64-bit hash of all of {@code data}, hashing each row with {@link #hashAdze64(long, short[])} and combining
+     * the row hashes with {@link #hashBulk64(long, SeededHashFunction64, Object[])}.
+     * @param seed any long seed
+     * @param data an input 2D short array
+     * @return the 64-bit hash of data
+     */
+    public static long hashAdze64(final long seed, final short[][] data) {
+        return hashBulk64(seed, shortArrayHashAdze64, data);
+    }
+
+    /**
+     * Gets a 32-bit hash of all of {@code data}, hashing each row with {@link #hashAdze(long, short[])} and combining
+     * the row hashes with {@link #hashBulk(long, SeededHashFunction, Object[])}.
+     * @param seed any long seed
+     * @param data an input 2D short array
+     * @return the 32-bit hash of data
+     */
+    public static int hashAdze(final long seed, final short[][] data) {
+        return hashBulk(seed, shortArrayHashAdze, data);
+    }
+
+    /**
+     * Gets a 64-bit hash of all of {@code data}, using this Hasher's seed. See {@link #hashAdze64(long, char[][])}.
+     * @param data an input 2D char array
+     * @return the 64-bit hash of data
+     */
+    public long hashAdze64(final char[][] data) {
+        return hashBulk64(seed, charArrayHashAdze64, data);
+    }
+
+    /**
+     * Gets a 32-bit hash of all of {@code data}, using this Hasher's seed. See {@link #hashAdze(long, char[][])}.
+     * @param data an input 2D char array
+     * @return the 32-bit hash of data
+     */
+    public int hashAdze(final char[][] data) {
+        return hashBulk(seed, charArrayHashAdze, data);
+    }
+
+    /**
+     * Gets a 64-bit hash of all of {@code data}, hashing each row with {@link #hashAdze64(long, char[])} and combining
+     * the row hashes with {@link #hashBulk64(long, SeededHashFunction64, Object[])}.
+     * @param seed any long seed
+     * @param data an input 2D char array
+     * @return the 64-bit hash of data
+     */
+    public static long hashAdze64(final long seed, final char[][] data) {
+        return hashBulk64(seed, charArrayHashAdze64, data);
+    }
+
+    /**
+     * Gets a 32-bit hash of all of {@code data}, hashing each row with {@link #hashAdze(long, char[])} and combining
+     * the row hashes with {@link #hashBulk(long, SeededHashFunction, Object[])}.
+     * @param seed any long seed
+     * @param data an input 2D char array
+     * @return the 32-bit hash of data
+     */
+    public static int hashAdze(final long seed, final char[][] data) {
+        return hashBulk(seed, charArrayHashAdze, data);
+    }
+
+    /**
+     * Gets a 64-bit hash of all of {@code data}, using this Hasher's seed. See {@link #hashAdze64(long, int[][])}.
+     * @param data an input 2D int array
+     * @return the 64-bit hash of data
+     */
+    public long hashAdze64(final int[][] data) {
+        return hashBulk64(seed, intArrayHashAdze64, data);
+    }
+
+    /**
+     * Gets a 32-bit hash of all of {@code data}, using this Hasher's seed. See {@link #hashAdze(long, int[][])}.
+     * @param data an input 2D int array
+     * @return the 32-bit hash of data
+     */
+    public int hashAdze(final int[][] data) {
+        return hashBulk(seed, intArrayHashAdze, data);
+    }
+
+    /**
+     * Gets a 64-bit hash of all of {@code data}, hashing each row with {@link #hashAdze64(long, int[])} and combining
+     * the row hashes with {@link #hashBulk64(long, SeededHashFunction64, Object[])}.
+     * @param seed any long seed
+     * @param data an input 2D int array
+     * @return the 64-bit hash of data
+     */
+    public static long hashAdze64(final long seed, final int[][] data) {
+        return hashBulk64(seed, intArrayHashAdze64, data);
+    }
+
+    /**
+     * Gets a 32-bit hash of all of {@code data}, hashing each row with {@link #hashAdze(long, int[])} and combining the
+     * row hashes with {@link #hashBulk(long, SeededHashFunction, Object[])}.
+     * @param seed any long seed
+     * @param data an input 2D int array
+     * @return the 32-bit hash of data
+     */
+    public static int hashAdze(final long seed, final int[][] data) {
+        return hashBulk(seed, intArrayHashAdze, data);
+    }
+
+    /**
+     * Gets a 64-bit hash of all of {@code data}, using this Hasher's seed. See {@link #hashAdze64(long, float[][])}.
+     * @param data an input 2D float array
+     * @return the 64-bit hash of data
+     */
+    public long hashAdze64(final float[][] data) {
+        return hashBulk64(seed, floatArrayHashAdze64, data);
+    }
+
+    /**
+     * Gets a 32-bit hash of all of {@code data}, using this Hasher's seed. See {@link #hashAdze(long, float[][])}.
+     * @param data an input 2D float array
+     * @return the 32-bit hash of data
+     */
+    public int hashAdze(final float[][] data) {
+        return hashBulk(seed, floatArrayHashAdze, data);
+    }
+
+    /**
+     * Gets a 64-bit hash of all of {@code data}, hashing each row with {@link #hashAdze64(long, float[])} and combining
+     * the row hashes with {@link #hashBulk64(long, SeededHashFunction64, Object[])}.
+     * @param seed any long seed
+     * @param data an input 2D float array
+     * @return the 64-bit hash of data
+     */
+    public static long hashAdze64(final long seed, final float[][] data) {
+        return hashBulk64(seed, floatArrayHashAdze64, data);
+    }
+
+    /**
+     * Gets a 32-bit hash of all of {@code data}, hashing each row with {@link #hashAdze(long, float[])} and combining
+     * the row hashes with {@link #hashBulk(long, SeededHashFunction, Object[])}.
+     * @param seed any long seed
+     * @param data an input 2D float array
+     * @return the 32-bit hash of data
+     */
+    public static int hashAdze(final long seed, final float[][] data) {
+        return hashBulk(seed, floatArrayHashAdze, data);
+    }
+
+    /**
+     * Gets a 64-bit hash of all of {@code data}, using this Hasher's seed. See {@link #hashAdze64(long, long[][])}.
+     * @param data an input 2D long array
+     * @return the 64-bit hash of data
+     */
+    public long hashAdze64(final long[][] data) {
+        return hashBulk64(seed, longArrayHashAdze64, data);
+    }
+
+    /**
+     * Gets a 32-bit hash of all of {@code data}, using this Hasher's seed. See {@link #hashAdze(long, long[][])}.
+     * @param data an input 2D long array
+     * @return the 32-bit hash of data
+     */
+    public int hashAdze(final long[][] data) {
+        return hashBulk(seed, longArrayHashAdze, data);
+    }
+
+    /**
+     * Gets a 64-bit hash of all of {@code data}, hashing each row with {@link #hashAdze64(long, long[])} and combining
+     * the row hashes with {@link #hashBulk64(long, SeededHashFunction64, Object[])}.
+     * @param seed any long seed
+     * @param data an input 2D long array
+     * @return the 64-bit hash of data
+     */
+    public static long hashAdze64(final long seed, final long[][] data) {
+        return hashBulk64(seed, longArrayHashAdze64, data);
+    }
+
+    /**
+     * Gets a 32-bit hash of all of {@code data}, hashing each row with {@link #hashAdze(long, long[])} and combining
+     * the row hashes with {@link #hashBulk(long, SeededHashFunction, Object[])}.
+     * @param seed any long seed
+     * @param data an input 2D long array
+     * @return the 32-bit hash of data
+     */
+    public static int hashAdze(final long seed, final long[][] data) {
+        return hashBulk(seed, longArrayHashAdze, data);
+    }
+
+    /**
+     * Gets a 64-bit hash of all of {@code data}, using this Hasher's seed. See {@link #hashAdze64(long, double[][])}.
+     * @param data an input 2D double array
+     * @return the 64-bit hash of data
+     */
+    public long hashAdze64(final double[][] data) {
+        return hashBulk64(seed, doubleArrayHashAdze64, data);
+    }
+
+    /**
+     * Gets a 32-bit hash of all of {@code data}, using this Hasher's seed. See {@link #hashAdze(long, double[][])}.
+     * @param data an input 2D double array
+     * @return the 32-bit hash of data
+     */
+    public int hashAdze(final double[][] data) {
+        return hashBulk(seed, doubleArrayHashAdze, data);
+    }
+
+    /**
+     * Gets a 64-bit hash of all of {@code data}, hashing each row with {@link #hashAdze64(long, double[])} and
+     * combining the row hashes with {@link #hashBulk64(long, SeededHashFunction64, Object[])}.
+     * @param seed any long seed
+     * @param data an input 2D double array
+     * @return the 64-bit hash of data
+     */
+    public static long hashAdze64(final long seed, final double[][] data) {
+        return hashBulk64(seed, doubleArrayHashAdze64, data);
+    }
+
+    /**
+     * Gets a 32-bit hash of all of {@code data}, hashing each row with {@link #hashAdze(long, double[])} and combining
+     * the row hashes with {@link #hashBulk(long, SeededHashFunction, Object[])}.
+     * @param seed any long seed
+     * @param data an input 2D double array
+     * @return the 32-bit hash of data
+     */
+    public static int hashAdze(final long seed, final double[][] data) {
+        return hashBulk(seed, doubleArrayHashAdze, data);
+    }
+
+    // 128-bit Adze hashes
+    /**
+     * Gets a 128-bit hash of all of {@code data}, writing it as two longs into {@code out[0]} and {@code out[1]}. The
+     * long written to {@code out[0]} is exactly what {@link #hashAdze64(long, byte[])} returns for the same seed and
+     * data, so a 64-bit index can be widened to 128 bits without rehashing everything. The long in {@code out[1]} comes
+     * from a second lane that runs alongside the first, reading the same data once but mixing each block with a
+     * different arrangement of {@link #mixMultiple(long, long, long, long, long, long, long)}, so inputs that collide
+     * in one lane are very unlikely to collide in the other. This reads each byte once, like hashAdze64(), and does
+     * roughly twice as much arithmetic; that's usually much cheaper than two full passes with different seeds.
+     * <br>
+     * This doesn't allocate. If data is null or empty, both longs in out are set to 0.
+     * @param seed any long seed
+     * @param data an input byte array
+     * @param out a long array with length at least 2; will be modified
+     * @return out, after modifications
+     */
+    public static long[] hashAdze128(final long seed, final byte[] data, final long[] out) {
+        return hashAdze128(seed, data, 0, data == null ? 0 : data.length, out);
+    }
+
+    /**
+     * Gets a 128-bit hash of a section of {@code data}, using the given {@code start} index and {@code length}, and
+     * writes it as two longs into {@code out[0]} and {@code out[1]}. The long written to {@code out[0]} is exactly what
+     * {@link #hashAdze64(long, byte[], int, int)} returns for the same arguments. See
+     * {@link #hashAdze128(long, byte[], long[])} for more.
+     * @param seed any long seed
+     * @param data an input byte array
+     * @param start the starting index in data
+     * @param length how many bytes to hash from data
+     * @param out a long array with length at least 2; will be modified
+     * @return out, after modifications
+     */
+    public static long[] hashAdze128(final long seed, final byte[] data, int start, int length, final long[] out) {
+        if (data == null || start < 0 || length < 0 || start >= data.length) {
+            out[0] = 0L;
+            out[1] = 0L;
+            return out;
+        }
+        int len = Math.min(length, data.length - start);
+        long h = len ^ forwardAdze(seed);
+        long g = len ^ forward(seed);
+        while(len >= 112){
+            len -= 112;
+            final long a0 = getLong(data, start), a1 = getLong(data, start + 8), a2 = getLong(data, start + 16), a3 = getLong(data, start + 24), a4 = getLong(data, start + 32), a5 = getLong(data, start + 40), a6 = getLong(data, start + 48);
+            final long b0 = getLong(data, start + 56), b1 = getLong(data, start + 64), b2 = getLong(data, start + 72), b3 = getLong(data, start + 80), b4 = getLong(data, start + 88), b5 = getLong(data, start + 96), b6 = getLong(data, start + 104);
+            h *= C;
+            h += mixMultiple(a0, a1, a2, a3, a4, a5, a6);
+            h = (h << 39 | h >>> 25);
+            h += mixMultiple(b0, b1, b2, b3, b4, b5, b6);
+            g *= Q;
+            g += mixMultiple(b6, b5, b4, b3, b2, b1, b0);
+            g = (g << 29 | g >>> 35);
+            g += mixMultiple(a6, a5, a4, a3, a2, a1, a0);
+            start += 112;
+        }
+        while(len >= 32){
+            len -= 32;
+            final long a0 = getLong(data, start), a1 = getLong(data, start + 8), a2 = getLong(data, start + 16), a3 = getLong(data, start + 24);
+            h = mixMultiple(h, a0, a1, a2, a3);
+            g = mixMultiple(a3, a2, a1, a0, g);
+            start += 32;
+        }
+        switch (len) {
+            case 1 :  h = mixMultiple(h, data[start]); g = mixMultiple(data[start], g); break;
+            case 2 :  h = mixMultiple(h, getShort(data, start)); g = mixMultiple(getShort(data, start), g); break;
+            case 3 :  h = mixMultiple(h, getShort(data, start), data[start + 2]); g = mixMultiple(data[start + 2], getShort(data, start), g); break;
+            case 4 :  h = mixMultiple(h, getInt(data, start)); g = mixMultiple(getInt(data, start), g); break;
+            case 5 :  h = mixMultiple(h, getInt(data, start), data[start + 4]); g = mixMultiple(data[start + 4], getInt(data, start), g); break;
+            case 6 :  h = mixMultiple(h, getInt(data, start), getShort(data, start + 4)); g = mixMultiple(getShort(data, start + 4), getInt(data, start), g); break;
+            case 7 :  h = mixMultiple(h, getInt(data, start), getInt(data, start + 3)); g = mixMultiple(getInt(data, start + 3), getInt(data, start), g); break;
+            case 8 :  h = mixMultiple(h, getLong(data, start)); g = mixMultiple(getLong(data, start), g); break;
+            case 9 :  h = mixMultiple(h, getLong(data, start), data[start + 8]); g = mixMultiple(data[start + 8], getLong(data, start), g); break;
+            case 10:  h = mixMultiple(h, getLong(data, start), getShort(data, start + 8)); g = mixMultiple(getShort(data, start + 8), getLong(data, start), g); break;
+            case 11:  h = mixMultiple(h, getLong(data, start), getInt(data, start + 7)); g = mixMultiple(getInt(data, start + 7), getLong(data, start), g); break;
+            case 12:  h = mixMultiple(h, getLong(data, start), getInt(data, start + 8)); g = mixMultiple(getInt(data, start + 8), getLong(data, start), g); break;
+            case 13:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 5)); g = mixMultiple(getLong(data, start + 5), getLong(data, start), g); break;
+            case 14:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 6)); g = mixMultiple(getLong(data, start + 6), getLong(data, start), g); break;
+            case 15:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 7)); g = mixMultiple(getLong(data, start + 7), getLong(data, start), g); break;
+            case 16:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 8)); g = mixMultiple(getLong(data, start + 8), getLong(data, start), g); break;
+            case 17:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 8), data[start + 16]); g = mixMultiple(data[start + 16], getLong(data, start + 8), getLong(data, start), g); break;
+            case 18:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 8), getShort(data, start + 16)); g = mixMultiple(getShort(data, start + 16), getLong(data, start + 8), getLong(data, start), g); break;
+            case 19:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 8), getInt(data, start + 15)); g = mixMultiple(getInt(data, start + 15), getLong(data, start + 8), getLong(data, start), g); break;
+            case 20:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 8), getInt(data, start + 16)); g = mixMultiple(getInt(data, start + 16), getLong(data, start + 8), getLong(data, start), g); break;
+            case 21:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 8), getLong(data, start + 13)); g = mixMultiple(getLong(data, start + 13), getLong(data, start + 8), getLong(data, start), g); break;
+            case 22:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 8), getLong(data, start + 14)); g = mixMultiple(getLong(data, start + 14), getLong(data, start + 8), getLong(data, start), g); break;
+            case 23:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 8), getLong(data, start + 15)); g = mixMultiple(getLong(data, start + 15), getLong(data, start + 8), getLong(data, start), g); break;
+            case 24:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 8), getLong(data, start + 16)); g = mixMultiple(getLong(data, start + 16), getLong(data, start + 8), getLong(data, start), g); break;
+            case 25:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 8), getLong(data, start + 16), data[start + 24]); g = mixMultiple(data[start + 24], getLong(data, start + 16), getLong(data, start + 8), getLong(data, start), g); break;
+            case 26:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 8), getLong(data, start + 16), getShort(data, start + 24)); g = mixMultiple(getShort(data, start + 24), getLong(data, start + 16), getLong(data, start + 8), getLong(data, start), g); break;
+            case 27:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 8), getLong(data, start + 16), getInt(data, start + 23)); g = mixMultiple(getInt(data, start + 23), getLong(data, start + 16), getLong(data, start + 8), getLong(data, start), g); break;
+            case 28:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 8), getLong(data, start + 16), getInt(data, start + 24)); g = mixMultiple(getInt(data, start + 24), getLong(data, start + 16), getLong(data, start + 8), getLong(data, start), g); break;
+            case 29:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 8), getLong(data, start + 16), getLong(data, start + 21)); g = mixMultiple(getLong(data, start + 21), getLong(data, start + 16), getLong(data, start + 8), getLong(data, start), g); break;
+            case 30:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 8), getLong(data, start + 16), getLong(data, start + 22)); g = mixMultiple(getLong(data, start + 22), getLong(data, start + 16), getLong(data, start + 8), getLong(data, start), g); break;
+            case 31:  h = mixMultiple(h, getLong(data, start), getLong(data, start + 8), getLong(data, start + 16), getLong(data, start + 23)); g = mixMultiple(getLong(data, start + 23), getLong(data, start + 16), getLong(data, start + 8), getLong(data, start), g); break;
+        }
+        out[0] = mix(h);
+        out[1] = mix(g);
+        return out;
+    }
+
+    /**
+     * Gets a 128-bit hash of everything in {@code data} from index 0 to just before index {@link ByteBuffer#limit()},
+     * writing it as two longs into {@code out[0]} and {@code out[1]}. The long written to {@code out[0]} is exactly
+     * what {@link #hashAdze64(long, ByteBuffer)} returns for the same seed and data. See
+     * {@link #hashAdze128(long, byte[], long[])} for more.
+     * @param seed any long seed
+     * @param data an input ByteBuffer
+     * @param out a long array with length at least 2; will be modified
+     * @return out, after modifications
+     */
+    public static long[] hashAdze128(final long seed, final ByteBuffer data, final long[] out) {
+        return hashAdze128(seed, data, 0, data == null ? 0 : data.limit(), out);
+    }
+
+    /**
+     * Gets a 128-bit hash of a section of {@code data}, using the given {@code start} index (measured in bytes) and
+     * {@code length} (also in bytes), and writes it as two longs into {@code out[0]} and {@code out[1]}. The
+     * {@link ByteBuffer#limit() limit} must be set on data; this will not read past the limit. The long written to
+     * {@code out[0]} is exactly what {@link #hashAdze64(long, ByteBuffer, int, int)} returns for the same arguments.
+     * See {@link #hashAdze128(long, byte[], long[])} for more.
+     * @param seed any long seed
+     * @param data an input ByteBuffer
+     * @param start the starting index, measured in bytes
+     * @param length the number of bytes to hash
+     * @param out a long array with length at least 2; will be modified
+     * @return out, after modifications
+     */
+    public static long[] hashAdze128(final long seed, final ByteBuffer data, int start, int length, final long[] out) {
+        if (data == null || start < 0 || length < 0 || start >= data.limit()) {
+            out[0] = 0L;
+            out[1] = 0L;
+            return out;
+        }
+        int len = Math.min(length, data.limit() - start);
+        long h = len ^ forwardAdze(seed);
+        long g = len ^ forward(seed);
+        while(len >= 112){
+            len -= 112;
+            final long a0 = data.getLong(start), a1 = data.getLong(start + 8), a2 = data.getLong(start + 16), a3 = data.getLong(start + 24), a4 = data.getLong(start + 32), a5 = data.getLong(start + 40), a6 = data.getLong(start + 48);
+            final long b0 = data.getLong(start + 56), b1 = data.getLong(start + 64), b2 = data.getLong(start + 72), b3 = data.getLong(start + 80), b4 = data.getLong(start + 88), b5 = data.getLong(start + 96), b6 = data.getLong(start + 104);
+            h *= C;
+            h += mixMultiple(a0, a1, a2, a3, a4, a5, a6);
+            h = (h << 39 | h >>> 25);
+            h += mixMultiple(b0, b1, b2, b3, b4, b5, b6);
+            g *= Q;
+            g += mixMultiple(b6, b5, b4, b3, b2, b1, b0);
+            g = (g << 29 | g >>> 35);
+            g += mixMultiple(a6, a5, a4, a3, a2, a1, a0);
+            start += 112;
+        }
+        while(len >= 32){
+            len -= 32;
+            final long a0 = data.getLong(start), a1 = data.getLong(start + 8), a2 = data.getLong(start + 16), a3 = data.getLong(start + 24);
+            h = mixMultiple(h, a0, a1, a2, a3);
+            g = mixMultiple(a3, a2, a1, a0, g);
+            start += 32;
+        }
+        switch (len) {
+            case 1 :  h = mixMultiple(h, data.get(start)); g = mixMultiple(data.get(start), g); break;
+            case 2 :  h = mixMultiple(h, data.getShort(start)); g = mixMultiple(data.getShort(start), g); break;
+            case 3 :  h = mixMultiple(h, data.getShort(start), data.get(start + 2)); g = mixMultiple(data.get(start + 2), data.getShort(start), g); break;
+            case 4 :  h = mixMultiple(h, data.getInt(start)); g = mixMultiple(data.getInt(start), g); break;
+            case 5 :  h = mixMultiple(h, data.getInt(start), data.get(start + 4)); g = mixMultiple(data.get(start + 4), data.getInt(start), g); break;
+            case 6 :  h = mixMultiple(h, data.getInt(start), data.getShort(start + 4)); g = mixMultiple(data.getShort(start + 4), data.getInt(start), g); break;
+            case 7 :  h = mixMultiple(h, data.getInt(start), data.getInt(start + 3)); g = mixMultiple(data.getInt(start + 3), data.getInt(start), g); break;
+            case 8 :  h = mixMultiple(h, data.getLong(start)); g = mixMultiple(data.getLong(start), g); break;
+            case 9 :  h = mixMultiple(h, data.getLong(start), data.get(start + 8)); g = mixMultiple(data.get(start + 8), data.getLong(start), g); break;
+            case 10:  h = mixMultiple(h, data.getLong(start), data.getShort(start + 8)); g = mixMultiple(data.getShort(start + 8), data.getLong(start), g); break;
+            case 11:  h = mixMultiple(h, data.getLong(start), data.getInt(start + 7)); g = mixMultiple(data.getInt(start + 7), data.getLong(start), g); break;
+            case 12:  h = mixMultiple(h, data.getLong(start), data.getInt(start + 8)); g = mixMultiple(data.getInt(start + 8), data.getLong(start), g); break;
+            case 13:  h = mixMultiple(h, data.getLong(start), data.getLong(start + 5)); g = mixMultiple(data.getLong(start + 5), data.getLong(start), g); break;
+            case 14:  h = mixMultiple(h, data.getLong(start), data.getLong(start + 6)); g = mixMultiple(data.getLong(start + 6), data.getLong(start), g); break;
+            case 15:  h = mixMultiple(h, data.getLong(start), data.getLong(start + 7)); g = mixMultiple(data.getLong(start + 7), data.getLong(start), g); break;
+            case 16:  h = mixMultiple(h, data.getLong(start), data.getLong(start + 8)); g = mixMultiple(data.getLong(start + 8), data.getLong(start), g); break;
+            case 17:  h = mixMultiple(h, data.getLong(start), data.getLong(start + 8), data.get(start + 16)); g = mixMultiple(data.get(start + 16), data.getLong(start + 8), data.getLong(start), g); break;
+            case 18:  h = mixMultiple(h, data.getLong(start), data.getLong(start + 8), data.getShort(start + 16)); g = mixMultiple(data.getShort(start + 16), data.getLong(start + 8), data.getLong(start), g); break;
+            case 19:  h = mixMultiple(h, data.getLong(start), data.getLong(start + 8), data.getInt(start + 15)); g = mixMultiple(data.getInt(start + 15), data.getLong(start + 8), data.getLong(start), g); break;
+            case 20:  h = mixMultiple(h, data.getLong(start), data.getLong(start + 8), data.getInt(start + 16)); g = mixMultiple(data.getInt(start + 16), data.getLong(start + 8), data.getLong(start), g); break;
+            case 21:  h = mixMultiple(h, data.getLong(start), data.getLong(start + 8), data.getLong(start + 13)); g = mixMultiple(data.getLong(start + 13), data.getLong(start + 8), data.getLong(start), g); break;
+            case 22:  h = mixMultiple(h, data.getLong(start), data.getLong(start + 8), data.getLong(start + 14)); g = mixMultiple(data.getLong(start + 14), data.getLong(start + 8), data.getLong(start), g); break;
+            case 23:  h = mixMultiple(h, data.getLong(start), data.getLong(start + 8), data.getLong(start + 15)); g = mixMultiple(data.getLong(start + 15), data.getLong(start + 8), data.getLong(start), g); break;
+            case 24:  h = mixMultiple(h, data.getLong(start), data.getLong(start + 8), data.getLong(start + 16)); g = mixMultiple(data.getLong(start + 16), data.getLong(start + 8), data.getLong(start), g); break;
+            case 25:  h = mixMultiple(h, data.getLong(start), data.getLong(start + 8), data.getLong(start + 16), data.get(start + 24)); g = mixMultiple(data.get(start + 24), data.getLong(start + 16), data.getLong(start + 8), data.getLong(start), g); break;
+            case 26:  h = mixMultiple(h, data.getLong(start), data.getLong(start + 8), data.getLong(start + 16), data.getShort(start + 24)); g = mixMultiple(data.getShort(start + 24), data.getLong(start + 16), data.getLong(start + 8), data.getLong(start), g); break;
+            case 27:  h = mixMultiple(h, data.getLong(start), data.getLong(start + 8), data.getLong(start + 16), data.getInt(start + 23)); g = mixMultiple(data.getInt(start + 23), data.getLong(start + 16), data.getLong(start + 8), data.getLong(start), g); break;
+            case 28:  h = mixMultiple(h, data.getLong(start), data.getLong(start + 8), data.getLong(start + 16), data.getInt(start + 24)); g = mixMultiple(data.getInt(start + 24), data.getLong(start + 16), data.getLong(start + 8), data.getLong(start), g); break;
+            case 29:  h = mixMultiple(h, data.getLong(start), data.getLong(start + 8), data.getLong(start + 16), data.getLong(start + 21)); g = mixMultiple(data.getLong(start + 21), data.getLong(start + 16), data.getLong(start + 8), data.getLong(start), g); break;
+            case 30:  h = mixMultiple(h, data.getLong(start), data.getLong(start + 8), data.getLong(start + 16), data.getLong(start + 22)); g = mixMultiple(data.getLong(start + 22), data.getLong(start + 16), data.getLong(start + 8), data.getLong(start), g); break;
+            case 31:  h = mixMultiple(h, data.getLong(start), data.getLong(start + 8), data.getLong(start + 16), data.getLong(start + 23)); g = mixMultiple(data.getLong(start + 23), data.getLong(start + 16), data.getLong(start + 8), data.getLong(start), g); break;
+        }
+        out[0] = mix(h);
+        out[1] = mix(g);
+        return out;
+    }
+
+    /**
+     * Gets a 128-bit hash of all of {@code data}, writing it as two longs into {@code out[0]} and {@code out[1]}. This
+     * treats each long as the eight bytes {@link ByteBuffer#putLong(long)} would write, so the result is the same as
+     * {@link #hashAdze128(long, ByteBuffer, long[])} on a ByteBuffer holding those bytes, but the longs are read
+     * directly. See {@link #hashAdze128(long, byte[], long[])} for more.
+     * @param seed any long seed
+     * @param data an input long array
+     * @param out a long array with length at least 2; will be modified
+     * @return out, after modifications
+     */
+    public static long[] hashAdze128(final long seed, final long[] data, final long[] out) {
+        return hashAdze128(seed, data, 0, data == null ? 0 : data.length, out);
+    }
+
+    /**
+     * Gets a 128-bit hash of a section of {@code data}, using the given {@code start} index and {@code length} (both
+     * measured in longs), and writes it as two longs into {@code out[0]} and {@code out[1]}. This is the same as
+     * {@link #hashAdze128(long, ByteBuffer, long[])} on a ByteBuffer holding the big-endian bytes of that section.
+     * See {@link #hashAdze128(long, byte[], long[])} for more.
+     * @param seed any long seed
+     * @param data an input long array
+     * @param start the starting index in data
+     * @param length how many longs to hash from data
+     * @param out a long array with length at least 2; will be modified
+     * @return out, after modifications
+     */
+    public static long[] hashAdze128(final long seed, final long[] data, int start, int length, final long[] out) {
+        if (data == null || start < 0 || length < 0 || start >= data.length) {
+            out[0] = 0L;
+            out[1] = 0L;
+            return out;
+        }
+        int len = Math.min(length, data.length - start);
+        long h = ((long) len << 3) ^ forwardAdze(seed);
+        long g = ((long) len << 3) ^ forward(seed);
+        while(len >= 14){
+            len -= 14;
+            final long a0 = data[start], a1 = data[start + 1], a2 = data[start + 2], a3 = data[start + 3], a4 = data[start + 4], a5 = data[start + 5], a6 = data[start + 6];
+            final long b0 = data[start + 7], b1 = data[start + 8], b2 = data[start + 9], b3 = data[start + 10], b4 = data[start + 11], b5 = data[start + 12], b6 = data[start + 13];
+            h *= C;
+            h += mixMultiple(a0, a1, a2, a3, a4, a5, a6);
+            h = (h << 39 | h >>> 25);
+            h += mixMultiple(b0, b1, b2, b3, b4, b5, b6);
+            g *= Q;
+            g += mixMultiple(b6, b5, b4, b3, b2, b1, b0);
+            g = (g << 29 | g >>> 35);
+            g += mixMultiple(a6, a5, a4, a3, a2, a1, a0);
+            start += 14;
+        }
+        while(len >= 4){
+            len -= 4;
+            final long a0 = data[start], a1 = data[start + 1], a2 = data[start + 2], a3 = data[start + 3];
+            h = mixMultiple(h, a0, a1, a2, a3);
+            g = mixMultiple(a3, a2, a1, a0, g);
+            start += 4;
+        }
+        switch (len) {
+            case 1 :  h = mixMultiple(h, data[start]); g = mixMultiple(data[start], g); break;
+            case 2 :  h = mixMultiple(h, data[start], data[start + 1]); g = mixMultiple(data[start + 1], data[start], g); break;
+            case 3 :  h = mixMultiple(h, data[start], data[start + 1], data[start + 2]); g = mixMultiple(data[start + 2], data[start + 1], data[start], g); break;
+        }
+        out[0] = mix(h);
+        out[1] = mix(g);
+        return out;
+    }
+
+    /**
+     * Gets a 128-bit hash of all of {@code data}, writing it as two longs into {@code out[0]} and {@code out[1]}. This
+     * treats each char as the two bytes {@link ByteBuffer#putChar(char)} would write (UTF-16BE), so the result is the
+     * same as {@link #hashAdze128(long, ByteBuffer, long[])} on a ByteBuffer holding those bytes, and the same as an
+     * {@link AdzeStream} given data with {@link AdzeStream#update(CharSequence)}, but four chars are packed into each
+     * long directly. See {@link #hashAdze128(long, byte[], long[])} for more.
+     * @param seed any long seed
+     * @param data an input CharSequence, such as a String or StringBuilder
+     * @param out a long array with length at least 2; will be modified
+     * @return out, after modifications
+     */
+    public static long[] hashAdze128(final long seed, final CharSequence data, final long[] out) {
+        return hashAdze128(seed, data, 0, data == null ? 0 : data.length(), out);
+    }
+
+    /**
+     * Gets a 128-bit hash of a section of {@code data}, using the given {@code start} index and {@code length} (both
+     * measured in chars), and writes it as two longs into {@code out[0]} and {@code out[1]}. This is the same as
+     * {@link #hashAdze128(long, ByteBuffer, long[])} on a ByteBuffer holding the UTF-16BE bytes of that section.
+     * See {@link #hashAdze128(long, byte[], long[])} for more.
+     * @param seed any long seed
+     * @param data an input CharSequence, such as a String or StringBuilder
+     * @param start the starting index in data
+     * @param length how many chars to hash from data
+     * @param out a long array with length at least 2; will be modified
+     * @return out, after modifications
+     */
+    public static long[] hashAdze128(final long seed, final CharSequence data, int start, int length, final long[] out) {
+        if (data == null || start < 0 || length < 0 || start >= data.length()) {
+            out[0] = 0L;
+            out[1] = 0L;
+            return out;
+        }
+        int len = Math.min(length, data.length() - start);
+        long h = ((long) len << 1) ^ forwardAdze(seed);
+        long g = ((long) len << 1) ^ forward(seed);
+        while(len >= 56){
+            len -= 56;
+            final long a0 = charsToLong(data, start), a1 = charsToLong(data, start + 4), a2 = charsToLong(data, start + 8), a3 = charsToLong(data, start + 12), a4 = charsToLong(data, start + 16), a5 = charsToLong(data, start + 20), a6 = charsToLong(data, start + 24);
+            final long b0 = charsToLong(data, start + 28), b1 = charsToLong(data, start + 32), b2 = charsToLong(data, start + 36), b3 = charsToLong(data, start + 40), b4 = charsToLong(data, start + 44), b5 = charsToLong(data, start + 48), b6 = charsToLong(data, start + 52);
+            h *= C;
+            h += mixMultiple(a0, a1, a2, a3, a4, a5, a6);
+            h = (h << 39 | h >>> 25);
+            h += mixMultiple(b0, b1, b2, b3, b4, b5, b6);
+            g *= Q;
+            g += mixMultiple(b6, b5, b4, b3, b2, b1, b0);
+            g = (g << 29 | g >>> 35);
+            g += mixMultiple(a6, a5, a4, a3, a2, a1, a0);
+            start += 56;
+        }
+        while(len >= 16){
+            len -= 16;
+            final long a0 = charsToLong(data, start), a1 = charsToLong(data, start + 4), a2 = charsToLong(data, start + 8), a3 = charsToLong(data, start + 12);
+            h = mixMultiple(h, a0, a1, a2, a3);
+            g = mixMultiple(a3, a2, a1, a0, g);
+            start += 16;
+        }
+        switch (len) {
+            case 1 :  h = mixMultiple(h, (short) data.charAt(start)); g = mixMultiple((short) data.charAt(start), g); break;
+            case 2 :  h = mixMultiple(h, charsToInt(data, start)); g = mixMultiple(charsToInt(data, start), g); break;
+            case 3 :  h = mixMultiple(h, charsToInt(data, start), (short) data.charAt(start + 2)); g = mixMultiple((short) data.charAt(start + 2), charsToInt(data, start), g); break;
+            case 4 :  h = mixMultiple(h, charsToLong(data, start)); g = mixMultiple(charsToLong(data, start), g); break;
+            case 5 :  h = mixMultiple(h, charsToLong(data, start), (short) data.charAt(start + 4)); g = mixMultiple((short) data.charAt(start + 4), charsToLong(data, start), g); break;
+            case 6 :  h = mixMultiple(h, charsToLong(data, start), charsToInt(data, start + 4)); g = mixMultiple(charsToInt(data, start + 4), charsToLong(data, start), g); break;
+            case 7 :  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 3)); g = mixMultiple(charsToLong(data, start + 3), charsToLong(data, start), g); break;
+            case 8 :  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4)); g = mixMultiple(charsToLong(data, start + 4), charsToLong(data, start), g); break;
+            case 9 :  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), (short) data.charAt(start + 8)); g = mixMultiple((short) data.charAt(start + 8), charsToLong(data, start + 4), charsToLong(data, start), g); break;
+            case 10:  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), charsToInt(data, start + 8)); g = mixMultiple(charsToInt(data, start + 8), charsToLong(data, start + 4), charsToLong(data, start), g); break;
+            case 11:  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), charsToLong(data, start + 7)); g = mixMultiple(charsToLong(data, start + 7), charsToLong(data, start + 4), charsToLong(data, start), g); break;
+            case 12:  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), charsToLong(data, start + 8)); g = mixMultiple(charsToLong(data, start + 8), charsToLong(data, start + 4), charsToLong(data, start), g); break;
+            case 13:  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), charsToLong(data, start + 8), (short) data.charAt(start + 12)); g = mixMultiple((short) data.charAt(start + 12), charsToLong(data, start + 8), charsToLong(data, start + 4), charsToLong(data, start), g); break;
+            case 14:  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), charsToLong(data, start + 8), charsToInt(data, start + 12)); g = mixMultiple(charsToInt(data, start + 12), charsToLong(data, start + 8), charsToLong(data, start + 4), charsToLong(data, start), g); break;
+            case 15:  h = mixMultiple(h, charsToLong(data, start), charsToLong(data, start + 4), charsToLong(data, start + 8), charsToLong(data, start + 11)); g = mixMultiple(charsToLong(data, start + 11), charsToLong(data, start + 8), charsToLong(data, start + 4), charsToLong(data, start), g); break;
+        }
+        out[0] = mix(h);
+        out[1] = mix(g);
+        return out;
+    }
+
+    /**
+     * Gets four chars from data, starting at index, as one long in big-endian order (the first char is in the highest
+     * 16 bits).
+     */
+    private static long charsToLong(final CharSequence data, final int index) {
+        return (long) data.charAt(index) << 48 | (long) data.charAt(index + 1) << 32
+                | (long) data.charAt(index + 2) << 16 | data.charAt(index + 3);
+    }
+
+    /**
+     * Gets two chars from data, starting at index, as one int in big-endian order (the first char is in the highest
+     * 16 bits).
+     */
+    private static int charsToInt(final CharSequence data, final int index) {
+        return data.charAt(index) << 16 | data.charAt(index + 1);
+    }
+
+    // column hashes, for batches of keys
+    /**
+     * Hashes every key in {@code keys} from index {@code from} (inclusive) to {@code to} (exclusive), writing the 64-bit
+     * hash of {@code keys[i]} into {@code out[i]}. Each hash is {@code mix(mixStream(seed, keys[i]))}, which is the
+     * same as hashing a single column with {@link #hashColumns(long, long[], long[], int, int, long[])} and its
+     * overloads, just without per-call overhead; the loop is simple enough for the JIT compiler to unroll it. This
+     * won't read or write past the end of either array, and does nothing if either array is null.
+     * <br>
+     * This is meant for hashing one column of keys at a time, such as for a hash join or group-by on columnar data.
+     * Because every step is a bijection for a fixed seed, different keys never collide when hashed with the same seed.
+     * The seed is added only after each key has been scrambled once, so changing the seed doesn't just relabel the keys
+     * (as XORing the seed into each key would); keys that collide in some bits with one seed are unrelated to the keys
+     * that collide with another seed.
+     * @param seed any long seed
+     * @param keys the column of keys to hash
+     * @param from the first index in keys to hash, inclusive
+     * @param to the last index in keys to hash, exclusive
+     * @param out where hashes are written; the hash of {@code keys[i]} goes into {@code out[i]}
+     * @return out, after modifications
+     */
+    public static long[] hashColumn(final long seed, final long[] keys, int from, int to, final long[] out) {
+        if (keys == null || out == null) return out;
+        to = Math.min(to, Math.min(keys.length, out.length));
+        for (int i = Math.max(from, 0); i < to; i++) {
+            out[i] = mix(mixStream(seed, keys[i]));
+        }
+        return out;
+    }
+
+    /**
+     * Hashes every key in {@code keys} from index {@code from} (inclusive) to {@code to} (exclusive), writing the 64-bit
+     * hash of {@code keys[i]} into {@code out[i]}. Each hash is {@code mix(mixStream(seed, keys[i]))}, so an int key
+     * hashes the same as the equivalent long key. This won't read or write past the end of either array, and does
+     * nothing if either array is null.
+     * @param seed any long seed
+     * @param keys the column of keys to hash
+     * @param from the first index in keys to hash, inclusive
+     * @param to the last index in keys to hash, exclusive
+     * @param out where hashes are written; the hash of {@code keys[i]} goes into {@code out[i]}
+     * @return out, after modifications
+     * @see #hashColumn(long, long[], int, int, long[]) The long[] version, which has more details.
+     */
+    public static long[] hashColumn(final long seed, final int[] keys, int from, int to, final long[] out) {
+        if (keys == null || out == null) return out;
+        to = Math.min(to, Math.min(keys.length, out.length));
+        for (int i = Math.max(from, 0); i < to; i++) {
+            out[i] = mix(mixStream(seed, keys[i]));
+        }
+        return out;
+    }
+
+    /**
+     * Hashes every key in {@code keys} from index {@code from} (inclusive) to {@code to} (exclusive), writing the 64-bit
+     * hash of {@code keys[i]} into {@code out[i]}. Each hash is
+     * {@code mix(mixStream(seed, floatToRawIntBits(keys[i])))}, using {@link BitConversion#floatToRawIntBits(float)},
+     * so {@code 0.0f} and {@code -0.0f} hash differently, as do NaN values with different bits. This won't read or
+     * write past the end of either array, and does nothing if either array is null.
+     * @param seed any long seed
+     * @param keys the column of keys to hash
+     * @param from the first index in keys to hash, inclusive
+     * @param to the last index in keys to hash, exclusive
+     * @param out where hashes are written; the hash of {@code keys[i]} goes into {@code out[i]}
+     * @return out, after modifications
+     * @see #hashColumn(long, long[], int, int, long[]) The long[] version, which has more details.
+     */
+    public static long[] hashColumn(final long seed, final float[] keys, int from, int to, final long[] out) {
+        if (keys == null || out == null) return out;
+        to = Math.min(to, Math.min(keys.length, out.length));
+        for (int i = Math.max(from, 0); i < to; i++) {
+            out[i] = mix(mixStream(seed, floatToRawIntBits(keys[i])));
+        }
+        return out;
+    }
+
+    /**
+     * Hashes every key in {@code keys} from index {@code from} (inclusive) to {@code to} (exclusive), writing the 64-bit
+     * hash of {@code keys[i]} into {@code out[i]}. Each hash is
+     * {@code mix(mixStream(seed, doubleToRawLongBits(keys[i])))}, using
+     * {@link BitConversion#doubleToRawLongBits(double)}, so {@code 0.0} and {@code -0.0} hash differently, as do NaN
+     * values with different bits. This won't read or write past the end of either array, and does nothing if either
+     * array is null.
+     * @param seed any long seed
+     * @param keys the column of keys to hash
+     * @param from the first index in keys to hash, inclusive
+     * @param to the last index in keys to hash, exclusive
+     * @param out where hashes are written; the hash of {@code keys[i]} goes into {@code out[i]}
+     * @return out, after modifications
+     * @see #hashColumn(long, long[], int, int, long[]) The long[] version, which has more details.
+     */
+    public static long[] hashColumn(final long seed, final double[] keys, int from, int to, final long[] out) {
+        if (keys == null || out == null) return out;
+        to = Math.min(to, Math.min(keys.length, out.length));
+        for (int i = Math.max(from, 0); i < to; i++) {
+            out[i] = mix(mixStream(seed, doubleToRawLongBits(keys[i])));
+        }
+        return out;
+    }
+
+    /**
+     * Hashes every key in {@code keys}, writing the 64-bit hash of {@code keys[i]} into {@code out[i]}; the same as
+     * {@link #hashColumn(long, long[], int, int, long[])} with {@code from} as 0 and {@code to} as {@code keys.length}.
+     * @param seed any long seed
+     * @param keys the column of keys to hash
+     * @param out where hashes are written; should be at least as long as keys
+     * @return out, after modifications
+     */
+    public static long[] hashColumn(final long seed, final long[] keys, final long[] out) {
+        if (keys == null) return out;
+        return hashColumn(seed, keys, 0, keys.length, out);
+    }
+
+    /**
+     * Hashes every key in {@code keys}, writing the 64-bit hash of {@code keys[i]} into {@code out[i]}; the same as
+     * {@link #hashColumn(long, int[], int, int, long[])} with {@code from} as 0 and {@code to} as {@code keys.length}.
+     * @param seed any long seed
+     * @param keys the column of keys to hash
+     * @param out where hashes are written; should be at least as long as keys
+     * @return out, after modifications
+     */
+    public static long[] hashColumn(final long seed, final int[] keys, final long[] out) {
+        if (keys == null) return out;
+        return hashColumn(seed, keys, 0, keys.length, out);
+    }
+
+    /**
+     * Hashes every key in {@code keys}, writing the 64-bit hash of {@code keys[i]} into {@code out[i]}; the same as
+     * {@link #hashColumn(long, float[], int, int, long[])} with {@code from} as 0 and {@code to} as
+     * {@code keys.length}.
+     * @param seed any long seed
+     * @param keys the column of keys to hash
+     * @param out where hashes are written; should be at least as long as keys
+     * @return out, after modifications
+     */
+    public static long[] hashColumn(final long seed, final float[] keys, final long[] out) {
+        if (keys == null) return out;
+        return hashColumn(seed, keys, 0, keys.length, out);
+    }
+
+    /**
+     * Hashes every key in {@code keys}, writing the 64-bit hash of {@code keys[i]} into {@code out[i]}; the same as
+     * {@link #hashColumn(long, double[], int, int, long[])} with {@code from} as 0 and {@code to} as
+     * {@code keys.length}.
+     * @param seed any long seed
+     * @param keys the column of keys to hash
+     * @param out where hashes are written; should be at least as long as keys
+     * @return out, after modifications
+     */
+    public static long[] hashColumn(final long seed, final double[] keys, final long[] out) {
+        if (keys == null) return out;
+        return hashColumn(seed, keys, 0, keys.length, out);
+    }
+
+    /**
+     * Hashes rows made of 2 key columns, from index {@code from} (inclusive) to {@code to} (exclusive), writing the
+     * 64-bit hash of row {@code i} into {@code out[i]}. Each column's key in a row is combined in order using
+     * {@link #mixStream(long, long)}, starting with the seed, and the result is finished with {@link #mix(long)}.
+     * The order of the columns matters. This won't read or write past the end of any array, and does nothing if any
+     * array is null. This is meant for hashing composite keys in hash joins and group-by operations.
+     * @param seed any long seed
+     * @param a column 1 of the keys
+     * @param b column 2 of the keys
+     * @param from the first row to hash, inclusive
+     * @param to the last row to hash, exclusive
+     * @param out where hashes are written; the hash of row {@code i} goes into {@code out[i]}
+     * @return out, after modifications
+     */
+    public static long[] hashColumns(final long seed, final long[] a, final long[] b, int from, int to, final long[] out) {
+        if (a == null || b == null || out == null) return out;
+        to = Math.min(to, Math.min(b.length, Math.min(a.length, out.length)));
+        for (int i = Math.max(from, 0); i < to; i++) {
+            out[i] = mix(mixStream(mixStream(seed, a[i]), b[i]));
+        }
+        return out;
+    }
+
+    /**
+     * Hashes rows made of 3 key columns, from index {@code from} (inclusive) to {@code to} (exclusive), writing the
+     * 64-bit hash of row {@code i} into {@code out[i]}. Each column's key in a row is combined in order using
+     * {@link #mixStream(long, long)}, starting with the seed, and the result is finished with {@link #mix(long)}.
+     * The order of the columns matters. This won't read or write past the end of any array, and does nothing if any
+     * array is null. This is meant for hashing composite keys in hash joins and group-by operations.
+     * @param seed any long seed
+     * @param a column 1 of the keys
+     * @param b column 2 of the keys
+     * @param c column 3 of the keys
+     * @param from the first row to hash, inclusive
+     * @param to the last row to hash, exclusive
+     * @param out where hashes are written; the hash of row {@code i} goes into {@code out[i]}
+     * @return out, after modifications
+     */
+    public static long[] hashColumns(final long seed, final long[] a, final long[] b, final long[] c, int from, int to, final long[] out) {
+        if (a == null || b == null || c == null || out == null) return out;
+        to = Math.min(to, Math.min(c.length, Math.min(b.length, Math.min(a.length, out.length))));
+        for (int i = Math.max(from, 0); i < to; i++) {
+            out[i] = mix(mixStream(mixStream(mixStream(seed, a[i]), b[i]), c[i]));
+        }
+        return out;
+    }
+
+    /**
+     * Hashes rows made of 4 key columns, from index {@code from} (inclusive) to {@code to} (exclusive), writing the
+     * 64-bit hash of row {@code i} into {@code out[i]}. Each column's key in a row is combined in order using
+     * {@link #mixStream(long, long)}, starting with the seed, and the result is finished with {@link #mix(long)}.
+     * The order of the columns matters. This won't read or write past the end of any array, and does nothing if any
+     * array is null. This is meant for hashing composite keys in hash joins and group-by operations.
+     * @param seed any long seed
+     * @param a column 1 of the keys
+     * @param b column 2 of the keys
+     * @param c column 3 of the keys
+     * @param d column 4 of the keys
+     * @param from the first row to hash, inclusive
+     * @param to the last row to hash, exclusive
+     * @param out where hashes are written; the hash of row {@code i} goes into {@code out[i]}
+     * @return out, after modifications
+     */
+    public static long[] hashColumns(final long seed, final long[] a, final long[] b, final long[] c, final long[] d, int from, int to, final long[] out) {
+        if (a == null || b == null || c == null || d == null || out == null) return out;
+        to = Math.min(to, Math.min(d.length, Math.min(c.length, Math.min(b.length, Math.min(a.length, out.length)))));
+        for (int i = Math.max(from, 0); i < to; i++) {
+            out[i] = mix(mixStream(mixStream(mixStream(mixStream(seed, a[i]), b[i]), c[i]), d[i]));
+        }
+        return out;
+    }
+
+    /**
+     * Hashes rows made of 2 key columns, from index {@code from} (inclusive) to {@code to} (exclusive), writing the
+     * 64-bit hash of row {@code i} into {@code out[i]}. Each column's key in a row is combined in order using
+     * {@link #mixStream(long, long)}, starting with the seed, and the result is finished with {@link #mix(long)}.
+     * The order of the columns matters. This won't read or write past the end of any array, and does nothing if any
+     * array is null. This is meant for hashing composite keys in hash joins and group-by operations.
+     * @param seed any long seed
+     * @param a column 1 of the keys
+     * @param b column 2 of the keys
+     * @param from the first row to hash, inclusive
+     * @param to the last row to hash, exclusive
+     * @param out where hashes are written; the hash of row {@code i} goes into {@code out[i]}
+     * @return out, after modifications
+     */
+    public static long[] hashColumns(final long seed, final int[] a, final int[] b, int from, int to, final long[] out) {
+        if (a == null || b == null || out == null) return out;
+        to = Math.min(to, Math.min(b.length, Math.min(a.length, out.length)));
+        for (int i = Math.max(from, 0); i < to; i++) {
+            out[i] = mix(mixStream(mixStream(seed, a[i]), b[i]));
+        }
+        return out;
+    }
+
+    /**
+     * Hashes rows made of 3 key columns, from index {@code from} (inclusive) to {@code to} (exclusive), writing the
+     * 64-bit hash of row {@code i} into {@code out[i]}. Each column's key in a row is combined in order using
+     * {@link #mixStream(long, long)}, starting with the seed, and the result is finished with {@link #mix(long)}.
+     * The order of the columns matters. This won't read or write past the end of any array, and does nothing if any
+     * array is null. This is meant for hashing composite keys in hash joins and group-by operations.
+     * @param seed any long seed
+     * @param a column 1 of the keys
+     * @param b column 2 of the keys
+     * @param c column 3 of the keys
+     * @param from the first row to hash, inclusive
+     * @param to the last row to hash, exclusive
+     * @param out where hashes are written; the hash of row {@code i} goes into {@code out[i]}
+     * @return out, after modifications
+     */
+    public static long[] hashColumns(final long seed, final int[] a, final int[] b, final int[] c, int from, int to, final long[] out) {
+        if (a == null || b == null || c == null || out == null) return out;
+        to = Math.min(to, Math.min(c.length, Math.min(b.length, Math.min(a.length, out.length))));
+        for (int i = Math.max(from, 0); i < to; i++) {
+            out[i] = mix(mixStream(mixStream(mixStream(seed, a[i]), b[i]), c[i]));
+        }
+        return out;
+    }
+
+    /**
+     * Hashes rows made of 4 key columns, from index {@code from} (inclusive) to {@code to} (exclusive), writing the
+     * 64-bit hash of row {@code i} into {@code out[i]}. Each column's key in a row is combined in order using
+     * {@link #mixStream(long, long)}, starting with the seed, and the result is finished with {@link #mix(long)}.
+     * The order of the columns matters. This won't read or write past the end of any array, and does nothing if any
+     * array is null. This is meant for hashing composite keys in hash joins and group-by operations.
+     * @param seed any long seed
+     * @param a column 1 of the keys
+     * @param b column 2 of the keys
+     * @param c column 3 of the keys
+     * @param d column 4 of the keys
+     * @param from the first row to hash, inclusive
+     * @param to the last row to hash, exclusive
+     * @param out where hashes are written; the hash of row {@code i} goes into {@code out[i]}
+     * @return out, after modifications
+     */
+    public static long[] hashColumns(final long seed, final int[] a, final int[] b, final int[] c, final int[] d, int from, int to, final long[] out) {
+        if (a == null || b == null || c == null || d == null || out == null) return out;
+        to = Math.min(to, Math.min(d.length, Math.min(c.length, Math.min(b.length, Math.min(a.length, out.length)))));
+        for (int i = Math.max(from, 0); i < to; i++) {
+            out[i] = mix(mixStream(mixStream(mixStream(mixStream(seed, a[i]), b[i]), c[i]), d[i]));
+        }
+        return out;
+    }
+
     // predefined HashFunction instances, to avoid lots of casting
 
     public static final SeededHashFunction64<boolean[]> booleanArrayHash64 = Hasher::hash64;
@@ -7237,6 +9990,15 @@ public final class Hasher {
     public static final SeededHashFunction64<Object[]> objectArrayHashBulk64 = Hasher::hashBulk64;
     public static final SeededHashFunction64<ByteBuffer> byteBufferHashBulk64 = Hasher::hashBulk64;
     public static final SeededHashFunction64<ByteBuffer> byteBufferHashAdze64 = Hasher::hashAdze64;
+    public static final SeededHashFunction64<byte[]> byteArrayHashAdze64 = Hasher::hashAdze64;
+    public static final SeededHashFunction64<CharSequence> charSequenceHashAdze64 = Hasher::hashAdze64;
+    public static final SeededHashFunction64<boolean[]> booleanArrayHashAdze64 = Hasher::hashAdze64;
+    public static final SeededHashFunction64<short[]> shortArrayHashAdze64 = Hasher::hashAdze64;
+    public static final SeededHashFunction64<int[]> intArrayHashAdze64 = Hasher::hashAdze64;
+    public static final SeededHashFunction64<long[]> longArrayHashAdze64 = Hasher::hashAdze64;
+    public static final SeededHashFunction64<float[]> floatArrayHashAdze64 = Hasher::hashAdze64;
+    public static final SeededHashFunction64<double[]> doubleArrayHashAdze64 = Hasher::hashAdze64;
+    public static final SeededHashFunction64<char[]> charArrayHashAdze64 = Hasher::hashAdze64;
 
     public static final SeededHashFunction64<boolean[][]> booleanArray2DHashBulk64 = (long seed, boolean[][] data) -> hashBulk64(seed, booleanArrayHashBulk64, data);
     public static final SeededHashFunction64<byte[][]> byteArray2DHashBulk64 = (long seed, byte[][] data) -> hashBulk64(seed, byteArrayHashBulk64, data);
@@ -7251,6 +10013,14 @@ public final class Hasher {
     public static final SeededHashFunction64<Object[][]> objectArray2DHashBulk64 = (long seed, Object[][] data) -> hashBulk64(seed, objectArrayHashBulk64, data);
     public static final SeededHashFunction64<ByteBuffer[]> byteBufferArrayHashBulk64 = (long seed, ByteBuffer[] data) -> hashBulk64(seed, byteBufferHashBulk64, data);
     public static final SeededHashFunction64<ByteBuffer[]> byteBufferArrayHashAdze64 = (long seed, ByteBuffer[] data) -> hashBulk64(seed, byteBufferHashAdze64, data);
+    public static final SeededHashFunction64<boolean[][]> booleanArray2DHashAdze64 = Hasher::hashAdze64;
+    public static final SeededHashFunction64<byte[][]> byteArray2DHashAdze64 = Hasher::hashAdze64;
+    public static final SeededHashFunction64<short[][]> shortArray2DHashAdze64 = Hasher::hashAdze64;
+    public static final SeededHashFunction64<int[][]> intArray2DHashAdze64 = Hasher::hashAdze64;
+    public static final SeededHashFunction64<long[][]> longArray2DHashAdze64 = Hasher::hashAdze64;
+    public static final SeededHashFunction64<float[][]> floatArray2DHashAdze64 = Hasher::hashAdze64;
+    public static final SeededHashFunction64<double[][]> doubleArray2DHashAdze64 = Hasher::hashAdze64;
+    public static final SeededHashFunction64<char[][]> charArray2DHashAdze64 = Hasher::hashAdze64;
 
     public static final SeededHashFunction64<boolean[][][]> booleanArray3DHashBulk64 = (long seed, boolean[][][] data) -> hashBulk64(seed, booleanArray2DHashBulk64, data);
     public static final SeededHashFunction64<byte[][][]> byteArray3DHashBulk64 = (long seed, byte[][][] data) -> hashBulk64(seed, byteArray2DHashBulk64, data);
@@ -7265,6 +10035,14 @@ public final class Hasher {
     public static final SeededHashFunction64<Object[][][]> objectArray3DHashBulk64 = (long seed, Object[][][] data) -> hashBulk64(seed, objectArray2DHashBulk64, data);
     public static final SeededHashFunction64<ByteBuffer[][]> byteBufferArray2DHashBulk64 = (long seed, ByteBuffer[][] data) -> hashBulk64(seed, byteBufferArrayHashBulk64, data);
     public static final SeededHashFunction64<ByteBuffer[][]> byteBufferArray2DHashAdze64 = (long seed, ByteBuffer[][] data) -> hashBulk64(seed, byteBufferArrayHashAdze64, data);
+    public static final SeededHashFunction64<boolean[][][]> booleanArray3DHashAdze64 = (long seed, boolean[][][] data) -> hashBulk64(seed, booleanArray2DHashAdze64, data);
+    public static final SeededHashFunction64<byte[][][]> byteArray3DHashAdze64 = (long seed, byte[][][] data) -> hashBulk64(seed, byteArray2DHashAdze64, data);
+    public static final SeededHashFunction64<short[][][]> shortArray3DHashAdze64 = (long seed, short[][][] data) -> hashBulk64(seed, shortArray2DHashAdze64, data);
+    public static final SeededHashFunction64<int[][][]> intArray3DHashAdze64 = (long seed, int[][][] data) -> hashBulk64(seed, intArray2DHashAdze64, data);
+    public static final SeededHashFunction64<long[][][]> longArray3DHashAdze64 = (long seed, long[][][] data) -> hashBulk64(seed, longArray2DHashAdze64, data);
+    public static final SeededHashFunction64<float[][][]> floatArray3DHashAdze64 = (long seed, float[][][] data) -> hashBulk64(seed, floatArray2DHashAdze64, data);
+    public static final SeededHashFunction64<double[][][]> doubleArray3DHashAdze64 = (long seed, double[][][] data) -> hashBulk64(seed, doubleArray2DHashAdze64, data);
+    public static final SeededHashFunction64<char[][][]> charArray3DHashAdze64 = (long seed, char[][][] data) -> hashBulk64(seed, charArray2DHashAdze64, data);
 
     public static final SeededHashFunction64<CharSequence[][][]> charSequenceArray3DHashBulk64 = (long seed, CharSequence[][][] data) -> hashBulk64(seed, charSequenceArray2DHashBulk64, data);
     public static final SeededHashFunction64<String[][][]> stringArray3DHashBulk64 = (long seed, String[][][] data) -> hashBulk64(seed, stringArray2DHashBulk64, data);
@@ -7284,6 +10062,15 @@ public final class Hasher {
     public static final SeededHashFunction<Object[]> objectArrayHashBulk = Hasher::hashBulk;
     public static final SeededHashFunction<ByteBuffer> byteBufferHashBulk = Hasher::hashBulk;
     public static final SeededHashFunction<ByteBuffer> byteBufferHashAdze = Hasher::hashAdze;
+    public static final SeededHashFunction<byte[]> byteArrayHashAdze = Hasher::hashAdze;
+    public static final SeededHashFunction<CharSequence> charSequenceHashAdze = Hasher::hashAdze;
+    public static final SeededHashFunction<boolean[]> booleanArrayHashAdze = Hasher::hashAdze;
+    public static final SeededHashFunction<short[]> shortArrayHashAdze = Hasher::hashAdze;
+    public static final SeededHashFunction<int[]> intArrayHashAdze = Hasher::hashAdze;
+    public static final SeededHashFunction<long[]> longArrayHashAdze = Hasher::hashAdze;
+    public static final SeededHashFunction<float[]> floatArrayHashAdze = Hasher::hashAdze;
+    public static final SeededHashFunction<double[]> doubleArrayHashAdze = Hasher::hashAdze;
+    public static final SeededHashFunction<char[]> charArrayHashAdze = Hasher::hashAdze;
 
     public static final SeededHashFunction<boolean[][]> booleanArray2DHashBulk = (long seed, boolean[][] data) -> hashBulk(seed, booleanArrayHashBulk, data);
     public static final SeededHashFunction<byte[][]> byteArray2DHashBulk = (long seed, byte[][] data) -> hashBulk(seed, byteArrayHashBulk, data);
@@ -7298,6 +10085,14 @@ public final class Hasher {
     public static final SeededHashFunction<Object[][]> objectArray2DHashBulk = (long seed, Object[][] data) -> hashBulk(seed, objectArrayHashBulk, data);
     public static final SeededHashFunction<ByteBuffer[]> byteBufferArrayHashBulk = (long seed, ByteBuffer[] data) -> hashBulk(seed, byteBufferHashBulk, data);
     public static final SeededHashFunction<ByteBuffer[]> byteBufferArrayHashAdze = (long seed, ByteBuffer[] data) -> hashBulk(seed, byteBufferHashAdze, data);
+    public static final SeededHashFunction<boolean[][]> booleanArray2DHashAdze = Hasher::hashAdze;
+    public static final SeededHashFunction<byte[][]> byteArray2DHashAdze = Hasher::hashAdze;
+    public static final SeededHashFunction<short[][]> shortArray2DHashAdze = Hasher::hashAdze;
+    public static final SeededHashFunction<int[][]> intArray2DHashAdze = Hasher::hashAdze;
+    public static final SeededHashFunction<long[][]> longArray2DHashAdze = Hasher::hashAdze;
+    public static final SeededHashFunction<float[][]> floatArray2DHashAdze = Hasher::hashAdze;
+    public static final SeededHashFunction<double[][]> doubleArray2DHashAdze = Hasher::hashAdze;
+    public static final SeededHashFunction<char[][]> charArray2DHashAdze = Hasher::hashAdze;
 
     public static final SeededHashFunction<boolean[][][]> booleanArray3DHashBulk = (long seed, boolean[][][] data) -> hashBulk(seed, booleanArray2DHashBulk, data);
     public static final SeededHashFunction<byte[][][]> byteArray3DHashBulk = (long seed, byte[][][] data) -> hashBulk(seed, byteArray2DHashBulk, data);
@@ -7312,6 +10107,14 @@ public final class Hasher {
     public static final SeededHashFunction<Object[][][]> objectArray3DHashBulk = (long seed, Object[][][] data) -> hashBulk(seed, objectArray2DHashBulk, data);
     public static final SeededHashFunction<ByteBuffer[][]> byteBufferArray2DHashBulk = (long seed, ByteBuffer[][] data) -> hashBulk(seed, byteBufferArrayHashBulk, data);
     public static final SeededHashFunction<ByteBuffer[][]> byteBufferArray2DHashAdze = (long seed, ByteBuffer[][] data) -> hashBulk(seed, byteBufferArrayHashAdze, data);
+    public static final SeededHashFunction<boolean[][][]> booleanArray3DHashAdze = (long seed, boolean[][][] data) -> hashBulk(seed, booleanArray2DHashAdze, data);
+    public static final SeededHashFunction<byte[][][]> byteArray3DHashAdze = (long seed, byte[][][] data) -> hashBulk(seed, byteArray2DHashAdze, data);
+    public static final SeededHashFunction<short[][][]> shortArray3DHashAdze = (long seed, short[][][] data) -> hashBulk(seed, shortArray2DHashAdze, data);
+    public static final SeededHashFunction<int[][][]> intArray3DHashAdze = (long seed, int[][][] data) -> hashBulk(seed, intArray2DHashAdze, data);
+    public static final SeededHashFunction<long[][][]> longArray3DHashAdze = (long seed, long[][][] data) -> hashBulk(seed, longArray2DHashAdze, data);
+    public static final SeededHashFunction<float[][][]> floatArray3DHashAdze = (long seed, float[][][] data) -> hashBulk(seed, floatArray2DHashAdze, data);
+    public static final SeededHashFunction<double[][][]> doubleArray3DHashAdze = (long seed, double[][][] data) -> hashBulk(seed, doubleArray2DHashAdze, data);
+    public static final SeededHashFunction<char[][][]> charArray3DHashAdze = (long seed, char[][][] data) -> hashBulk(seed, charArray2DHashAdze, data);
 
     public static final SeededHashFunction<CharSequence[][][]> charSequenceArray3DHashBulk = (long seed, CharSequence[][][] data) -> hashBulk(seed, charSequenceArray2DHashBulk, data);
     public static final SeededHashFunction<String[][][]> stringArray3DHashBulk = (long seed, String[][][] data) -> hashBulk(seed, stringArray2DHashBulk, data);
@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2026 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.util.Arrays;
+
+/**
+ * Tracks the (approximately) {@link #getCapacity() k} most frequent long keys in a stream, using a
+ * {@link CountMinSketch} to estimate counts and a min-heap of the current top keys. Each update costs one sketch update
+ * plus at most {@code O(log k)} heap steps, and memory stays fixed no matter how many distinct keys there are. A key
+ * enters the top list when its estimated count is higher than the smallest count in the list; since the sketch never
+ * underestimates, a key that truly belongs in the top k will be in the list, though a key with an overestimated count
+ * could sometimes take a place it shouldn't have.
+ * <br>
+ * The heap has a small open-addressing index from key to heap position, so checking whether a key is already in the
+ * top list doesn't allocate or scan the list.
+ *
+ * @author Tommy Ettinger
+ */
+public class HeavyHitters {
+    protected final CountMinSketch sketch;
+    protected final int capacity;
+    /**
+     * The top keys, as a min-heap ordered by {@link #counts}.
+     */
+    protected final long[] keys;
+    protected final long[] counts;
+    protected int size;
+    /**
+     * An open-addressing index from each key in the heap to its heap position; positions are stored plus 1, so 0 means
+     * an empty slot.
+     */
+    private final long[] slotKeys;
+    private final int[] slotPositions;
+    private final int mask;
+
+    /**
+     * Creates a HeavyHitters that tracks the top {@code k} keys, with a conservative-update sketch of depth 4 and
+     * width {@code 64 * k} (at least 1024).
+     * @param k how many top keys to track; must be positive
+     */
+    public HeavyHitters(int k) {
+        this(k, new CountMinSketch(4, Math.max(1024, k << 6), true));
+    }
+
+    /**
+     * Creates a HeavyHitters that tracks the top {@code k} keys, using the given sketch to estimate counts. The sketch
+     * should be empty; it will be updated by this.
+     * @param k how many top keys to track; must be positive
+     * @param sketch an empty CountMinSketch, which this will own
+     */
+    public HeavyHitters(int k, CountMinSketch sketch) {
+        if (k <= 0 || k > 1 << 28)
+            throw new IllegalArgumentException("k must be between 1 and 268435456, but was " + k);
+        this.sketch = sketch;
+        this.capacity = k;
+        this.keys = new long[k];
+        this.counts = new long[k];
+        final int slots = 1 << 33 - BitConversion.countLeadingZeros(k);
+        this.slotKeys = new long[slots];
+        this.slotPositions = new int[slots];
+        this.mask = slots - 1;
+    }
+
+    /**
+     * Adds 1 to the count for key.
+     * @param key any long key
+     */
+    public void add(long key) {
+        add(key, 1L);
+    }
+
+    /**
+     * Adds count to the count for key, and puts key in the top list if its count is now high enough.
+     * @param key any long key
+     * @param count how much to add; must be positive if the sketch uses conservative update
+     */
+    public void add(long key, long count) {
+        offer(key, sketch.add(key, count));
+    }
+
+    /**
+     * Adds 1 to the count for every key in keys.
+     * @param keys the keys to count; may be null, which does nothing
+     */
+    public void addAll(long[] keys) {
+        if (keys == null) return;
+        for (int i = 0; i < keys.length; i++) {
+            offer(keys[i], sketch.add(keys[i], 1L));
+        }
+    }
+
+    /**
+     * Adds each item in counts to the count for the key at the same index in keys.
+     * @param keys the keys to count
+     * @param counts how much to add for each key; must be at least as long as keys
+     */
+    public void addAll(long[] keys, long[] counts) {
+        for (int i = 0; i < keys.length; i++) {
+            offer(keys[i], sketch.add(keys[i], counts[i]));
+        }
+    }
+
+    /**
+     * Combines the counts from other into this, and rebuilds the top list from the keys in both top lists. Both must
+     * track the same number of keys, and have sketches that can be merged.
+     * @param other another HeavyHitters with the same capacity and the same kind of sketch
+     * @return this, for chaining
+     */
+    public HeavyHitters merge(HeavyHitters other) {
+        if (other.capacity != capacity)
+            throw new IllegalArgumentException("Only HeavyHitters with the same capacity can be merged.");
+        sketch.merge(other.sketch);
+        final long[] candidates = Arrays.copyOf(keys, size + other.size);
+        System.arraycopy(other.keys, 0, candidates, size, other.size);
+        clearTop();
+        for (long key : candidates) {
+            offer(key, sketch.estimate(key));
+        }
+        return this;
+    }
+
+    /**
+     * Considers key, with its new estimated count, for the top list.
+     */
+    protected void offer(long key, long estimate) {
+        int slot = find(key);
+        int position = slotPositions[slot] - 1;
+        if (position >= 0) {
+            // The estimate can go down when a non-conservative sketch gets negative counts, so sift both ways.
+            final long previous = counts[position];
+            counts[position] = estimate;
+            if (estimate < previous) siftUp(position);
+            else siftDown(position);
+        } else if (size < capacity) {
+            slotKeys[slot] = key;
+            slotPositions[slot] = size + 1;
+            keys[size] = key;
+            counts[size] = estimate;
+            siftUp(size++);
+        } else if (estimate > counts[0]) {
+            removeSlot(find(keys[0]));
+            slot = find(key);
+            slotKeys[slot] = key;
+            slotPositions[slot] = 1;
+            keys[0] = key;
+            counts[0] = estimate;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Finds the slot holding key, or the empty slot where it would go.
+     */
+    private int find(long key) {
+        int slot = (int) (Hasher.randomize1(key) >>> 32) & mask;
+        while (slotPositions[slot] != 0 && slotKeys[slot] != key) {
+            slot = slot + 1 & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Empties slot, moving later keys in its probe run back so they can still be found.
+     */
+    private void removeSlot(int slot) {
+        int next = slot + 1 & mask;
+        while (slotPositions[next] != 0) {
+            final int ideal = (int) (Hasher.randomize1(slotKeys[next]) >>> 32) & mask;
+            if ((next - ideal & mask) >= (next - slot & mask)) {
+                slotKeys[slot] = slotKeys[next];
+                slotPositions[slot] = slotPositions[next];
+                slot = next;
+            }
+            next = next + 1 & mask;
+        }
+        slotPositions[slot] = 0;
+    }
+
+    private void swap(int a, int b) {
+        final long key = keys[a], count = counts[a];
+        keys[a] = keys[b];
+        counts[a] = counts[b];
+        keys[b] = key;
+        counts[b] = count;
+        slotPositions[find(keys[a])] = a + 1;
+        slotPositions[find(keys[b])] = b + 1;
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            final int parent = i - 1 >>> 1;
+            if (counts[parent] <= counts[i]) break;
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            final int left = (i << 1) + 1, right = left + 1;
+            int smallest = i;
+            if (left < size && counts[left] < counts[smallest]) smallest = left;
+            if (right < size && counts[right] < counts[smallest]) smallest = right;
+            if (smallest == i) return;
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void clearTop() {
+        size = 0;
+        Arrays.fill(slotPositions, 0);
+    }
+
+    /**
+     * Gets the current top keys, from most to least frequent, along with their estimated counts.
+     * @param keysOut will be modified; should have room for {@link #size()} keys
+     * @param countsOut will be modified if not null; should have room for {@link #size()} counts
+     * @return how many keys were written, which is the smaller of {@link #size()} and the length of keysOut
+     */
+    public int top(long[] keysOut, long[] countsOut) {
+        final long[] k = Arrays.copyOf(keys, size), c = Arrays.copyOf(counts, size);
+        final Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> c[a] != c[b] ? Long.compare(c[b], c[a]) : Long.compare(k[a], k[b]));
+        final int n = Math.min(size, keysOut.length);
+        for (int i = 0; i < n; i++) {
+            keysOut[i] = k[order[i]];
+            if (countsOut != null) countsOut[i] = c[order[i]];
+        }
+        return n;
+    }
+
+    /**
+     * Gets the current top keys, from most to least frequent.
+     * @return a new array of up to {@link #getCapacity()} keys
+     */
+    public long[] topKeys() {
+        final long[] out = new long[size];
+        top(out, null);
+        return out;
+    }
+
+    /**
+     * Estimates how many times key has been added, using the sketch.
+     * @param key any long key
+     * @return the estimated count for key
+     */
+    public long estimate(long key) {
+        return sketch.estimate(key);
+    }
+
+    /**
+     * Removes all keys and counts.
+     */
+    public void clear() {
+        sketch.clear();
+        clearTop();
+    }
+
+    /**
+     * @return how many keys are in the top list, which is at most {@link #getCapacity()}
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return how many keys this tracks at most, often called k
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return the CountMinSketch this uses to estimate counts
+     */
+    public CountMinSketch getSketch() {
+        return sketch;
+    }
+}
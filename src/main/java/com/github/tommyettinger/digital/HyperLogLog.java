@@ -0,0 +1,562 @@
+/*
+ * Copyright (c) 2026 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.tommyettinger.digital;
+
+import com.github.tommyettinger.digital.Hasher.SeededHashFunction64;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A HyperLogLog sketch, which estimates how many distinct items have been added to it using a fixed, small amount of
+ * memory, without storing the items. Items are hashed once with a {@link SeededHashFunction64}, such as
+ * {@link Hasher#charSequenceHashAdze64}; the top {@link #getPrecision() p} bits of the hash pick one of {@code 2^p}
+ * registers, and the register keeps the largest count of leading zeros (plus one) seen in the rest of the hash. With
+ * the default precision of 14, the estimate is usually within 1% of the true count, and the sketch needs about 13KB.
+ * <br>
+ * Like HyperLogLog++, a new sketch starts out sparse: it stores a sorted list of the (25-bit index, zero count) pairs
+ * it has seen, which uses much less memory than the registers when few items have been added, and gives nearly exact
+ * counts by linear counting. Once the list would be larger than the registers, it is converted to the dense form,
+ * where 6-bit registers are packed 10 to a long. The dense estimate uses Otmar Ertl's improved estimator from "New
+ * cardinality estimation algorithms for HyperLogLog sketches" (2017), which is accurate for small and large counts
+ * without the empirical bias tables that HyperLogLog++ needs.
+ * <br>
+ * Sketches with the same precision, hash function, and seed can be combined with {@link #merge(HyperLogLog)}, which
+ * gives the sketch of the union of their items. To combine per-thread sketches into one shared sketch, make the shared
+ * sketch dense with {@link #toDense()}, then have each thread call {@link #mergeConcurrent(HyperLogLog)} on it with
+ * its own sketch; this updates registers with compare-and-set, and is lock-free on Java 9 and higher. Sketches can be
+ * saved to a ByteBuffer with {@link #write(ByteBuffer)} and loaded with {@link #read(SeededHashFunction64, ByteBuffer)}.
+ *
+ * @param <T> the type of items; each item must be hashable by the given {@link SeededHashFunction64}
+ * @author Tommy Ettinger
+ */
+public class HyperLogLog<T> {
+    /**
+     * Identifies serialized data written by {@link #write(ByteBuffer)}; this is "HLL1" in ASCII.
+     */
+    private static final int MAGIC = 0x484C4C31;
+    /**
+     * The precision used by sparse entries, which store a 25-bit register index and a 6-bit zero count in an int.
+     */
+    private static final int SPARSE_PRECISION = 25;
+    /**
+     * The smallest allowed precision, with 16 registers.
+     */
+    public static final int MIN_PRECISION = 4;
+    /**
+     * The largest allowed precision, with 262144 registers.
+     */
+    public static final int MAX_PRECISION = 18;
+    /**
+     * The precision used when none is given, with 16384 registers.
+     */
+    public static final int DEFAULT_PRECISION = 14;
+
+    protected final SeededHashFunction64<T> hashFunction;
+    protected final long seed;
+    protected final int precision;
+    /**
+     * The dense registers, packed 10 to a long, or null while this is sparse.
+     */
+    protected long[] registers;
+    /**
+     * Sorted sparse entries, with at most one per 25-bit index; null once this is dense.
+     */
+    protected int[] sparse;
+    protected int sparseSize;
+    /**
+     * Sparse entries that haven't been sorted into {@link #sparse} yet; null once this is dense.
+     */
+    protected int[] pending;
+    protected int pendingSize;
+
+    /**
+     * Creates an empty, sparse HyperLogLog with precision {@link #DEFAULT_PRECISION}.
+     * @param hashFunction used to hash each item once; {@link Hasher#charSequenceHashAdze64} works well for Strings
+     * @param seed any long seed for hashFunction
+     */
+    public HyperLogLog(SeededHashFunction64<T> hashFunction, long seed) {
+        this(hashFunction, seed, DEFAULT_PRECISION, true);
+    }
+
+    /**
+     * Creates an empty, sparse HyperLogLog with the given precision.
+     * @param hashFunction used to hash each item once; {@link Hasher#charSequenceHashAdze64} works well for Strings
+     * @param seed any long seed for hashFunction
+     * @param precision between {@link #MIN_PRECISION} and {@link #MAX_PRECISION}, inclusive; the relative error is
+     *                  about {@code 1.04 / Math.sqrt(1 << precision)}
+     */
+    public HyperLogLog(SeededHashFunction64<T> hashFunction, long seed, int precision) {
+        this(hashFunction, seed, precision, true);
+    }
+
+    /**
+     * Creates an empty HyperLogLog with the given precision, starting sparse or dense.
+     * @param hashFunction used to hash each item once; {@link Hasher#charSequenceHashAdze64} works well for Strings
+     * @param seed any long seed for hashFunction
+     * @param precision between {@link #MIN_PRECISION} and {@link #MAX_PRECISION}, inclusive; the relative error is
+     *                  about {@code 1.04 / Math.sqrt(1 << precision)}
+     * @param sparse if true, this starts sparse; if false, this starts dense, and can be used concurrently
+     */
+    public HyperLogLog(SeededHashFunction64<T> hashFunction, long seed, int precision, boolean sparse) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION)
+            throw new IllegalArgumentException("precision must be between " + MIN_PRECISION + " and " + MAX_PRECISION
+                    + ", inclusive, but was " + precision);
+        this.hashFunction = hashFunction;
+        this.seed = seed;
+        this.precision = precision;
+        if (sparse) {
+            this.sparse = new int[16];
+            this.pending = new int[Math.max(16, sparseLimit() >>> 3)];
+        } else {
+            this.registers = new long[denseWords()];
+        }
+    }
+
+    /**
+     * Copies another HyperLogLog, sharing only its hash function.
+     * @param other another HyperLogLog to copy
+     */
+    public HyperLogLog(HyperLogLog<T> other) {
+        this.hashFunction = other.hashFunction;
+        this.seed = other.seed;
+        this.precision = other.precision;
+        other.flush();
+        if (other.registers != null) {
+            this.registers = Arrays.copyOf(other.registers, other.registers.length);
+        } else {
+            this.sparse = Arrays.copyOf(other.sparse, other.sparse.length);
+            this.sparseSize = other.sparseSize;
+            this.pending = new int[other.pending.length];
+        }
+    }
+
+    /**
+     * @return how many longs the dense registers need
+     */
+    private int denseWords() {
+        return ((1 << precision) + 9) / 10;
+    }
+
+    /**
+     * @return how many sparse entries fit in the memory the dense registers would use
+     */
+    private int sparseLimit() {
+        return denseWords() << 1;
+    }
+
+    /**
+     * Adds item to this sketch. This isn't safe to call while other threads are changing this sketch.
+     * @param item the item to add
+     */
+    public void add(T item) {
+        addHash(hashFunction.hash64(seed, item));
+    }
+
+    /**
+     * Adds every item in items to this sketch.
+     * @param items the items to add; may be null, which does nothing
+     */
+    public void addAll(T[] items) {
+        if (items == null) return;
+        for (int i = 0; i < items.length; i++) {
+            addHash(hashFunction.hash64(seed, items[i]));
+        }
+    }
+
+    /**
+     * Adds item to this dense sketch, updating its register atomically, so that any number of threads can call this
+     * at the same time. On Java 9 and higher this is lock-free.
+     * @param item the item to add
+     * @throws IllegalStateException if this sketch is sparse; use {@link #toDense()} first
+     */
+    public void addConcurrent(T item) {
+        addHashConcurrent(hashFunction.hash64(seed, item));
+    }
+
+    /**
+     * Adds an item that has already been hashed with this sketch's hash function and seed.
+     * @param hash the 64-bit hash of an item
+     */
+    public void addHash(long hash) {
+        if (registers != null) {
+            final int index = (int) (hash >>> 64 - precision);
+            final int rho = BitConversion.countLeadingZeros(hash << precision | 1L << precision - 1) + 1;
+            final int word = index / 10, shift = index % 10 * 6;
+            final long old = registers[word];
+            if ((old >>> shift & 63L) < rho)
+                registers[word] = old & ~(63L << shift) | (long) rho << shift;
+        } else {
+            addEntry((int) (hash >>> 64 - SPARSE_PRECISION) << 6
+                    | BitConversion.countLeadingZeros(hash << SPARSE_PRECISION | 1L << SPARSE_PRECISION - 1) + 1);
+        }
+    }
+
+    /**
+     * Adds a sparse entry, which holds a 25-bit index and a zero count; this works whether this is sparse or dense.
+     */
+    private void addEntry(int entry) {
+        if (registers != null) {
+            foldSparse(entry);
+        } else {
+            pending[pendingSize++] = entry;
+            if (pendingSize == pending.length)
+                flush();
+        }
+    }
+
+    /**
+     * Adds an item that has already been hashed with this sketch's hash function and seed, updating its register
+     * atomically. See {@link #addConcurrent(Object)}.
+     * @param hash the 64-bit hash of an item
+     * @throws IllegalStateException if this sketch is sparse; use {@link #toDense()} first
+     */
+    public void addHashConcurrent(long hash) {
+        if (registers == null)
+            throw new IllegalStateException("Only a dense HyperLogLog can be changed concurrently; call toDense() first.");
+        updateConcurrent((int) (hash >>> 64 - precision),
+                BitConversion.countLeadingZeros(hash << precision | 1L << precision - 1) + 1);
+    }
+
+    /**
+     * Sets register index to rho if it is currently smaller, using compare-and-set.
+     */
+    private void updateConcurrent(final int index, final int rho) {
+        final int word = index / 10, shift = index % 10 * 6;
+        long old = ArrayAtomics.getVolatile(registers, word);
+        while ((old >>> shift & 63L) < rho) {
+            if (ArrayAtomics.compareAndSet(registers, word, old, old & ~(63L << shift) | (long) rho << shift))
+                return;
+            old = ArrayAtomics.getVolatile(registers, word);
+        }
+    }
+
+    /**
+     * Gets the dense register index for a sparse entry.
+     */
+    private int sparseIndex(int entry) {
+        return entry >>> 6 + SPARSE_PRECISION - precision;
+    }
+
+    /**
+     * Gets the dense register value for a sparse entry. If the bits of the 25-bit index below the dense index are all
+     * zero, the entry's own zero count continues past them.
+     */
+    private int sparseRho(int entry) {
+        final int extra = SPARSE_PRECISION - precision;
+        final int low = entry >>> 6 & (1 << extra) - 1;
+        if (low != 0)
+            return BitConversion.countLeadingZeros(low) - (32 - extra) + 1;
+        return extra + (entry & 63);
+    }
+
+    /**
+     * Sorts any pending sparse entries into the sparse list, keeping only the largest entry for each 25-bit index, and
+     * converts this to dense form if the list gets too big.
+     */
+    protected void flush() {
+        if (registers != null || pendingSize == 0) return;
+        Arrays.sort(pending, 0, pendingSize);
+        int[] merged = new int[sparseSize + pendingSize];
+        int i = 0, j = 0, n = 0;
+        while (i < sparseSize || j < pendingSize) {
+            final int e = (j >= pendingSize || i < sparseSize && sparse[i] <= pending[j]) ? sparse[i++] : pending[j++];
+            // entries with the same index sort by their zero count, so the later one is larger
+            if (n > 0 && merged[n - 1] >>> 6 == e >>> 6)
+                merged[n - 1] = e;
+            else
+                merged[n++] = e;
+        }
+        pendingSize = 0;
+        sparse = merged;
+        sparseSize = n;
+        if (n > sparseLimit())
+            toDense();
+    }
+
+    /**
+     * Converts this sketch to its dense form, if it isn't already. A dense sketch can be changed concurrently with
+     * {@link #addConcurrent(Object)} and {@link #mergeConcurrent(HyperLogLog)}, and never becomes sparse again.
+     * @return this, for chaining
+     */
+    public HyperLogLog<T> toDense() {
+        if (registers != null) return this;
+        flush();
+        if (registers != null) return this;
+        registers = new long[denseWords()];
+        for (int i = 0; i < sparseSize; i++) {
+            foldSparse(sparse[i]);
+        }
+        sparse = null;
+        pending = null;
+        sparseSize = 0;
+        return this;
+    }
+
+    /**
+     * Folds a sparse entry into the dense registers, non-atomically.
+     */
+    private void foldSparse(int entry) {
+        final int index = sparseIndex(entry), rho = sparseRho(entry);
+        final int word = index / 10, shift = index % 10 * 6;
+        final long old = registers[word];
+        if ((old >>> shift & 63L) < rho)
+            registers[word] = old & ~(63L << shift) | (long) rho << shift;
+    }
+
+    /**
+     * Gets a packed word with the larger of each of the 10 registers in a and b.
+     */
+    private static long packedMax(long a, long b) {
+        long result = 0L;
+        for (int shift = 0; shift < 60; shift += 6) {
+            result |= Math.max(a >>> shift & 63L, b >>> shift & 63L) << shift;
+        }
+        return result;
+    }
+
+    private void checkCompatible(HyperLogLog<T> other) {
+        if (other.precision != precision || other.seed != seed)
+            throw new IllegalArgumentException("Only sketches with the same precision and seed can be merged.");
+    }
+
+    /**
+     * Adds every item counted by other to this sketch, so this will estimate the size of the union of both. The other
+     * sketch must have the same precision, hash function, and seed. If both are sparse, this may stay sparse;
+     * otherwise, this becomes dense. The other sketch is not changed, other than possibly sorting its pending entries.
+     * @param other another sketch with the same precision, hash function, and seed
+     * @return this, for chaining
+     */
+    public HyperLogLog<T> merge(HyperLogLog<T> other) {
+        checkCompatible(other);
+        other.flush();
+        if (other.registers == null) {
+            for (int i = 0; i < other.sparseSize; i++) {
+                addEntry(other.sparse[i]);
+            }
+            flush();
+        } else {
+            toDense();
+            for (int i = 0; i < registers.length; i++) {
+                registers[i] = packedMax(registers[i], other.registers[i]);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Like {@link #merge(HyperLogLog)}, but updates this sketch's registers with compare-and-set, so that many threads
+     * can merge their own sketches into this one at the same time. This is lock-free on Java 9 and higher. This sketch
+     * must already be dense, and other must not be changed by any thread while this runs.
+     * @param other another sketch with the same precision, hash function, and seed
+     * @return this, for chaining
+     * @throws IllegalStateException if this sketch is sparse; use {@link #toDense()} first
+     */
+    public HyperLogLog<T> mergeConcurrent(HyperLogLog<T> other) {
+        if (registers == null)
+            throw new IllegalStateException("Only a dense HyperLogLog can be changed concurrently; call toDense() first.");
+        checkCompatible(other);
+        other.flush();
+        if (other.registers == null) {
+            for (int i = 0; i < other.sparseSize; i++) {
+                updateConcurrent(sparseIndex(other.sparse[i]), sparseRho(other.sparse[i]));
+            }
+        } else {
+            for (int i = 0; i < registers.length; i++) {
+                final long incoming = other.registers[i];
+                if (incoming == 0L) continue;
+                long old = ArrayAtomics.getVolatile(registers, i), next;
+                while ((next = packedMax(old, incoming)) != old
+                        && !ArrayAtomics.compareAndSet(registers, i, old, next)) {
+                    old = ArrayAtomics.getVolatile(registers, i);
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Estimates how many distinct items have been added to this sketch (or to sketches merged into it).
+     * @return the estimated number of distinct items, as a double
+     */
+    public double estimate() {
+        flush();
+        if (registers == null) {
+            // linear counting, using the 2 to the 25 possible sparse indices
+            final double m = 1 << SPARSE_PRECISION;
+            return m * Math.log(m / (m - sparseSize));
+        }
+        final int m = 1 << precision, q = 64 - precision;
+        final int[] counts = new int[q + 2];
+        for (int i = 0; i < m; i++) {
+            counts[(int) (registers[i / 10] >>> i % 10 * 6 & 63L)]++;
+        }
+        double z = m * tau(1.0 - counts[q + 1] / (double) m);
+        for (int k = q; k >= 1; k--) {
+            z = 0.5 * (z + counts[k]);
+        }
+        z += m * sigma(counts[0] / (double) m);
+        return 0.5 / Math.log(2.0) * m * (m / z);
+    }
+
+    /**
+     * Gets {@link #estimate()}, rounded to the nearest long.
+     * @return the estimated number of distinct items
+     */
+    public long cardinality() {
+        return Math.round(estimate());
+    }
+
+    /**
+     * Part of Ertl's estimator; handles registers that are still 0.
+     */
+    private static double sigma(double x) {
+        if (x == 1.0) return Double.POSITIVE_INFINITY;
+        double y = 1.0, z = x, zPrevious;
+        do {
+            x *= x;
+            zPrevious = z;
+            z += x * y;
+            y += y;
+        } while (z != zPrevious);
+        return z;
+    }
+
+    /**
+     * Part of Ertl's estimator; handles registers that have the largest possible value.
+     */
+    private static double tau(double x) {
+        if (x == 0.0 || x == 1.0) return 0.0;
+        double y = 1.0, z = 1.0 - x, zPrevious;
+        do {
+            x = Math.sqrt(x);
+            zPrevious = z;
+            y *= 0.5;
+            z -= (1.0 - x) * (1.0 - x) * y;
+        } while (z != zPrevious);
+        return z / 3.0;
+    }
+
+    /**
+     * Removes every item from this sketch. A dense sketch stays dense.
+     */
+    public void clear() {
+        if (registers != null) {
+            Arrays.fill(registers, 0L);
+        } else {
+            sparseSize = 0;
+            pendingSize = 0;
+        }
+    }
+
+    /**
+     * @return true if this sketch still uses the sparse form
+     */
+    public boolean isSparse() {
+        return registers == null;
+    }
+
+    /**
+     * @return the number of bits of each hash used to choose a register; there are {@code 1 << precision} registers
+     */
+    public int getPrecision() {
+        return precision;
+    }
+
+    /**
+     * @return the seed given to the hash function
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return the hash function used on each item
+     */
+    public SeededHashFunction64<T> getHashFunction() {
+        return hashFunction;
+    }
+
+    /**
+     * Gets how many bytes {@link #write(ByteBuffer)} will use.
+     * @return the size of this in serialized form, in bytes
+     */
+    public int serializedSize() {
+        flush();
+        return 4 + 8 + 1 + 1 + 4 + (registers == null ? 4 * sparseSize : 8 * registers.length);
+    }
+
+    /**
+     * Writes this to {@code out}, starting at its current position and advancing it by {@link #serializedSize()}.
+     * A sparse sketch writes only its sorted entries. The hash function isn't written, so the same one must be given
+     * when reading this back.
+     * @param out a ByteBuffer with at least {@link #serializedSize()} bytes remaining
+     * @return out, after writing
+     */
+    public ByteBuffer write(ByteBuffer out) {
+        flush();
+        out.putInt(MAGIC).putLong(seed).put((byte) precision);
+        if (registers == null) {
+            out.put((byte) 1).putInt(sparseSize);
+            for (int i = 0; i < sparseSize; i++) {
+                out.putInt(sparse[i]);
+            }
+        } else {
+            out.put((byte) 0).putInt(registers.length);
+            for (long r : registers) {
+                out.putLong(r);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Reads a HyperLogLog written by {@link #write(ByteBuffer)}, starting at the current position of {@code in} and
+     * advancing it past the data read.
+     * @param hashFunction must be the same hash function the written HyperLogLog used
+     * @param in a ByteBuffer positioned at the start of the written data
+     * @return a new HyperLogLog with the same contents as the one that was written
+     * @param <T> the type of items
+     * @throws IllegalArgumentException if in doesn't hold a HyperLogLog at its position
+     */
+    public static <T> HyperLogLog<T> read(SeededHashFunction64<T> hashFunction, ByteBuffer in) {
+        if (in.getInt() != MAGIC)
+            throw new IllegalArgumentException("The ByteBuffer doesn't contain a HyperLogLog at its position.");
+        final long seed = in.getLong();
+        final int precision = in.get();
+        final boolean sparse = in.get() != 0;
+        final HyperLogLog<T> hll = new HyperLogLog<>(hashFunction, seed, precision, sparse);
+        final int count = in.getInt();
+        if (sparse) {
+            if (count < 0 || count > hll.sparseLimit())
+                throw new IllegalArgumentException("The ByteBuffer doesn't contain a valid HyperLogLog.");
+            hll.sparse = new int[count];
+            for (int i = 0; i < count; i++) {
+                hll.sparse[i] = in.getInt();
+            }
+            hll.sparseSize = count;
+        } else {
+            if (count != hll.registers.length)
+                throw new IllegalArgumentException("The ByteBuffer doesn't contain a valid HyperLogLog.");
+            for (int i = 0; i < count; i++) {
+                hll.registers[i] = in.getLong();
+            }
+        }
+        return hll;
+    }
+}
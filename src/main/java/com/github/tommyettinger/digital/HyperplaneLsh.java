@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.util.stream.IntStream;
+
+/**
+ * Random-hyperplane locality-sensitive hashing (Charikar, 2002) for float vectors, which approximates the angle
+ * between vectors, and so their cosine similarity. Each of {@link #getBits() bits} random hyperplanes through the
+ * origin gives one bit of a vector's signature, depending on which side of the plane the vector falls. Two vectors at
+ * an angle of theta radians get different bits with probability {@code theta / PI}, so the
+ * {@link #distance(long[], int, long[], int) Hamming distance} between signatures estimates the angle, and
+ * {@link #cosine(int)} turns it back into a cosine similarity.
+ * <br>
+ * The hyperplanes' normal vectors have components from {@link Distributor#normal(long)}, each given a long from
+ * {@link Hasher#randomize2(long)} of the seed plus the component's index, so they only depend on the seed, dimensions,
+ * and bits; only those need to be saved or shared to get the same signatures elsewhere. They are generated once, when
+ * this is constructed, and kept as floats because generating them for every vector would be far slower.
+ * <br>
+ * Signatures are packed into long arrays, with {@link #getWords()} longs per vector and bit {@code b} of the signature
+ * in bit {@code b & 63} of word {@code b >>> 6}. To find candidate neighbors without comparing every pair of vectors,
+ * {@link #tableKeys(long[], int, int, int, long[])} splits a signature into keys for an {@link LshIndex}.
+ *
+ * @author Tommy Ettinger
+ */
+public class HyperplaneLsh {
+    protected final int dimensions;
+    protected final int bits;
+    protected final int words;
+    /**
+     * The normal vector of hyperplane b is stored from {@code b * dimensions}, inclusive, to
+     * {@code (b + 1) * dimensions}, exclusive.
+     */
+    protected final float[] planes;
+
+    /**
+     * Creates a HyperplaneLsh for vectors of the given dimensions.
+     * @param dimensions the length of every vector; must be positive
+     * @param bits how many bits each signature has; must be positive
+     * @param seed any long; different seeds give unrelated hyperplanes
+     */
+    public HyperplaneLsh(int dimensions, int bits, long seed) {
+        if (dimensions <= 0 || bits <= 0 || (long) dimensions * bits > 0x7FFFFFF0L)
+            throw new IllegalArgumentException("dimensions and bits must be positive, and their product can't be too large.");
+        this.dimensions = dimensions;
+        this.bits = bits;
+        this.words = bits + 63 >>> 6;
+        this.planes = new float[dimensions * bits];
+        for (int i = 0; i < planes.length; i++) {
+            planes[i] = (float) Distributor.normal(Hasher.randomize2(seed + i));
+        }
+    }
+
+    /**
+     * Gets the signature of one vector.
+     * @param vector a float array with a length of at least {@link #getDimensions()}
+     * @param out will be modified; must have a length of at least {@code offset + }{@link #getWords()}
+     * @param offset where in out to place the signature
+     * @return out, after modifications
+     */
+    public long[] signature(float[] vector, long[] out, int offset) {
+        final int dimensions = this.dimensions;
+        final float[] planes = this.planes;
+        for (int w = 0; w < words; w++) {
+            long word = 0L;
+            for (int b = w << 6, end = Math.min(b + 64, bits), p = b * dimensions; b < end; b++) {
+                float dot = 0f;
+                for (int d = 0; d < dimensions; d++, p++) {
+                    dot += planes[p] * vector[d];
+                }
+                if (dot > 0f) word |= 1L << b;
+            }
+            out[offset + w] = word;
+        }
+        return out;
+    }
+
+    /**
+     * Gets the signature of one vector in a new array.
+     * @param vector a float array with a length of at least {@link #getDimensions()}
+     * @return a new long array with length {@link #getWords()}
+     */
+    public long[] signature(float[] vector) {
+        return signature(vector, new long[words], 0);
+    }
+
+    /**
+     * Gets the signatures of every vector, splitting the work across threads. The signature of vector i starts at
+     * index {@code i * }{@link #getWords()} in the result.
+     * @param vectors an array of float arrays, each with a length of at least {@link #getDimensions()}
+     * @return a new long array with {@link #getWords()} longs per vector
+     */
+    public long[] signatures(float[][] vectors) {
+        final long[] out = new long[vectors.length * words];
+        IntStream.range(0, vectors.length).parallel().forEach(i -> signature(vectors[i], out, i * words));
+        return out;
+    }
+
+    /**
+     * Gets the Hamming distance between two signatures, which is how many bits differ.
+     * @param a a long array holding a signature
+     * @param aOffset where the signature starts in a
+     * @param b a long array holding another signature
+     * @param bOffset where the signature starts in b
+     * @return how many bits differ, from 0 to {@link #getBits()}
+     */
+    public int distance(long[] a, int aOffset, long[] b, int bOffset) {
+        int d = 0;
+        for (int w = 0; w < words; w++) {
+            d += Long.bitCount(a[aOffset + w] ^ b[bOffset + w]);
+        }
+        return d;
+    }
+
+    /**
+     * Estimates the cosine similarity between two vectors from the Hamming distance between their signatures.
+     * @param distance a distance from {@link #distance(long[], int, long[], int)}
+     * @return the estimated cosine similarity, from -1 to 1
+     */
+    public double cosine(int distance) {
+        return Math.cos(Math.PI * distance / bits);
+    }
+
+    /**
+     * Splits a signature into consecutive runs of bits, giving one key per table of an {@link LshIndex}. Vectors with
+     * small angles between them are likely to get the same key in at least one table. Using more bits per table gives
+     * fewer and closer candidates; using more tables finds more of the true neighbors.
+     * @param signatures a long array holding a signature
+     * @param offset where the signature starts in signatures
+     * @param tables how many keys to get; {@code tables * bitsPerTable} must be at most {@link #getBits()}
+     * @param bitsPerTable how many bits go in each key, from 1 to 64
+     * @param out will be modified; must have a length of at least tables
+     * @return out, after modifications
+     */
+    public long[] tableKeys(long[] signatures, int offset, int tables, int bitsPerTable, long[] out) {
+        if (bitsPerTable < 1 || bitsPerTable > 64 || (long) tables * bitsPerTable > bits)
+            throw new IllegalArgumentException("There aren't enough bits for " + tables + " tables of " + bitsPerTable + " bits.");
+        final long mask = -1L >>> 64 - bitsPerTable;
+        for (int t = 0, b = 0; t < tables; t++, b += bitsPerTable) {
+            final int w = offset + (b >>> 6), shift = b & 63;
+            long key = signatures[w] >>> shift;
+            if (shift + bitsPerTable > 64) key |= signatures[w + 1] << 64 - shift;
+            out[t] = key & mask;
+        }
+        return out;
+    }
+
+    /**
+     * @return the length of every vector
+     */
+    public int getDimensions() {
+        return dimensions;
+    }
+
+    /**
+     * @return how many bits each signature has
+     */
+    public int getBits() {
+        return bits;
+    }
+
+    /**
+     * @return how many longs each signature uses
+     */
+    public int getWords() {
+        return words;
+    }
+}
@@ -0,0 +1,409 @@
+/*
+ * Copyright (c) 2026 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.util.Arrays;
+
+/**
+ * An unordered map from primitive int keys to primitive int values, using open addressing with linear probing, so
+ * keys and values are never boxed. Lookups, puts, and removals don't allocate; only growing the table does. Removal
+ * uses backward-shift deletion, so there are no tombstones and lookups stay fast after many removals.
+ * <br>
+ * Keys are placed the same way as in {@link LongLongMap}, with an int key widened to long first. The salt and
+ * multiplier come from a per-instance seed and change whenever the table is rebuilt, including when a long probe
+ * suggests that keys were chosen to collide.
+ * <br>
+ * The key 0 is stored outside the table, so it can be used like any other key. Missing keys give the
+ * {@link #getDefaultValue() default value}, which is 0 unless changed. Entries can be iterated without allocating by
+ * slot: start with {@code slot = map.nextSlot(-1)}, read {@link #keyAt(int)} and {@link #valueAt(int)}, and continue
+ * with {@code slot = map.nextSlot(slot)} until it returns -1. This isn't thread-safe.
+ *
+ * @author Tommy Ettinger
+ */
+public class IntIntMap {
+    protected int[] keys;
+    protected int[] values;
+    protected int size;
+    protected final float loadFactor;
+    protected int threshold;
+    protected int mask;
+    protected int shift;
+    /**
+     * If an insertion probes more than this many slots, the table is rebuilt with a new salt and multiplier.
+     */
+    protected int maxProbe;
+    /**
+     * True if the table was rebuilt because of a long probe since it last grew; a second long probe doubles it.
+     */
+    protected boolean reseeded;
+    protected long salt;
+    protected long hashMultiplier;
+    protected long seed;
+    protected boolean hasZeroValue;
+    protected int zeroValue;
+    protected int defaultValue;
+
+    /**
+     * Creates an empty map with room for 51 items before it resizes, and a new seed.
+     */
+    public IntIntMap() {
+        this(51, 0.8f);
+    }
+
+    /**
+     * Creates an empty map with room for expectedItems items before it resizes, and a new seed.
+     * @param expectedItems how many items this should hold before resizing
+     */
+    public IntIntMap(int expectedItems) {
+        this(expectedItems, 0.8f);
+    }
+
+    /**
+     * Creates an empty map with room for expectedItems items before it resizes, and a new seed.
+     * @param expectedItems how many items this should hold before resizing
+     * @param loadFactor how full the table can get before it resizes; must be greater than 0 and less than 1
+     */
+    public IntIntMap(int expectedItems, float loadFactor) {
+        this(expectedItems, loadFactor, OpenAddressing.nextSeed());
+    }
+
+    /**
+     * Creates an empty map with room for expectedItems items before it resizes, using the given seed. Two maps with
+     * the same seed that are given the same operations in the same order will use the same salts and multipliers.
+     * @param expectedItems how many items this should hold before resizing
+     * @param loadFactor how full the table can get before it resizes; must be greater than 0 and less than 1
+     * @param seed any long
+     */
+    public IntIntMap(int expectedItems, float loadFactor, long seed) {
+        if (!(loadFactor > 0f && loadFactor < 1f))
+            throw new IllegalArgumentException("loadFactor must be greater than 0 and less than 1, but was " + loadFactor);
+        this.loadFactor = loadFactor;
+        this.seed = seed;
+        final int capacity = OpenAddressing.tableSize(expectedItems, loadFactor);
+        keys = new int[capacity];
+        values = new int[capacity];
+        setup(capacity);
+    }
+
+    /**
+     * Creates a map with the same entries, default value, and load factor as other, and a new seed.
+     * @param other another IntIntMap to copy
+     */
+    public IntIntMap(IntIntMap other) {
+        this(other.size, other.loadFactor);
+        defaultValue = other.defaultValue;
+        putAll(other);
+    }
+
+    /**
+     * Sets the mask, shift, threshold, and probe limit for a table of the given capacity, and picks a new salt and
+     * multiplier.
+     */
+    protected void setup(int capacity) {
+        mask = capacity - 1;
+        shift = Long.numberOfLeadingZeros(mask);
+        threshold = Math.min(mask, (int) (capacity * (double) loadFactor));
+        maxProbe = OpenAddressing.probeLimit(capacity, loadFactor);
+        seed += 0x9E3779B97F4A7C15L;
+        salt = Hasher.randomize2(seed);
+        hashMultiplier = Hasher.randomize3(seed) | 1L;
+    }
+
+    /**
+     * Gets the slot where key would be placed if nothing else were in the table.
+     */
+    protected int place(int key) {
+        return (int) ((key ^ salt) * hashMultiplier >>> shift);
+    }
+
+    /**
+     * Gets the slot that holds key, or -1 if key isn't in the table; key must not be 0.
+     */
+    protected int locate(int key) {
+        final int[] keys = this.keys;
+        for (int i = place(key); ; i = i + 1 & mask) {
+            final int k = keys[i];
+            if (k == key) return i;
+            if (k == 0) return -1;
+        }
+    }
+
+    /**
+     * Rebuilds the table with the given capacity and a new salt and multiplier.
+     */
+    protected void rebuild(int capacity) {
+        final int[] oldKeys = keys, oldValues = values;
+        keys = new int[capacity];
+        values = new int[capacity];
+        setup(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            final int k = oldKeys[i];
+            if (k != 0) {
+                int s = place(k);
+                while (keys[s] != 0) s = s + 1 & mask;
+                keys[s] = k;
+                values[s] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Called after an insertion that took {@code probe} extra steps; grows or rebuilds the table if needed.
+     */
+    protected void afterInsert(int probe) {
+        final int capacity = OpenAddressing.rebuildCapacity(++size, threshold, keys.length, probe, maxProbe, reseeded);
+        if (capacity != 0) {
+            reseeded = capacity == keys.length;
+            rebuild(capacity);
+        }
+    }
+
+    /**
+     * Gets the value for key, or the default value if key isn't present.
+     * @param key any int
+     * @return the value for key, or {@link #getDefaultValue()} if absent
+     */
+    public int get(int key) {
+        if (key == 0) return hasZeroValue ? zeroValue : defaultValue;
+        final int i = locate(key);
+        return i < 0 ? defaultValue : values[i];
+    }
+
+    /**
+     * Gets the value for key, or the given default if key isn't present.
+     * @param key any int
+     * @param defaultValue returned if key isn't present
+     * @return the value for key, or defaultValue if absent
+     */
+    public int getOrDefault(int key, int defaultValue) {
+        if (key == 0) return hasZeroValue ? zeroValue : defaultValue;
+        final int i = locate(key);
+        return i < 0 ? defaultValue : values[i];
+    }
+
+    /**
+     * Checks if key is present.
+     * @param key any int
+     * @return true if key is present
+     */
+    public boolean containsKey(int key) {
+        if (key == 0) return hasZeroValue;
+        return locate(key) >= 0;
+    }
+
+    /**
+     * Sets the value for key, adding key if it isn't present.
+     * @param key any int
+     * @param value the value to associate with key
+     * @return the previous value for key, or {@link #getDefaultValue()} if it wasn't present
+     */
+    public int put(int key, int value) {
+        if (key == 0) {
+            final int old = hasZeroValue ? zeroValue : defaultValue;
+            if (!hasZeroValue) {
+                hasZeroValue = true;
+                size++;
+            }
+            zeroValue = value;
+            return old;
+        }
+        final int[] keys = this.keys;
+        for (int i = place(key), probe = 0; ; i = i + 1 & mask, probe++) {
+            final int k = keys[i];
+            if (k == key) {
+                final int old = values[i];
+                values[i] = value;
+                return old;
+            }
+            if (k == 0) {
+                keys[i] = key;
+                values[i] = value;
+                afterInsert(probe);
+                return defaultValue;
+            }
+        }
+    }
+
+    /**
+     * Adds increment to the value for key, starting from defaultValue if key isn't present; useful for counting.
+     * @param key any int
+     * @param defaultValue the value to start from if key isn't present
+     * @param increment how much to add
+     * @return the value for key before it was incremented, or defaultValue if it wasn't present
+     */
+    public int getAndIncrement(int key, int defaultValue, int increment) {
+        if (key == 0) {
+            if (!hasZeroValue) {
+                hasZeroValue = true;
+                size++;
+                zeroValue = defaultValue + increment;
+                return defaultValue;
+            }
+            final int old = zeroValue;
+            zeroValue += increment;
+            return old;
+        }
+        final int[] keys = this.keys;
+        for (int i = place(key), probe = 0; ; i = i + 1 & mask, probe++) {
+            final int k = keys[i];
+            if (k == key) {
+                final int old = values[i];
+                values[i] += increment;
+                return old;
+            }
+            if (k == 0) {
+                keys[i] = key;
+                values[i] = defaultValue + increment;
+                afterInsert(probe);
+                return defaultValue;
+            }
+        }
+    }
+
+    /**
+     * Puts every entry in other into this map.
+     * @param other another IntIntMap
+     */
+    public void putAll(IntIntMap other) {
+        for (int slot = other.nextSlot(-1); slot >= 0; slot = other.nextSlot(slot)) {
+            put(other.keyAt(slot), other.valueAt(slot));
+        }
+    }
+
+    /**
+     * Removes key and its value, if present.
+     * @param key any int
+     * @return the value that was removed, or {@link #getDefaultValue()} if key wasn't present
+     */
+    public int remove(int key) {
+        if (key == 0) {
+            if (!hasZeroValue) return defaultValue;
+            hasZeroValue = false;
+            size--;
+            return zeroValue;
+        }
+        int i = locate(key);
+        if (i < 0) return defaultValue;
+        final int[] keys = this.keys;
+        final int old = values[i];
+        // backward-shift deletion: move later items in the same run back if that brings them closer to their place
+        int k;
+        for (int next = i + 1 & mask; (k = keys[next]) != 0; next = next + 1 & mask) {
+            final int placement = place(k);
+            if ((next - placement & mask) > (i - placement & mask)) {
+                keys[i] = k;
+                values[i] = values[next];
+                i = next;
+            }
+        }
+        keys[i] = 0;
+        values[i] = 0;
+        size--;
+        return old;
+    }
+
+    /**
+     * Removes all entries, keeping the current capacity.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, 0);
+        hasZeroValue = false;
+        size = 0;
+    }
+
+    /**
+     * Gets the next slot that holds an entry, for iterating without allocation. The slot after the last table slot
+     * holds the key 0, if present. Changing the map while iterating can skip or repeat entries.
+     * @param slot -1 to get the first slot, or a slot returned by this method
+     * @return the next slot with an entry, or -1 if there are no more
+     */
+    public int nextSlot(int slot) {
+        final int[] keys = this.keys;
+        while (++slot < keys.length) {
+            if (keys[slot] != 0) return slot;
+        }
+        return slot == keys.length && hasZeroValue ? slot : -1;
+    }
+
+    /**
+     * @param slot a slot returned by {@link #nextSlot(int)}
+     * @return the key in that slot
+     */
+    public int keyAt(int slot) {
+        return slot == keys.length ? 0 : keys[slot];
+    }
+
+    /**
+     * @param slot a slot returned by {@link #nextSlot(int)}
+     * @return the value in that slot
+     */
+    public int valueAt(int slot) {
+        return slot == keys.length ? zeroValue : values[slot];
+    }
+
+    /**
+     * @return how many entries are in this map
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if this map has no entries
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the value returned for missing keys
+     */
+    public int getDefaultValue() {
+        return defaultValue;
+    }
+
+    /**
+     * @param defaultValue the value to return for missing keys
+     */
+    public void setDefaultValue(int defaultValue) {
+        this.defaultValue = defaultValue;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IntIntMap)) return false;
+        final IntIntMap other = (IntIntMap) o;
+        if (other.size != size) return false;
+        for (int slot = nextSlot(-1); slot >= 0; slot = nextSlot(slot)) {
+            final int k = keyAt(slot);
+            if (!other.containsKey(k) || other.get(k) != valueAt(slot)) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        long h = size;
+        for (int slot = nextSlot(-1); slot >= 0; slot = nextSlot(slot)) {
+            h += Hasher.randomize2(keyAt(slot)) ^ valueAt(slot);
+        }
+        return (int) (h ^ h >>> 32);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.tommyettinger.digital;
+
+/**
+ * Jump Consistent Hash, from "A Fast, Minimal Memory, Consistent Hash Algorithm" by John Lamping and Eric Veach
+ * (2014). This places a 64-bit key into one of {@code buckets} buckets, so that when the number of buckets grows from
+ * n to n+1, only about 1/(n+1) of keys move, and they all move to the new bucket. Unlike
+ * {@code Hasher.hash64(key) % n}, which moves nearly every key when n changes, this lets a cluster grow without
+ * reshuffling. It needs no memory and takes {@code O(log buckets)} time, but buckets can only be added or removed at
+ * the end; use {@link HashRing} or {@link RendezvousHash} when any node can leave.
+ * <br>
+ * The key should already be a hash, such as one from {@link Hasher#hash64(CharSequence)}.
+ *
+ * @author Tommy Ettinger
+ */
+public final class JumpHash {
+    private JumpHash() {
+    }
+
+    /**
+     * Gets the bucket for key, from 0 (inclusive) to buckets (exclusive).
+     * @param key any long, typically a hash of the actual key
+     * @param buckets how many buckets there are; must be positive
+     * @return the bucket for key, between 0 inclusive and buckets exclusive
+     */
+    public static int jump(long key, int buckets) {
+        if (buckets <= 0)
+            throw new IllegalArgumentException("buckets must be positive, but was " + buckets);
+        long b = -1L, j = 0L;
+        while (j < buckets) {
+            b = j;
+            key = key * 2862933555777941757L + 1L;
+            j = (long) ((b + 1L) * (0x1p31 / ((key >>> 33) + 1L)));
+        }
+        return (int) b;
+    }
+
+    /**
+     * Gets the bucket for every key in keys, writing each into the same index in out.
+     * @param keys the keys to place, typically hashes of the actual keys
+     * @param buckets how many buckets there are; must be positive
+     * @param out will be modified; must be at least as long as keys
+     * @return out, after modifications
+     */
+    public static int[] jump(long[] keys, int buckets, int[] out) {
+        for (int i = 0; i < keys.length; i++) {
+            out[i] = jump(keys[i], buckets);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) 2026 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.util.Arrays;
+
+/**
+ * An unordered set of primitive long items, using open addressing with linear probing, so items are never boxed.
+ * This works the same way as {@link LongLongMap}, including its defense against keys chosen to collide: lookups, adds,
+ * and removals don't allocate, only growing the table does, and the table is rebuilt with a new salt and multiplier
+ * if an add has to probe much further than usual.
+ * <br>
+ * The item 0 is stored outside the table, so it can be used like any other item. Items can be iterated without
+ * allocating by slot: start with {@code slot = set.nextSlot(-1)}, read {@link #itemAt(int)}, and continue with
+ * {@code slot = set.nextSlot(slot)} until it returns -1. This isn't thread-safe.
+ *
+ * @author Tommy Ettinger
+ */
+public class LongSet {
+    protected long[] items;
+    protected int size;
+    protected final float loadFactor;
+    protected int threshold;
+    protected int mask;
+    protected int shift;
+    /**
+     * If an add probes more than this many slots, the table is rebuilt with a new salt and multiplier.
+     */
+    protected int maxProbe;
+    /**
+     * True if the table was rebuilt because of a long probe since it last grew; a second long probe doubles it.
+     */
+    protected boolean reseeded;
+    protected long salt;
+    protected long hashMultiplier;
+    protected long seed;
+    protected boolean hasZero;
+
+    /**
+     * Creates an empty set with room for 51 items before it resizes, and a new seed.
+     */
+    public LongSet() {
+        this(51, 0.8f);
+    }
+
+    /**
+     * Creates an empty set with room for expectedItems items before it resizes, and a new seed.
+     * @param expectedItems how many items this should hold before resizing
+     */
+    public LongSet(int expectedItems) {
+        this(expectedItems, 0.8f);
+    }
+
+    /**
+     * Creates an empty set with room for expectedItems items before it resizes, and a new seed.
+     * @param expectedItems how many items this should hold before resizing
+     * @param loadFactor how full the table can get before it resizes; must be greater than 0 and less than 1
+     */
+    public LongSet(int expectedItems, float loadFactor) {
+        this(expectedItems, loadFactor, OpenAddressing.nextSeed());
+    }
+
+    /**
+     * Creates an empty set with room for expectedItems items before it resizes, using the given seed.
+     * @param expectedItems how many items this should hold before resizing
+     * @param loadFactor how full the table can get before it resizes; must be greater than 0 and less than 1
+     * @param seed any long
+     */
+    public LongSet(int expectedItems, float loadFactor, long seed) {
+        if (!(loadFactor > 0f && loadFactor < 1f))
+            throw new IllegalArgumentException("loadFactor must be greater than 0 and less than 1, but was " + loadFactor);
+        this.loadFactor = loadFactor;
+        this.seed = seed;
+        final int capacity = OpenAddressing.tableSize(expectedItems, loadFactor);
+        items = new long[capacity];
+        setup(capacity);
+    }
+
+    /**
+     * Creates a set with the same items and load factor as other, and a new seed.
+     * @param other another LongSet to copy
+     */
+    public LongSet(LongSet other) {
+        this(other.size, other.loadFactor);
+        addAll(other);
+    }
+
+    /**
+     * Sets the mask, shift, threshold, and probe limit for a table of the given capacity, and picks a new salt and
+     * multiplier.
+     */
+    protected void setup(int capacity) {
+        mask = capacity - 1;
+        shift = Long.numberOfLeadingZeros(mask);
+        threshold = Math.min(mask, (int) (capacity * (double) loadFactor));
+        maxProbe = OpenAddressing.probeLimit(capacity, loadFactor);
+        seed += 0x9E3779B97F4A7C15L;
+        salt = Hasher.randomize2(seed);
+        hashMultiplier = Hasher.randomize3(seed) | 1L;
+    }
+
+    /**
+     * Gets the slot where item would be placed if nothing else were in the table.
+     */
+    protected int place(long item) {
+        return (int) ((item ^ salt) * hashMultiplier >>> shift);
+    }
+
+    /**
+     * Gets the slot that holds item, or -1 if item isn't in the table; item must not be 0.
+     */
+    protected int locate(long item) {
+        final long[] items = this.items;
+        for (int i = place(item); ; i = i + 1 & mask) {
+            final long k = items[i];
+            if (k == item) return i;
+            if (k == 0L) return -1;
+        }
+    }
+
+    /**
+     * Rebuilds the table with the given capacity and a new salt and multiplier.
+     */
+    protected void rebuild(int capacity) {
+        final long[] oldItems = items;
+        items = new long[capacity];
+        setup(capacity);
+        for (int i = 0; i < oldItems.length; i++) {
+            final long k = oldItems[i];
+            if (k != 0L) {
+                int s = place(k);
+                while (items[s] != 0L) s = s + 1 & mask;
+                items[s] = k;
+            }
+        }
+    }
+
+    /**
+     * Called after an add that took {@code probe} extra steps; grows or rebuilds the table if needed.
+     */
+    protected void afterInsert(int probe) {
+        final int capacity = OpenAddressing.rebuildCapacity(++size, threshold, items.length, probe, maxProbe, reseeded);
+        if (capacity != 0) {
+            reseeded = capacity == items.length;
+            rebuild(capacity);
+        }
+    }
+
+    /**
+     * Checks if item is present.
+     * @param item any long
+     * @return true if item is present
+     */
+    public boolean contains(long item) {
+        if (item == 0L) return hasZero;
+        return locate(item) >= 0;
+    }
+
+    /**
+     * Adds item, if it isn't already present.
+     * @param item any long
+     * @return true if item was added, or false if it was already present
+     */
+    public boolean add(long item) {
+        if (item == 0L) {
+            if (hasZero) return false;
+            hasZero = true;
+            size++;
+            return true;
+        }
+        final long[] items = this.items;
+        for (int i = place(item), probe = 0; ; i = i + 1 & mask, probe++) {
+            final long k = items[i];
+            if (k == item) return false;
+            if (k == 0L) {
+                items[i] = item;
+                afterInsert(probe);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Adds every item in items.
+     * @param items an array of items
+     * @return how many items were added, not counting ones already present
+     */
+    public int addAll(long[] items) {
+        int added = 0;
+        for (long item : items) {
+            if (add(item)) added++;
+        }
+        return added;
+    }
+
+    /**
+     * Adds every item in other.
+     * @param other another LongSet
+     * @return how many items were added, not counting ones already present
+     */
+    public int addAll(LongSet other) {
+        int added = 0;
+        for (int slot = other.nextSlot(-1); slot >= 0; slot = other.nextSlot(slot)) {
+            if (add(other.itemAt(slot))) added++;
+        }
+        return added;
+    }
+
+    /**
+     * Removes item, if present.
+     * @param item any long
+     * @return true if item was removed, or false if it wasn't present
+     */
+    public boolean remove(long item) {
+        if (item == 0L) {
+            if (!hasZero) return false;
+            hasZero = false;
+            size--;
+            return true;
+        }
+        int i = locate(item);
+        if (i < 0) return false;
+        final long[] items = this.items;
+        // backward-shift deletion: move later items in the same run back if that brings them closer to their place
+        long k;
+        for (int next = i + 1 & mask; (k = items[next]) != 0L; next = next + 1 & mask) {
+            final int placement = place(k);
+            if ((next - placement & mask) > (i - placement & mask)) {
+                items[i] = k;
+                i = next;
+            }
+        }
+        items[i] = 0L;
+        size--;
+        return true;
+    }
+
+    /**
+     * Removes all items, keeping the current capacity.
+     */
+    public void clear() {
+        Arrays.fill(items, 0L);
+        hasZero = false;
+        size = 0;
+    }
+
+    /**
+     * Gets the next slot that holds an item, for iterating without allocation. The slot after the last table slot
+     * holds the item 0, if present. Changing the set while iterating can skip or repeat items.
+     * @param slot -1 to get the first slot, or a slot returned by this method
+     * @return the next slot with an item, or -1 if there are no more
+     */
+    public int nextSlot(int slot) {
+        final long[] items = this.items;
+        while (++slot < items.length) {
+            if (items[slot] != 0L) return slot;
+        }
+        return slot == items.length && hasZero ? slot : -1;
+    }
+
+    /**
+     * @param slot a slot returned by {@link #nextSlot(int)}
+     * @return the item in that slot
+     */
+    public long itemAt(int slot) {
+        return slot == items.length ? 0L : items[slot];
+    }
+
+    /**
+     * @return how many items are in this set
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if this set has no items
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LongSet)) return false;
+        final LongSet other = (LongSet) o;
+        if (other.size != size) return false;
+        for (int slot = nextSlot(-1); slot >= 0; slot = nextSlot(slot)) {
+            if (!other.contains(itemAt(slot))) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        long h = size;
+        for (int slot = nextSlot(-1); slot >= 0; slot = nextSlot(slot)) {
+            h += Hasher.randomize2(itemAt(slot));
+        }
+        return (int) (h ^ h >>> 32);
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Locality-sensitive hashing by banding, which finds pairs of {@link MinHash} signatures that are likely to be
+ * similar without comparing every pair. Each signature is split into {@link #getBands() b} bands of
+ * {@link #getRows() r} values, and each band is hashed to a single long; two documents become a candidate pair if
+ * any of their band hashes match. Two documents with Jaccard similarity s become candidates with probability
+ * {@code 1 - (1 - s^r)^b}, which rises steeply around the {@link #threshold() threshold} {@code (1/b)^(1/r)}.
+ * <br>
+ * Buckets are found by sorting, so this doesn't need a hash map: the upper 32 bits of each band hash are packed
+ * with a document index into a long, the longs are sorted, and runs with the same upper bits form a bucket. Using
+ * only 32 bits of the band hash means unrelated documents share a bucket by chance about once per 4 billion pairs per
+ * band; candidates should be checked with {@link MinHash#similarity(long[], long[])} in any case. Band hashes for
+ * all documents are computed across threads with a parallel {@link IntStream}.
+ * <br>
+ * A bucket of n documents holds n * (n - 1) / 2 pairs, so many identical documents (or many empty ones, which all
+ * have the same signature) would make listing every pair slow and huge. {@link #candidatePairs(long[][], int)}
+ * limits this: a bucket with more documents than its limit only gives the pairs that join its lowest document index
+ * to each other one, which still connects the whole bucket (enough to group duplicates with a union-find) while
+ * keeping the output linear in the bucket size. {@link #buckets(long[][], int)} can list such a bucket in full.
+ *
+ * @author Tommy Ettinger
+ */
+public class LshBanding {
+    protected final int bands;
+    protected final int rows;
+
+    /**
+     * Creates an LshBanding for signatures with at least {@code bands * rows} values.
+     * @param bands how many bands to split each signature into; must be positive
+     * @param rows how many signature values are in each band; must be positive
+     */
+    public LshBanding(int bands, int rows) {
+        if (bands <= 0 || rows <= 0)
+            throw new IllegalArgumentException("bands and rows must both be positive, but were " + bands + " and " + rows);
+        this.bands = bands;
+        this.rows = rows;
+    }
+
+    /**
+     * Hashes one band of a signature to a long. Equal bands in two signatures always give equal hashes, and the same
+     * values in different bands give different hashes.
+     * @param signature a MinHash signature with at least {@code bands * rows} values
+     * @param band which band to hash, from 0 to {@link #getBands()}, exclusive
+     * @return a hash of that band
+     */
+    public long bandHash(long[] signature, int band) {
+        long h = Hasher.randomize3(band);
+        for (int i = band * rows, end = i + rows; i < end; i++) {
+            h = Hasher.mixMultiple(h, signature[i]);
+        }
+        return Hasher.mix(h);
+    }
+
+    /**
+     * Hashes every band of a signature.
+     * @param signature a MinHash signature with at least {@code bands * rows} values
+     * @param out will be modified; must have a length of at least {@link #getBands()}
+     * @return out, after modifications
+     */
+    public long[] bandHashes(long[] signature, long[] out) {
+        for (int b = 0; b < bands; b++) {
+            out[b] = bandHash(signature, b);
+        }
+        return out;
+    }
+
+    /**
+     * Gets the sorted, packed band keys for one band of every signature, as described in the class documentation.
+     */
+    private long[] sortedKeys(long[][] signatures, int band) {
+        final long[] keys = new long[signatures.length];
+        IntStream.range(0, signatures.length).parallel()
+                .forEach(i -> keys[i] = bandHash(signatures[i], band) & 0xFFFFFFFF00000000L | i);
+        Arrays.sort(keys);
+        return keys;
+    }
+
+    /**
+     * Groups documents whose signatures have the same hash for one band. Only groups with two or more documents are
+     * returned.
+     * @param signatures the MinHash signatures of all documents, each with at least {@code bands * rows} values
+     * @param band which band to group by, from 0 to {@link #getBands()}, exclusive
+     * @return an array of buckets, each a sorted array of document indices into signatures
+     */
+    public int[][] buckets(long[][] signatures, int band) {
+        final long[] keys = sortedKeys(signatures, band);
+        int count = 0;
+        for (int i = 0, j; i < keys.length; i = j) {
+            j = i + 1;
+            while (j < keys.length && (keys[j] ^ keys[i]) >>> 32 == 0L) j++;
+            if (j - i > 1) count++;
+        }
+        final int[][] result = new int[count][];
+        count = 0;
+        for (int i = 0, j; i < keys.length; i = j) {
+            j = i + 1;
+            while (j < keys.length && (keys[j] ^ keys[i]) >>> 32 == 0L) j++;
+            if (j - i > 1) {
+                final int[] bucket = result[count++] = new int[j - i];
+                for (int k = i; k < j; k++) {
+                    bucket[k - i] = (int) keys[k];
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds pairs of documents that share a bucket in at least one band, listing every pair only in buckets with at
+     * most 64 documents; this is {@link #candidatePairs(long[][], int)} with a maxBucketSize of 64.
+     * @param signatures the MinHash signatures of all documents, each with at least {@code bands * rows} values
+     * @return a sorted array of distinct pairs, each packed as {@code (long) i << 32 | j} where {@code i < j} are
+     * indices into signatures
+     */
+    public long[] candidatePairs(long[][] signatures) {
+        return candidatePairs(signatures, 64);
+    }
+
+    /**
+     * Finds pairs of documents that share a bucket in at least one band. Every pair is listed from buckets with at
+     * most maxBucketSize documents. A larger bucket only gives the pairs between its lowest document index and each of
+     * its other documents, so the number of pairs grows linearly with that bucket's size instead of quadratically;
+     * this connects all of the bucket's documents, but doesn't list every pair. Use {@link #buckets(long[][], int)}
+     * to get such a bucket in full.
+     * @param signatures the MinHash signatures of all documents, each with at least {@code bands * rows} values
+     * @param maxBucketSize the largest bucket that gives every pair of its documents; must be at least 2
+     * @return a sorted array of distinct pairs, each packed as {@code (long) i << 32 | j} where {@code i < j} are
+     * indices into signatures
+     */
+    public long[] candidatePairs(long[][] signatures, int maxBucketSize) {
+        if (maxBucketSize < 2)
+            throw new IllegalArgumentException("maxBucketSize must be at least 2, but was " + maxBucketSize);
+        long[] pairs = new long[16];
+        int size = 0;
+        for (int b = 0; b < bands; b++) {
+            final long[] keys = sortedKeys(signatures, b);
+            for (int i = 0, j; i < keys.length; i = j) {
+                j = i + 1;
+                while (j < keys.length && (keys[j] ^ keys[i]) >>> 32 == 0L) j++;
+                // an oversized bucket only pairs its first document with each other one
+                final int xEnd = j - i > maxBucketSize ? i + 1 : j;
+                for (int x = i; x < xEnd; x++) {
+                    for (int y = x + 1; y < j; y++) {
+                        if (size == pairs.length) pairs = Arrays.copyOf(pairs, size << 1);
+                        // keys in a run are sorted by document index, so x's index is lower
+                        pairs[size++] = (keys[x] & 0xFFFFFFFFL) << 32 | (keys[y] & 0xFFFFFFFFL);
+                    }
+                }
+            }
+        }
+        Arrays.sort(pairs, 0, size);
+        int distinct = 0;
+        for (int i = 0; i < size; i++) {
+            if (distinct == 0 || pairs[distinct - 1] != pairs[i]) pairs[distinct++] = pairs[i];
+        }
+        return Arrays.copyOf(pairs, distinct);
+    }
+
+    /**
+     * Gets the approximate similarity at which two documents have about a 50% chance of becoming candidates.
+     * @return {@code (1/bands)^(1/rows)}
+     */
+    public double threshold() {
+        return Math.pow(1.0 / bands, 1.0 / rows);
+    }
+
+    /**
+     * @return how many bands each signature is split into
+     */
+    public int getBands() {
+        return bands;
+    }
+
+    /**
+     * @return how many signature values are in each band
+     */
+    public int getRows() {
+        return rows;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * A multi-table index for locality-sensitive hashing, which finds candidate neighbors of a query vector without
+ * comparing it to every indexed vector. Each vector has one key per table, such as from
+ * {@link HyperplaneLsh#tableKeys(long[], int, int, int, long[])} or
+ * {@link PStableLsh#tableKeys(int[], int, int, int, long[])}, and a vector is a candidate for a query if their keys
+ * match in at least one table. Candidates should then be checked with an exact distance, since the index only
+ * narrows down the search.
+ * <br>
+ * Like {@link LshBanding}, this doesn't use a hash map, and keeps only 32 bits of each key, with the same rate of
+ * chance matches: each table is a sorted long array where the upper 32 bits are from
+ * {@link Hasher#randomize2(long)} of the key and the lower 32 bits are the vector's index, so a lookup is a binary
+ * search followed by a scan. Tables are built across threads with a parallel {@link IntStream}.
+ *
+ * @author Tommy Ettinger
+ */
+public class LshIndex {
+    protected final int tables;
+    protected final int size;
+    /**
+     * One sorted array per table, each with size items.
+     */
+    protected final long[][] entries;
+
+    /**
+     * Builds an index from the table keys of every vector.
+     * @param keys the keys of vector i for each table are at indices {@code i * tables} to {@code (i + 1) * tables},
+     *             exclusive; the length must be a multiple of tables
+     * @param tables how many tables there are; must be positive
+     */
+    public LshIndex(long[] keys, int tables) {
+        if (tables <= 0 || keys.length % tables != 0)
+            throw new IllegalArgumentException("tables must be positive and divide the number of keys.");
+        this.tables = tables;
+        this.size = keys.length / tables;
+        this.entries = new long[tables][size];
+        IntStream.range(0, tables).parallel().forEach(t -> {
+            final long[] table = entries[t];
+            for (int i = 0; i < size; i++) {
+                table[i] = Hasher.randomize2(keys[i * tables + t]) & 0xFFFFFFFF00000000L | i;
+            }
+            Arrays.sort(table);
+        });
+    }
+
+    /**
+     * Finds every indexed vector that shares a key with the query in at least one table.
+     * @param queryKeys the query's keys, one per table, made the same way as the keys used to build this index
+     * @param offset where the query's keys start in queryKeys
+     * @return a sorted array of distinct vector indices
+     */
+    public int[] candidates(long[] queryKeys, int offset) {
+        int[] found = new int[16];
+        int count = 0;
+        for (int t = 0; t < tables; t++) {
+            final long[] table = entries[t];
+            final long upper = Hasher.randomize2(queryKeys[offset + t]) & 0xFFFFFFFF00000000L;
+            int i = Arrays.binarySearch(table, upper);
+            if (i < 0) i = -i - 1;
+            for (; i < size && (table[i] & 0xFFFFFFFF00000000L) == upper; i++) {
+                if (count == found.length) found = Arrays.copyOf(found, count << 1);
+                found[count++] = (int) table[i];
+            }
+        }
+        Arrays.sort(found, 0, count);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || found[distinct - 1] != found[i]) found[distinct++] = found[i];
+        }
+        return Arrays.copyOf(found, distinct);
+    }
+
+    /**
+     * Finds every indexed vector that shares a key with the query in at least one table.
+     * @param queryKeys the query's keys, one per table, made the same way as the keys used to build this index
+     * @return a sorted array of distinct vector indices
+     */
+    public int[] candidates(long[] queryKeys) {
+        return candidates(queryKeys, 0);
+    }
+
+    /**
+     * @return how many tables there are
+     */
+    public int getTables() {
+        return tables;
+    }
+
+    /**
+     * @return how many vectors are indexed
+     */
+    public int getSize() {
+        return size;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Computes MinHash signatures of sets of tokens, so that the fraction of positions where two signatures match
+ * estimates the Jaccard similarity of the two sets (the size of their intersection divided by the size of their
+ * union). Tokens are hashed once each with {@link Hasher#hash64(CharSequence)}, or can be given as already-hashed
+ * longs; signatures can then be compared with {@link #similarity(long[], long[])}, or grouped into candidate pairs
+ * with {@link LshBanding}.
+ * <br>
+ * There are two ways to compute a signature with k values. The classic way re-hashes every token k times, using a
+ * different seed for each position, taken from the {@link Hasher#predefined} Hashers; this costs k hashes per token.
+ * One permutation hashing (Li, Owen, and Zhang, 2012) hashes each token once, uses the top bits of that hash to pick
+ * one of k bins, and keeps the smallest hash in each bin; this costs one hash per token no matter how large k is.
+ * Bins that get no tokens are filled using the optimal densification of Shrivastava (2017), which copies the value
+ * from another bin chosen by a fixed sequence of hashes, so the estimate stays unbiased for small sets.
+ * <br>
+ * Signatures for many documents can be computed at once with {@link #signatures(long[][])}, which splits the
+ * documents across threads using a parallel {@link IntStream}. On platforms without threads, such as GWT, this just
+ * runs sequentially.
+ *
+ * @author Tommy Ettinger
+ */
+public class MinHash {
+    protected final int size;
+    protected final boolean onePermutation;
+    protected final Hasher tokenHasher;
+    /**
+     * One seed per signature position in classic mode; in one permutation mode, only the first is used.
+     */
+    protected final long[] seeds;
+
+    /**
+     * Creates a MinHash that produces signatures of the given size, hashing tokens with {@link Hasher#alpha}.
+     * @param size how many longs are in each signature, often called k; must be positive
+     * @param onePermutation if true, use one permutation hashing, which hashes each token only once
+     */
+    public MinHash(int size, boolean onePermutation) {
+        this(size, onePermutation, Hasher.alpha);
+    }
+
+    /**
+     * Creates a MinHash that produces signatures of the given size, hashing tokens with the given Hasher.
+     * @param size how many longs are in each signature, often called k; must be positive
+     * @param onePermutation if true, use one permutation hashing, which hashes each token only once
+     * @param tokenHasher used to hash each CharSequence token with {@link Hasher#hash64(CharSequence)}
+     */
+    public MinHash(int size, boolean onePermutation, Hasher tokenHasher) {
+        if (size <= 0)
+            throw new IllegalArgumentException("size must be positive, but was " + size);
+        this.size = size;
+        this.onePermutation = onePermutation;
+        this.tokenHasher = tokenHasher;
+        this.seeds = new long[size];
+        for (int i = 0; i < size; i++) {
+            seeds[i] = i < Hasher.predefined.length ? Hasher.predefined[i].seed : Hasher.randomize3(i);
+        }
+    }
+
+    /**
+     * Computes the signature of a set of tokens.
+     * @param tokens the tokens in a document; duplicates are allowed and don't change the result
+     * @param out will be modified; must have a length of at least {@link #getSize()}
+     * @return out, after modifications
+     */
+    public long[] signature(CharSequence[] tokens, long[] out) {
+        final long[] hashes = new long[tokens.length];
+        for (int i = 0; i < tokens.length; i++) {
+            hashes[i] = tokenHasher.hash64(tokens[i]);
+        }
+        return signature(hashes, out);
+    }
+
+    /**
+     * Computes the signature of a set of already-hashed tokens.
+     * @param tokenHashes the hashes of the tokens in a document; duplicates are allowed and don't change the result
+     * @param out will be modified; must have a length of at least {@link #getSize()}
+     * @return out, after modifications
+     */
+    public long[] signature(long[] tokenHashes, long[] out) {
+        Arrays.fill(out, 0, size, Long.MAX_VALUE);
+        if (tokenHashes.length == 0) return out;
+        if (!onePermutation) {
+            for (long t : tokenHashes) {
+                for (int i = 0; i < size; i++) {
+                    out[i] = Math.min(out[i], Hasher.randomize2(t ^ seeds[i]));
+                }
+            }
+            return out;
+        }
+        final long seed = seeds[0];
+        for (long t : tokenHashes) {
+            final long h = Hasher.randomize2(t ^ seed);
+            final int bin = (int) ((h >>> 32) * size >>> 32);
+            // the low bits order tokens within a bin; the top bit is cleared so no value equals Long.MAX_VALUE
+            final long value = h & 0x7FFFFFFFFFFFFFFEL;
+            if (value < out[bin]) out[bin] = value;
+        }
+        for (int i = 0; i < size; i++) {
+            if (out[i] != Long.MAX_VALUE) continue;
+            long state = Hasher.randomize3(seed + i);
+            for (int attempt = 1; ; attempt++) {
+                final int from = (int) (((state = Hasher.randomize1(state + attempt)) >>> 32) * size >>> 32);
+                final long v = out[from];
+                // bins that were empty hold Long.MAX_VALUE, and bins filled here are odd, so both are skipped
+                if (v != Long.MAX_VALUE && (v & 1L) == 0L) {
+                    out[i] = v | 1L;
+                    break;
+                }
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            out[i] &= -2L;
+        }
+        return out;
+    }
+
+    /**
+     * Computes the signature of each document in documents, splitting the work across threads.
+     * @param documents an array of documents, each an array of token hashes
+     * @return a new array of signatures, one per document, in the same order
+     */
+    public long[][] signatures(long[][] documents) {
+        final long[][] result = new long[documents.length][size];
+        IntStream.range(0, documents.length).parallel().forEach(i -> signature(documents[i], result[i]));
+        return result;
+    }
+
+    /**
+     * Computes the signature of each document in documents, splitting the work across threads.
+     * @param documents an array of documents, each an array of tokens
+     * @return a new array of signatures, one per document, in the same order
+     */
+    public long[][] signatures(CharSequence[][] documents) {
+        final long[][] result = new long[documents.length][size];
+        IntStream.range(0, documents.length).parallel().forEach(i -> signature(documents[i], result[i]));
+        return result;
+    }
+
+    /**
+     * Estimates the Jaccard similarity of the sets that produced two signatures, as the fraction of positions where
+     * they match. Both signatures must come from the same MinHash settings.
+     * @param a a signature
+     * @param b another signature of the same length
+     * @return the estimated similarity, from 0.0 to 1.0
+     */
+    public static double similarity(long[] a, long[] b) {
+        int same = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) same++;
+        }
+        return same / (double) a.length;
+    }
+
+    /**
+     * @return how many longs are in each signature
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return true if this uses one permutation hashing
+     */
+    public boolean isOnePermutation() {
+        return onePermutation;
+    }
+}
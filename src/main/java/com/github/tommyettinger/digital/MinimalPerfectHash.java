@@ -0,0 +1,428 @@
+/*
+ * Copyright (c) 2026 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.tommyettinger.digital;
+
+import com.github.tommyettinger.digital.Hasher.SeededHashFunction64;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.IntStream;
+
+/**
+ * A minimal perfect hash function over a fixed set of keys: each of the {@code n} keys it was built with gets a
+ * different int index from 0 to {@code n - 1}, with no gaps. The keys themselves aren't stored, so this takes only
+ * about 3 bits per key (with the default gamma of 1), and can be used to index plain arrays holding values for a
+ * read-only dictionary, such as a symbol table. Keys that weren't in the original set can still get an index here,
+ * which may be the same as some original key's index; if that matters, store the keys (or their 64-bit hashes) in
+ * the value array and compare them.
+ * <br>
+ * This uses the BBHash algorithm by Limasset, Rizk, Chikhi, and Peterlongo. Each key is hashed once to a 64-bit value
+ * with a {@link SeededHashFunction64}, such as {@link Hasher#charSequenceHashAdze64}, and then each level of the
+ * structure uses {@link Hasher#randomize2(long)} on that value to pick one bit in that level's bit array. Keys that
+ * pick a bit no other key picked are placed on that level; the rest move on to the next, smaller level. An index is
+ * the number of placed keys before a key's bit, counted quickly with a small table of ranks. If two keys have the
+ * same 64-bit hash, which is very unlikely but possible with millions of keys, the build tries again with a new seed.
+ * <br>
+ * Building can use several threads, via a parallel {@link IntStream}, and gives the same result either way. On
+ * platforms without threads, such as GWT, a parallel build just runs sequentially. A built MinimalPerfectHash can be
+ * written to a ByteBuffer with {@link #write(ByteBuffer)} and read back with
+ * {@link #read(SeededHashFunction64, ByteBuffer)}, which doesn't need to rehash any keys, so startup is fast.
+ *
+ * @param <T> the type of keys; each key must be hashable by the given {@link SeededHashFunction64}
+ * @author Tommy Ettinger
+ */
+public class MinimalPerfectHash<T> {
+    /**
+     * The most levels a MinimalPerfectHash will use; any keys left after this many levels are stored by their 64-bit
+     * hashes in a small sorted array. With gamma at 1 or higher, it is extremely rare for any keys to be left over.
+     */
+    public static final int MAX_LEVELS = 32;
+
+    /**
+     * The default seed used when none is given.
+     */
+    public static final long DEFAULT_SEED = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Identifies serialized data written by {@link #write(ByteBuffer)}; this is "MPH1" in ASCII.
+     */
+    private static final int MAGIC = 0x4D504831;
+
+    /**
+     * How many times the build is tried with different seeds before giving up.
+     */
+    private static final int MAX_ATTEMPTS = 8;
+
+    /**
+     * Parallel builds split the keys into at most this many chunks, each with its own temporary bit arrays.
+     */
+    private static final int MAX_CHUNKS = 8;
+
+    /**
+     * Fewer keys than this on a level are always handled by one thread.
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    protected final SeededHashFunction64<T> hashFunction;
+    protected long seed;
+    protected int size;
+    /**
+     * The index in {@link #bits} where each level starts, followed by {@code bits.length}.
+     */
+    protected int[] levelStarts;
+    /**
+     * Every level's bit array, one after another.
+     */
+    protected long[] bits;
+    /**
+     * Item {@code i} is the number of bits set in {@link #bits} before index {@code i * 8}.
+     */
+    protected int[] ranks;
+    /**
+     * The sorted 64-bit hashes of any keys not placed on a level.
+     */
+    protected long[] leftovers;
+
+    /**
+     * Builds a MinimalPerfectHash over the given keys, using {@link #DEFAULT_SEED}, a gamma of 1, and one thread.
+     * @param hashFunction used to hash each key once; {@link Hasher#charSequenceHashAdze64} works well for Strings
+     * @param keys distinct keys; will not be modified
+     */
+    public MinimalPerfectHash(SeededHashFunction64<T> hashFunction, T[] keys) {
+        this(hashFunction, DEFAULT_SEED, keys, 1f, false);
+    }
+
+    /**
+     * Builds a MinimalPerfectHash over the given keys.
+     * @param hashFunction used to hash each key once; {@link Hasher#charSequenceHashAdze64} works well for Strings
+     * @param seed the first seed to try; if the build fails with this seed, others will be tried
+     * @param keys distinct keys; will not be modified
+     * @param gamma how many bits to use per key on each level; 1 uses the least memory, while 2 or more is faster to
+     *              build and look up, using about 3.5 bits per key
+     * @param parallel if true, hashing keys and filling each level are split across threads
+     * @throws IllegalArgumentException if gamma is less than 0.5, or if keys are not all distinct
+     */
+    public MinimalPerfectHash(SeededHashFunction64<T> hashFunction, long seed, T[] keys, float gamma, boolean parallel) {
+        this.hashFunction = hashFunction;
+        build(keys, seed, gamma, parallel);
+    }
+
+    /**
+     * Builds a MinimalPerfectHash over the given keys, using {@link #DEFAULT_SEED}, a gamma of 1, and one thread.
+     * @param hashFunction used to hash each key once; {@link Hasher#charSequenceHashAdze64} works well for Strings
+     * @param keys distinct keys; will not be modified
+     */
+    public MinimalPerfectHash(SeededHashFunction64<T> hashFunction, Collection<? extends T> keys) {
+        this(hashFunction, DEFAULT_SEED, keys, 1f, false);
+    }
+
+    /**
+     * Builds a MinimalPerfectHash over the given keys. The indices given to keys don't depend on iteration order.
+     * @param hashFunction used to hash each key once; {@link Hasher#charSequenceHashAdze64} works well for Strings
+     * @param seed the first seed to try; if the build fails with this seed, others will be tried
+     * @param keys distinct keys; will not be modified
+     * @param gamma how many bits to use per key on each level; 1 uses the least memory, while 2 or more is faster to
+     *              build and look up, using about 3.5 bits per key
+     * @param parallel if true, hashing keys and filling each level are split across threads
+     * @throws IllegalArgumentException if gamma is less than 0.5, or if keys are not all distinct
+     */
+    public MinimalPerfectHash(SeededHashFunction64<T> hashFunction, long seed, Collection<? extends T> keys,
+                              float gamma, boolean parallel) {
+        this.hashFunction = hashFunction;
+        build(keys.toArray(), seed, gamma, parallel);
+    }
+
+    /**
+     * Used by {@link #read(SeededHashFunction64, ByteBuffer)}; doesn't build anything.
+     */
+    protected MinimalPerfectHash(SeededHashFunction64<T> hashFunction) {
+        this.hashFunction = hashFunction;
+    }
+
+    /**
+     * Gets the index for the given key, which is unique among the keys this was built with, and is between 0 and
+     * {@link #size()} - 1, inclusive. Keys that weren't used to build this may get any index in that range, or -1.
+     * @param key a key, ideally one of the keys this was built with
+     * @return an index from 0 to {@code size() - 1}, or -1 if key was definitely not used to build this
+     */
+    public int index(T key) {
+        return indexOfHash(hashFunction.hash64(seed, key));
+    }
+
+    /**
+     * Gets the index for a key that has already been hashed with {@link #getHashFunction()} and {@link #getSeed()}.
+     * See {@link #index(Object)}.
+     * @param hash the 64-bit hash of a key, using this MinimalPerfectHash's hash function and seed
+     * @return an index from 0 to {@code size() - 1}, or -1 if the key was definitely not used to build this
+     */
+    public int indexOfHash(final long hash) {
+        final int levels = levelStarts.length - 1;
+        for (int level = 0; level < levels; level++) {
+            final int start = levelStarts[level];
+            final long p = position(hash, level, (long) (levelStarts[level + 1] - start) << 6);
+            final int word = start + (int) (p >>> 6);
+            final long w = bits[word];
+            if ((w & 1L << p) != 0L) {
+                int r = ranks[word >>> 3];
+                for (int i = word & -8; i < word; i++) {
+                    r += Long.bitCount(bits[i]);
+                }
+                return r + Long.bitCount(w & ~(-1L << p));
+            }
+        }
+        final int found = Arrays.binarySearch(leftovers, hash);
+        return found < 0 ? -1 : size - leftovers.length + found;
+    }
+
+    /**
+     * @return how many keys this was built with; every index is less than this
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the seed used to hash keys; this may differ from the seed given to the constructor
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return the hash function used on each key
+     */
+    public SeededHashFunction64<T> getHashFunction() {
+        return hashFunction;
+    }
+
+    /**
+     * @return how many levels this uses
+     */
+    public int getLevelCount() {
+        return levelStarts.length - 1;
+    }
+
+    /**
+     * Gets how many bits of storage this uses per key, counting the level bit arrays, the rank table, and any leftover
+     * hashes, but not object headers.
+     * @return the storage used per key, in bits
+     */
+    public double bitsPerKey() {
+        if (size == 0) return 0.0;
+        return (bits.length * 64.0 + ranks.length * 32.0 + leftovers.length * 64.0) / size;
+    }
+
+    /**
+     * Gets how many bytes {@link #write(ByteBuffer)} will use.
+     * @return the size of this in serialized form, in bytes
+     */
+    public int serializedSize() {
+        return 4 + 8 + 4 + 4 + 4 * (levelStarts.length - 1) + 4 + 8 * bits.length + 8 * leftovers.length;
+    }
+
+    /**
+     * Writes this to {@code out}, starting at its current position and advancing it by {@link #serializedSize()}.
+     * The hash function isn't written, so the same one must be given to
+     * {@link #read(SeededHashFunction64, ByteBuffer)}.
+     * @param out a ByteBuffer with at least {@link #serializedSize()} bytes remaining
+     * @return out, after writing
+     */
+    public ByteBuffer write(ByteBuffer out) {
+        final int levels = levelStarts.length - 1;
+        out.putInt(MAGIC).putLong(seed).putInt(size).putInt(levels);
+        for (int i = 0; i < levels; i++) {
+            out.putInt(levelStarts[i + 1] - levelStarts[i]);
+        }
+        out.putInt(leftovers.length);
+        for (long b : bits) {
+            out.putLong(b);
+        }
+        for (long h : leftovers) {
+            out.putLong(h);
+        }
+        return out;
+    }
+
+    /**
+     * Reads a MinimalPerfectHash written by {@link #write(ByteBuffer)}, starting at the current position of {@code in}
+     * and advancing it past the data read. The rank table is rebuilt, which only needs one pass over the bit arrays.
+     * @param hashFunction must be the same hash function the written MinimalPerfectHash used
+     * @param in a ByteBuffer positioned at the start of the written data
+     * @return a new MinimalPerfectHash that gives the same indices as the one that was written
+     * @param <T> the type of keys
+     * @throws IllegalArgumentException if in doesn't hold a MinimalPerfectHash at its position
+     */
+    public static <T> MinimalPerfectHash<T> read(SeededHashFunction64<T> hashFunction, ByteBuffer in) {
+        if (in.getInt() != MAGIC)
+            throw new IllegalArgumentException("The ByteBuffer doesn't contain a MinimalPerfectHash at its position.");
+        MinimalPerfectHash<T> mph = new MinimalPerfectHash<>(hashFunction);
+        mph.seed = in.getLong();
+        mph.size = in.getInt();
+        final int levels = in.getInt();
+        if (levels < 0 || levels > MAX_LEVELS)
+            throw new IllegalArgumentException("The ByteBuffer doesn't contain a valid MinimalPerfectHash.");
+        mph.levelStarts = new int[levels + 1];
+        for (int i = 0; i < levels; i++) {
+            mph.levelStarts[i + 1] = mph.levelStarts[i] + in.getInt();
+        }
+        mph.bits = new long[mph.levelStarts[levels]];
+        mph.leftovers = new long[in.getInt()];
+        for (int i = 0; i < mph.bits.length; i++) {
+            mph.bits[i] = in.getLong();
+        }
+        for (int i = 0; i < mph.leftovers.length; i++) {
+            mph.leftovers[i] = in.getLong();
+        }
+        mph.computeRanks();
+        return mph;
+    }
+
+    /**
+     * Gets the bit position a key with the given 64-bit hash uses on the given level, which has m bits.
+     */
+    private static long position(long hash, int level, long m) {
+        return (Hasher.randomize2(hash + (level + 1) * 0xD1B54A32D192ED03L) >>> 32) * m >>> 32;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void build(Object[] keys, long seed, float gamma, boolean parallel) {
+        if (!(gamma >= 0.5f))
+            throw new IllegalArgumentException("gamma must be at least 0.5, but was " + gamma);
+        for (int attempt = 1; ; attempt++) {
+            final long s = seed;
+            final long[] hashes = new long[keys.length];
+            if (parallel && keys.length >= PARALLEL_THRESHOLD)
+                IntStream.range(0, keys.length).parallel().forEach(i -> hashes[i] = hashFunction.hash64(s, (T) keys[i]));
+            else {
+                for (int i = 0; i < keys.length; i++) {
+                    hashes[i] = hashFunction.hash64(s, (T) keys[i]);
+                }
+            }
+            if (buildFromHashes(hashes, gamma, parallel)) {
+                this.seed = seed;
+                return;
+            }
+            if (attempt >= MAX_ATTEMPTS)
+                throw new IllegalArgumentException("Could not build a MinimalPerfectHash; the keys are probably not all distinct.");
+            seed = Hasher.randomize2(seed + attempt);
+        }
+    }
+
+    /**
+     * Builds every level from the given 64-bit key hashes, which this may reorder and overwrite.
+     * @return true if this succeeded, or false if any hashes were duplicated
+     */
+    private boolean buildFromHashes(final long[] hashes, final float gamma, final boolean parallel) {
+        size = hashes.length;
+        final long[][] levelBits = new long[MAX_LEVELS][];
+        int count = hashes.length, levels = 0;
+        while (count > 0 && levels < MAX_LEVELS) {
+            final int words = (int) Math.min(Integer.MAX_VALUE >>> 6, ((long) Math.ceil(count * (double) gamma) + 63L) >>> 6);
+            final long m = (long) words << 6;
+            final long[] placed = new long[words], collided = new long[words];
+            if (parallel && count >= PARALLEL_THRESHOLD)
+                markParallel(hashes, count, levels, m, placed, collided);
+            else
+                mark(hashes, 0, count, levels, m, placed, collided);
+            for (int i = 0; i < words; i++) {
+                placed[i] &= ~collided[i];
+            }
+            int kept = 0;
+            for (int i = 0; i < count; i++) {
+                final long p = position(hashes[i], levels, m);
+                if ((collided[(int) (p >>> 6)] & 1L << p) != 0L)
+                    hashes[kept++] = hashes[i];
+            }
+            count = kept;
+            levelBits[levels++] = placed;
+        }
+        leftovers = Arrays.copyOf(hashes, count);
+        Arrays.sort(leftovers);
+        for (int i = 1; i < count; i++) {
+            if (leftovers[i - 1] == leftovers[i])
+                return false;
+        }
+        levelStarts = new int[levels + 1];
+        for (int i = 0; i < levels; i++) {
+            levelStarts[i + 1] = levelStarts[i] + levelBits[i].length;
+        }
+        bits = new long[levelStarts[levels]];
+        for (int i = 0; i < levels; i++) {
+            System.arraycopy(levelBits[i], 0, bits, levelStarts[i], levelBits[i].length);
+        }
+        computeRanks();
+        return true;
+    }
+
+    /**
+     * Marks the positions of hashes from start (inclusive) to end (exclusive) on one level; a position used by more
+     * than one hash is marked in collided as well as placed.
+     */
+    private static void mark(long[] hashes, int start, int end, int level, long m, long[] placed, long[] collided) {
+        for (int i = start; i < end; i++) {
+            final long p = position(hashes[i], level, m), bit = 1L << p;
+            final int word = (int) (p >>> 6);
+            if ((placed[word] & bit) != 0L)
+                collided[word] |= bit;
+            else
+                placed[word] |= bit;
+        }
+    }
+
+    /**
+     * Like {@link #mark(long[], int, int, int, long, long[], long[])} on the first count hashes, but each chunk of
+     * hashes is marked on its own bit arrays by one thread, and then the chunks are combined.
+     */
+    private static void markParallel(final long[] hashes, final int count, final int level, final long m,
+                                     final long[] placed, final long[] collided) {
+        final int chunks = Math.min(MAX_CHUNKS, count / PARALLEL_THRESHOLD + 1), words = placed.length;
+        final long[][] chunkPlaced = new long[chunks][], chunkCollided = new long[chunks][];
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            chunkPlaced[c] = new long[words];
+            chunkCollided[c] = new long[words];
+            mark(hashes, (int) ((long) count * c / chunks), (int) ((long) count * (c + 1) / chunks), level, m,
+                    chunkPlaced[c], chunkCollided[c]);
+        });
+        final int span = 1 << 12;
+        IntStream.range(0, (words + span - 1) / span).parallel().forEach(s -> {
+            for (int w = s * span, end = Math.min(words, w + span); w < end; w++) {
+                long seen = 0L, both = 0L;
+                for (int c = 0; c < chunks; c++) {
+                    final long p = chunkPlaced[c][w];
+                    both |= chunkCollided[c][w] | (seen & p);
+                    seen |= p;
+                }
+                placed[w] = seen;
+                collided[w] = both;
+            }
+        });
+    }
+
+    private void computeRanks() {
+        ranks = new int[(bits.length >>> 3) + 1];
+        int r = 0;
+        for (int i = 0; i < bits.length; i++) {
+            if ((i & 7) == 0)
+                ranks[i >>> 3] = r;
+            r += Long.bitCount(bits[i]);
+        }
+        if ((bits.length & 7) == 0)
+            ranks[bits.length >>> 3] = r;
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2026 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.tommyettinger.digital;
+
+import com.github.tommyettinger.digital.Hasher.SeededHashFunction64;
+
+/**
+ * An order-independent hash of a multiset, such as the items of an unordered collection. Each item's hash is mixed
+ * with {@link Hasher#randomize2(long)}, and the results are added together, with overflow. Because addition is
+ * commutative, the order of items doesn't matter, so a collection doesn't need to be sorted before hashing, and the
+ * hash can be kept up to date as items are {@link #add(long) added} or {@link #remove(long) removed}, in constant time
+ * per change. Unlike XOR, addition counts duplicates, so adding an item twice isn't the same as never adding it.
+ * <br>
+ * The hash of two multisets combined is the sum of their hashes, which {@link #addAll(MultisetHash)} uses; this lets
+ * each thread or node hash part of a collection separately. Two MultisetHash objects should only be compared or
+ * combined if they use the same seed.
+ * <br>
+ * Items can be given as 64-bit hashes already, hashed with a {@link SeededHashFunction64} such as
+ * {@link Hasher#charSequenceHashAdze64}, or hashed with {@link Object#hashCode()}. The last option is convenient, but
+ * only gives 32 bits per item, so distinct items collide more often. A boxed {@link Long} is the exception: it uses its
+ * value rather than its hashCode(), so {@code add(Long.valueOf(x))} and {@code add(x)} change the hash the same way.
+ *
+ * @author Tommy Ettinger
+ */
+public class MultisetHash {
+    protected final long seed;
+    protected long hash;
+    protected long size;
+
+    /**
+     * Creates an empty MultisetHash with seed 0.
+     */
+    public MultisetHash() {
+        this(0L);
+    }
+
+    /**
+     * Creates an empty MultisetHash with the given seed.
+     * @param seed any long; different seeds give unrelated hashes
+     */
+    public MultisetHash(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Creates a MultisetHash with the same seed, hash, and size as other.
+     * @param other another MultisetHash to copy
+     */
+    public MultisetHash(MultisetHash other) {
+        this.seed = other.seed;
+        this.hash = other.hash;
+        this.size = other.size;
+    }
+
+    /**
+     * Gets the amount that an item with the given hash adds to a multiset's hash.
+     * @param seed the seed of the multiset hash
+     * @param itemHash a 64-bit hash of an item
+     * @return the item's contribution
+     */
+    public static long element(long seed, long itemHash) {
+        return Hasher.randomize2(itemHash ^ seed);
+    }
+
+    /**
+     * Hashes every item in itemHashes, in any order.
+     * @param seed any long; different seeds give unrelated hashes
+     * @param itemHashes 64-bit hashes of each item
+     * @return the hash of the multiset of itemHashes
+     */
+    public static long hash(long seed, long[] itemHashes) {
+        long h = 0L;
+        for (long item : itemHashes) {
+            h += Hasher.randomize2(item ^ seed);
+        }
+        return h;
+    }
+
+    /**
+     * Gets the 64-bit hash used for an item given as an Object: 0 for null, the value of a {@link Long}, or
+     * {@link Object#hashCode()} for anything else. Other boxed integer types already have their value as hashCode().
+     * @param item any Object, or null
+     * @return the hash to use for item
+     */
+    public static long itemHash(Object item) {
+        if (item == null) return 0L;
+        if (item instanceof Long) return (Long) item;
+        return item.hashCode();
+    }
+
+    /**
+     * Hashes every item in items, in any order, using {@link #itemHash(Object)}; null items are allowed.
+     * @param seed any long; different seeds give unrelated hashes
+     * @param items an array of items
+     * @return the hash of the multiset of items
+     */
+    public static long hash(long seed, Object[] items) {
+        long h = 0L;
+        for (Object item : items) {
+            h += Hasher.randomize2(itemHash(item) ^ seed);
+        }
+        return h;
+    }
+
+    /**
+     * Hashes every item in items, in any order, using {@link #itemHash(Object)}; null items are allowed.
+     * @param seed any long; different seeds give unrelated hashes
+     * @param items any Iterable, such as a Collection
+     * @return the hash of the multiset of items
+     */
+    public static long hash(long seed, Iterable<?> items) {
+        long h = 0L;
+        for (Object item : items) {
+            h += Hasher.randomize2(itemHash(item) ^ seed);
+        }
+        return h;
+    }
+
+    /**
+     * Hashes every item in items, in any order, using hashFunction with the given seed.
+     * @param seed any long; different seeds give unrelated hashes
+     * @param items an array of items
+     * @param hashFunction used to get a 64-bit hash of each item
+     * @return the hash of the multiset of items
+     * @param <T> the type of items
+     */
+    public static <T> long hash(long seed, T[] items, SeededHashFunction64<? super T> hashFunction) {
+        long h = 0L;
+        for (T item : items) {
+            h += Hasher.randomize2(hashFunction.hash64(seed, item) ^ seed);
+        }
+        return h;
+    }
+
+    /**
+     * Hashes every item in items, in any order, using hashFunction with the given seed.
+     * @param seed any long; different seeds give unrelated hashes
+     * @param items any Iterable, such as a Collection
+     * @param hashFunction used to get a 64-bit hash of each item
+     * @return the hash of the multiset of items
+     * @param <T> the type of items
+     */
+    public static <T> long hash(long seed, Iterable<? extends T> items, SeededHashFunction64<? super T> hashFunction) {
+        long h = 0L;
+        for (T item : items) {
+            h += Hasher.randomize2(hashFunction.hash64(seed, item) ^ seed);
+        }
+        return h;
+    }
+
+    /**
+     * Adds one item, given as a 64-bit hash.
+     * @param itemHash a 64-bit hash of the item
+     * @return this, for chaining
+     */
+    public MultisetHash add(long itemHash) {
+        hash += Hasher.randomize2(itemHash ^ seed);
+        size++;
+        return this;
+    }
+
+    /**
+     * Removes one item, given as a 64-bit hash. This doesn't check that the item was added before; if it wasn't, the
+     * hash won't match any real multiset until the item is added.
+     * @param itemHash a 64-bit hash of the item
+     * @return this, for chaining
+     */
+    public MultisetHash remove(long itemHash) {
+        hash -= Hasher.randomize2(itemHash ^ seed);
+        size--;
+        return this;
+    }
+
+    /**
+     * Adds one item, using {@link #itemHash(Object)}; item may be null.
+     * @param item the item to add
+     * @return this, for chaining
+     */
+    public MultisetHash add(Object item) {
+        return add(itemHash(item));
+    }
+
+    /**
+     * Removes one item, using {@link #itemHash(Object)}; item may be null.
+     * @param item the item to remove
+     * @return this, for chaining
+     */
+    public MultisetHash remove(Object item) {
+        return remove(itemHash(item));
+    }
+
+    /**
+     * Adds every item in itemHashes.
+     * @param itemHashes 64-bit hashes of each item
+     * @return this, for chaining
+     */
+    public MultisetHash addAll(long[] itemHashes) {
+        hash += hash(seed, itemHashes);
+        size += itemHashes.length;
+        return this;
+    }
+
+    /**
+     * Adds every item in items, using {@link #itemHash(Object)}.
+     * @param items an array of items, which may contain nulls
+     * @return this, for chaining
+     */
+    public MultisetHash addAll(Object[] items) {
+        hash += hash(seed, items);
+        size += items.length;
+        return this;
+    }
+
+    /**
+     * Adds every item in items, using {@link #itemHash(Object)}.
+     * @param items any Iterable, such as a Collection, which may contain nulls
+     * @return this, for chaining
+     */
+    public MultisetHash addAll(Iterable<?> items) {
+        for (Object item : items) {
+            add(item);
+        }
+        return this;
+    }
+
+    /**
+     * Adds every item that was added to other, so this hashes the combination of both multisets.
+     * @param other another MultisetHash with the same seed
+     * @return this, for chaining
+     */
+    public MultisetHash addAll(MultisetHash other) {
+        hash += other.hash;
+        size += other.size;
+        return this;
+    }
+
+    /**
+     * Removes every item that was added to other, which should all have been added to this before.
+     * @param other another MultisetHash with the same seed
+     * @return this, for chaining
+     */
+    public MultisetHash removeAll(MultisetHash other) {
+        hash -= other.hash;
+        size -= other.size;
+        return this;
+    }
+
+    /**
+     * Removes all items, so this hashes the empty multiset.
+     */
+    public void clear() {
+        hash = 0L;
+        size = 0L;
+    }
+
+    /**
+     * Gets the hash of all items added and not removed. This is equal to the static {@code hash()} methods given the
+     * same items and seed.
+     * @return the current multiset hash
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * @return how many items have been added, minus how many have been removed
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * @return the seed given to the constructor
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MultisetHash that = (MultisetHash) o;
+        return seed == that.seed && hash == that.hash && size == that.size;
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) Hasher.mix(hash ^ size + seed);
+    }
+}
@@ -0,0 +1,410 @@
+/*
+ * Copyright (c) 2026 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Hashing entry points for inputs that only exist on desktop and server JVMs, such as files, using the same "Adze"
+ * algorithm as {@link Hasher#hashAdze64(long, java.nio.ByteBuffer)}. This class is not available on GWT, and is
+ * excluded from the GWT module; everything else in {@link Hasher} is still usable there.
+ * <br>
+ * Files are read through {@link MappedByteBuffer} windows, so their contents are never copied onto the Java heap
+ * (other than the last few bytes, under 112, that don't fill a whole block). Files of any size can be hashed,
+ * including ones larger than 2GB; the result for a file is the same as {@link Hasher#hashAdze64(long, byte[])}
+ * would give for all of that file's bytes in one array, when the file is small enough for that to be possible. Files
+ * that are too large for one array hash as if a ByteBuffer could hold them; see {@link Hasher.AdzeStream}.
+ * <br>
+ * There is also a tree-hashing mode, {@link #hashAdzeTree64(long, ByteBuffer, int)} and its overloads, which splits a
+ * large input into fixed-size leaves, hashes the leaves in parallel on the common {@link ForkJoinPool}, and combines
+ * the leaf hashes in order. Tree hashes are not the same as the normal Adze hashes of the same data, but they don't
+ * depend on how many threads were used, and they scale with the number of cores for large inputs. Tree-hashing a file
+ * reads it into a few reused heap buffers instead of mapping it, so the memory it uses stays bounded.
+ *
+ * @author Tommy Ettinger
+ */
+public final class NioHasher {
+    private NioHasher() {
+    }
+
+    /**
+     * How many bytes of a file are mapped into memory at once by default. This is a multiple of 112, which is the
+     * block size the Adze hash reads at once, so that no block is split between windows. It is a little under 120MB.
+     */
+    public static final int WINDOW_SIZE = 112 << 20;
+
+    /**
+     * Hashes the entire contents of the given FileChannel, from position 0 to its current {@link FileChannel#size()},
+     * without changing its position. This gives the same result as {@link Hasher#hashAdze64(long, byte[])} would on
+     * the full contents of the channel's file. The channel must be open for reading.
+     * @param seed any long seed
+     * @param channel a FileChannel open for reading
+     * @return the 64-bit hash of the channel's contents, or 0 if channel is null or empty
+     * @throws IOException if mapping the file fails
+     */
+    public static long hashAdze64(final long seed, final FileChannel channel) throws IOException {
+        if (channel == null) return 0L;
+        return hashAdze64(seed, channel, 0L, channel.size(), WINDOW_SIZE);
+    }
+
+    /**
+     * Hashes {@code length} bytes of the given FileChannel, starting at the absolute position {@code start}, without
+     * changing the channel's position. This will not read past the channel's {@link FileChannel#size()}. This gives
+     * the same result as {@link Hasher#hashAdze64(long, byte[], int, int)} would on the full contents of the channel's
+     * file, with the same start and length (when those fit in ints). The channel must be open for reading.
+     * @param seed any long seed
+     * @param channel a FileChannel open for reading
+     * @param start the starting position, measured in bytes
+     * @param length the number of bytes to hash
+     * @return the 64-bit hash of the requested section of the channel's contents
+     * @throws IOException if mapping the file fails
+     */
+    public static long hashAdze64(final long seed, final FileChannel channel, long start, long length) throws IOException {
+        return hashAdze64(seed, channel, start, length, WINDOW_SIZE);
+    }
+
+    /**
+     * Hashes the entire contents of the file at the given Path. This opens the file for reading, hashes it as
+     * {@link #hashAdze64(long, FileChannel)} does, and closes it.
+     * @param seed any long seed
+     * @param path the Path to a readable file
+     * @return the 64-bit hash of the file's contents, or 0 if path is null or the file is empty
+     * @throws IOException if the file can't be opened or mapped
+     */
+    public static long hashAdze64(final long seed, final Path path) throws IOException {
+        if (path == null) return 0L;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return hashAdze64(seed, channel);
+        }
+    }
+
+    /**
+     * Like {@link #hashAdze64(long, FileChannel)}, but returns a 32-bit hash, the same as
+     * {@link Hasher#hashAdze(long, byte[])} would give for the channel's contents.
+     * @param seed any long seed
+     * @param channel a FileChannel open for reading
+     * @return the 32-bit hash of the channel's contents, or 0 if channel is null or empty
+     * @throws IOException if mapping the file fails
+     */
+    public static int hashAdze(final long seed, final FileChannel channel) throws IOException {
+        return (int) hashAdze64(seed, channel);
+    }
+
+    /**
+     * Like {@link #hashAdze64(long, Path)}, but returns a 32-bit hash, the same as
+     * {@link Hasher#hashAdze(long, byte[])} would give for the file's contents.
+     * @param seed any long seed
+     * @param path the Path to a readable file
+     * @return the 32-bit hash of the file's contents, or 0 if path is null or the file is empty
+     * @throws IOException if the file can't be opened or mapped
+     */
+    public static int hashAdze(final long seed, final Path path) throws IOException {
+        return (int) hashAdze64(seed, path);
+    }
+
+    /**
+     * The implementation for the FileChannel hashes, with a configurable window size so tests can make sure that
+     * hashing across window boundaries works without needing gigabytes of data.
+     * @param windowSize how many bytes to map at once; must be a positive multiple of 112
+     */
+    static long hashAdze64(final long seed, final FileChannel channel, long start, long length, final int windowSize)
+            throws IOException {
+        if (channel == null) return 0L;
+        final long size = channel.size();
+        if (start < 0L || length < 0L || start >= size)
+            return 0L;
+        long len = Math.min(length, size - start);
+        // An empty section of a non-empty input still hashes its seed, like Hasher does for arrays and ByteBuffers.
+        if (len == 0L)
+            return Hasher.mix(Hasher.forwardAdze(seed));
+        Hasher.AdzeStream stream = new Hasher.AdzeStream(seed, len);
+        while (len > 0L) {
+            int window = (int) Math.min(windowSize, len);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, window);
+            stream.update(buffer, 0, window);
+            start += window;
+            len -= window;
+        }
+        return stream.finish();
+    }
+
+    /**
+     * A reasonable default leaf size for {@link #hashAdzeTree64(long, ByteBuffer, int)} and its overloads, measured in
+     * bytes. This is a multiple of 112, and a little under 1MB, so each leaf takes long enough to hash that the
+     * overhead of scheduling it on another thread is small, while large inputs still have plenty of leaves to share.
+     */
+    public static final int TREE_CHUNK_SIZE = 112 << 13;
+
+    /**
+     * Tree-hashes everything in data from index 0 to just before index {@link ByteBuffer#limit()}. The data is split
+     * into leaves of {@code chunkSize} bytes each (the last leaf can be shorter), and each leaf is hashed with
+     * {@link Hasher#hashAdze64(long, ByteBuffer, int, int)} using the given seed, in parallel on the common
+     * {@link ForkJoinPool}. The leaf hashes are then combined in order using
+     * {@link Hasher#mixMultiple(long, long, long, long, long)}, starting from a state that depends on the seed, the
+     * total length, and chunkSize.
+     * <br>
+     * The result depends only on the seed, the data, and chunkSize; it doesn't depend on how many threads are
+     * available or how the leaves were scheduled. It is not the same as {@link Hasher#hashAdze64(long, ByteBuffer)}
+     * on the same data, even if there is only one leaf, and changing chunkSize changes the result. A chunkSize that is
+     * a multiple of 112, such as {@link #TREE_CHUNK_SIZE}, is a little faster because each leaf is made only of full
+     * Adze blocks (except the last leaf). Because only absolute reads are used, data's position is not changed, and it
+     * must not be modified while this runs.
+     * @param seed any long seed
+     * @param data an input ByteBuffer
+     * @param chunkSize how many bytes go in each leaf; must be positive
+     * @return the 64-bit tree hash of data, or 0 if data is null or empty
+     * @throws IllegalArgumentException if chunkSize is not positive
+     */
+    public static long hashAdzeTree64(final long seed, final ByteBuffer data, final int chunkSize) {
+        if (data == null) return 0L;
+        return hashAdzeTree64(seed, data, 0, data.limit(), chunkSize);
+    }
+
+    /**
+     * Tree-hashes a section of data, using the given {@code start} index (measured in bytes) and {@code length} (also
+     * in bytes). This will not read past the limit of data. This works like
+     * {@link #hashAdzeTree64(long, ByteBuffer, int)}, treating the requested section as the whole input.
+     * @param seed any long seed
+     * @param data an input ByteBuffer
+     * @param start the starting index, measured in bytes
+     * @param length the number of bytes to hash
+     * @param chunkSize how many bytes go in each leaf; must be positive
+     * @return the 64-bit tree hash of the requested section of data
+     * @throws IllegalArgumentException if chunkSize is not positive
+     */
+    public static long hashAdzeTree64(final long seed, final ByteBuffer data, final int start, final int length,
+                                      final int chunkSize) {
+        if (chunkSize <= 0)
+            throw new IllegalArgumentException("The chunkSize must be positive.");
+        if (data == null || start < 0 || length < 0 || start >= data.limit())
+            return 0L;
+        final int len = Math.min(length, data.limit() - start);
+        final long[] leaves = new long[leafCount(len, chunkSize)];
+        ForkJoinPool.commonPool().invoke(new BufferLeaves(seed, data, start, len, chunkSize, leaves, 0, leaves.length));
+        return combineLeaves(seed, len, chunkSize, leaves);
+    }
+
+    /**
+     * Tree-hashes the entire contents of the given FileChannel, from position 0 to its current
+     * {@link FileChannel#size()}, without changing its position. The leaves are divided into a few runs per thread in
+     * the common {@link ForkJoinPool}, and each run reads its leaves with positional reads into one reused buffer of
+     * at most {@link #TREE_CHUNK_SIZE} bytes. This way, files larger than 2GB can be hashed, and the memory used
+     * doesn't grow with the file size; mapping each leaf instead would keep every mapping alive until the garbage
+     * collector happened to release it. The result is the same as {@link #hashAdzeTree64(long, ByteBuffer, int)} would
+     * give for a ByteBuffer holding the whole file, when the file is small enough for that to be possible.
+     * @param seed any long seed
+     * @param channel a FileChannel open for reading
+     * @param chunkSize how many bytes go in each leaf; must be positive
+     * @return the 64-bit tree hash of the channel's contents, or 0 if channel is null or empty
+     * @throws IOException if reading the file fails, or the file gets shorter while it is being hashed
+     * @throws IllegalArgumentException if chunkSize is not positive
+     */
+    public static long hashAdzeTree64(final long seed, final FileChannel channel, final int chunkSize)
+            throws IOException {
+        return hashAdzeTree64(seed, channel, chunkSize, TREE_CHUNK_SIZE);
+    }
+
+    /**
+     * The implementation for the FileChannel tree hashes, with a configurable buffer size so tests can make sure that
+     * leaves larger than one buffer are hashed correctly.
+     * @param bufferSize the most bytes each run of leaves reads at once; must be positive
+     */
+    static long hashAdzeTree64(final long seed, final FileChannel channel, final int chunkSize, final int bufferSize)
+            throws IOException {
+        if (chunkSize <= 0)
+            throw new IllegalArgumentException("The chunkSize must be positive.");
+        if (channel == null) return 0L;
+        final long size = channel.size();
+        if (size == 0L) return 0L;
+        final long[] leaves = new long[leafCount(size, chunkSize)];
+        try {
+            final int grain = Math.max(1, leaves.length / (ForkJoinPool.getCommonPoolParallelism() << 2));
+            ForkJoinPool.commonPool().invoke(new ChannelLeaves(seed, channel, size, chunkSize,
+                    Math.min(chunkSize, bufferSize), grain, leaves, 0, leaves.length));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return combineLeaves(seed, size, chunkSize, leaves);
+    }
+
+    /**
+     * Tree-hashes the entire contents of the file at the given Path. This opens the file for reading, hashes it as
+     * {@link #hashAdzeTree64(long, FileChannel, int)} does, and closes it.
+     * @param seed any long seed
+     * @param path the Path to a readable file
+     * @param chunkSize how many bytes go in each leaf; must be positive
+     * @return the 64-bit tree hash of the file's contents, or 0 if path is null or the file is empty
+     * @throws IOException if the file can't be opened or read
+     * @throws IllegalArgumentException if chunkSize is not positive
+     */
+    public static long hashAdzeTree64(final long seed, final Path path, final int chunkSize) throws IOException {
+        if (path == null) return 0L;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return hashAdzeTree64(seed, channel, chunkSize);
+        }
+    }
+
+    /**
+     * Gets how many leaves an input of the given length is split into; this is at least 1.
+     * @throws IllegalArgumentException if there would be more leaves than an array can hold
+     */
+    static int leafCount(final long length, final int chunkSize) {
+        final long count = Math.max(1L, (length + chunkSize - 1L) / chunkSize);
+        if (count > Integer.MAX_VALUE - 8)
+            throw new IllegalArgumentException("The chunkSize is too small for an input this large.");
+        return (int) count;
+    }
+
+    /**
+     * Combines leaf hashes, in order, into the final tree hash. This is the only sequential part of a tree hash, and
+     * only takes one step for every four leaves.
+     * @param seed the seed the leaves were hashed with
+     * @param length the total length of the input, in bytes
+     * @param chunkSize the number of bytes in each leaf (except possibly the last)
+     * @param leaves the 64-bit Adze hash of each leaf, in order
+     * @return the 64-bit tree hash
+     */
+    static long combineLeaves(final long seed, final long length, final int chunkSize, final long[] leaves) {
+        long h = Hasher.mixMultiple(length ^ Hasher.forwardAdze(seed), chunkSize);
+        final int n = leaves.length;
+        int i = 0;
+        for (; i + 4 <= n; i += 4) {
+            h = Hasher.mixMultiple(h, leaves[i], leaves[i + 1], leaves[i + 2], leaves[i + 3]);
+        }
+        switch (n - i) {
+            case 1: h = Hasher.mixMultiple(h, leaves[i]); break;
+            case 2: h = Hasher.mixMultiple(h, leaves[i], leaves[i + 1]); break;
+            case 3: h = Hasher.mixMultiple(h, leaves[i], leaves[i + 1], leaves[i + 2]); break;
+        }
+        return Hasher.mix(h);
+    }
+
+    /**
+     * Hashes the leaves from {@code lo} (inclusive) to {@code hi} (exclusive) of a ByteBuffer, splitting the range in
+     * half until only one leaf is left for each task.
+     */
+    private static final class BufferLeaves extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final long seed;
+        private final ByteBuffer data;
+        private final int start, length, chunkSize, lo, hi;
+        private final long[] leaves;
+
+        BufferLeaves(long seed, ByteBuffer data, int start, int length, int chunkSize, long[] leaves, int lo, int hi) {
+            this.seed = seed;
+            this.data = data;
+            this.start = start;
+            this.length = length;
+            this.chunkSize = chunkSize;
+            this.leaves = leaves;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo > 1) {
+                final int mid = lo + hi >>> 1;
+                invokeAll(new BufferLeaves(seed, data, start, length, chunkSize, leaves, lo, mid),
+                        new BufferLeaves(seed, data, start, length, chunkSize, leaves, mid, hi));
+            } else {
+                final long offset = (long) lo * chunkSize;
+                leaves[lo] = Hasher.hashAdze64(seed, data, start + (int) offset, (int) Math.min(chunkSize, length - offset));
+            }
+        }
+    }
+
+    /**
+     * Hashes the leaves from {@code lo} (inclusive) to {@code hi} (exclusive) of a FileChannel, splitting the range in
+     * half until at most {@code grain} leaves are left for each task. Each task then reads its leaves in order through
+     * one buffer, so at most one buffer per running task is in use at any time.
+     */
+    private static final class ChannelLeaves extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final long seed, size;
+        private final FileChannel channel;
+        private final int chunkSize, bufferSize, grain, lo, hi;
+        private final long[] leaves;
+
+        ChannelLeaves(long seed, FileChannel channel, long size, int chunkSize, int bufferSize, int grain,
+                      long[] leaves, int lo, int hi) {
+            this.seed = seed;
+            this.channel = channel;
+            this.size = size;
+            this.chunkSize = chunkSize;
+            this.bufferSize = bufferSize;
+            this.grain = grain;
+            this.leaves = leaves;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo > grain) {
+                final int mid = lo + hi >>> 1;
+                invokeAll(new ChannelLeaves(seed, channel, size, chunkSize, bufferSize, grain, leaves, lo, mid),
+                        new ChannelLeaves(seed, channel, size, chunkSize, bufferSize, grain, leaves, mid, hi));
+                return;
+            }
+            final ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+            try {
+                for (int leaf = lo; leaf < hi; leaf++) {
+                    long position = (long) leaf * chunkSize;
+                    final long length = Math.min(chunkSize, size - position);
+                    if (length <= bufferSize) {
+                        read(buffer, position, (int) length);
+                        leaves[leaf] = Hasher.hashAdze64(seed, buffer, 0, (int) length);
+                        continue;
+                    }
+                    final Hasher.AdzeStream stream = new Hasher.AdzeStream(seed, length);
+                    for (long remaining = length; remaining > 0L; ) {
+                        final int n = (int) Math.min(bufferSize, remaining);
+                        read(buffer, position, n);
+                        stream.update(buffer, 0, n);
+                        position += n;
+                        remaining -= n;
+                    }
+                    leaves[leaf] = stream.finish();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Fills the first {@code length} bytes of buffer from the channel, starting at the absolute position given.
+         */
+        private void read(final ByteBuffer buffer, final long position, final int length) throws IOException {
+            buffer.clear().limit(length);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0)
+                    throw new EOFException("The file got shorter while it was being hashed.");
+            }
+        }
+    }
+}
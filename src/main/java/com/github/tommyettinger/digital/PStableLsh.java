@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.util.stream.IntStream;
+
+/**
+ * p-stable locality-sensitive hashing (Datar et al., 2004) for float vectors under Euclidean distance. Each of
+ * {@link #getHashes() hashes} hash functions projects a vector onto a random Gaussian direction, adds a random offset,
+ * and divides the line into buckets {@link #getBucketWidth() bucketWidth} wide: {@code floor((a·v + b) / w)}. Vectors
+ * that are close together usually land in the same bucket, and the chance of that falls smoothly as their Euclidean
+ * distance grows compared to the bucket width.
+ * <br>
+ * The directions have components from {@link Distributor#normal(long)}, given longs from
+ * {@link Hasher#randomize2(long)} of the seed plus each component's index, and the offsets come from
+ * {@link Hasher#randomize3(long)} of the seed plus each hash function's index, so they only depend on the seed and
+ * sizes. As with {@link HyperplaneLsh}, they are computed in the constructor; both are stored already divided by the
+ * bucket width, so each hash of a vector costs only a dot product, an add, and a floor.
+ * <br>
+ * Hashes for vector i are packed into int arrays starting at {@code i * }{@link #getHashes()}. To find candidate
+ * neighbors without comparing every pair of vectors, {@link #tableKeys(int[], int, int, int, long[])} combines groups
+ * of hashes into keys for an {@link LshIndex}.
+ *
+ * @author Tommy Ettinger
+ */
+public class PStableLsh {
+    protected final int dimensions;
+    protected final int hashes;
+    protected final float bucketWidth;
+    /**
+     * The direction for hash function h is stored from {@code h * dimensions}, inclusive, to
+     * {@code (h + 1) * dimensions}, exclusive, and is already divided by the bucket width.
+     */
+    protected final float[] directions;
+    /**
+     * Each offset is already divided by the bucket width, so it is between 0 and 1.
+     */
+    protected final float[] offsets;
+
+    /**
+     * Creates a PStableLsh for vectors of the given dimensions.
+     * @param dimensions the length of every vector; must be positive
+     * @param hashes how many hash functions to use; must be positive
+     * @param bucketWidth how wide each bucket is; must be positive, and is usually about the distance that should
+     *                    count as near
+     * @param seed any long; different seeds give unrelated hash functions
+     */
+    public PStableLsh(int dimensions, int hashes, float bucketWidth, long seed) {
+        if (dimensions <= 0 || hashes <= 0 || (long) dimensions * hashes > 0x7FFFFFF0L)
+            throw new IllegalArgumentException("dimensions and hashes must be positive, and their product can't be too large.");
+        if (!(bucketWidth > 0f) || bucketWidth == Float.POSITIVE_INFINITY)
+            throw new IllegalArgumentException("bucketWidth must be positive and finite, but was " + bucketWidth);
+        this.dimensions = dimensions;
+        this.hashes = hashes;
+        this.bucketWidth = bucketWidth;
+        this.directions = new float[dimensions * hashes];
+        final double inverseWidth = 1.0 / bucketWidth;
+        for (int i = 0; i < directions.length; i++) {
+            directions[i] = (float) (Distributor.normal(Hasher.randomize2(seed + i)) * inverseWidth);
+        }
+        this.offsets = new float[hashes];
+        for (int h = 0; h < hashes; h++) {
+            offsets[h] = (Hasher.randomize3(seed + h) >>> 40) * 0x1p-24f;
+        }
+    }
+
+    /**
+     * Gets every hash of one vector.
+     * @param vector a float array with a length of at least {@link #getDimensions()}
+     * @param out will be modified; must have a length of at least {@code offset + }{@link #getHashes()}
+     * @param offset where in out to place the hashes
+     * @return out, after modifications
+     */
+    public int[] hash(float[] vector, int[] out, int offset) {
+        final int dimensions = this.dimensions;
+        final float[] directions = this.directions;
+        for (int h = 0, p = 0; h < hashes; h++) {
+            float dot = offsets[h];
+            for (int d = 0; d < dimensions; d++, p++) {
+                dot += directions[p] * vector[d];
+            }
+            out[offset + h] = (int) Math.floor(dot);
+        }
+        return out;
+    }
+
+    /**
+     * Gets every hash of one vector in a new array.
+     * @param vector a float array with a length of at least {@link #getDimensions()}
+     * @return a new int array with length {@link #getHashes()}
+     */
+    public int[] hash(float[] vector) {
+        return hash(vector, new int[hashes], 0);
+    }
+
+    /**
+     * Gets the hashes of every vector, splitting the work across threads. The hashes of vector i start at index
+     * {@code i * }{@link #getHashes()} in the result.
+     * @param vectors an array of float arrays, each with a length of at least {@link #getDimensions()}
+     * @return a new int array with {@link #getHashes()} ints per vector
+     */
+    public int[] hashAll(float[][] vectors) {
+        final int[] out = new int[vectors.length * hashes];
+        IntStream.range(0, vectors.length).parallel().forEach(i -> hash(vectors[i], out, i * hashes));
+        return out;
+    }
+
+    /**
+     * Combines consecutive groups of hashes into one key per table of an {@link LshIndex}. Two vectors get the same
+     * key for a table only if all hashes in that group are equal, so more hashes per table gives fewer and closer
+     * candidates, and more tables finds more of the true neighbors.
+     * @param hashes an int array holding a vector's hashes
+     * @param offset where the vector's hashes start
+     * @param tables how many keys to get; {@code tables * hashesPerTable} must be at most {@link #getHashes()}
+     * @param hashesPerTable how many hashes go in each key; must be positive
+     * @param out will be modified; must have a length of at least tables
+     * @return out, after modifications
+     */
+    public long[] tableKeys(int[] hashes, int offset, int tables, int hashesPerTable, long[] out) {
+        if (hashesPerTable < 1 || (long) tables * hashesPerTable > this.hashes)
+            throw new IllegalArgumentException("There aren't enough hashes for " + tables + " tables of " + hashesPerTable + " hashes.");
+        for (int t = 0, i = offset; t < tables; t++) {
+            long key = Hasher.randomize3(t);
+            for (int end = i + hashesPerTable; i < end; i++) {
+                key = Hasher.mixMultiple(key, hashes[i]);
+            }
+            out[t] = Hasher.mix(key);
+        }
+        return out;
+    }
+
+    /**
+     * @return the length of every vector
+     */
+    public int getDimensions() {
+        return dimensions;
+    }
+
+    /**
+     * @return how many hash functions are used
+     */
+    public int getHashes() {
+        return hashes;
+    }
+
+    /**
+     * @return how wide each bucket is
+     */
+    public float getBucketWidth() {
+        return bucketWidth;
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.tommyettinger.digital;
+
+import com.github.tommyettinger.digital.Hasher.SeededHashFunction64;
+
+import java.util.Arrays;
+
+/**
+ * Weighted rendezvous hashing, also called highest random weight (HRW) hashing. Every node gets a score for each key,
+ * by combining the key's hash with the node's hash using {@link Hasher#mixMultiple(long, long)} and {@link Hasher#mix(long)},
+ * and the key belongs to the node with the highest score. When a node is removed, only its keys move, spread evenly
+ * over the other nodes; when a node is added, it takes an even share of keys from every other node. Nodes can have
+ * weights, and each node gets a share of keys proportional to its weight, using the logarithmic method from
+ * "Weighted Distributed Hash Tables" by Christian Schindelhauer and Gunnar Schomaker (2005).
+ * <br>
+ * Each lookup scores every node, so it takes {@code O(n)} time for n nodes, but it needs no extra memory, and doesn't
+ * allocate. For hundreds of nodes or more, {@link HashRing} may be faster. Adding or removing a node shouldn't happen
+ * while other threads are looking up keys.
+ *
+ * @param <T> the type of nodes; each node must be hashable by the given {@link SeededHashFunction64}
+ * @author Tommy Ettinger
+ */
+public class RendezvousHash<T> {
+    protected final SeededHashFunction64<T> hashFunction;
+    protected final long seed;
+    protected T[] nodes;
+    protected long[] nodeHashes;
+    protected double[] weights;
+    protected int size;
+    /**
+     * True if any weight isn't 1, so lookups need to use the slower weighted scores.
+     */
+    protected boolean weighted;
+
+    /**
+     * Creates a RendezvousHash with the given nodes, each with weight 1.
+     * @param hashFunction used to hash each node
+     * @param seed any long seed for hashFunction
+     * @param nodes the nodes to start with; may be empty; must not contain duplicates
+     */
+    @SafeVarargs
+    public RendezvousHash(SeededHashFunction64<T> hashFunction, long seed, T... nodes) {
+        this.hashFunction = hashFunction;
+        this.seed = seed;
+        final int capacity = Math.max(4, nodes.length);
+        this.nodes = newArray(capacity);
+        this.nodeHashes = new long[capacity];
+        this.weights = new double[capacity];
+        this.size = nodes.length;
+        for (int i = 0; i < size; i++) {
+            this.nodes[i] = nodes[i];
+            nodeHashes[i] = hashFunction.hash64(seed, nodes[i]);
+            weights[i] = 1.0;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T[] newArray(int capacity) {
+        return (T[]) new Object[capacity];
+    }
+
+    /**
+     * Adds node with weight 1.
+     * @param node a node that isn't already present
+     * @return this, for chaining
+     */
+    public RendezvousHash<T> add(T node) {
+        return add(node, 1.0);
+    }
+
+    /**
+     * Adds node with the given weight; a node with twice the weight gets about twice as many keys.
+     * @param node a node that isn't already present
+     * @param weight how large a share of keys node should get, relative to other nodes; must be positive
+     * @return this, for chaining
+     */
+    public RendezvousHash<T> add(T node, double weight) {
+        if (!(weight > 0.0 && weight < Double.POSITIVE_INFINITY))
+            throw new IllegalArgumentException("weight must be positive and finite, but was " + weight);
+        if (indexOf(node) >= 0)
+            throw new IllegalArgumentException("The node is already in this RendezvousHash.");
+        if (size == nodes.length) {
+            nodes = Arrays.copyOf(nodes, size << 1);
+            nodeHashes = Arrays.copyOf(nodeHashes, size << 1);
+            weights = Arrays.copyOf(weights, size << 1);
+        }
+        nodes[size] = node;
+        nodeHashes[size] = hashFunction.hash64(seed, node);
+        weights[size++] = weight;
+        weighted |= weight != 1.0;
+        return this;
+    }
+
+    /**
+     * Removes node, if present. The nodes after it move down one index.
+     * @param node a node to remove
+     * @return true if node was removed
+     */
+    public boolean remove(T node) {
+        final int index = indexOf(node);
+        if (index < 0) return false;
+        final int after = size - index - 1;
+        System.arraycopy(nodes, index + 1, nodes, index, after);
+        System.arraycopy(nodeHashes, index + 1, nodeHashes, index, after);
+        System.arraycopy(weights, index + 1, weights, index, after);
+        nodes[--size] = null;
+        weighted = false;
+        for (int i = 0; i < size; i++) {
+            weighted |= weights[i] != 1.0;
+        }
+        return true;
+    }
+
+    /**
+     * @param node a node to look for
+     * @return the index of node, or -1 if it isn't present
+     */
+    public int indexOf(T node) {
+        for (int i = 0; i < size; i++) {
+            if (nodes[i] == null ? node == null : nodes[i].equals(node))
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the index of the node with the highest score for the given key. This doesn't allocate.
+     * @param keyHash a hash of the key, such as from {@link Hasher#hash64(CharSequence)}
+     * @return the index of the chosen node, or -1 if this has no nodes
+     */
+    public int index(long keyHash) {
+        int best = -1;
+        if (weighted) {
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < size; i++) {
+                final long h = Hasher.mix(Hasher.mixMultiple(keyHash, nodeHashes[i]));
+                // u is uniform in (0, 1), so -weight / log(u) has the weighted distribution we need
+                final double score = weights[i] / -Math.log(((h >>> 11) + 0.5) * 0x1p-53);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = i;
+                }
+            }
+        } else {
+            long bestScore = Long.MIN_VALUE;
+            for (int i = 0; i < size; i++) {
+                final long score = Hasher.mix(Hasher.mixMultiple(keyHash, nodeHashes[i]));
+                if (best < 0 || score > bestScore) {
+                    bestScore = score;
+                    best = i;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Gets the node with the highest score for the given key. This doesn't allocate.
+     * @param keyHash a hash of the key, such as from {@link Hasher#hash64(CharSequence)}
+     * @return the chosen node, or null if this has no nodes
+     */
+    public T get(long keyHash) {
+        final int i = index(keyHash);
+        return i < 0 ? null : nodes[i];
+    }
+
+    /**
+     * Gets the index of the chosen node for every key hash in keyHashes, writing each into the same index in out.
+     * @param keyHashes hashes of the keys to place
+     * @param out will be modified; must be at least as long as keyHashes
+     * @return out, after modifications
+     */
+    public int[] indexAll(long[] keyHashes, int[] out) {
+        for (int i = 0; i < keyHashes.length; i++) {
+            out[i] = index(keyHashes[i]);
+        }
+        return out;
+    }
+
+    /**
+     * @param index the index of a node, from 0 to {@link #size()}, exclusive
+     * @return the node at that index
+     */
+    public T getNode(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for size " + size);
+        return nodes[index];
+    }
+
+    /**
+     * @param index the index of a node, from 0 to {@link #size()}, exclusive
+     * @return the weight of the node at that index
+     */
+    public double getWeight(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for size " + size);
+        return weights[index];
+    }
+
+    /**
+     * @return how many nodes are present
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.util.stream.IntStream;
+
+/**
+ * Computes 64-bit SimHash fingerprints (Charikar, 2002) of documents, so that documents with mostly the same tokens
+ * get fingerprints that differ in only a few bits. Each token's hash votes +1 or -1 (or its weight) on each of 64 bit
+ * positions, and the fingerprint has a 1 bit wherever the total is positive. The {@link #distance(long, long)} between
+ * fingerprints, which is the number of differing bits, is small for near-duplicates; a distance of 3 or less out of 64
+ * is a common threshold for web pages.
+ * <br>
+ * Tokens are given as hashes, such as from {@link Hasher#hash64(CharSequence)}; each is mixed once more with
+ * {@link Hasher#randomize2(long)} so that even weak token hashes give evenly distributed votes. Fingerprints for many
+ * documents can be computed at once with {@link #fingerprints(long[][])}, which splits the documents across threads.
+ *
+ * @author Tommy Ettinger
+ */
+public final class SimHash {
+    private SimHash() {
+    }
+
+    /**
+     * Computes the fingerprint of a document where every token has the same weight.
+     * @param tokenHashes the hashes of the tokens in a document; repeated tokens count more
+     * @return the 64-bit fingerprint
+     */
+    public static long fingerprint(long[] tokenHashes) {
+        final int[] votes = new int[64];
+        for (long t : tokenHashes) {
+            final long h = Hasher.randomize2(t);
+            for (int b = 0; b < 64; b++) {
+                votes[b] += (int) (h >>> b & 1L) * 2 - 1;
+            }
+        }
+        long result = 0L;
+        for (int b = 0; b < 64; b++) {
+            if (votes[b] > 0) result |= 1L << b;
+        }
+        return result;
+    }
+
+    /**
+     * Computes the fingerprint of a document where each token has its own weight, such as a TF-IDF score.
+     * @param tokenHashes the hashes of the tokens in a document
+     * @param weights the weight of each token; must be at least as long as tokenHashes
+     * @return the 64-bit fingerprint
+     */
+    public static long fingerprint(long[] tokenHashes, float[] weights) {
+        final float[] votes = new float[64];
+        for (int i = 0; i < tokenHashes.length; i++) {
+            final long h = Hasher.randomize2(tokenHashes[i]);
+            final float w = weights[i];
+            for (int b = 0; b < 64; b++) {
+                votes[b] += (h >>> b & 1L) == 0L ? -w : w;
+            }
+        }
+        long result = 0L;
+        for (int b = 0; b < 64; b++) {
+            if (votes[b] > 0f) result |= 1L << b;
+        }
+        return result;
+    }
+
+    /**
+     * Computes the fingerprint of each document in documents, splitting the work across threads.
+     * @param documents an array of documents, each an array of token hashes
+     * @return a new array of fingerprints, one per document, in the same order
+     */
+    public static long[] fingerprints(long[][] documents) {
+        final long[] result = new long[documents.length];
+        IntStream.range(0, documents.length).parallel().forEach(i -> result[i] = fingerprint(documents[i]));
+        return result;
+    }
+
+    /**
+     * Gets the Hamming distance between two fingerprints, which is how many bits differ.
+     * @param a a fingerprint
+     * @param b another fingerprint
+     * @return the number of differing bits, from 0 to 64
+     */
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+}
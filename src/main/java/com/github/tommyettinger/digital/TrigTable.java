@@ -0,0 +1,595 @@
+/*
+ * Copyright (c) 2026 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.tommyettinger.digital;
+
+/**
+ * A lookup table for sine and cosine with a selectable size, for code that wants to trade accuracy for a smaller cache
+ * footprint than {@link TrigTools} has. TrigTools always uses {@link TrigTools#TABLE_BITS 14 bits}, which means four
+ * tables totaling about 384KB; a loop that calls {@link TrigTools#sin(float)} on scattered angles can push most of its
+ * other data out of the L1 and L2 caches. A TrigTable with 8 bits has a float table of only about 1.3KB, and its
+ * {@link #sinSmoother(float) smoother} methods are still accurate to about 1e-4, which is plenty for many physics or
+ * animation loops.
+ * <br>
+ * Each TrigTable has one float table and one double table, each holding {@link #getTableSize()} + 1 sines followed by
+ * another quarter-turn of sines; cosines are read from the same table, a quarter-turn later, so only one table of each
+ * type needs to be in cache. The methods here mirror the table-based methods in TrigTools: {@link #sin(float)} and
+ * {@link #cos(float)} use the nearest table entry, while {@link #sinSmoother(float)}, {@link #cosSmoother(float)}, and
+ * {@link #tanSmoother(float)} interpolate between two entries. All of them have degree and turn variants, and double
+ * overloads that use the double table.
+ * <br>
+ * With b bits, the nearest-entry methods can be off by up to about {@code PI / 2^b}, and the smoother methods by up to
+ * about {@code 5 / 4^b}:
+ * <table>
+ *     <caption>Approximate maximum error and float table size</caption>
+ *     <tr><th>bits</th><th>sin()</th><th>sinSmoother()</th><th>float table</th></tr>
+ *     <tr><td>8</td><td>0.012</td><td>0.000075</td><td>1.3KB</td></tr>
+ *     <tr><td>10</td><td>0.0031</td><td>0.0000047</td><td>5KB</td></tr>
+ *     <tr><td>12</td><td>0.00077</td><td>0.0000003</td><td>20KB</td></tr>
+ *     <tr><td>14</td><td>0.00019</td><td>float precision</td><td>80KB</td></tr>
+ * </table>
+ * As in TrigTools, angles should be no lower than one turn in the negative direction; with fewer than 14 bits, angles
+ * can go further into the negatives without losing accuracy.
+ * <br>
+ * {@link #DEFAULT} uses the tables from TrigTools itself, so its results are identical to the static methods there.
+ * TrigTables are immutable, so any number of threads can share one.
+ *
+ * @author Tommy Ettinger
+ */
+public class TrigTable {
+    /**
+     * Uses the tables already in {@link TrigTools}, without copying them, so every method gives exactly the same result
+     * as the static method with the same name in TrigTools.
+     */
+    public static final TrigTable DEFAULT = new TrigTable(TrigTools.SIN_TABLE, TrigTools.COS_TABLE,
+            TrigTools.SIN_TABLE_D, TrigTools.COS_TABLE_D, TrigTools.TABLE_BITS, 0);
+
+    protected final int bits;
+    protected final int size;
+    protected final int mask;
+    /**
+     * Added to an index into {@link #cosTable} or {@link #cosTableD}; this is a quarter of the table size if the cosines
+     * are read from the sine tables, or 0 if there are separate cosine tables.
+     */
+    protected final int cosOffset;
+    /**
+     * A multiple of the table size added to scaled angles before truncating to int, so small negative angles round
+     * the same way as positive ones.
+     */
+    protected final int offset;
+    protected final double offsetD;
+    protected final float roundingOffset;
+    protected final double roundingOffsetD;
+    protected final float radToIndex, degToIndex, turnToIndex;
+    protected final double radToIndexD, degToIndexD, turnToIndexD;
+    protected final float[] sinTable, cosTable;
+    protected final double[] sinTableD, cosTableD;
+
+    /**
+     * Creates a TrigTable with {@code 2^bits} entries per turn.
+     * @param bits the log2 of how many table entries there are per turn, from 2 to 16 inclusive; 8 to 12 is typical
+     */
+    public TrigTable(int bits) {
+        this(checkBits(bits), bits);
+    }
+
+    private TrigTable(float[] sinTable, int bits) {
+        this(sinTable, sinTable, new double[sinTable.length], null, bits, 1 << bits - 2);
+        final int quarter = cosOffset;
+        final double[] sinTableD = this.sinTableD;
+        // filled the same way as the tables in TrigTools, so a TrigTable with 14 bits matches them exactly
+        for (int i = 0; i < size; i++) {
+            sinTableD[i + quarter & mask] = TrigTools.cosPrecise(((double) i) / size * TrigTools.PI2_D);
+        }
+        // exact values at every quarter-turn
+        for (int q = 0; q < 4; q++) {
+            sinTableD[q * quarter] = (q & 1) == 0 ? 0.0 : 2 - q;
+        }
+        System.arraycopy(sinTableD, 0, sinTableD, size, quarter + 1);
+        for (int i = 0; i < sinTable.length; i++) {
+            sinTable[i] = (float) sinTableD[i];
+        }
+    }
+
+    /**
+     * Used for {@link #DEFAULT} and by {@link #TrigTable(int)}; the tables are used directly, without copying.
+     */
+    private TrigTable(float[] sinTable, float[] cosTable, double[] sinTableD, double[] cosTableD, int bits, int cosOffset) {
+        this.bits = bits;
+        this.size = 1 << bits;
+        this.mask = size - 1;
+        this.cosOffset = cosOffset;
+        this.offset = Math.max(16384, size);
+        this.offsetD = offset;
+        this.roundingOffset = offset + 0.5f;
+        this.roundingOffsetD = offset + 0.5;
+        this.radToIndex = size / TrigTools.PI2;
+        this.degToIndex = size / 360f;
+        this.turnToIndex = size;
+        this.radToIndexD = size / TrigTools.PI2_D;
+        this.degToIndexD = size / 360.0;
+        this.turnToIndexD = size;
+        this.sinTable = sinTable;
+        this.cosTable = cosTable;
+        this.sinTableD = sinTableD;
+        this.cosTableD = cosTableD == null ? sinTableD : cosTableD;
+    }
+
+    private static float[] checkBits(int bits) {
+        if (bits < 2 || bits > 16)
+            throw new IllegalArgumentException("bits must be between 2 and 16, inclusive, but was " + bits);
+        return new float[(1 << bits) + (1 << bits - 2) + 1];
+    }
+
+    /**
+     * Converts {@code radians} to an index that can be used with {@link #sinAt(int)} and {@link #cosAt(int)}, rounding
+     * to the nearest entry.
+     * @param radians an angle in radians
+     * @return an index from 0 to {@link #getTableSize()}, exclusive
+     */
+    public int radiansToTableIndex(final float radians) {
+        return (int) (radians * radToIndex + roundingOffset) & mask;
+    }
+
+    /**
+     * Converts {@code degrees} to an index that can be used with {@link #sinAt(int)} and {@link #cosAt(int)}, rounding
+     * to the nearest entry.
+     * @param degrees an angle in degrees
+     * @return an index from 0 to {@link #getTableSize()}, exclusive
+     */
+    public int degreesToTableIndex(final float degrees) {
+        return (int) (degrees * degToIndex + roundingOffset) & mask;
+    }
+
+    /**
+     * Converts {@code turns} to an index that can be used with {@link #sinAt(int)} and {@link #cosAt(int)}, rounding
+     * to the nearest entry.
+     * @param turns an angle in turns
+     * @return an index from 0 to {@link #getTableSize()}, exclusive
+     */
+    public int turnsToTableIndex(final float turns) {
+        return (int) (turns * turnToIndex + roundingOffset) & mask;
+    }
+
+    /**
+     * Gets the sine at a table index, which is the sine of {@code index / getTableSize()} turns.
+     * @param index any int; it will be wrapped to fit in the table
+     * @return the sine at that index, as a float
+     */
+    public float sinAt(int index) {
+        return sinTable[index & mask];
+    }
+
+    /**
+     * Gets the cosine at a table index, which is the cosine of {@code index / getTableSize()} turns.
+     * @param index any int; it will be wrapped to fit in the table
+     * @return the cosine at that index, as a float
+     */
+    public float cosAt(int index) {
+        return cosTable[(index & mask) + cosOffset];
+    }
+
+    /**
+     * Gets the sine of {@code radians} by looking up the nearest entry in the float table; the result can be off by up
+     * to about {@code PI / getTableSize()}.
+     * @param radians an angle in radians
+     * @return the approximate sine of the given angle, from -1 to 1 inclusive
+     */
+    public float sin(final float radians) {
+        return sinTable[(int) (radians * radToIndex + roundingOffset) & mask];
+    }
+
+    /**
+     * Gets the cosine of {@code radians} by looking up the nearest entry in the float table; the result can be off by
+     * up to about {@code PI / getTableSize()}.
+     * @param radians an angle in radians
+     * @return the approximate cosine of the given angle, from -1 to 1 inclusive
+     */
+    public float cos(final float radians) {
+        return cosTable[((int) (radians * radToIndex + roundingOffset) & mask) + cosOffset];
+    }
+
+    /**
+     * Gets the sine of {@code radians} by looking up the nearest entry in the double table; the result can be off by
+     * up to about {@code PI / getTableSize()}.
+     * @param radians an angle in radians
+     * @return the approximate sine of the given angle, from -1 to 1 inclusive
+     */
+    public double sin(final double radians) {
+        return sinTableD[(int) (radians * radToIndexD + roundingOffsetD) & mask];
+    }
+
+    /**
+     * Gets the cosine of {@code radians} by looking up the nearest entry in the double table; the result can be off by
+     * up to about {@code PI / getTableSize()}.
+     * @param radians an angle in radians
+     * @return the approximate cosine of the given angle, from -1 to 1 inclusive
+     */
+    public double cos(final double radians) {
+        return cosTableD[((int) (radians * radToIndexD + roundingOffsetD) & mask) + cosOffset];
+    }
+
+    /**
+     * Gets the sine of {@code radians} by interpolating between the two nearest entries in the float table; this is
+     * slower than {@link #sin(float)}, but the error is roughly squared, to about
+     * {@code 5 / (getTableSize() * getTableSize())}.
+     * @param radians an angle in radians; optimally between {@code -PI2} and {@code PI2}
+     * @return the approximate sine of the given angle, from -1 to 1 inclusive
+     */
+    public float sinSmoother(float radians) {
+        radians *= radToIndex;
+        final int floor = (int) (radians + offset) - offset;
+        final int masked = floor & mask;
+        final float from = sinTable[masked], to = sinTable[masked + 1];
+        return from + (to - from) * (radians - floor);
+    }
+
+    /**
+     * Gets the cosine of {@code radians} by interpolating between the two nearest entries in the float table; this is
+     * slower than {@link #cos(float)}, but the error is roughly squared, to about
+     * {@code 5 / (getTableSize() * getTableSize())}.
+     * @param radians an angle in radians; optimally between {@code -PI2} and {@code PI2}
+     * @return the approximate cosine of the given angle, from -1 to 1 inclusive
+     */
+    public float cosSmoother(float radians) {
+        radians = Math.abs(radians) * radToIndex;
+        final int floor = (int) radians;
+        final int masked = (floor & mask) + cosOffset;
+        final float from = cosTable[masked], to = cosTable[masked + 1];
+        return from + (to - from) * (radians - floor);
+    }
+
+    /**
+     * Gets the tangent of {@code radians} by interpolating the sine and the cosine between the two nearest entries in
+     * the float table, then dividing them.
+     * @param radians an angle in radians
+     * @return the approximate tangent of the given angle
+     */
+    public float tanSmoother(float radians) {
+        radians *= radToIndex;
+        final int floor = (int) (radians + offsetD) - offset;
+        final int masked = floor & mask;
+        radians -= floor;
+        final float fromS = sinTable[masked], toS = sinTable[masked + 1];
+        final float fromC = cosTable[masked + cosOffset], toC = cosTable[masked + cosOffset + 1];
+        return (fromS + (toS - fromS) * radians) / (fromC + (toC - fromC) * radians);
+    }
+
+    /**
+     * Gets the sine of {@code radians} by interpolating between the two nearest entries in the double table; this is
+     * slower than {@link #sin(double)}, but the error is roughly squared, to about
+     * {@code 5 / (getTableSize() * getTableSize())}.
+     * @param radians an angle in radians; optimally between {@code -PI2} and {@code PI2}
+     * @return the approximate sine of the given angle, from -1 to 1 inclusive
+     */
+    public double sinSmoother(double radians) {
+        radians = radians * radToIndexD + offsetD;
+        final int floor = (int) radians;
+        final int masked = floor & mask;
+        final double from = sinTableD[masked], to = sinTableD[masked + 1];
+        return from + (to - from) * (radians - floor);
+    }
+
+    /**
+     * Gets the cosine of {@code radians} by interpolating between the two nearest entries in the double table; this is
+     * slower than {@link #cos(double)}, but the error is roughly squared, to about
+     * {@code 5 / (getTableSize() * getTableSize())}.
+     * @param radians an angle in radians; optimally between {@code -PI2} and {@code PI2}
+     * @return the approximate cosine of the given angle, from -1 to 1 inclusive
+     */
+    public double cosSmoother(double radians) {
+        radians = Math.abs(radians) * radToIndexD;
+        final int floor = (int) radians;
+        final int masked = (floor & mask) + cosOffset;
+        final double from = cosTableD[masked], to = cosTableD[masked + 1];
+        return from + (to - from) * (radians - floor);
+    }
+
+    /**
+     * Gets the tangent of {@code radians} by interpolating the sine and the cosine between the two nearest entries in
+     * the double table, then dividing them.
+     * @param radians an angle in radians
+     * @return the approximate tangent of the given angle
+     */
+    public double tanSmoother(double radians) {
+        radians = radians * radToIndexD + offsetD;
+        final int floor = (int) radians;
+        final int masked = floor & mask;
+        radians -= floor;
+        final double fromS = sinTableD[masked], toS = sinTableD[masked + 1];
+        final double fromC = cosTableD[masked + cosOffset], toC = cosTableD[masked + cosOffset + 1];
+        return (fromS + (toS - fromS) * radians) / (fromC + (toC - fromC) * radians);
+    }
+
+    /**
+     * Gets the sine of {@code degrees} by looking up the nearest entry in the float table; the result can be off by up
+     * to about {@code PI / getTableSize()}.
+     * @param degrees an angle in degrees
+     * @return the approximate sine of the given angle, from -1 to 1 inclusive
+     */
+    public float sinDeg(final float degrees) {
+        return sinTable[(int) (degrees * degToIndex + roundingOffset) & mask];
+    }
+
+    /**
+     * Gets the cosine of {@code degrees} by looking up the nearest entry in the float table; the result can be off by
+     * up to about {@code PI / getTableSize()}.
+     * @param degrees an angle in degrees
+     * @return the approximate cosine of the given angle, from -1 to 1 inclusive
+     */
+    public float cosDeg(final float degrees) {
+        return cosTable[((int) (degrees * degToIndex + roundingOffset) & mask) + cosOffset];
+    }
+
+    /**
+     * Gets the sine of {@code degrees} by looking up the nearest entry in the double table; the result can be off by
+     * up to about {@code PI / getTableSize()}.
+     * @param degrees an angle in degrees
+     * @return the approximate sine of the given angle, from -1 to 1 inclusive
+     */
+    public double sinDeg(final double degrees) {
+        return sinTableD[(int) (degrees * degToIndexD + roundingOffsetD) & mask];
+    }
+
+    /**
+     * Gets the cosine of {@code degrees} by looking up the nearest entry in the double table; the result can be off by
+     * up to about {@code PI / getTableSize()}.
+     * @param degrees an angle in degrees
+     * @return the approximate cosine of the given angle, from -1 to 1 inclusive
+     */
+    public double cosDeg(final double degrees) {
+        return cosTableD[((int) (degrees * degToIndexD + roundingOffsetD) & mask) + cosOffset];
+    }
+
+    /**
+     * Gets the sine of {@code degrees} by interpolating between the two nearest entries in the float table; this is
+     * slower than {@link #sinDeg(float)}, but the error is roughly squared, to about
+     * {@code 5 / (getTableSize() * getTableSize())}.
+     * @param degrees an angle in degrees; optimally between {@code -360} and {@code 360}
+     * @return the approximate sine of the given angle, from -1 to 1 inclusive
+     */
+    public float sinSmootherDeg(float degrees) {
+        degrees *= degToIndex;
+        final int floor = (int) (degrees + offset) - offset;
+        final int masked = floor & mask;
+        final float from = sinTable[masked], to = sinTable[masked + 1];
+        return from + (to - from) * (degrees - floor);
+    }
+
+    /**
+     * Gets the cosine of {@code degrees} by interpolating between the two nearest entries in the float table; this is
+     * slower than {@link #cosDeg(float)}, but the error is roughly squared, to about
+     * {@code 5 / (getTableSize() * getTableSize())}.
+     * @param degrees an angle in degrees; optimally between {@code -360} and {@code 360}
+     * @return the approximate cosine of the given angle, from -1 to 1 inclusive
+     */
+    public float cosSmootherDeg(float degrees) {
+        degrees = Math.abs(degrees) * degToIndex;
+        final int floor = (int) degrees;
+        final int masked = (floor & mask) + cosOffset;
+        final float from = cosTable[masked], to = cosTable[masked + 1];
+        return from + (to - from) * (degrees - floor);
+    }
+
+    /**
+     * Gets the tangent of {@code degrees} by interpolating the sine and the cosine between the two nearest entries in
+     * the float table, then dividing them.
+     * @param degrees an angle in degrees
+     * @return the approximate tangent of the given angle
+     */
+    public float tanSmootherDeg(float degrees) {
+        degrees *= degToIndex;
+        final int floor = (int) (degrees + offsetD) - offset;
+        final int masked = floor & mask;
+        degrees -= floor;
+        final float fromS = sinTable[masked], toS = sinTable[masked + 1];
+        final float fromC = cosTable[masked + cosOffset], toC = cosTable[masked + cosOffset + 1];
+        return (fromS + (toS - fromS) * degrees) / (fromC + (toC - fromC) * degrees);
+    }
+
+    /**
+     * Gets the sine of {@code degrees} by interpolating between the two nearest entries in the double table; this is
+     * slower than {@link #sinDeg(double)}, but the error is roughly squared, to about
+     * {@code 5 / (getTableSize() * getTableSize())}.
+     * @param degrees an angle in degrees; optimally between {@code -360} and {@code 360}
+     * @return the approximate sine of the given angle, from -1 to 1 inclusive
+     */
+    public double sinSmootherDeg(double degrees) {
+        degrees = degrees * degToIndexD + offsetD;
+        final int floor = (int) degrees;
+        final int masked = floor & mask;
+        final double from = sinTableD[masked], to = sinTableD[masked + 1];
+        return from + (to - from) * (degrees - floor);
+    }
+
+    /**
+     * Gets the cosine of {@code degrees} by interpolating between the two nearest entries in the double table; this is
+     * slower than {@link #cosDeg(double)}, but the error is roughly squared, to about
+     * {@code 5 / (getTableSize() * getTableSize())}.
+     * @param degrees an angle in degrees; optimally between {@code -360} and {@code 360}
+     * @return the approximate cosine of the given angle, from -1 to 1 inclusive
+     */
+    public double cosSmootherDeg(double degrees) {
+        degrees = Math.abs(degrees) * degToIndexD;
+        final int floor = (int) degrees;
+        final int masked = (floor & mask) + cosOffset;
+        final double from = cosTableD[masked], to = cosTableD[masked + 1];
+        return from + (to - from) * (degrees - floor);
+    }
+
+    /**
+     * Gets the tangent of {@code degrees} by interpolating the sine and the cosine between the two nearest entries in
+     * the double table, then dividing them.
+     * @param degrees an angle in degrees
+     * @return the approximate tangent of the given angle
+     */
+    public double tanSmootherDeg(double degrees) {
+        degrees = degrees * degToIndexD + offsetD;
+        final int floor = (int) degrees;
+        final int masked = floor & mask;
+        degrees -= floor;
+        final double fromS = sinTableD[masked], toS = sinTableD[masked + 1];
+        final double fromC = cosTableD[masked + cosOffset], toC = cosTableD[masked + cosOffset + 1];
+        return (fromS + (toS - fromS) * degrees) / (fromC + (toC - fromC) * degrees);
+    }
+
+    /**
+     * Gets the sine of {@code turns} by looking up the nearest entry in the float table; the result can be off by up
+     * to about {@code PI / getTableSize()}.
+     * @param turns an angle in turns
+     * @return the approximate sine of the given angle, from -1 to 1 inclusive
+     */
+    public float sinTurns(final float turns) {
+        return sinTable[(int) (turns * turnToIndex + roundingOffset) & mask];
+    }
+
+    /**
+     * Gets the cosine of {@code turns} by looking up the nearest entry in the float table; the result can be off by
+     * up to about {@code PI / getTableSize()}.
+     * @param turns an angle in turns
+     * @return the approximate cosine of the given angle, from -1 to 1 inclusive
+     */
+    public float cosTurns(final float turns) {
+        return cosTable[((int) (turns * turnToIndex + roundingOffset) & mask) + cosOffset];
+    }
+
+    /**
+     * Gets the sine of {@code turns} by looking up the nearest entry in the double table; the result can be off by
+     * up to about {@code PI / getTableSize()}.
+     * @param turns an angle in turns
+     * @return the approximate sine of the given angle, from -1 to 1 inclusive
+     */
+    public double sinTurns(final double turns) {
+        return sinTableD[(int) (turns * turnToIndexD + roundingOffsetD) & mask];
+    }
+
+    /**
+     * Gets the cosine of {@code turns} by looking up the nearest entry in the double table; the result can be off by
+     * up to about {@code PI / getTableSize()}.
+     * @param turns an angle in turns
+     * @return the approximate cosine of the given angle, from -1 to 1 inclusive
+     */
+    public double cosTurns(final double turns) {
+        return cosTableD[((int) (turns * turnToIndexD + roundingOffsetD) & mask) + cosOffset];
+    }
+
+    /**
+     * Gets the sine of {@code turns} by interpolating between the two nearest entries in the float table; this is
+     * slower than {@link #sinTurns(float)}, but the error is roughly squared, to about
+     * {@code 5 / (getTableSize() * getTableSize())}.
+     * @param turns an angle in turns; optimally between {@code -1} and {@code 1}
+     * @return the approximate sine of the given angle, from -1 to 1 inclusive
+     */
+    public float sinSmootherTurns(float turns) {
+        turns *= turnToIndex;
+        final int floor = (int) (turns + offset) - offset;
+        final int masked = floor & mask;
+        final float from = sinTable[masked], to = sinTable[masked + 1];
+        return from + (to - from) * (turns - floor);
+    }
+
+    /**
+     * Gets the cosine of {@code turns} by interpolating between the two nearest entries in the float table; this is
+     * slower than {@link #cosTurns(float)}, but the error is roughly squared, to about
+     * {@code 5 / (getTableSize() * getTableSize())}.
+     * @param turns an angle in turns; optimally between {@code -1} and {@code 1}
+     * @return the approximate cosine of the given angle, from -1 to 1 inclusive
+     */
+    public float cosSmootherTurns(float turns) {
+        turns = Math.abs(turns) * turnToIndex;
+        final int floor = (int) turns;
+        final int masked = (floor & mask) + cosOffset;
+        final float from = cosTable[masked], to = cosTable[masked + 1];
+        return from + (to - from) * (turns - floor);
+    }
+
+    /**
+     * Gets the tangent of {@code turns} by interpolating the sine and the cosine between the two nearest entries in
+     * the float table, then dividing them.
+     * @param turns an angle in turns
+     * @return the approximate tangent of the given angle
+     */
+    public float tanSmootherTurns(float turns) {
+        turns *= turnToIndex;
+        final int floor = (int) (turns + offsetD) - offset;
+        final int masked = floor & mask;
+        turns -= floor;
+        final float fromS = sinTable[masked], toS = sinTable[masked + 1];
+        final float fromC = cosTable[masked + cosOffset], toC = cosTable[masked + cosOffset + 1];
+        return (fromS + (toS - fromS) * turns) / (fromC + (toC - fromC) * turns);
+    }
+
+    /**
+     * Gets the sine of {@code turns} by interpolating between the two nearest entries in the double table; this is
+     * slower than {@link #sinTurns(double)}, but the error is roughly squared, to about
+     * {@code 5 / (getTableSize() * getTableSize())}.
+     * @param turns an angle in turns; optimally between {@code -1} and {@code 1}
+     * @return the approximate sine of the given angle, from -1 to 1 inclusive
+     */
+    public double sinSmootherTurns(double turns) {
+        turns = turns * turnToIndexD + offsetD;
+        final int floor = (int) turns;
+        final int masked = floor & mask;
+        final double from = sinTableD[masked], to = sinTableD[masked + 1];
+        return from + (to - from) * (turns - floor);
+    }
+
+    /**
+     * Gets the cosine of {@code turns} by interpolating between the two nearest entries in the double table; this is
+     * slower than {@link #cosTurns(double)}, but the error is roughly squared, to about
+     * {@code 5 / (getTableSize() * getTableSize())}.
+     * @param turns an angle in turns; optimally between {@code -1} and {@code 1}
+     * @return the approximate cosine of the given angle, from -1 to 1 inclusive
+     */
+    public double cosSmootherTurns(double turns) {
+        turns = Math.abs(turns) * turnToIndexD;
+        final int floor = (int) turns;
+        final int masked = (floor & mask) + cosOffset;
+        final double from = cosTableD[masked], to = cosTableD[masked + 1];
+        return from + (to - from) * (turns - floor);
+    }
+
+    /**
+     * Gets the tangent of {@code turns} by interpolating the sine and the cosine between the two nearest entries in
+     * the double table, then dividing them.
+     * @param turns an angle in turns
+     * @return the approximate tangent of the given angle
+     */
+    public double tanSmootherTurns(double turns) {
+        turns = turns * turnToIndexD + offsetD;
+        final int floor = (int) turns;
+        final int masked = floor & mask;
+        turns -= floor;
+        final double fromS = sinTableD[masked], toS = sinTableD[masked + 1];
+        final double fromC = cosTableD[masked + cosOffset], toC = cosTableD[masked + cosOffset + 1];
+        return (fromS + (toS - fromS) * turns) / (fromC + (toC - fromC) * turns);
+    }
+
+    /**
+     * @return the log2 of how many table entries there are per turn
+     */
+    public int getTableBits() {
+        return bits;
+    }
+
+    /**
+     * @return how many table entries there are per turn; this is {@code 2^getTableBits()}
+     */
+    public int getTableSize() {
+        return size;
+    }
+}
@@ -36,7 +36,8 @@ package com.github.tommyettinger.digital;
  * to {@link #atan2Deg360Precise(double, double)}. The "precise" versions all avoid a lookup table entirely and tend to
  * be the most precise approximations here, while still outperforming {@link Math} versions of their function. In a few
  * cases, the "precise" versions are also the fastest; this occurs most often for tan variants, or situations
- * where a large lookup table is not possible for the processor to cache.
+ * where a large lookup table is not possible for the processor to cache. If only the table's size is a problem,
+ * {@link TrigTable} has the same table-based methods with a smaller table, chosen when it is created.
  * <br>
  * Relative to MathUtils in libGDX, the main new functionalities are the variants that take or
  * return measurements in turns, the now-available {@link #SIN_TABLE}, {@link #COS_TABLE}, {@link #SIN_TABLE_D}, and
@@ -0,0 +1,454 @@
+/*
+ * Copyright (c) 2026 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.tommyettinger.digital;
+
+/**
+ * Zobrist hashing for 2D and 3D grids of small int or char values, such as game maps or cellular automata. Every
+ * combination of cell and value gets a random 64-bit key from {@link Hasher#randomize3(long)}, and the hash of a grid
+ * is the XOR of the keys for the value in each cell. Hashing a whole grid with {@link #hash(int[][])} takes time
+ * proportional to its size, like {@link Hasher#hash64(int[][])}, but when one cell changes, the hash can be updated in
+ * constant time with {@link #update(long, int, int, int, int)}, because XORing the old value's key removes it and
+ * XORing the new value's key adds it. A running hash updated this way is always equal to the hash of the whole grid.
+ * <br>
+ * The methods {@link #set(long, int[][], int, int, int)}, {@link #insert(long, int[][], int[][], int, int)},
+ * {@link #set(long, int[][], int[][])}, and {@link #fill(long, int[][], int, int, int, int, int)} (plus char versions)
+ * change a grid the same way as the {@link ArrayTools} methods with similar names, and return the updated hash; they
+ * only take time proportional to the number of cells they could change.
+ * <br>
+ * The table stores {@code width * height * depth * values} longs, so values should be a small count, like the number
+ * of distinct tile types; 128 covers all ASCII chars. Grids must have exactly the width, height, and depth given to the
+ * constructor, and every value in them must be at least 0 and less than values. The methods that change one cell at a
+ * time throw an IllegalArgumentException for a value out of that range, but the hash() methods don't check each cell,
+ * and their result is undefined if a grid has a value out of range. Methods that take x and y but not z are only meant
+ * for tables made with a depth of 1.
+ *
+ * @author Tommy Ettinger
+ */
+public class ZobristTable {
+    protected final int width;
+    protected final int height;
+    protected final int depth;
+    protected final int values;
+    /**
+     * Indexed by {@code value * cells + cell}, where cells is {@code width * height * depth} and cell is
+     * {@code (x * height + y) * depth + z}. Because {@code value * cells} can overflow, a value out of range can give
+     * a valid index for the wrong key, so methods that look up one value check it with {@link #checkValue(int)}.
+     */
+    protected final long[] keys;
+    protected final int cells;
+
+    /**
+     * Creates a ZobristTable for 2D grids.
+     * @param width the length of each grid, or its size in x
+     * @param height the length of each grid's sub-arrays, or its size in y
+     * @param values how many different values each cell can have; cells can hold from 0 to values, exclusive
+     * @param seed any long; different seeds give unrelated keys
+     */
+    public ZobristTable(int width, int height, int values, long seed) {
+        this(width, height, 1, values, seed);
+    }
+
+    /**
+     * Creates a ZobristTable for 3D grids; a depth of 1 makes a table for 2D grids.
+     * @param width the length of each grid, or its size in x
+     * @param height the length of each grid's sub-arrays, or its size in y
+     * @param depth the length of each grid's sub-sub-arrays, or its size in z
+     * @param values how many different values each cell can have; cells can hold from 0 to values, exclusive
+     * @param seed any long; different seeds give unrelated keys
+     */
+    public ZobristTable(int width, int height, int depth, int values, long seed) {
+        if (width <= 0 || height <= 0 || depth <= 0 || values <= 0)
+            throw new IllegalArgumentException("width, height, depth, and values must all be positive.");
+        final long size = (long) width * height * depth * values;
+        if (size > 0x7FFFFFF0L)
+            throw new IllegalArgumentException("A table with " + size + " keys is too large.");
+        this.width = width;
+        this.height = height;
+        this.depth = depth;
+        this.values = values;
+        this.cells = width * height * depth;
+        this.keys = new long[(int) size];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = Hasher.randomize3(seed + i);
+        }
+    }
+
+    /**
+     * Returns value if it is at least 0 and less than {@link #values}, or throws an IllegalArgumentException if not.
+     */
+    private int checkValue(int value) {
+        if (value < 0 || value >= values)
+            throw new IllegalArgumentException("value must be between 0 and " + values + ", exclusive, but was "
+                    + value);
+        return value;
+    }
+
+    /**
+     * Gets the key for the given value at x,y in a 2D grid.
+     * @param x the x position, from 0 to {@link #getWidth()}, exclusive
+     * @param y the y position, from 0 to {@link #getHeight()}, exclusive
+     * @param value the value in that cell, from 0 to {@link #getValues()}, exclusive
+     * @return the random key for that value in that cell
+     * @throws IllegalArgumentException if value is out of range
+     */
+    public long key(int x, int y, int value) {
+        return keys[checkValue(value) * cells + x * height + y];
+    }
+
+    /**
+     * Gets the key for the given value at x,y,z in a 3D grid.
+     * @param x the x position, from 0 to {@link #getWidth()}, exclusive
+     * @param y the y position, from 0 to {@link #getHeight()}, exclusive
+     * @param z the z position, from 0 to {@link #getDepth()}, exclusive
+     * @param value the value in that cell, from 0 to {@link #getValues()}, exclusive
+     * @return the random key for that value in that cell
+     * @throws IllegalArgumentException if value is out of range
+     */
+    public long key(int x, int y, int z, int value) {
+        return keys[checkValue(value) * cells + (x * height + y) * depth + z];
+    }
+
+    /**
+     * Hashes a whole 2D grid, in time proportional to its size.
+     * @param grid a 2D int array with the dimensions of this table
+     * @return the XOR of the keys for each cell's value
+     */
+    public long hash(int[][] grid) {
+        long h = 0L;
+        for (int x = 0; x < width; x++) {
+            final int[] column = grid[x];
+            for (int y = 0, c = x * height; y < height; y++, c++) {
+                h ^= keys[column[y] * cells + c];
+            }
+        }
+        return h;
+    }
+
+    /**
+     * Hashes a whole 2D grid, in time proportional to its size.
+     * @param grid a 2D char array with the dimensions of this table
+     * @return the XOR of the keys for each cell's value
+     */
+    public long hash(char[][] grid) {
+        long h = 0L;
+        for (int x = 0; x < width; x++) {
+            final char[] column = grid[x];
+            for (int y = 0, c = x * height; y < height; y++, c++) {
+                h ^= keys[column[y] * cells + c];
+            }
+        }
+        return h;
+    }
+
+    /**
+     * Hashes a whole 3D grid, in time proportional to its size.
+     * @param grid a 3D int array with the dimensions of this table
+     * @return the XOR of the keys for each cell's value
+     */
+    public long hash(int[][][] grid) {
+        long h = 0L;
+        for (int x = 0, c = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                final int[] line = grid[x][y];
+                for (int z = 0; z < depth; z++, c++) {
+                    h ^= keys[line[z] * cells + c];
+                }
+            }
+        }
+        return h;
+    }
+
+    /**
+     * Hashes a whole 3D grid, in time proportional to its size.
+     * @param grid a 3D char array with the dimensions of this table
+     * @return the XOR of the keys for each cell's value
+     */
+    public long hash(char[][][] grid) {
+        long h = 0L;
+        for (int x = 0, c = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                final char[] line = grid[x][y];
+                for (int z = 0; z < depth; z++, c++) {
+                    h ^= keys[line[z] * cells + c];
+                }
+            }
+        }
+        return h;
+    }
+
+    /**
+     * Updates a 2D grid's hash for a change to one cell, without changing any grid.
+     * @param hash the hash of the grid before the change
+     * @param x the x position of the changed cell
+     * @param y the y position of the changed cell
+     * @param oldValue the value the cell had before
+     * @param newValue the value the cell has now
+     * @return the hash of the grid after the change
+     * @throws IllegalArgumentException if oldValue or newValue is out of range
+     */
+    public long update(long hash, int x, int y, int oldValue, int newValue) {
+        final int c = x * height + y;
+        return hash ^ keys[checkValue(oldValue) * cells + c] ^ keys[checkValue(newValue) * cells + c];
+    }
+
+    /**
+     * Updates a 3D grid's hash for a change to one cell, without changing any grid.
+     * @param hash the hash of the grid before the change
+     * @param x the x position of the changed cell
+     * @param y the y position of the changed cell
+     * @param z the z position of the changed cell
+     * @param oldValue the value the cell had before
+     * @param newValue the value the cell has now
+     * @return the hash of the grid after the change
+     * @throws IllegalArgumentException if oldValue or newValue is out of range
+     */
+    public long update(long hash, int x, int y, int z, int oldValue, int newValue) {
+        final int c = (x * height + y) * depth + z;
+        return hash ^ keys[checkValue(oldValue) * cells + c] ^ keys[checkValue(newValue) * cells + c];
+    }
+
+    /**
+     * Sets one cell of a 2D grid and updates its hash.
+     * @param hash the current hash of grid
+     * @param grid a 2D int array with the dimensions of this table; will be modified
+     * @param x the x position of the cell to set
+     * @param y the y position of the cell to set
+     * @param value the new value for that cell
+     * @return the hash of grid after the change
+     */
+    public long set(long hash, int[][] grid, int x, int y, int value) {
+        hash = update(hash, x, y, grid[x][y], value);
+        grid[x][y] = value;
+        return hash;
+    }
+
+    /**
+     * Sets one cell of a 2D grid and updates its hash.
+     * @param hash the current hash of grid
+     * @param grid a 2D char array with the dimensions of this table; will be modified
+     * @param x the x position of the cell to set
+     * @param y the y position of the cell to set
+     * @param value the new value for that cell
+     * @return the hash of grid after the change
+     */
+    public long set(long hash, char[][] grid, int x, int y, char value) {
+        hash = update(hash, x, y, grid[x][y], value);
+        grid[x][y] = value;
+        return hash;
+    }
+
+    /**
+     * Sets one cell of a 3D grid and updates its hash.
+     * @param hash the current hash of grid
+     * @param grid a 3D int array with the dimensions of this table; will be modified
+     * @param x the x position of the cell to set
+     * @param y the y position of the cell to set
+     * @param z the z position of the cell to set
+     * @param value the new value for that cell
+     * @return the hash of grid after the change
+     */
+    public long set(long hash, int[][][] grid, int x, int y, int z, int value) {
+        hash = update(hash, x, y, z, grid[x][y][z], value);
+        grid[x][y][z] = value;
+        return hash;
+    }
+
+    /**
+     * Sets one cell of a 3D grid and updates its hash.
+     * @param hash the current hash of grid
+     * @param grid a 3D char array with the dimensions of this table; will be modified
+     * @param x the x position of the cell to set
+     * @param y the y position of the cell to set
+     * @param z the z position of the cell to set
+     * @param value the new value for that cell
+     * @return the hash of grid after the change
+     */
+    public long set(long hash, char[][][] grid, int x, int y, int z, char value) {
+        hash = update(hash, x, y, z, grid[x][y][z], value);
+        grid[x][y][z] = value;
+        return hash;
+    }
+
+    /**
+     * Inserts source into target like {@link ArrayTools#insert(int[][], int[][], int, int)}, and updates target's
+     * hash for the cells that were overwritten.
+     * @param hash the current hash of target
+     * @param source a 2D int array that will be copied and inserted into target
+     * @param target a 2D int array with the dimensions of this table; will be modified
+     * @param x the x position in target to receive the first cell in source
+     * @param y the y position in target to receive the first cell in source
+     * @return the hash of target after the change
+     */
+    public long insert(long hash, int[][] source, int[][] target, int x, int y) {
+        if (source == null || target == null || source.length < 1 || source[0].length < 1)
+            return hash;
+        for (int i = 0; i < source.length && x + i < target.length; i++) {
+            final int[] from = source[i], to = target[x + i];
+            for (int j = 0, n = Math.min(from.length, to.length - y); j < n; j++) {
+                hash = update(hash, x + i, y + j, to[y + j], from[j]);
+            }
+        }
+        ArrayTools.insert(source, target, x, y);
+        return hash;
+    }
+
+    /**
+     * Inserts source into target like {@link ArrayTools#insert(char[][], char[][], int, int)}, and updates target's
+     * hash for the cells that were overwritten.
+     * @param hash the current hash of target
+     * @param source a 2D char array that will be copied and inserted into target
+     * @param target a 2D char array with the dimensions of this table; will be modified
+     * @param x the x position in target to receive the first cell in source
+     * @param y the y position in target to receive the first cell in source
+     * @return the hash of target after the change
+     */
+    public long insert(long hash, char[][] source, char[][] target, int x, int y) {
+        if (source == null || target == null || source.length < 1 || source[0].length < 1)
+            return hash;
+        for (int i = 0; i < source.length && x + i < target.length; i++) {
+            final char[] from = source[i], to = target[x + i];
+            for (int j = 0, n = Math.min(from.length, to.length - y); j < n; j++) {
+                hash = update(hash, x + i, y + j, to[y + j], from[j]);
+            }
+        }
+        ArrayTools.insert(source, target, x, y);
+        return hash;
+    }
+
+    /**
+     * Sets source into target like {@link ArrayTools#set(int[][], int[][])}, and updates target's hash for the cells
+     * that were overwritten.
+     * @param hash the current hash of target
+     * @param source a 2D int array that will be copied into target
+     * @param target a 2D int array with the dimensions of this table; will be modified
+     * @return the hash of target after the change
+     */
+    public long set(long hash, int[][] source, int[][] target) {
+        return insert(hash, source, target, 0, 0);
+    }
+
+    /**
+     * Sets source into target like {@link ArrayTools#set(char[][], char[][])}, and updates target's hash for the
+     * cells that were overwritten.
+     * @param hash the current hash of target
+     * @param source a 2D char array that will be copied into target
+     * @param target a 2D char array with the dimensions of this table; will be modified
+     * @return the hash of target after the change
+     */
+    public long set(long hash, char[][] source, char[][] target) {
+        return insert(hash, source, target, 0, 0);
+    }
+
+    /**
+     * Fills a section of grid like {@link ArrayTools#fill(int[][], int, int, int, int, int)}, and updates grid's hash
+     * for the cells that were overwritten.
+     * @param hash the current hash of grid
+     * @param grid a 2D int array with the dimensions of this table; will be modified
+     * @param value the value to fill the section with
+     * @param startX the first x position to fill (inclusive)
+     * @param startY the first y position to fill (inclusive)
+     * @param endX the last x position to fill (inclusive)
+     * @param endY the last y position to fill (inclusive)
+     * @return the hash of grid after the change
+     */
+    public long fill(long hash, int[][] grid, int value, int startX, int startY, int endX, int endY) {
+        for (int x = startX; x <= endX && x < width; x++) {
+            final int[] column = grid[x];
+            for (int y = startY; y <= endY && y < height; y++) {
+                hash = update(hash, x, y, column[y], value);
+                column[y] = value;
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Fills a section of grid like {@link ArrayTools#fill(char[][], char, int, int, int, int)}, and updates grid's
+     * hash for the cells that were overwritten.
+     * @param hash the current hash of grid
+     * @param grid a 2D char array with the dimensions of this table; will be modified
+     * @param value the value to fill the section with
+     * @param startX the first x position to fill (inclusive)
+     * @param startY the first y position to fill (inclusive)
+     * @param endX the last x position to fill (inclusive)
+     * @param endY the last y position to fill (inclusive)
+     * @return the hash of grid after the change
+     */
+    public long fill(long hash, char[][] grid, char value, int startX, int startY, int endX, int endY) {
+        for (int x = startX; x <= endX && x < width; x++) {
+            final char[] column = grid[x];
+            for (int y = startY; y <= endY && y < height; y++) {
+                hash = update(hash, x, y, column[y], value);
+                column[y] = value;
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Fills all of grid like {@link ArrayTools#fill(int[][], int)}. The previous hash isn't needed, since every cell
+     * changes.
+     * @param grid a 2D int array with the dimensions of this table; will be modified
+     * @param value the value to fill grid with
+     * @return the hash of grid after the change
+     */
+    public long fill(int[][] grid, int value) {
+        ArrayTools.fill(grid, value);
+        return hash(grid);
+    }
+
+    /**
+     * Fills all of grid like {@link ArrayTools#fill(char[][], char)}. The previous hash isn't needed, since every
+     * cell changes.
+     * @param grid a 2D char array with the dimensions of this table; will be modified
+     * @param value the value to fill grid with
+     * @return the hash of grid after the change
+     */
+    public long fill(char[][] grid, char value) {
+        ArrayTools.fill(grid, value);
+        return hash(grid);
+    }
+
+    /**
+     * @return the size of each grid in x
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * @return the size of each grid in y
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return the size of each grid in z; 1 for 2D grids
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * @return how many different values each cell can have
+     */
+    public int getValues() {
+        return values;
+    }
+}
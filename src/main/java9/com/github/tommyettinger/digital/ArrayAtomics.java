@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Atomic updates to items in plain {@code long[]} arrays, for data structures that can be shared between threads,
+ * such as {@link BloomFilter} in its concurrent mode. Using plain arrays means the same data structure works the same
+ * way on every platform, and doesn't need a separate atomic array type.
+ * <br>
+ * This is the Java 9+ version of this class, loaded from the Multi-Release jar in place of the portable one. It uses
+ * an array element VarHandle, so each update is lock-free, and usually a single atomic instruction.
+ * <br>
+ * These methods only coordinate with each other; a plain write to the same array item at the same time can be lost.
+ */
+final class ArrayAtomics {
+    private ArrayAtomics() {
+    }
+
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    /**
+     * Atomically sets {@code array[index]} to {@code array[index] | bits}.
+     * @param array a long array
+     * @param index the index of the item to change
+     * @param bits the bits to set
+     * @return the item's previous value
+     */
+    static long getAndOr(final long[] array, final int index, final long bits) {
+        return (long) LONGS.getAndBitwiseOr(array, index, bits);
+    }
+
+    /**
+     * Atomically adds {@code amount} to {@code array[index]}.
+     * @param array a long array
+     * @param index the index of the item to change
+     * @param amount how much to add; may be negative
+     * @return the item's previous value
+     */
+    static long getAndAdd(final long[] array, final int index, final long amount) {
+        return (long) LONGS.getAndAdd(array, index, amount);
+    }
+
+    /**
+     * Atomically sets {@code array[index]} to {@code replacement} if it is currently {@code expected}.
+     * @param array a long array
+     * @param index the index of the item to change
+     * @param expected the value the item must have for it to be changed
+     * @param replacement the value to change the item to
+     * @return true if the item was changed
+     */
+    static boolean compareAndSet(final long[] array, final int index, final long expected, final long replacement) {
+        return LONGS.compareAndSet(array, index, expected, replacement);
+    }
+
+    /**
+     * Gets {@code array[index]}, seeing any atomic updates made to it by other threads.
+     * @param array a long array
+     * @param index the index of the item to get
+     * @return the item's current value
+     */
+    static long getVolatile(final long[] array, final int index) {
+        return (long) LONGS.getVolatile(array, index);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Reads big-endian short, int, and long values from a {@code byte[]}, the same way a {@link java.nio.ByteBuffer}
+ * with its default byte order reads them. This is used by {@link Hasher} so that its byte array hashes can read
+ * 8 bytes at a time, and get the same results as hashing the array wrapped in a ByteBuffer.
+ * <br>
+ * This is the Java 9+ version of this class, loaded from the Multi-Release jar in place of the portable one. It uses
+ * byte array view VarHandles, which HotSpot intrinsifies to single loads (plus a byte swap on little-endian CPUs).
+ * <br>
+ * None of these methods check bounds beyond what array access does already.
+ */
+final class ByteAccess {
+    private ByteAccess() {
+    }
+
+    private static final VarHandle SHORTS = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INTS = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    /**
+     * Gets the big-endian short starting at {@code index} in {@code data}.
+     * @param data a byte array; must have at least {@code index + 2} items
+     * @param index the index of the first byte to read
+     * @return the short formed by the two bytes starting at index, in big-endian order
+     */
+    static short getShort(final byte[] data, final int index) {
+        return (short) SHORTS.get(data, index);
+    }
+
+    /**
+     * Gets the big-endian int starting at {@code index} in {@code data}.
+     * @param data a byte array; must have at least {@code index + 4} items
+     * @param index the index of the first byte to read
+     * @return the int formed by the four bytes starting at index, in big-endian order
+     */
+    static int getInt(final byte[] data, final int index) {
+        return (int) INTS.get(data, index);
+    }
+
+    /**
+     * Gets the big-endian long starting at {@code index} in {@code data}.
+     * @param data a byte array; must have at least {@code index + 8} items
+     * @param index the index of the first byte to read
+     * @return the long formed by the eight bytes starting at index, in big-endian order
+     */
+    static long getLong(final byte[] data, final int index) {
+        return (long) LONGS.get(data, index);
+    }
+}
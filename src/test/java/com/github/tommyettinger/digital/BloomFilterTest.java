@@ -0,0 +1,143 @@
+package com.github.tommyettinger.digital;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+public class BloomFilterTest {
+    private static String[] makeKeys(String prefix, int count) {
+        String[] keys = new String[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = prefix + i + "_" + Base.BASE36.signed(Hasher.randomize1(i));
+        }
+        return keys;
+    }
+
+    private static double falsePositiveRate(BloomFilter<CharSequence> filter, String[] absent) {
+        int falsePositives = 0;
+        for (String key : absent) {
+            if (filter.mightContain(key)) falsePositives++;
+        }
+        return falsePositives / (double) absent.length;
+    }
+
+    private static void checkFilter(BloomFilter<CharSequence> filter, String[] present, String[] absent, double target) {
+        // an item that was a false positive when it was added doesn't change any bits
+        Assert.assertTrue(filter.addAll(present) >= present.length * (1.0 - target));
+        for (String key : present) {
+            Assert.assertTrue(filter.mightContain(key));
+        }
+        Assert.assertTrue(filter.mightContainAll(present));
+        boolean[] results = new boolean[present.length];
+        Assert.assertEquals(present.length, filter.mightContain(present, results));
+        double rate = falsePositiveRate(filter, absent);
+        System.out.println(filter.getClass().getSimpleName() + " with k=" + filter.getHashCount() + ": target "
+                + target + ", actual " + rate + ", estimated count " + filter.approximateCount());
+        Assert.assertTrue(rate < target * 1.5);
+        Assert.assertEquals(present.length, filter.approximateCount(), present.length * 0.1);
+    }
+
+    @Test
+    public void testBloomFilter() {
+        String[] present = makeKeys("in", 100000), absent = makeKeys("out", 100000);
+        checkFilter(new BloomFilter<>(Hasher.charSequenceHashAdze64, 1L, present.length, 0.01), present, absent, 0.01);
+        checkFilter(new BloomFilter<>(Hasher.charSequenceHashAdze64, 2L, present.length, 0.001), present, absent, 0.001);
+    }
+
+    @Test
+    public void testBlockedBloomFilter() {
+        String[] present = makeKeys("in", 100000), absent = makeKeys("out", 100000);
+        checkFilter(new BlockedBloomFilter<>(Hasher.charSequenceHashAdze64, 1L, present.length, 0.01), present, absent, 0.01);
+        checkFilter(new BlockedBloomFilter<>(Hasher.charSequenceHashAdze64, 2L, present.length, 0.001), present, absent, 0.001);
+    }
+
+    @Test
+    public void testConcurrent() throws InterruptedException {
+        final String[] present = makeKeys("in", 40000);
+        final BloomFilter<CharSequence> plain = new BloomFilter<>(Hasher.charSequenceHashAdze64, 3L, present.length, 0.01);
+        final BloomFilter<CharSequence> blocked = new BlockedBloomFilter<>(Hasher.charSequenceHashAdze64, 3L, present.length, 0.01);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final int offset = t;
+            threads[t] = new Thread(() -> {
+                for (int i = offset; i < present.length; i += threads.length) {
+                    plain.addConcurrent(present[i]);
+                    blocked.addConcurrent(present[i]);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        BloomFilter<CharSequence> plainSequential = new BloomFilter<>(Hasher.charSequenceHashAdze64, 3L, present.length, 0.01);
+        BloomFilter<CharSequence> blockedSequential = new BlockedBloomFilter<>(Hasher.charSequenceHashAdze64, 3L, present.length, 0.01);
+        plainSequential.addAll(present);
+        blockedSequential.addAll(present);
+        Assert.assertArrayEquals(plainSequential.bits, plain.bits);
+        Assert.assertArrayEquals(blockedSequential.bits, blocked.bits);
+    }
+
+    @Test
+    public void testUnion() {
+        String[] first = makeKeys("first", 5000), second = makeKeys("second", 5000);
+        BloomFilter<CharSequence> a = new BlockedBloomFilter<>(Hasher.charSequenceHashAdze64, 4L, 10000, 0.01);
+        BloomFilter<CharSequence> b = new BlockedBloomFilter<>(Hasher.charSequenceHashAdze64, 4L, 10000, 0.01);
+        a.addAll(first);
+        b.addAll(second);
+        Assert.assertSame(a, a.union(b));
+        Assert.assertTrue(a.mightContainAll(first));
+        Assert.assertTrue(a.mightContainAll(second));
+        a.clear();
+        Assert.assertEquals(0.0, a.approximateCount(), 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnionMismatch() {
+        new BloomFilter<>(Hasher.charSequenceHashAdze64, 4L, 10000, 0.01)
+                .union(new BlockedBloomFilter<>(Hasher.charSequenceHashAdze64, 4L, 10000, 0.01));
+    }
+
+    @Test
+    public void testSerialization() {
+        String[] present = makeKeys("in", 20000);
+        BloomFilter<CharSequence> plain = new BloomFilter<>(Hasher.charSequenceHashAdze64, 5L, 128, 3);
+        BloomFilter<CharSequence> blocked = new BlockedBloomFilter<>(Hasher.charSequenceHashAdze64, 6L, present.length, 0.02);
+        plain.addAll(present);
+        blocked.addAll(present);
+        ByteBuffer buffer = ByteBuffer.allocate(plain.serializedSize() + blocked.serializedSize());
+        plain.write(buffer);
+        blocked.write(buffer);
+        Assert.assertFalse(buffer.hasRemaining());
+        buffer.flip();
+        BloomFilter<CharSequence> plainRead = BloomFilter.read(Hasher.charSequenceHashAdze64, buffer);
+        BlockedBloomFilter<CharSequence> blockedRead = BlockedBloomFilter.read(Hasher.charSequenceHashAdze64, buffer);
+        Assert.assertFalse(buffer.hasRemaining());
+        Assert.assertEquals(plain.getSeed(), plainRead.getSeed());
+        Assert.assertEquals(plain.getHashCount(), plainRead.getHashCount());
+        Assert.assertArrayEquals(plain.bits, plainRead.bits);
+        Assert.assertEquals(blocked.getSeed(), blockedRead.getSeed());
+        Assert.assertEquals(blocked.getHashCount(), blockedRead.getHashCount());
+        Assert.assertArrayEquals(blocked.bits, blockedRead.bits);
+        Assert.assertTrue(blockedRead.mightContainAll(present));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongType() {
+        BloomFilter<CharSequence> plain = new BloomFilter<>(Hasher.charSequenceHashAdze64, 5L, 128, 3);
+        ByteBuffer buffer = ByteBuffer.allocate(plain.serializedSize());
+        plain.write(buffer).flip();
+        BlockedBloomFilter.read(Hasher.charSequenceHashAdze64, buffer);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadRate() {
+        new BloomFilter<>(Hasher.charSequenceHashAdze64, 1L, 100, 1.5);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadSize() {
+        new BlockedBloomFilter<>(Hasher.charSequenceHashAdze64, 1L, -1, 3);
+    }
+}
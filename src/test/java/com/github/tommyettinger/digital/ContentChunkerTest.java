@@ -0,0 +1,131 @@
+package com.github.tommyettinger.digital;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class ContentChunkerTest {
+    private static byte[] makeData(int length, long seed) {
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i += 8) {
+            long r = Hasher.randomize2(seed + i);
+            for (int j = 0; j < 8 && i + j < length; j++) {
+                data[i + j] = (byte) (r >>> (j << 3));
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Each chunk is stored as {offset, length, hash}.
+     */
+    private static List<long[]> chunks(ContentChunker chunker, ByteBuffer data) {
+        List<long[]> chunks = new ArrayList<>();
+        chunker.chunk(data, (chunk, offset, hash) -> chunks.add(new long[]{offset, chunk.remaining(), hash}));
+        return chunks;
+    }
+
+    @Test
+    public void testSizes() {
+        ContentChunker chunker = new ContentChunker(2048, 8192, 65536, 1L);
+        byte[] data = makeData(4 << 20, 1L);
+        List<long[]> chunks = chunks(chunker, ByteBuffer.wrap(data));
+        long expectedOffset = 0L;
+        for (int i = 0; i < chunks.size(); i++) {
+            long[] c = chunks.get(i);
+            Assert.assertEquals(expectedOffset, c[0]);
+            Assert.assertTrue(c[1] <= 65536);
+            if (i < chunks.size() - 1) Assert.assertTrue(c[1] >= 2048);
+            Assert.assertEquals(Hasher.hashAdze64(1L, data, (int) c[0], (int) c[1]), c[2]);
+            expectedOffset += c[1];
+        }
+        Assert.assertEquals(data.length, expectedOffset);
+        double average = data.length / (double) chunks.size();
+        System.out.println(chunks.size() + " chunks, average size " + average);
+        Assert.assertEquals(8192, average, 8192 * 0.35);
+    }
+
+    @Test
+    public void testInsertion() {
+        ContentChunker chunker = new ContentChunker(4096);
+        byte[] data = makeData(2 << 20, 2L);
+        byte[] edited = new byte[data.length + 1];
+        System.arraycopy(data, 0, edited, 0, 1000000);
+        edited[1000000] = 42;
+        System.arraycopy(data, 1000000, edited, 1000001, data.length - 1000000);
+        Set<Long> before = new HashSet<>();
+        for (long[] c : chunks(chunker, ByteBuffer.wrap(data))) before.add(c[2]);
+        List<long[]> after = chunks(chunker, ByteBuffer.wrap(edited));
+        int changed = 0;
+        for (long[] c : after) {
+            if (!before.contains(c[2])) changed++;
+        }
+        // only the chunk with the insertion, and maybe its neighbor, should change
+        Assert.assertTrue(changed >= 1 && changed <= 2);
+    }
+
+    @Test
+    public void testStreamsMatch() throws IOException {
+        ContentChunker chunker = new ContentChunker(64, 256, 1024, 3L);
+        for (int length : new int[]{0, 1, 64, 65, 1000, 100000}) {
+            byte[] data = makeData(length, length);
+            List<long[]> expected = chunks(chunker, ByteBuffer.wrap(data));
+
+            ByteBuffer direct = ByteBuffer.allocateDirect(length + 10).order(ByteOrder.LITTLE_ENDIAN);
+            direct.position(10);
+            direct.put(data);
+            direct.position(10);
+            List<long[]> fromDirect = chunks(chunker, direct);
+            Assert.assertEquals(10, direct.position());
+
+            // a stream that returns at most 100 bytes per read
+            InputStream in = new FilterInputStream(new ByteArrayInputStream(data)) {
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    return super.read(b, off, Math.min(len, 100));
+                }
+            };
+            List<long[]> fromStream = new ArrayList<>();
+            long count = chunker.chunk(in, (chunk, offset, hash) -> {
+                Assert.assertEquals(Hasher.hashAdze64(3L, chunk, chunk.position(), chunk.remaining()), hash);
+                fromStream.add(new long[]{offset, chunk.remaining(), hash});
+            });
+            Assert.assertEquals(expected.size(), count);
+            for (int i = 0; i < expected.size(); i++) {
+                Assert.assertArrayEquals(expected.get(i), fromDirect.get(i));
+                Assert.assertArrayEquals(expected.get(i), fromStream.get(i));
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadAverage() {
+        new ContentChunker(1000);
+    }
+
+    public static void main(String[] args) {
+        ContentChunker chunker = new ContentChunker(8192);
+        byte[] data = makeData(256 << 20, 4L);
+        for (int run = 0; run < 5; run++) {
+            long start = System.nanoTime(), chunks = 0;
+            for (int i = 0; i < data.length; chunks++) {
+                i += chunker.nextChunkLength(data, i, data.length);
+            }
+            long cut = System.nanoTime();
+            chunker.chunk(ByteBuffer.wrap(data), (chunk, offset, hash) -> {});
+            long end = System.nanoTime();
+            System.out.printf("%d chunks; boundaries only: %.2f GB/s, with hashes: %.2f GB/s%n", chunks,
+                    data.length / (double) (cut - start), data.length / (double) (end - cut));
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.github.tommyettinger.digital;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class CountMinSketchTest {
+    /**
+     * Makes a Zipf-like stream, where key i appears about 1/(i+1) as often as key 0.
+     */
+    private static long[] zipfStream(int length, long seed) {
+        long[] stream = new long[length];
+        for (int i = 0; i < length; i++) {
+            double u = (Hasher.randomize2(seed + i) >>> 11) * 0x1p-53;
+            stream[i] = Hasher.randomize1((long) Math.exp(u * Math.log(100000.0)));
+        }
+        return stream;
+    }
+
+    private static Map<Long, Long> exactCounts(long[] stream) {
+        Map<Long, Long> exact = new HashMap<>();
+        for (long key : stream) {
+            exact.merge(key, 1L, Long::sum);
+        }
+        return exact;
+    }
+
+    @Test
+    public void testNeverUnderestimates() {
+        long[] stream = zipfStream(200000, 1L);
+        Map<Long, Long> exact = exactCounts(stream);
+        CountMinSketch plain = new CountMinSketch(0.001, 0.01, false);
+        CountMinSketch conservative = new CountMinSketch(0.001, 0.01, true);
+        plain.addAll(stream);
+        conservative.addAll(stream);
+        Assert.assertEquals(stream.length, plain.getTotal());
+        Assert.assertEquals(stream.length, conservative.getTotal());
+        long plainError = 0L, conservativeError = 0L;
+        for (Map.Entry<Long, Long> e : exact.entrySet()) {
+            long p = plain.estimate(e.getKey()), c = conservative.estimate(e.getKey());
+            Assert.assertTrue(p >= e.getValue());
+            Assert.assertTrue(c >= e.getValue());
+            Assert.assertTrue(c <= p);
+            Assert.assertTrue(p - e.getValue() <= 0.001 * stream.length * 2);
+            plainError += p - e.getValue();
+            conservativeError += c - e.getValue();
+        }
+        System.out.println("total overestimate, plain: " + plainError + ", conservative: " + conservativeError);
+        Assert.assertTrue(conservativeError < plainError);
+    }
+
+    @Test
+    public void testMergeAndConcurrent() throws InterruptedException {
+        final long[] stream = zipfStream(100000, 2L);
+        final Map<Long, Long> exact = exactCounts(stream);
+        for (boolean conservative : new boolean[]{false, true}) {
+            CountMinSketch whole = new CountMinSketch(4, 2048, conservative);
+            CountMinSketch first = new CountMinSketch(4, 2048, conservative);
+            CountMinSketch second = new CountMinSketch(4, 2048, conservative);
+            whole.addAll(stream);
+            first.addAll(stream, 0, 50000);
+            second.addAll(stream, 50000, 50000);
+            first.merge(second);
+            Assert.assertEquals(whole.getTotal(), first.getTotal());
+
+            final CountMinSketch shared = new CountMinSketch(4, 2048, conservative);
+            Thread[] threads = new Thread[4];
+            for (int t = 0; t < threads.length; t++) {
+                final int offset = t;
+                threads[t] = new Thread(() -> {
+                    for (int i = offset; i < stream.length; i += threads.length) {
+                        shared.addConcurrent(stream[i], 1L);
+                    }
+                });
+                threads[t].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            Assert.assertEquals(whole.getTotal(), shared.getTotal());
+            for (long key : stream) {
+                if (!conservative) {
+                    // plain updates are just sums, so the order they happen in doesn't matter
+                    Assert.assertEquals(whole.estimate(key), first.estimate(key));
+                    Assert.assertEquals(whole.estimate(key), shared.estimate(key));
+                } else {
+                    // conservative updates depend on order, but still never underestimate
+                    Assert.assertTrue(first.estimate(key) >= exact.get(key));
+                    Assert.assertTrue(shared.estimate(key) >= whole.estimate(key));
+                }
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConservativeNegative() {
+        new CountMinSketch(4, 100, true).add(1L, -1L);
+    }
+
+    @Test
+    public void testHeavyHitters() {
+        long[] stream = zipfStream(300000, 3L);
+        Map<Long, Long> exact = exactCounts(stream);
+        long[] trueTop = exact.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue(), a.getValue()))
+                .limit(10).mapToLong(Map.Entry::getKey).toArray();
+
+        HeavyHitters hitters = new HeavyHitters(20);
+        hitters.addAll(stream);
+        Assert.assertEquals(20, hitters.size());
+        long[] keys = new long[20], counts = new long[20];
+        Assert.assertEquals(20, hitters.top(keys, counts));
+        for (int i = 1; i < 20; i++) {
+            Assert.assertTrue(counts[i - 1] >= counts[i]);
+        }
+        // the true top 10 should all be in the tracked top 20
+        java.util.Set<Long> found = new java.util.HashSet<>();
+        for (long k : keys) found.add(k);
+        for (long k : trueTop) {
+            Assert.assertTrue(found.contains(k));
+        }
+
+        HeavyHitters first = new HeavyHitters(20), second = new HeavyHitters(20);
+        for (int i = 0; i < stream.length; i++) {
+            (i < 100000 ? first : second).add(stream[i]);
+        }
+        first.merge(second);
+        long[] merged = first.topKeys();
+        found.clear();
+        for (long k : merged) found.add(k);
+        for (long k : trueTop) {
+            Assert.assertTrue(found.contains(k));
+        }
+    }
+
+    @Test
+    public void testHeavyHittersDecreasingCount() {
+        // negative counts are allowed without conservative update, and can move a tracked key toward the heap's root
+        HeavyHitters hitters = new HeavyHitters(4, new CountMinSketch(4, 1 << 16, false));
+        for (long k = 1; k <= 4; k++) {
+            hitters.add(k, k * 10L);
+        }
+        hitters.add(4L, -39L);
+        Assert.assertEquals(1L, hitters.estimate(4L));
+        hitters.add(5L, 5L);
+        long[] keys = new long[4], counts = new long[4];
+        Assert.assertEquals(4, hitters.top(keys, counts));
+        Assert.assertArrayEquals(new long[]{3L, 2L, 1L, 5L}, keys);
+        Assert.assertArrayEquals(new long[]{30L, 20L, 10L, 5L}, counts);
+    }
+}
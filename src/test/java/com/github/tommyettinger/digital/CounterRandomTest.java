@@ -0,0 +1,74 @@
+package com.github.tommyettinger.digital;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CounterRandomTest {
+    @Test
+    public void testStreamsMatchIndices() {
+        CounterRandom random = new CounterRandom(123L, Hasher::randomize3);
+        long[] sequential = random.longs(1000L, 31000L).toArray();
+        long[] parallel = random.longs(1000L, 31000L).parallel().toArray();
+        Assert.assertArrayEquals(sequential, parallel);
+        for (int i = 0; i < sequential.length; i += 997) {
+            Assert.assertEquals(random.longAt(1000L + i), sequential[i]);
+        }
+        double[] doubles = random.doubles(-50L, 50L).parallel().toArray();
+        for (int i = 0; i < doubles.length; i++) {
+            Assert.assertEquals(random.doubleAt(i - 50L), doubles[i], 0.0);
+            Assert.assertTrue(doubles[i] >= 0.0 && doubles[i] < 1.0);
+        }
+        Assert.assertTrue(random.ints(0L, 10000L, 7).parallel().allMatch(i -> i >= 0 && i < 7));
+        Assert.assertTrue(random.ints(0L, 10000L, -7).allMatch(i -> i > -7 && i <= 0));
+    }
+
+    @Test
+    public void testFill() {
+        CounterRandom random = new CounterRandom(-5L);
+        long[] longs = random.fillParallel(new long[50000], 777L);
+        float[] floats = random.fillParallel(new float[50000], 777L);
+        double[] doubles = random.fillParallel(new double[50000], 777L);
+        Assert.assertArrayEquals(random.fill(new long[50000], 777L), longs);
+        Assert.assertArrayEquals(random.fill(new float[50000], 777L), floats, 0f);
+        Assert.assertArrayEquals(random.fill(new double[50000], 777L), doubles, 0.0);
+        long[] part = random.fill(new long[10], 3, 8, 780L);
+        Assert.assertEquals(0L, part[2]);
+        Assert.assertEquals(longs[3], part[3]);
+        Assert.assertEquals(longs[7], part[7]);
+        Assert.assertEquals(0L, part[8]);
+        for (int i = 0; i < floats.length; i++) {
+            Assert.assertEquals(random.floatAt(777L + i), floats[i], 0f);
+        }
+        // lengths that fill exactly one block, or no blocks
+        Assert.assertArrayEquals(random.fill(new long[1 << 13], 777L), random.fillParallel(new long[1 << 13], 777L));
+        Assert.assertEquals(0, random.fillParallel(new double[0], 777L).length);
+    }
+
+    @Test
+    public void testDistribution() {
+        CounterRandom random = new CounterRandom(42L, Hasher::randomize1);
+        double mean = random.doubles(0L, 1000000L).parallel().average().orElse(0.0);
+        Assert.assertEquals(0.5, mean, 0.002);
+        double normalMean = random.normals(0L, 1000000L).parallel().average().orElse(1.0);
+        double normalVariance = random.normals(0L, 1000000L).parallel().map(d -> d * d).average().orElse(0.0);
+        Assert.assertEquals(0.0, normalMean, 0.005);
+        Assert.assertEquals(1.0, normalVariance, 0.01);
+    }
+
+    @Test
+    public void testSeedsAndSplits() {
+        CounterRandom a = new CounterRandom(1L), b = new CounterRandom(2L);
+        java.util.Set<Long> seen = new java.util.HashSet<>();
+        for (long i = 0; i < 1000; i++) {
+            Assert.assertTrue(seen.add(a.longAt(i)));
+        }
+        // nearby seeds don't give shifted copies of the same stream
+        for (long i = 0; i < 1000; i++) {
+            Assert.assertFalse(seen.contains(b.longAt(i)));
+        }
+        CounterRandom s1 = a.split(1L), s2 = a.split(2L);
+        Assert.assertNotEquals(s1.longAt(0L), s2.longAt(0L));
+        Assert.assertEquals(s1.longAt(10L), a.split(1L).longAt(10L));
+        Assert.assertNotEquals(s1.split(1L).longAt(0L), s1.longAt(0L));
+    }
+}
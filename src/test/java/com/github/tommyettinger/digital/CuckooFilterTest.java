@@ -0,0 +1,84 @@
+package com.github.tommyettinger.digital;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CuckooFilterTest {
+    private static String[] makeKeys(int count, String prefix) {
+        String[] keys = new String[count];
+        for (int i = 0; i < count; i++) keys[i] = prefix + i;
+        return keys;
+    }
+
+    @Test
+    public void testAddRemove() {
+        for (int bits : new int[]{8, 12, 16}) {
+            CuckooFilter<CharSequence> filter = new CuckooFilter<>(Hasher.charSequenceHashAdze64, 1L, 20000L, bits);
+            String[] keys = makeKeys(20000, "session");
+            Assert.assertEquals(keys.length, filter.addAll(keys));
+            Assert.assertEquals(0L, filter.getFailedInserts());
+            boolean[] results = new boolean[keys.length];
+            Assert.assertEquals(keys.length, filter.mightContain(keys, results));
+
+            String[] absent = makeKeys(100000, "absent");
+            int falsePositives = filter.mightContain(absent, new boolean[absent.length]);
+            double expected = 2.0 * CuckooFilter.BUCKET_SIZE / (1 << bits) * filter.loadFactor();
+            Assert.assertTrue(bits + ": " + falsePositives, falsePositives / (double) absent.length < expected * 1.5 + 0.0002);
+
+            // remove every other key; the rest must all still be present
+            for (int i = 0; i < keys.length; i += 2) {
+                Assert.assertTrue(filter.remove(keys[i]));
+            }
+            Assert.assertEquals(keys.length / 2, filter.getSize());
+            for (int i = 1; i < keys.length; i += 2) {
+                Assert.assertTrue(filter.mightContain(keys[i]));
+            }
+            int stillThere = 0;
+            for (int i = 0; i < keys.length; i += 2) {
+                if (filter.mightContain(keys[i])) stillThere++;
+            }
+            Assert.assertTrue(stillThere < keys.length * 0.01);
+            // removing the odd keys can only hit the even keys' leftover false positives as well
+            int removed = filter.removeAll(keys);
+            Assert.assertTrue(removed >= keys.length / 2 && removed <= keys.length / 2 + stillThere);
+        }
+    }
+
+    @Test
+    public void testFull() {
+        CuckooFilter<CharSequence> filter = new CuckooFilter<>(Hasher.charSequenceHashAdze64, 2L, 1 << 10, 12, 500);
+        String[] keys = makeKeys(5000, "k");
+        int added = filter.addAll(keys);
+        Assert.assertTrue(added < keys.length);
+        Assert.assertEquals(1L, filter.getFailedInserts());
+        Assert.assertTrue("load " + filter.loadFactor(), filter.loadFactor() > 0.9);
+        // nothing added is ever lost, even the item in the stash
+        for (int i = 0; i < added; i++) {
+            Assert.assertTrue(filter.mightContain(keys[i]));
+        }
+        for (int i = 0; i < added; i++) {
+            Assert.assertTrue(filter.remove(keys[i]));
+        }
+        Assert.assertEquals(0L, filter.getSize());
+        Assert.assertTrue(filter.add("again"));
+        filter.clear();
+        Assert.assertFalse(filter.mightContain("again"));
+    }
+
+    @Test
+    public void testDuplicates() {
+        CuckooFilter<CharSequence> filter = new CuckooFilter<>(Hasher.charSequenceHashAdze64, 3L, 100L, 16);
+        for (int i = 0; i < 3; i++) Assert.assertTrue(filter.add("dup"));
+        Assert.assertTrue(filter.remove("dup"));
+        Assert.assertTrue(filter.remove("dup"));
+        Assert.assertTrue(filter.mightContain("dup"));
+        Assert.assertTrue(filter.remove("dup"));
+        Assert.assertFalse(filter.mightContain("dup"));
+        Assert.assertFalse(filter.remove("dup"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadFingerprint() {
+        new CuckooFilter<>(Hasher.charSequenceHashAdze64, 0L, 100L, 10);
+    }
+}
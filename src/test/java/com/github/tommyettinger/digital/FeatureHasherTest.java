@@ -0,0 +1,70 @@
+package com.github.tommyettinger.digital;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FeatureHasherTest {
+    @Test
+    public void testTokens() {
+        FeatureHasher hasher = new FeatureHasher(18, 1L);
+        FeatureHasher.SparseVector v = hasher.vectorize("the cat, the dog; THE end.");
+        // "the" twice, "cat", "dog", "THE", "end"
+        Assert.assertEquals(5, v.size);
+        float total = 0f;
+        for (int i = 0; i < v.size; i++) {
+            if (i > 0) Assert.assertTrue(v.indices[i - 1] < v.indices[i]);
+            total += Math.abs(v.values[i]);
+        }
+        Assert.assertEquals(6f, total, 0f);
+        String text = "xx the yy";
+        int the = hasher.index(text, 3, 3);
+        Assert.assertEquals(the, hasher.index("the", 0, 3));
+        boolean seen = false;
+        for (int i = 0; i < v.size; i++) {
+            if (v.indices[i] == the) {
+                Assert.assertEquals(2f, Math.abs(v.values[i]), 0f);
+                seen = true;
+            }
+        }
+        Assert.assertTrue(seen);
+        Assert.assertEquals(0, hasher.vectorize(" ,.; ").size);
+    }
+
+    @Test
+    public void testBigramsAndReuse() {
+        FeatureHasher unigrams = new FeatureHasher(20, 2L), bigrams = new FeatureHasher(20, true, 2L);
+        String text = "one two three four five six seven";
+        Assert.assertEquals(7, unigrams.vectorize(text).size);
+        FeatureHasher.SparseVector reused = new FeatureHasher.SparseVector();
+        Assert.assertEquals(13, bigrams.vectorize(text, reused).size);
+        Assert.assertEquals(1, bigrams.vectorize("solo", reused).size);
+        Assert.assertEquals(unigrams.vectorize("solo").indices[0], reused.indices[0]);
+        // bigrams depend on order, unigrams don't
+        Assert.assertEquals(unigrams.vectorize("b a").dot(unigrams.vectorize("a b")), 2f, 0f);
+        Assert.assertEquals(bigrams.vectorize("b a").dot(bigrams.vectorize("a b")), 2f, 0f);
+        Assert.assertEquals(bigrams.vectorize("a b").dot(bigrams.vectorize("a b")), 3f, 0f);
+    }
+
+    @Test
+    public void testBatch() {
+        FeatureHasher hasher = new FeatureHasher(16, true, 3L);
+        CharSequence[] documents = new CharSequence[200];
+        for (int i = 0; i < documents.length; i++) {
+            StringBuilder sb = new StringBuilder();
+            for (int j = 0; j < 50; j++) sb.append("word").append((i * 31 + j * 7) % 97).append(' ');
+            documents[i] = sb;
+        }
+        FeatureHasher.SparseVector[] all = hasher.vectorizeAll(documents);
+        for (int i = 0; i < documents.length; i++) {
+            FeatureHasher.SparseVector single = hasher.vectorize(documents[i]);
+            Assert.assertEquals(single.size, all[i].size);
+            float[] dense = single.addTo(new float[1 << 16]);
+            Assert.assertEquals(single.dot(single), all[i].dot(dense), 0f);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadBits() {
+        new FeatureHasher(31, 0L);
+    }
+}
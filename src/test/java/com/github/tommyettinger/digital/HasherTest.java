@@ -239,6 +239,241 @@ public class HasherTest {
         Assert.assertNotEquals(Hasher.asmoday.hashBulk(buffer, 9, 16), Hasher.asmoday_.hashBulk(buffer2));
     }
 
+    @Test
+    public void testByteArrayAdze() {
+        AlternateRandom rng = new AlternateRandom(123);
+        byte[] bytes = new byte[300];
+        rng.nextBytes(bytes);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        for (int len = 0; len <= bytes.length; len++) {
+            byte[] section = Arrays.copyOf(bytes, len);
+            Assert.assertEquals(Hasher.hashAdze64(-1L, ByteBuffer.wrap(section)), Hasher.hashAdze64(-1L, section));
+            Assert.assertEquals(Hasher.hashAdze(-1L, ByteBuffer.wrap(section)), Hasher.hashAdze(-1L, section));
+            Assert.assertEquals(Hasher.asmoday.hashAdze64(ByteBuffer.wrap(section)), Hasher.asmoday.hashAdze64(section));
+            Assert.assertEquals(Hasher.asmoday.hashAdze(ByteBuffer.wrap(section)), Hasher.asmoday.hashAdze(section));
+        }
+        for (int start = 0; start < 40; start++) {
+            for (int len = 0; start + len <= bytes.length; len += 7) {
+                Assert.assertEquals(Hasher.hashAdze64(1L, buffer, start, len), Hasher.hashAdze64(1L, bytes, start, len));
+                Assert.assertEquals(Hasher.hashAdze(1L, buffer, start, len), Hasher.hashAdze(1L, bytes, start, len));
+            }
+        }
+        Assert.assertEquals(0L, Hasher.hashAdze64(1L, (byte[]) null));
+    }
+
+    @Test
+    public void testAdzeStream() {
+        AlternateRandom rng = new AlternateRandom(123);
+        byte[] bytes = new byte[1000];
+        rng.nextBytes(bytes);
+        Hasher.AdzeStream stream = new Hasher.AdzeStream(0L, 0L);
+        for (int len = 0; len <= bytes.length; len += 13) {
+            long expected = Hasher.hashAdze64(-1L, Arrays.copyOf(bytes, len));
+            stream.reset(-1L, len);
+            for (int i = 0; i < len; ) {
+                int chunk = Math.min(rng.nextInt(150), len - i);
+                if((chunk & 1) == 0)
+                    stream.update(bytes, i, chunk);
+                else
+                    stream.update(ByteBuffer.wrap(bytes), i, chunk);
+                i += chunk;
+            }
+            Assert.assertEquals(expected, stream.finish());
+            Assert.assertEquals((int) expected, stream.finishInt());
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(8 + 4 + 2 + 1 + 2 * 34);
+        buffer.putLong(-123456789L).putInt(987654321).putChar('Z').put((byte) -5);
+        for (char c : "Satchmo, my big cute baby cat!!!!!".toCharArray()) buffer.putChar(c);
+        stream = Hasher.hydrogen.adzeStream(buffer.limit());
+        stream.update(-123456789L).update(987654321).update('Z').update((byte) -5).update("Satchmo, my big cute baby cat!!!!!");
+        Assert.assertEquals(Hasher.hydrogen.hashAdze64(buffer), stream.finish());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAdzeStreamWrongLength() {
+        new Hasher.AdzeStream(1L, 10L).update(new byte[9]).finish();
+    }
+
+    /**
+     * A CharSequence that isn't a String or StringBuilder, to check the general path.
+     */
+    private static final class Wrapper implements CharSequence {
+        private final String text;
+        Wrapper(String text) { this.text = text; }
+        public int length() { return text.length(); }
+        public char charAt(int index) { return text.charAt(index); }
+        public CharSequence subSequence(int start, int end) { return new Wrapper(text.substring(start, end)); }
+        public String toString() { return text; }
+    }
+
+    @Test
+    public void testCharSequenceAdze() {
+        AlternateRandom rng = new AlternateRandom(123);
+        char[] chars = new char[300];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) rng.nextLong();
+        }
+        for (int len = 0; len <= chars.length; len++) {
+            String text = String.valueOf(chars, 0, len);
+            ByteBuffer buffer = ByteBuffer.allocate(len * 2);
+            for (int i = 0; i < len; i++) buffer.putChar(chars[i]);
+            long expected = Hasher.hashAdze64(5L, buffer);
+            Assert.assertEquals(expected, Hasher.hashAdze64(5L, text));
+            Assert.assertEquals(expected, Hasher.hashAdze64(5L, new StringBuilder(text)));
+            Assert.assertEquals(expected, Hasher.hashAdze64(5L, new Wrapper(text)));
+            Assert.assertEquals(expected, new Hasher(5L).hashAdze64(text));
+            Assert.assertEquals((int) expected, Hasher.hashAdze(5L, text));
+        }
+        String text = String.valueOf(chars);
+        for (int start = 0; start < 30; start++) {
+            for (int len = 1; start + len <= text.length(); len += 3) {
+                Assert.assertEquals(Hasher.hashAdze64(6L, text.substring(start, start + len)), Hasher.hashAdze64(6L, text, start, len));
+            }
+        }
+        Assert.assertEquals(0L, Hasher.hashAdze64(1L, (CharSequence) null));
+    }
+
+    @Test
+    public void testAdze128() {
+        AlternateRandom rng = new AlternateRandom(123);
+        long[] longs = new long[60];
+        char[] chars = new char[240];
+        for (int i = 0; i < longs.length; i++) longs[i] = rng.nextLong();
+        for (int i = 0; i < chars.length; i++) chars[i] = (char) rng.nextLong();
+        String text = String.valueOf(chars);
+        ByteBuffer longBuffer = ByteBuffer.allocate(longs.length * 8);
+        for (long l : longs) longBuffer.putLong(l);
+        ByteBuffer charBuffer = ByteBuffer.allocate(chars.length * 2);
+        for (char c : chars) charBuffer.putChar(c);
+        byte[] bytes = longBuffer.array();
+        long[] out = new long[2], expected = new long[2];
+        LinkedHashSet<Long> seconds = new LinkedHashSet<>();
+        for (int len = 0; len <= bytes.length; len++) {
+            Hasher.hashAdze128(-1L, ByteBuffer.wrap(bytes, 0, len), expected);
+            Assert.assertEquals(Hasher.hashAdze64(-1L, Arrays.copyOf(bytes, len)), expected[0]);
+            Assert.assertArrayEquals(expected, Hasher.hashAdze128(-1L, Arrays.copyOf(bytes, len), out));
+            if(len > 0) Assert.assertArrayEquals(expected, Hasher.hashAdze128(-1L, bytes, 0, len, out));
+            if(len > 0) Assert.assertTrue(seconds.add(expected[1]));
+        }
+        for (int start = 0; start < 30; start++) {
+            for (int len = 0; start + len <= longs.length; len++) {
+                Hasher.hashAdze128(2L, longBuffer, start * 8, len * 8, expected);
+                Assert.assertArrayEquals(expected, Hasher.hashAdze128(2L, longs, start, len, out));
+            }
+        }
+        for (int start = 0; start < 30; start++) {
+            for (int len = 0; start + len <= chars.length; len++) {
+                Hasher.hashAdze128(3L, charBuffer, start * 2, len * 2, expected);
+                Assert.assertArrayEquals(expected, Hasher.hashAdze128(3L, text, start, len, out));
+            }
+        }
+        Hasher.hashAdze128(3L, text, expected);
+        Assert.assertArrayEquals(expected, Hasher.hashAdze128(3L, new StringBuilder(text), out));
+        Assert.assertEquals(expected[0], new Hasher.AdzeStream(3L, chars.length * 2L).update(text).finish());
+        Assert.assertArrayEquals(new long[2], Hasher.hashAdze128(1L, (byte[]) null, out));
+    }
+
+    @Test
+    public void testPrimitiveArrayAdze() {
+        AlternateRandom rng = new AlternateRandom(123);
+        final int n = 300;
+        boolean[] booleans = new boolean[n];
+        short[] shorts = new short[n];
+        char[] chars = new char[n];
+        int[] ints = new int[n];
+        float[] floats = new float[n];
+        long[] longs = new long[n];
+        double[] doubles = new double[n];
+        ByteBuffer booleanBuffer = ByteBuffer.allocate(n), shortBuffer = ByteBuffer.allocate(n * 2),
+                charBuffer = ByteBuffer.allocate(n * 2), intBuffer = ByteBuffer.allocate(n * 4),
+                floatBuffer = ByteBuffer.allocate(n * 4), longBuffer = ByteBuffer.allocate(n * 8),
+                doubleBuffer = ByteBuffer.allocate(n * 8);
+        for (int i = 0; i < n; i++) {
+            long r = rng.nextLong();
+            booleans[i] = r < 0;
+            booleanBuffer.put((byte) (booleans[i] ? 1 : 0));
+            shortBuffer.putShort(shorts[i] = (short) r);
+            charBuffer.putChar(chars[i] = (char) (r >>> 16));
+            intBuffer.putInt(ints[i] = (int) (r >>> 8));
+            // this includes NaN values with different bits, which must stay distinct
+            floatBuffer.putInt(BitConversion.floatToRawIntBits(floats[i] = BitConversion.intBitsToFloat((int) r)));
+            longBuffer.putLong(longs[i] = r);
+            doubleBuffer.putLong(BitConversion.doubleToRawLongBits(doubles[i] = BitConversion.longBitsToDouble(r * 31L)));
+        }
+        for (int start = 0; start < 20; start++) {
+            for (int len = 0; start + len <= n; len++) {
+                Assert.assertEquals(Hasher.hashAdze64(1L, booleanBuffer, start, len), Hasher.hashAdze64(1L, booleans, start, len));
+                Assert.assertEquals(Hasher.hashAdze64(2L, shortBuffer, start * 2, len * 2), Hasher.hashAdze64(2L, shorts, start, len));
+                Assert.assertEquals(Hasher.hashAdze64(3L, charBuffer, start * 2, len * 2), Hasher.hashAdze64(3L, chars, start, len));
+                Assert.assertEquals(Hasher.hashAdze64(4L, intBuffer, start * 4, len * 4), Hasher.hashAdze64(4L, ints, start, len));
+                Assert.assertEquals(Hasher.hashAdze64(5L, floatBuffer, start * 4, len * 4), Hasher.hashAdze64(5L, floats, start, len));
+                Assert.assertEquals(Hasher.hashAdze64(6L, longBuffer, start * 8, len * 8), Hasher.hashAdze64(6L, longs, start, len));
+                Assert.assertEquals(Hasher.hashAdze64(7L, doubleBuffer, start * 8, len * 8), Hasher.hashAdze64(7L, doubles, start, len));
+            }
+        }
+        Assert.assertEquals(Hasher.hashAdze64(8L, new String(chars)), Hasher.hashAdze64(8L, chars));
+        Assert.assertEquals(Hasher.hashAdze64(9L, longs), Hasher.hashAdze128(9L, longs, new long[2])[0]);
+        Assert.assertEquals((int) Hasher.hashAdze64(10L, ints), Hasher.hashAdze(10L, ints));
+        Assert.assertEquals(Hasher.hashAdze64(11L, floats), new Hasher(11L).hashAdze64(floats));
+        Assert.assertEquals(Hasher.hashAdze(12L, doubles, 3, 40), new Hasher(12L).hashAdze(doubles, 3, 40));
+        Assert.assertEquals(0L, Hasher.hashAdze64(1L, (long[]) null));
+        Assert.assertEquals(0L, Hasher.hashAdze64(1L, ints, n, 1));
+
+        long[][] longs2D = new long[][]{Arrays.copyOf(longs, 10), Arrays.copyOfRange(longs, 10, 30), new long[0]};
+        long[][] longs2D2 = new long[][]{Arrays.copyOf(longs, 10), Arrays.copyOfRange(longs, 10, 30), new long[0]};
+        Assert.assertEquals(Hasher.hashAdze64(13L, longs2D), Hasher.hashAdze64(13L, longs2D2));
+        Assert.assertEquals(Hasher.hashAdze64(13L, longs2D), Hasher.longArray2DHashAdze64.hash64(13L, longs2D2));
+        Assert.assertEquals(Hasher.hashAdze(13L, longs2D), new Hasher(13L).hashAdze(longs2D2));
+        longs2D2[1][5]++;
+        Assert.assertNotEquals(Hasher.hashAdze64(13L, longs2D), Hasher.hashAdze64(13L, longs2D2));
+        Assert.assertNotEquals(Hasher.hashAdze64(13L, new byte[][]{{1, 2}, {3}}), Hasher.hashAdze64(13L, new byte[][]{{1}, {2, 3}}));
+        Assert.assertEquals(Hasher.charArrayHashAdze64.hash64(14L, chars), Hasher.hashAdze64(14L, chars));
+    }
+
+    @Test
+    public void testColumns() {
+        AlternateRandom rng = new AlternateRandom(123);
+        long[] longs = new long[100], longs2 = new long[100], out = new long[100], out2 = new long[100];
+        int[] ints = new int[100], ints2 = new int[100];
+        double[] doubles = new double[100];
+        for (int i = 0; i < 100; i++) {
+            longs[i] = rng.nextLong();
+            longs2[i] = rng.nextLong();
+            ints[i] = (int) longs[i];
+            ints2[i] = (int) longs2[i];
+            doubles[i] = rng.nextDouble();
+        }
+        Hasher.hashColumn(5L, longs, 10, 90, out);
+        Assert.assertEquals(0L, out[9]);
+        Assert.assertEquals(0L, out[90]);
+        for (int i = 10; i < 90; i++) {
+            Assert.assertEquals(Hasher.mix(Hasher.mixStream(5L, longs[i])), out[i]);
+        }
+        // changing the seed must not be the same as XORing each key with something
+        Hasher.hashColumn(6L, longs, out2);
+        for (int i = 10; i < 90; i++) {
+            Assert.assertNotEquals(Hasher.mix(Hasher.mixStream(5L, longs[i] ^ 5L ^ 6L)), out2[i]);
+        }
+        Hasher.hashColumn(5L, ints, 0, 1000, out);
+        Hasher.hashColumn(5L, Arrays.copyOf(ints, 100), out2);
+        Assert.assertArrayEquals(out, out2);
+        Hasher.hashColumn(5L, longs, out2);
+        Assert.assertEquals(Hasher.mix(Hasher.mixStream(5L, longs[0])), out2[0]);
+        Hasher.hashColumn(5L, doubles, 0, 100, out);
+        Assert.assertEquals(Hasher.mix(Hasher.mixStream(5L, BitConversion.doubleToRawLongBits(doubles[50]))), out[50]);
+        Hasher.hashColumn(5L, doubles, out2);
+        Assert.assertArrayEquals(out, out2);
+        Hasher.hashColumns(5L, longs, longs2, 0, 100, out);
+        Hasher.hashColumns(5L, longs2, longs, 0, 100, out2);
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(Hasher.mix(Hasher.mixStream(Hasher.mixStream(5L, longs[i]), longs2[i])), out[i]);
+            Assert.assertNotEquals(out[i], out2[i]);
+        }
+        Hasher.hashColumns(5L, ints, ints2, ints, ints2, 0, 100, out);
+        Hasher.hashColumns(5L, ints, ints2, ints, 0, 100, out2);
+        Assert.assertNotEquals(out[0], out2[0]);
+    }
+
     @Test
     public void testBadSeeds() {
         long all__0, all_32, all_48, all127, all128, all255;
@@ -0,0 +1,133 @@
+package com.github.tommyettinger.digital;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+public class HyperLogLogTest {
+    private static String key(String prefix, int i) {
+        return prefix + i + "_" + Base.BASE36.signed(Hasher.randomize1(i));
+    }
+
+    @Test
+    public void testAccuracy() {
+        HyperLogLog<CharSequence> hll = new HyperLogLog<>(Hasher.charSequenceHashAdze64, 1L);
+        Assert.assertEquals(0L, hll.cardinality());
+        int added = 0;
+        for (int target : new int[]{1, 10, 100, 1000, 10000, 100000, 1000000}) {
+            for (; added < target; added++) {
+                // each item is added twice, which shouldn't change the count
+                hll.add(key("a", added));
+                hll.add(key("a", added));
+            }
+            double estimate = hll.estimate();
+            System.out.println(target + " items: " + estimate + (hll.isSparse() ? " (sparse)" : " (dense)"));
+            Assert.assertEquals(target, estimate, Math.max(0.5, target * (hll.isSparse() ? 0.002 : 0.03)));
+        }
+        Assert.assertFalse(hll.isSparse());
+        hll.clear();
+        Assert.assertEquals(0L, hll.cardinality());
+    }
+
+    @Test
+    public void testSparseMatchesDense() {
+        HyperLogLog<CharSequence> sparse = new HyperLogLog<>(Hasher.charSequenceHashAdze64, 2L, 12);
+        HyperLogLog<CharSequence> dense = new HyperLogLog<>(Hasher.charSequenceHashAdze64, 2L, 12, false);
+        for (int i = 0; i < 5000; i++) {
+            sparse.add(key("b", i));
+            dense.add(key("b", i));
+            if (i % 499 == 0) {
+                HyperLogLog<CharSequence> converted = new HyperLogLog<>(sparse).toDense();
+                Assert.assertArrayEquals(dense.registers, converted.registers);
+            }
+        }
+        Assert.assertFalse(sparse.isSparse());
+        Assert.assertArrayEquals(dense.registers, sparse.registers);
+    }
+
+    @Test
+    public void testMerge() {
+        for (int count : new int[]{100, 50000}) {
+            HyperLogLog<CharSequence> a = new HyperLogLog<>(Hasher.charSequenceHashAdze64, 3L);
+            HyperLogLog<CharSequence> b = new HyperLogLog<>(Hasher.charSequenceHashAdze64, 3L);
+            HyperLogLog<CharSequence> both = new HyperLogLog<>(Hasher.charSequenceHashAdze64, 3L);
+            for (int i = 0; i < count; i++) {
+                String k = key("c", i);
+                if ((i & 1) == 0) a.add(k);
+                if (i % 3 != 0) b.add(k);
+                if ((i & 1) == 0 || i % 3 != 0) both.add(k);
+            }
+            a.merge(b);
+            Assert.assertEquals(both.estimate(), a.estimate(), 0.0);
+            Assert.assertEquals(both.isSparse(), a.isSparse());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMergeMismatch() {
+        new HyperLogLog<>(Hasher.charSequenceHashAdze64, 3L, 12)
+                .merge(new HyperLogLog<>(Hasher.charSequenceHashAdze64, 3L, 13));
+    }
+
+    @Test
+    public void testMergeConcurrent() throws InterruptedException {
+        final HyperLogLog<CharSequence> shared = new HyperLogLog<>(Hasher.charSequenceHashAdze64, 4L).toDense();
+        final HyperLogLog<CharSequence> expected = new HyperLogLog<>(Hasher.charSequenceHashAdze64, 4L);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            // the first thread's sketch stays sparse, the others become dense
+            // Base isn't thread-safe, so the keys are made before any threads start
+            final String[] keys = new String[t == 0 ? 1000 : 30000 * t];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = key("d" + t, i);
+            }
+            expected.addAll(keys);
+            threads[t] = new Thread(() -> {
+                HyperLogLog<CharSequence> local = new HyperLogLog<>(Hasher.charSequenceHashAdze64, 4L);
+                local.addAll(keys);
+                shared.mergeConcurrent(local);
+                for (int i = 0; i < keys.length; i += 7) {
+                    shared.addConcurrent(keys[i]);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assert.assertArrayEquals(expected.registers, shared.registers);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testConcurrentNeedsDense() {
+        new HyperLogLog<>(Hasher.charSequenceHashAdze64, 4L).addConcurrent("nope");
+    }
+
+    @Test
+    public void testSerialization() {
+        for (int count : new int[]{0, 300, 100000}) {
+            HyperLogLog<CharSequence> hll = new HyperLogLog<>(Hasher.charSequenceHashAdze64, 5L, 13);
+            for (int i = 0; i < count; i++) {
+                hll.add(key("e", i));
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(hll.serializedSize());
+            hll.write(buffer);
+            Assert.assertFalse(buffer.hasRemaining());
+            buffer.flip();
+            HyperLogLog<CharSequence> read = HyperLogLog.read(Hasher.charSequenceHashAdze64, buffer);
+            Assert.assertFalse(buffer.hasRemaining());
+            Assert.assertEquals(hll.getSeed(), read.getSeed());
+            Assert.assertEquals(hll.getPrecision(), read.getPrecision());
+            Assert.assertEquals(hll.isSparse(), read.isSparse());
+            Assert.assertEquals(hll.estimate(), read.estimate(), 0.0);
+            read.add("more");
+            Assert.assertTrue(read.estimate() >= hll.estimate());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadPrecision() {
+        new HyperLogLog<>(Hasher.charSequenceHashAdze64, 1L, 3);
+    }
+}
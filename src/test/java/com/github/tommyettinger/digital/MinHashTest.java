@@ -0,0 +1,140 @@
+package com.github.tommyettinger.digital;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+public class MinHashTest {
+    /**
+     * Makes two token sets of the given size that share {@code shared} tokens, so their Jaccard similarity is
+     * {@code shared / (2 * size - shared)}.
+     */
+    private static CharSequence[][] makePair(int size, int shared, int id) {
+        CharSequence[] a = new CharSequence[size], b = new CharSequence[size];
+        for (int i = 0; i < size; i++) {
+            a[i] = "tok" + id + "_" + i;
+            b[i] = i < shared ? a[i] : "alt" + id + "_" + i;
+        }
+        return new CharSequence[][]{a, b};
+    }
+
+    private static void checkSimilarity(MinHash minHash) {
+        for (int size : new int[]{4, 20, 500}) {
+            for (int shared : new int[]{0, size / 4, size / 2, size}) {
+                double expected = shared / (2.0 * size - shared), total = 0.0;
+                final int trials = 40;
+                for (int t = 0; t < trials; t++) {
+                    CharSequence[][] pair = makePair(size, shared, t * 1000 + size);
+                    total += MinHash.similarity(minHash.signature(pair[0], new long[minHash.getSize()]),
+                            minHash.signature(pair[1], new long[minHash.getSize()]));
+                }
+                Assert.assertEquals(expected, total / trials, 0.03);
+            }
+        }
+    }
+
+    @Test
+    public void testClassic() {
+        checkSimilarity(new MinHash(128, false));
+    }
+
+    @Test
+    public void testOnePermutation() {
+        checkSimilarity(new MinHash(128, true));
+    }
+
+    @Test
+    public void testEdgeCases() {
+        for (boolean oph : new boolean[]{false, true}) {
+            MinHash minHash = new MinHash(64, oph);
+            long[] empty = minHash.signature(new long[0], new long[64]);
+            for (long v : empty) Assert.assertEquals(Long.MAX_VALUE, v);
+            long[] once = minHash.signature(new CharSequence[]{"a", "b"}, new long[64]);
+            long[] twice = minHash.signature(new CharSequence[]{"b", "a", "b", "a"}, new long[64]);
+            Assert.assertArrayEquals(once, twice);
+        }
+    }
+
+    @Test
+    public void testParallel() {
+        MinHash minHash = new MinHash(64, true);
+        CharSequence[][] documents = new CharSequence[300][];
+        for (int i = 0; i < documents.length; i++) {
+            documents[i] = makePair(50, 25, i)[i & 1];
+        }
+        long[][] signatures = minHash.signatures(documents);
+        for (int i = 0; i < documents.length; i++) {
+            Assert.assertArrayEquals(minHash.signature(documents[i], new long[64]), signatures[i]);
+        }
+    }
+
+    @Test
+    public void testSimHash() {
+        long[] doc = new long[200], near = new long[200], other = new long[200];
+        float[] weights = new float[200];
+        for (int i = 0; i < doc.length; i++) {
+            doc[i] = Hasher.alpha.hash64("word" + i);
+            near[i] = i < 195 ? doc[i] : Hasher.alpha.hash64("changed" + i);
+            other[i] = Hasher.alpha.hash64("other" + i);
+            weights[i] = 1f;
+        }
+        long a = SimHash.fingerprint(doc), b = SimHash.fingerprint(near), c = SimHash.fingerprint(other);
+        Assert.assertEquals(a, SimHash.fingerprint(doc, weights));
+        Assert.assertTrue(SimHash.distance(a, b) <= 8);
+        Assert.assertTrue(SimHash.distance(a, c) >= 16);
+        Assert.assertArrayEquals(new long[]{a, b, c}, SimHash.fingerprints(new long[][]{doc, near, other}));
+    }
+
+    @Test
+    public void testBanding() {
+        MinHash minHash = new MinHash(100, true);
+        LshBanding banding = new LshBanding(20, 5);
+        Assert.assertEquals(0.55, banding.threshold(), 0.01);
+        // documents 2i and 2i+1 are near-duplicates, with similarity 0.9; different i are unrelated
+        CharSequence[][] documents = new CharSequence[400][];
+        for (int i = 0; i < 200; i++) {
+            CharSequence[][] pair = makePair(100, 95, i);
+            documents[i << 1] = pair[0];
+            documents[i << 1 | 1] = pair[1];
+        }
+        long[][] signatures = minHash.signatures(documents);
+        long[] pairs = banding.candidatePairs(signatures);
+        int found = 0;
+        for (long p : pairs) {
+            int i = (int) (p >>> 32), j = (int) p;
+            Assert.assertTrue(i < j);
+            if (j == i + 1 && (i & 1) == 0) found++;
+        }
+        Assert.assertEquals(200, found);
+        Assert.assertTrue(pairs.length < 220);
+
+        int[][] buckets = banding.buckets(signatures, 0);
+        for (int[] bucket : buckets) {
+            Assert.assertTrue(bucket.length >= 2);
+            long hash = banding.bandHash(signatures[bucket[0]], 0);
+            for (int d : bucket) {
+                Assert.assertEquals(hash >>> 32, banding.bandHash(signatures[d], 0) >>> 32);
+            }
+        }
+        long[] all = banding.bandHashes(signatures[0], new long[20]);
+        Assert.assertEquals(20, Arrays.stream(all).distinct().count());
+    }
+
+    @Test
+    public void testBandingLargeBuckets() {
+        LshBanding banding = new LshBanding(4, 2);
+        // 1000 identical signatures, such as from many empty documents, all share every bucket
+        long[] same = new long[8];
+        long[][] signatures = new long[1000][];
+        Arrays.fill(signatures, same);
+        long[] pairs = banding.candidatePairs(signatures);
+        Assert.assertEquals(999, pairs.length);
+        for (int i = 0; i < pairs.length; i++) {
+            Assert.assertEquals(i + 1L, pairs[i]);
+        }
+        Assert.assertEquals(1000 * 999 / 2, banding.candidatePairs(signatures, 1000).length);
+        Assert.assertEquals(1, banding.buckets(signatures, 0).length);
+        Assert.assertEquals(1000, banding.buckets(signatures, 0)[0].length);
+    }
+}
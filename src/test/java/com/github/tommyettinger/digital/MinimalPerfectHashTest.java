@@ -0,0 +1,78 @@
+package com.github.tommyettinger.digital;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+
+public class MinimalPerfectHashTest {
+    private static String[] makeKeys(int count) {
+        String[] keys = new String[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = "key" + i + "_" + Base.BASE36.signed(Hasher.randomize1(i));
+        }
+        return keys;
+    }
+
+    private static void checkMinimalPerfect(MinimalPerfectHash<CharSequence> mph, String[] keys) {
+        Assert.assertEquals(keys.length, mph.size());
+        BitSet used = new BitSet(keys.length);
+        for (String key : keys) {
+            int index = mph.index(key);
+            Assert.assertTrue(index >= 0 && index < keys.length);
+            Assert.assertFalse("Index " + index + " was given twice", used.get(index));
+            used.set(index);
+        }
+    }
+
+    @Test
+    public void testSmall() {
+        for (int count = 0; count < 200; count++) {
+            String[] keys = makeKeys(count);
+            checkMinimalPerfect(new MinimalPerfectHash<>(Hasher.charSequenceHashAdze64, keys), keys);
+        }
+    }
+
+    @Test
+    public void testLarge() {
+        String[] keys = makeKeys(300000);
+        MinimalPerfectHash<CharSequence> mph = new MinimalPerfectHash<>(Hasher.charSequenceHashAdze64, keys);
+        checkMinimalPerfect(mph, keys);
+        System.out.println("gamma 1: " + mph.bitsPerKey() + " bits per key, " + mph.getLevelCount() + " levels");
+        Assert.assertTrue(mph.bitsPerKey() < 3.6);
+
+        MinimalPerfectHash<CharSequence> parallel = new MinimalPerfectHash<>(Hasher.charSequenceHashAdze64,
+                MinimalPerfectHash.DEFAULT_SEED, Arrays.asList(keys), 1f, true);
+        for (String key : keys) {
+            Assert.assertEquals(mph.index(key), parallel.index(key));
+        }
+
+        MinimalPerfectHash<CharSequence> fast = new MinimalPerfectHash<>(Hasher.charSequenceHashAdze64, 123L, keys, 2f, true);
+        checkMinimalPerfect(fast, keys);
+        System.out.println("gamma 2: " + fast.bitsPerKey() + " bits per key, " + fast.getLevelCount() + " levels");
+    }
+
+    @Test
+    public void testSerialization() {
+        String[] keys = makeKeys(50000);
+        MinimalPerfectHash<CharSequence> mph = new MinimalPerfectHash<>(Hasher.charSequenceHashAdze64, keys);
+        ByteBuffer buffer = ByteBuffer.allocate(mph.serializedSize() + 3);
+        buffer.put((byte) 1).put((byte) 2).put((byte) 3);
+        mph.write(buffer);
+        Assert.assertFalse(buffer.hasRemaining());
+        buffer.position(3);
+        MinimalPerfectHash<CharSequence> read = MinimalPerfectHash.read(Hasher.charSequenceHashAdze64, buffer);
+        Assert.assertFalse(buffer.hasRemaining());
+        Assert.assertEquals(mph.getSeed(), read.getSeed());
+        for (String key : keys) {
+            Assert.assertEquals(mph.index(key), read.index(key));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDuplicates() {
+        new MinimalPerfectHash<>(Hasher.charSequenceHashAdze64, new String[]{"a", "b", "c", "b"});
+    }
+}
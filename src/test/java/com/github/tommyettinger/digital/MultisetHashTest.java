@@ -0,0 +1,90 @@
+package com.github.tommyettinger.digital;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class MultisetHashTest {
+    @Test
+    public void testOrderIndependent() {
+        String[] items = new String[1000];
+        for (int i = 0; i < items.length; i++) items[i] = "item" + (i % 700);
+        List<String> shuffled = new ArrayList<>(Arrays.asList(items));
+        Collections.shuffle(shuffled, new java.util.Random(1L));
+        Assert.assertEquals(MultisetHash.hash(5L, items), MultisetHash.hash(5L, shuffled));
+        Assert.assertEquals(MultisetHash.hash(5L, items, Hasher.charSequenceHashAdze64),
+                MultisetHash.hash(5L, shuffled, Hasher.charSequenceHashAdze64));
+        Assert.assertNotEquals(MultisetHash.hash(5L, items), MultisetHash.hash(6L, items));
+
+        long[] hashes = new long[items.length];
+        for (int i = 0; i < items.length; i++) hashes[i] = Hasher.charSequenceHashAdze64.hash64(0L, items[i]);
+        long h = MultisetHash.hash(0L, hashes);
+        for (int i = 0; i < hashes.length; i++) {
+            int j = (int) ((Hasher.randomize1(i) >>> 1) % hashes.length);
+            long t = hashes[i];
+            hashes[i] = hashes[j];
+            hashes[j] = t;
+        }
+        Assert.assertEquals(h, MultisetHash.hash(0L, hashes));
+    }
+
+    @Test
+    public void testIncremental() {
+        MultisetHash running = new MultisetHash(3L);
+        for (long i = 0; i < 100; i++) running.add(i);
+        MultisetHash copy = new MultisetHash(running);
+        running.add(1000L).add("extra").remove(1000L).remove("extra");
+        Assert.assertEquals(copy, running);
+        Assert.assertEquals(copy.hashCode(), running.hashCode());
+        // duplicates count, unlike with XOR
+        running.add(7L);
+        Assert.assertNotEquals(copy.getHash(), running.getHash());
+        running.remove(7L);
+
+        long[] all = new long[100];
+        for (int i = 0; i < 100; i++) all[i] = i;
+        Assert.assertEquals(MultisetHash.hash(3L, all), running.getHash());
+        Assert.assertEquals(100L, running.getSize());
+
+        // combining the hashes of two halves gives the hash of the whole
+        MultisetHash low = new MultisetHash(3L).addAll(Arrays.copyOfRange(all, 0, 40));
+        MultisetHash high = new MultisetHash(3L).addAll(Arrays.copyOfRange(all, 40, 100));
+        Assert.assertEquals(running, low.addAll(high));
+        Assert.assertEquals(new MultisetHash(3L).addAll(Arrays.copyOfRange(all, 0, 40)), low.removeAll(high));
+        low.clear();
+        Assert.assertEquals(new MultisetHash(3L), low);
+    }
+
+    @Test
+    public void testObjects() {
+        Object[] items = {"a", null, 3, 'c', "a"};
+        MultisetHash running = new MultisetHash(9L).addAll(Arrays.asList(items));
+        Assert.assertEquals(MultisetHash.hash(9L, items), running.getHash());
+        Assert.assertEquals(running, new MultisetHash(9L).addAll(items));
+        Assert.assertEquals(5L, running.getSize());
+    }
+
+    @Test
+    public void testBoxedPrimitives() {
+        long[] values = {0L, -1L, 42L, 0x123456789ABCDEFL, Long.MIN_VALUE, 1L << 32};
+        Object[] boxed = new Object[values.length];
+        MultisetHash primitive = new MultisetHash(4L), objects = new MultisetHash(4L);
+        for (int i = 0; i < values.length; i++) {
+            primitive.add(values[i]);
+            objects.add(boxed[i] = values[i]);
+        }
+        Assert.assertEquals(primitive, objects);
+        Assert.assertEquals(MultisetHash.hash(4L, values), MultisetHash.hash(4L, boxed));
+        Assert.assertEquals(primitive.getHash(), MultisetHash.hash(4L, Arrays.asList(boxed)));
+        // ints and chars widen to long as primitives, and box to types whose hashCode() is their value
+        Assert.assertEquals(new MultisetHash(4L).add(-5).add('c'),
+                new MultisetHash(4L).add(Integer.valueOf(-5)).add(Character.valueOf('c')));
+        objects.remove(Long.valueOf(1L << 32));
+        primitive.remove(1L << 32);
+        Assert.assertEquals(primitive, objects);
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.tommyettinger.digital;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class NioHasherTest {
+    @Test
+    public void testFileMatchesArray() throws IOException {
+        AlternateRandom rng = new AlternateRandom(123);
+        byte[] bytes = new byte[5000];
+        rng.nextBytes(bytes);
+        Path path = Files.createTempFile("digital", ".bin");
+        try {
+            Files.write(path, bytes);
+            Assert.assertEquals(Hasher.hashAdze64(-1L, bytes), NioHasher.hashAdze64(-1L, path));
+            Assert.assertEquals(Hasher.hashAdze(-1L, bytes), NioHasher.hashAdze(-1L, path));
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                for (int window = 112; window <= 112 * 5; window += 112) {
+                    for (int start = 0; start < 300; start += 37) {
+                        for (int length = 0; start + length <= bytes.length; length += 311) {
+                            Assert.assertEquals(Hasher.hashAdze64(5L, bytes, start, length),
+                                    NioHasher.hashAdze64(5L, channel, start, length, window));
+                        }
+                    }
+                }
+                Assert.assertEquals(0L, channel.position());
+            }
+            Files.write(path, new byte[0]);
+            Assert.assertEquals(Hasher.hashAdze64(-1L, new byte[0]), NioHasher.hashAdze64(-1L, path));
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void testTreeMatchesSequential() throws IOException {
+        AlternateRandom rng = new AlternateRandom(123);
+        byte[] bytes = new byte[20000];
+        rng.nextBytes(bytes);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        Path path = Files.createTempFile("digital", ".bin");
+        try {
+            Files.write(path, bytes);
+            for (int chunkSize : new int[]{1, 100, 112, 1000, 4480, 20000, 30000}) {
+                long[] leaves = new long[NioHasher.leafCount(bytes.length, chunkSize)];
+                for (int i = 0; i < leaves.length; i++) {
+                    leaves[i] = Hasher.hashAdze64(7L, bytes, i * chunkSize, chunkSize);
+                }
+                long expected = NioHasher.combineLeaves(7L, bytes.length, chunkSize, leaves);
+                Assert.assertEquals(expected, NioHasher.hashAdzeTree64(7L, buffer, chunkSize));
+                Assert.assertEquals(expected, NioHasher.hashAdzeTree64(7L, path, chunkSize));
+                try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                    // leaves bigger than the buffer are read and hashed in several pieces
+                    for (int bufferSize : new int[]{1, 250, 1000}) {
+                        Assert.assertEquals(expected, NioHasher.hashAdzeTree64(7L, channel, chunkSize, bufferSize));
+                    }
+                    Assert.assertEquals(0L, channel.position());
+                }
+                Assert.assertNotEquals(expected, NioHasher.hashAdzeTree64(8L, buffer, chunkSize));
+            }
+            Assert.assertNotEquals(NioHasher.hashAdzeTree64(7L, buffer, 1000), NioHasher.hashAdzeTree64(7L, buffer, 1120));
+            Assert.assertEquals(0L, NioHasher.hashAdzeTree64(7L, ByteBuffer.allocate(0), 1000));
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+}
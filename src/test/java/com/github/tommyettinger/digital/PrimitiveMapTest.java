@@ -0,0 +1,181 @@
+package com.github.tommyettinger.digital;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+public class PrimitiveMapTest {
+    @Test
+    public void testLongLongMapMatchesHashMap() {
+        LongLongMap map = new LongLongMap(4);
+        map.setDefaultValue(-1L);
+        HashMap<Long, Long> expected = new HashMap<>();
+        CounterRandom random = new CounterRandom(1L);
+        for (int i = 0; i < 200000; i++) {
+            // a small key range, including 0, makes repeated puts and removes common
+            final long key = random.intAt(i, 5000) - 100;
+            final long value = random.longAt(i + 1000000);
+            if (random.intAt(i + 2000000, 3) == 0) {
+                Long old = expected.remove(key);
+                Assert.assertEquals(old == null ? -1L : old, map.remove(key));
+            } else {
+                Long old = expected.put(key, value);
+                Assert.assertEquals(old == null ? -1L : old, map.put(key, value));
+            }
+            Assert.assertEquals(expected.size(), map.size());
+        }
+        for (long key = -100; key < 4900; key++) {
+            Assert.assertEquals(expected.containsKey(key), map.containsKey(key));
+            Assert.assertEquals(expected.getOrDefault(key, -1L).longValue(), map.get(key));
+        }
+        int seen = 0;
+        for (int slot = map.nextSlot(-1); slot >= 0; slot = map.nextSlot(slot)) {
+            Assert.assertEquals(expected.get(map.keyAt(slot)).longValue(), map.valueAt(slot));
+            seen++;
+        }
+        Assert.assertEquals(expected.size(), seen);
+
+        LongLongMap copy = new LongLongMap(map);
+        Assert.assertEquals(map, copy);
+        Assert.assertEquals(map.hashCode(), copy.hashCode());
+        map.clear();
+        Assert.assertTrue(map.isEmpty());
+        Assert.assertFalse(map.containsKey(0L));
+        Assert.assertEquals(-1L, map.get(1L));
+    }
+
+    @Test
+    public void testIntIntMapCounting() {
+        IntIntMap map = new IntIntMap();
+        HashMap<Integer, Integer> expected = new HashMap<>();
+        CounterRandom random = new CounterRandom(2L);
+        for (int i = 0; i < 100000; i++) {
+            final int key = random.intAt(i, 3000) - 1500;
+            Assert.assertEquals(expected.getOrDefault(key, 0).intValue(), map.getAndIncrement(key, 0, 1));
+            expected.merge(key, 1, Integer::sum);
+        }
+        Assert.assertEquals(expected.size(), map.size());
+        for (Map.Entry<Integer, Integer> e : expected.entrySet()) {
+            Assert.assertEquals(e.getValue().intValue(), map.get(e.getKey()));
+        }
+        for (int key = -1500; key < 1500; key += 2) {
+            Assert.assertEquals(expected.getOrDefault(key, 0).intValue(), map.remove(key));
+            expected.remove(key);
+        }
+        Assert.assertEquals(expected.size(), map.size());
+        for (int key = -1500; key < 1500; key++) {
+            Assert.assertEquals(expected.containsKey(key), map.containsKey(key));
+        }
+    }
+
+    @Test
+    public void testLongObjectMap() {
+        LongObjectMap<String> map = new LongObjectMap<>(10, 0.5f, 3L);
+        for (long i = -1000; i <= 1000; i++) {
+            Assert.assertNull(map.put(i * 0x100000000L, "v" + i));
+        }
+        Assert.assertEquals(2001, map.size());
+        Assert.assertEquals("v0", map.get(0L));
+        Assert.assertEquals("v-7", map.remove(-7L * 0x100000000L));
+        Assert.assertEquals("v0", map.remove(0L));
+        Assert.assertNull(map.get(0L));
+        Assert.assertEquals("none", map.getOrDefault(0L, "none"));
+        Assert.assertEquals(1999, map.size());
+        for (long i = -1000; i <= 1000; i++) {
+            Assert.assertEquals(i == 0 || i == -7 ? null : "v" + i, map.get(i * 0x100000000L));
+        }
+        Assert.assertEquals(map, new LongObjectMap<>(map));
+    }
+
+    @Test
+    public void testSets() {
+        LongSet longs = new LongSet();
+        IntSet ints = new IntSet();
+        HashSet<Long> expected = new HashSet<>();
+        CounterRandom random = new CounterRandom(4L);
+        for (int i = 0; i < 100000; i++) {
+            final int item = random.intAt(i, 4000) - 2000;
+            if ((i & 3) == 0) {
+                final boolean removed = expected.remove((long) item);
+                Assert.assertEquals(removed, longs.remove(item));
+                Assert.assertEquals(removed, ints.remove(item));
+            } else {
+                final boolean added = expected.add((long) item);
+                Assert.assertEquals(added, longs.add(item));
+                Assert.assertEquals(added, ints.add(item));
+            }
+        }
+        Assert.assertEquals(expected.size(), longs.size());
+        Assert.assertEquals(expected.size(), ints.size());
+        for (int item = -2000; item < 2000; item++) {
+            Assert.assertEquals(expected.contains((long) item), longs.contains(item));
+            Assert.assertEquals(expected.contains((long) item), ints.contains(item));
+        }
+        int seen = 0;
+        for (int slot = ints.nextSlot(-1); slot >= 0; slot = ints.nextSlot(slot)) {
+            Assert.assertTrue(expected.contains((long) ints.itemAt(slot)));
+            seen++;
+        }
+        Assert.assertEquals(expected.size(), seen);
+        Assert.assertEquals(longs, new LongSet(longs));
+    }
+
+    @Test
+    public void testRandomKeysOnlyGrow() {
+        final int[] reseeds = {0};
+        LongLongMap map = new LongLongMap(51, 0.8f, 42L) {
+            @Override
+            protected void rebuild(int capacity) {
+                if (capacity == keys.length) reseeds[0]++;
+                super.rebuild(capacity);
+            }
+        };
+        CounterRandom random = new CounterRandom(42L);
+        for (int i = 0; i < 1000000; i++) {
+            map.put(random.longAt(i), i);
+        }
+        Assert.assertEquals(0, reseeds[0]);
+        Assert.assertEquals(OpenAddressing.tableSize(map.size(), 0.8f), map.keys.length);
+
+        IntSet presized = new IntSet(1000, 0.8f, 42L);
+        final int capacity = presized.items.length;
+        for (int i = 0; i < 1000; i++) {
+            presized.add((int) random.longAt(i + 1000000));
+        }
+        Assert.assertEquals(capacity, presized.items.length);
+    }
+
+    @Test
+    public void testCollidingKeysCauseRebuild() {
+        LongLongMap map = new LongLongMap(1000, 0.8f, 5L);
+        final int capacity = map.keys.length;
+        final long originalSalt = map.salt;
+        // find keys that all land in slot 0 under this map's current salt and multiplier
+        long[] colliding = new long[map.maxProbe + 8];
+        for (long k = 1L, n = 0; n < colliding.length; k++) {
+            if (map.place(k) == 0) colliding[(int) n++] = k;
+        }
+        for (long k : colliding) {
+            map.put(k, k);
+        }
+        Assert.assertNotEquals(originalSalt, map.salt);
+        // one reseed spreads the keys out, so the table doesn't need to grow
+        Assert.assertEquals(capacity, map.keys.length);
+        Assert.assertEquals(colliding.length, map.size());
+        int longestProbe = 0;
+        for (long k : colliding) {
+            Assert.assertEquals(k, map.get(k));
+            final int slot = map.locate(k);
+            longestProbe = Math.max(longestProbe, slot - map.place(k) & map.mask);
+        }
+        Assert.assertTrue("longest probe: " + longestProbe, longestProbe < 8);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadLoadFactor() {
+        new IntIntMap(10, 1f);
+    }
+}
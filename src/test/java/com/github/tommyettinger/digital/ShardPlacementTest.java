@@ -0,0 +1,123 @@
+package com.github.tommyettinger.digital;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ShardPlacementTest {
+    private static final int KEYS = 100000;
+
+    private static long[] makeKeyHashes() {
+        long[] hashes = new long[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            hashes[i] = Hasher.omega.hash64("user:" + i);
+        }
+        return hashes;
+    }
+
+    private static String[] makeNodes(int count) {
+        String[] nodes = new String[count];
+        for (int i = 0; i < count; i++) {
+            nodes[i] = "cache-" + i + ".example.com";
+        }
+        return nodes;
+    }
+
+    private static void checkBalance(int[] placement, int buckets, double tolerance) {
+        int[] loads = new int[buckets];
+        for (int p : placement) {
+            loads[p]++;
+        }
+        double expected = placement.length / (double) buckets;
+        for (int load : loads) {
+            Assert.assertEquals(expected, load, expected * tolerance);
+        }
+    }
+
+    @Test
+    public void testJumpHash() {
+        long[] keys = makeKeyHashes();
+        int[] before = JumpHash.jump(keys, 10, new int[KEYS]), after = JumpHash.jump(keys, 11, new int[KEYS]);
+        checkBalance(before, 10, 0.05);
+        checkBalance(after, 11, 0.05);
+        int moved = 0;
+        for (int i = 0; i < KEYS; i++) {
+            if (before[i] != after[i]) {
+                // keys only ever move to the new bucket
+                Assert.assertEquals(10, after[i]);
+                moved++;
+            }
+        }
+        Assert.assertEquals(KEYS / 11.0, moved, KEYS * 0.01);
+        Assert.assertEquals(0, JumpHash.jump(12345L, 1));
+    }
+
+    @Test
+    public void testHashRing() {
+        long[] keys = makeKeyHashes();
+        String[] nodes = makeNodes(10);
+        HashRing<CharSequence> ring = new HashRing<>(Hasher.charSequenceHashAdze64, 1L, 200, nodes);
+        int[] before = ring.indexAll(keys, new int[KEYS]);
+        checkBalance(before, 10, 0.2);
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertEquals(nodes[before[i]], ring.get(keys[i]));
+        }
+
+        Assert.assertTrue(ring.remove(nodes[3]));
+        Assert.assertFalse(ring.remove(nodes[3]));
+        int moved = 0;
+        for (int i = 0; i < KEYS; i++) {
+            CharSequence owner = ring.get(keys[i]);
+            if (before[i] == 3) moved++;
+            else Assert.assertEquals(nodes[before[i]], owner);
+        }
+        Assert.assertEquals(KEYS / 10.0, moved, KEYS * 0.03);
+
+        ring.add(nodes[3]);
+        for (int i = 0; i < KEYS; i++) {
+            Assert.assertEquals(nodes[before[i]], ring.get(keys[i]));
+        }
+        Assert.assertEquals(-1, new HashRing<>(Hasher.charSequenceHashAdze64, 1L, 200).index(123L));
+    }
+
+    @Test
+    public void testRendezvous() {
+        long[] keys = makeKeyHashes();
+        String[] nodes = makeNodes(10);
+        RendezvousHash<CharSequence> hrw = new RendezvousHash<>(Hasher.charSequenceHashAdze64, 2L, nodes);
+        int[] before = hrw.indexAll(keys, new int[KEYS]);
+        checkBalance(before, 10, 0.05);
+
+        hrw.remove(nodes[7]);
+        int[] movedTo = new int[10];
+        for (int i = 0; i < KEYS; i++) {
+            CharSequence owner = hrw.get(keys[i]);
+            if (before[i] == 7) movedTo[Integer.parseInt(owner.toString().substring(6, 7))]++;
+            else Assert.assertEquals(nodes[before[i]], owner);
+        }
+        // the removed node's keys spread evenly over the others
+        for (int n = 0; n < 10; n++) {
+            if (n == 7) Assert.assertEquals(0, movedTo[n]);
+            else Assert.assertEquals(before.length / 90.0, movedTo[n], before.length / 90.0 * 0.15);
+        }
+    }
+
+    @Test
+    public void testWeightedRendezvous() {
+        long[] keys = makeKeyHashes();
+        RendezvousHash<CharSequence> hrw = new RendezvousHash<>(Hasher.charSequenceHashAdze64, 3L);
+        hrw.add("small", 1.0).add("medium", 2.0).add("large", 5.0);
+        int[] placement = hrw.indexAll(keys, new int[KEYS]);
+        int[] loads = new int[3];
+        for (int p : placement) {
+            loads[p]++;
+        }
+        Assert.assertEquals(KEYS / 8.0, loads[0], KEYS * 0.01);
+        Assert.assertEquals(KEYS * 2 / 8.0, loads[1], KEYS * 0.01);
+        Assert.assertEquals(KEYS * 5 / 8.0, loads[2], KEYS * 0.01);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDuplicateNode() {
+        new HashRing<>(Hasher.charSequenceHashAdze64, 1L, 10, makeNodes(3)).add("cache-1.example.com");
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.tommyettinger.digital;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TrigTableTest {
+    @Test
+    public void testMatchesTrigTools() {
+        TrigTable fourteen = new TrigTable(TrigTools.TABLE_BITS);
+        for (TrigTable table : new TrigTable[]{TrigTable.DEFAULT, fourteen}) {
+            for (float f = -20f; f <= 20f; f += 0.0137f) {
+                Assert.assertEquals(TrigTools.sin(f), table.sin(f), 0f);
+                Assert.assertEquals(TrigTools.cos(f), table.cos(f), 0f);
+                Assert.assertEquals(TrigTools.sinSmoother(f), table.sinSmoother(f), 0f);
+                Assert.assertEquals(TrigTools.cosSmoother(f), table.cosSmoother(f), 0f);
+                Assert.assertEquals(TrigTools.tanSmoother(f), table.tanSmoother(f), 0f);
+                Assert.assertEquals(TrigTools.sinDeg(f * 50f), table.sinDeg(f * 50f), 0f);
+                Assert.assertEquals(TrigTools.cosSmootherTurns(f * 0.1f), table.cosSmootherTurns(f * 0.1f), 0f);
+                Assert.assertEquals(TrigTools.sin((double) f), table.sin((double) f), 0.0);
+                Assert.assertEquals(TrigTools.sinSmoother((double) f), table.sinSmoother((double) f), 0.0);
+                Assert.assertEquals(TrigTools.cosSmoother((double) f), table.cosSmoother((double) f), 0.0);
+                Assert.assertEquals(TrigTools.tanSmootherDeg(f * 50.0), table.tanSmootherDeg(f * 50.0), 0.0);
+                Assert.assertEquals(TrigTools.radiansToTableIndex(f), table.radiansToTableIndex(f));
+            }
+        }
+        for (int i = -100; i < 20000; i += 7) {
+            Assert.assertEquals(TrigTools.SIN_TABLE[i & TrigTools.TABLE_MASK], fourteen.sinAt(i), 0f);
+            Assert.assertEquals(TrigTools.COS_TABLE[i & TrigTools.TABLE_MASK], fourteen.cosAt(i), 0f);
+        }
+    }
+
+    @Test
+    public void testAccuracy() {
+        for (int bits = 2; bits <= 16; bits++) {
+            TrigTable table = new TrigTable(bits);
+            Assert.assertEquals(1 << bits, table.getTableSize());
+            final double nearest = Math.PI / table.getTableSize() * 1.01 + 1e-6;
+            final double smoother = 5.0 / ((double) table.getTableSize() * table.getTableSize()) + 1e-6;
+            double worst = 0.0, worstSmoother = 0.0, worstSmootherD = 0.0;
+            for (double d = -6.2; d <= 7.0; d += 0.000713) {
+                final float f = (float) d;
+                worst = Math.max(worst, Math.abs(table.sin(f) - Math.sin(f)));
+                worst = Math.max(worst, Math.abs(table.cos(f) - Math.cos(f)));
+                worst = Math.max(worst, Math.abs(table.sin(d) - Math.sin(d)));
+                worst = Math.max(worst, Math.abs(table.cosTurns(d / (Math.PI * 2.0)) - Math.cos(d)));
+                worstSmoother = Math.max(worstSmoother, Math.abs(table.sinSmoother(f) - Math.sin(f)));
+                worstSmoother = Math.max(worstSmoother, Math.abs(table.cosSmoother(f) - Math.cos(f)));
+                worstSmootherD = Math.max(worstSmootherD, Math.abs(table.sinSmoother(d) - Math.sin(d)));
+                worstSmootherD = Math.max(worstSmootherD, Math.abs(table.cosSmootherDeg(Math.toDegrees(d)) - Math.cos(d)));
+            }
+            Assert.assertTrue(bits + " bits, sin/cos: " + worst, worst <= nearest);
+            Assert.assertTrue(bits + " bits, smoother: " + worstSmoother, worstSmoother <= smoother);
+            Assert.assertTrue(bits + " bits, smoother double: " + worstSmootherD, worstSmootherD <= smoother);
+        }
+        TrigTable eight = new TrigTable(8);
+        for (double d = -1.4; d <= 1.4; d += 0.001) {
+            Assert.assertEquals(Math.tan(d), eight.tanSmoother(d), 1e-3);
+            Assert.assertEquals(Math.tan(d), eight.tanSmoother((float) d), 2e-3);
+        }
+        Assert.assertEquals(1f, eight.sin(TrigTools.HALF_PI), 0f);
+        Assert.assertEquals(-1f, eight.cosTurns(0.5f), 0f);
+        Assert.assertEquals(0.0, eight.cosDeg(-90.0), 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooManyBits() {
+        new TrigTable(17);
+    }
+}
@@ -0,0 +1,119 @@
+package com.github.tommyettinger.digital;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+public class VectorLshTest {
+    private static final int DIMENSIONS = 32;
+
+    /**
+     * Vectors 2i and 2i+1 are close to each other; different i are unrelated.
+     */
+    private static float[][] makeVectors(int pairs, float noise) {
+        float[][] vectors = new float[pairs << 1][DIMENSIONS];
+        long state = 1L;
+        for (int i = 0; i < pairs; i++) {
+            for (int d = 0; d < DIMENSIONS; d++) {
+                float v = (float) Distributor.normal(Hasher.randomize3(++state));
+                vectors[i << 1][d] = v;
+                vectors[i << 1 | 1][d] = v + noise * (float) Distributor.normal(Hasher.randomize3(++state));
+            }
+        }
+        return vectors;
+    }
+
+    private static double cosine(float[] a, float[] b) {
+        double dot = 0, aa = 0, bb = 0;
+        for (int d = 0; d < a.length; d++) {
+            dot += a[d] * b[d];
+            aa += a[d] * a[d];
+            bb += b[d] * b[d];
+        }
+        return dot / Math.sqrt(aa * bb);
+    }
+
+    @Test
+    public void testHyperplaneCosine() {
+        HyperplaneLsh lsh = new HyperplaneLsh(DIMENSIONS, 1024, 1L);
+        float[][] vectors = makeVectors(50, 0.5f);
+        long[] signatures = lsh.signatures(vectors);
+        int words = lsh.getWords();
+        Assert.assertEquals(16, words);
+        double error = 0;
+        for (int i = 0; i < vectors.length - 1; i++) {
+            Assert.assertArrayEquals(lsh.signature(vectors[i]),
+                    Arrays.copyOfRange(signatures, i * words, (i + 1) * words));
+            double estimate = lsh.cosine(lsh.distance(signatures, i * words, signatures, (i + 1) * words));
+            error += Math.abs(estimate - cosine(vectors[i], vectors[i + 1]));
+        }
+        Assert.assertTrue(error / (vectors.length - 1) < 0.05);
+    }
+
+    @Test
+    public void testTableKeys() {
+        HyperplaneLsh lsh = new HyperplaneLsh(4, 128, 2L);
+        long[] signature = {0x0123456789ABCDEFL, 0xFEDCBA9876543210L};
+        long[] keys = lsh.tableKeys(signature, 0, 5, 24, new long[5]);
+        Assert.assertEquals(0xABCDEFL, keys[0]);
+        Assert.assertEquals(0x456789L, keys[1]);
+        Assert.assertEquals(0x100123L, keys[2]);
+        Assert.assertEquals(0x765432L, keys[3]);
+        Assert.assertEquals(0xDCBA98L, keys[4]);
+    }
+
+    @Test
+    public void testHyperplaneIndex() {
+        final int tables = 16, bitsPerTable = 12;
+        HyperplaneLsh lsh = new HyperplaneLsh(DIMENSIONS, tables * bitsPerTable, 3L);
+        float[][] vectors = makeVectors(500, 0.1f);
+        long[] signatures = lsh.signatures(vectors);
+        long[] keys = new long[vectors.length * tables], query = new long[tables];
+        for (int i = 0; i < vectors.length; i++) {
+            System.arraycopy(lsh.tableKeys(signatures, i * lsh.getWords(), tables, bitsPerTable, query), 0, keys, i * tables, tables);
+        }
+        LshIndex index = new LshIndex(keys, tables);
+        int found = 0;
+        long total = 0;
+        for (int i = 0; i < vectors.length; i++) {
+            int[] candidates = index.candidates(keys, i * tables);
+            Assert.assertTrue(Arrays.binarySearch(candidates, i) >= 0);
+            if (Arrays.binarySearch(candidates, i ^ 1) >= 0) found++;
+            total += candidates.length;
+        }
+        Assert.assertTrue(found >= vectors.length * 0.95);
+        // far fewer candidates than brute force
+        Assert.assertTrue(total < (long) vectors.length * vectors.length / 20);
+    }
+
+    @Test
+    public void testPStableIndex() {
+        final int tables = 12, hashesPerTable = 4;
+        PStableLsh lsh = new PStableLsh(DIMENSIONS, tables * hashesPerTable, 4f, 4L);
+        float[][] vectors = makeVectors(500, 0.1f);
+        int[] hashes = lsh.hashAll(vectors);
+        Assert.assertArrayEquals(lsh.hash(vectors[7]),
+                Arrays.copyOfRange(hashes, 7 * lsh.getHashes(), 8 * lsh.getHashes()));
+        long[] keys = new long[vectors.length * tables], query = new long[tables];
+        for (int i = 0; i < vectors.length; i++) {
+            System.arraycopy(lsh.tableKeys(hashes, i * lsh.getHashes(), tables, hashesPerTable, query), 0, keys, i * tables, tables);
+        }
+        LshIndex index = new LshIndex(keys, tables);
+        Assert.assertEquals(vectors.length, index.getSize());
+        int found = 0;
+        long total = 0;
+        for (int i = 0; i < vectors.length; i++) {
+            int[] candidates = index.candidates(keys, i * tables);
+            if (Arrays.binarySearch(candidates, i ^ 1) >= 0) found++;
+            total += candidates.length;
+        }
+        Assert.assertTrue(found >= vectors.length * 0.95);
+        Assert.assertTrue(total < (long) vectors.length * vectors.length / 20);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooManyTables() {
+        new HyperplaneLsh(8, 64, 0L).tableKeys(new long[1], 0, 3, 32, new long[3]);
+    }
+}
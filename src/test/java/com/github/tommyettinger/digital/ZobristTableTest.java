@@ -0,0 +1,101 @@
+package com.github.tommyettinger.digital;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ZobristTableTest {
+    @Test
+    public void testIncremental2D() {
+        ZobristTable table = new ZobristTable(30, 20, 8, 1L);
+        int[][] grid = new int[30][20];
+        long hash = table.hash(grid);
+        for (int i = 0; i < 2000; i++) {
+            long r = Hasher.randomize1(i);
+            int x = (int) (r & 31) % 30, y = (int) (r >>> 8 & 31) % 20, v = (int) (r >>> 16 & 7);
+            switch ((int) (r >>> 32 & 3)) {
+                case 0:
+                    hash = table.set(hash, grid, x, y, v);
+                    break;
+                case 1:
+                    hash = table.fill(hash, grid, v, x, y, x + 3, y + 5);
+                    break;
+                case 2:
+                    int[][] stamp = ArrayTools.fill(v, 4, 3);
+                    stamp[1][1] = (v + 1) & 7;
+                    hash = table.insert(hash, stamp, grid, x, Math.min(y, 17));
+                    break;
+                default:
+                    int old = grid[x][y];
+                    grid[x][y] = v;
+                    hash = table.update(hash, x, y, old, v);
+            }
+            Assert.assertEquals(table.hash(grid), hash);
+        }
+        int[][] copy = ArrayTools.copy(grid);
+        int[][] zero = new int[30][20];
+        long zeroHash = table.hash(zero);
+        Assert.assertEquals(hash, table.set(zeroHash, copy, zero));
+        Assert.assertEquals(table.hash(new int[30][20]), table.fill(grid, 0));
+    }
+
+    @Test
+    public void testChars() {
+        ZobristTable table = new ZobristTable(12, 10, 128, 2L);
+        char[][] map = ArrayTools.fill('#', 12, 10);
+        long hash = table.hash(map);
+        hash = table.fill(hash, map, '.', 1, 1, 10, 8);
+        hash = table.set(hash, map, 5, 5, '+');
+        hash = table.insert(hash, new char[][]{{'~', '~'}, {'~', '~'}}, map, 2, 2);
+        Assert.assertEquals(table.hash(map), hash);
+        // undoing every change returns to the original hash
+        hash = table.fill(hash, map, '#', 0, 0, 11, 9);
+        Assert.assertEquals(table.fill(map, '#'), hash);
+        Assert.assertEquals(table.hash(ArrayTools.fill('#', 12, 10)), hash);
+    }
+
+    @Test
+    public void test3D() {
+        ZobristTable table = new ZobristTable(5, 6, 7, 4, 3L);
+        int[][][] grid = new int[5][6][7];
+        char[][][] chars = new char[5][6][7];
+        long hash = table.hash(grid);
+        Assert.assertEquals(hash, table.hash(chars));
+        for (int i = 0; i < 500; i++) {
+            long r = Hasher.randomize2(i);
+            int x = (int) ((r & 0xFFFF) % 5), y = (int) ((r >>> 16 & 0xFFFF) % 6), z = (int) ((r >>> 32 & 0xFFFF) % 7);
+            int v = (int) (r >>> 62);
+            hash = table.set(hash, grid, x, y, z, v);
+            table.set(0L, chars, x, y, z, (char) v);
+            Assert.assertEquals(table.hash(grid), hash);
+        }
+        Assert.assertEquals(hash, table.hash(chars));
+        Assert.assertNotEquals(table.key(1, 2, 3, 0), table.key(1, 2, 3, 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooLarge() {
+        new ZobristTable(1 << 12, 1 << 12, 1 << 8, 0L);
+    }
+
+    @Test
+    public void testValueOutOfRange() {
+        // 65536 cells, so value * cells for a value of 65536 overflows to index 0
+        ZobristTable table = new ZobristTable(256, 256, 2, 5L);
+        int[][] grid = new int[256][256];
+        long hash = table.hash(grid);
+        for (int value : new int[]{-1, 2, 65536}) {
+            try {
+                table.key(0, 0, value);
+                Assert.fail("key() accepted " + value);
+            } catch (IllegalArgumentException expected) {
+            }
+            try {
+                table.set(hash, grid, 0, 0, value);
+                Assert.fail("set() accepted " + value);
+            } catch (IllegalArgumentException expected) {
+            }
+            Assert.assertEquals(0, grid[0][0]);
+        }
+        Assert.assertEquals(hash, table.hash(grid));
+    }
+}